@@ -0,0 +1,63 @@
+package br.com.projeto.aeroporto.comum;
+
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filtro do Logback que deixa passar no máximo {@code maximoPorSegundo}
+ * eventos por segundo e descarta os demais.
+ *
+ * <p>
+ * Usado no log de consultas lentas do Hibernate ({@code org.hibernate.SQL_SLOW},
+ * configurado em {@code logback-spring.xml}): quando o banco degrada e todas as
+ * consultas ficam lentas, o log continua mostrando exemplos sem passar a
+ * competir com as próprias consultas por disco e CPU. A quantidade descartada
+ * é informada no status interno do Logback no segundo seguinte.
+ * </p>
+ */
+public class AmostragemLog extends Filter<ILoggingEvent> {
+
+    private int maximoPorSegundo = 5;
+
+    /**
+     * Segundo da janela atual (bits altos) e eventos aceitos nela (20 bits baixos).
+     */
+    private final AtomicLong janela = new AtomicLong();
+
+    private final AtomicLong descartados = new AtomicLong();
+
+    @Override
+    public FilterReply decide(ILoggingEvent evento) {
+        long segundo = evento.getTimeStamp() / 1000;
+        while (true) {
+            long atual = janela.get();
+            long aceitos = (atual >>> 44) == (segundo & 0xFFFFF) ? atual & 0xFFFFF : 0;
+            if (aceitos >= maximoPorSegundo) {
+                descartados.incrementAndGet();
+                return FilterReply.DENY;
+            }
+            long proxima = ((segundo & 0xFFFFF) << 44) | (aceitos + 1);
+            if (janela.compareAndSet(atual, proxima)) {
+                if (aceitos == 0) {
+                    long perdidos = descartados.getAndSet(0);
+                    if (perdidos > 0) {
+                        addInfo(perdidos + " eventos de " + evento.getLoggerName() + " descartados pela amostragem");
+                    }
+                }
+                return FilterReply.NEUTRAL;
+            }
+        }
+    }
+
+    public int getMaximoPorSegundo() {
+        return maximoPorSegundo;
+    }
+
+    public void setMaximoPorSegundo(int maximoPorSegundo) {
+        this.maximoPorSegundo = maximoPorSegundo;
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.projeto.aeroporto.comum;
+
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Expõe as estatísticas dos caches de leitura declarados em {@link Caches}.
+ */
+@RestController
+@RequestMapping("/api/caches")
+public class CacheController {
+
+    private final CacheManager cacheManager;
+
+    public CacheController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Acertos, faltas, taxa de acerto, remoções e tamanho de cada cache.
+     *
+     * @return estatísticas indexadas pelo nome do cache
+     */
+    @GetMapping
+    public Map<String, EstatisticasCache> estatisticas() {
+        Map<String, EstatisticasCache> resultado = new LinkedHashMap<>();
+        for (String nome : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(nome) instanceof CaffeineCache cache) {
+                CacheStats stats = cache.getNativeCache().stats();
+                resultado.put(nome, new EstatisticasCache(stats.hitCount(), stats.missCount(), stats.hitRate(),
+                        stats.evictionCount(), cache.getNativeCache().estimatedSize()));
+            }
+        }
+        return resultado;
+    }
+
+    public record EstatisticasCache(long acertos, long faltas, double taxaAcerto, long remocoes, long tamanho) {
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.projeto.aeroporto.comum;
+
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches de leitura dos dados de referência (aeroportos, companhias aéreas,
+ * normas e aeronaves).
+ *
+ * <p>
+ * Esses cadastros mudam poucas vezes por dia, mas são consultados por ID no
+ * caminho de venda. As portas de repositório anotam {@code buscarPorId} com
+ * {@code @Cacheable} e invalidam a entrada em {@code salvar} e {@code deletarPorId}.
+ * Tamanho máximo, TTL e registro de estatísticas (acertos/faltas) vêm de
+ * {@code spring.cache.caffeine.spec} no {@code application.yml}; as estatísticas
+ * ficam disponíveis em {@code GET /api/caches}.
+ * </p>
+ *
+ * <p>
+ * Abaixo deste cache, as mesmas entidades usam o cache de segundo nível do
+ * Hibernate, que também atende às associações carregadas por outras entidades.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class Caches {
+
+    public static final String AEROPORTOS = "aeroportos";
+    public static final String COMPANHIAS_AEREAS = "companhiasAereas";
+    public static final String NORMAS = "normas";
+    public static final String AERONAVES = "aeronaves";
+}
@@ -0,0 +1,243 @@
+package br.com.projeto.aeroporto.comum;
+
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base para gravações assíncronas em lote.
+ *
+ * <p>
+ * Os itens são enfileirados em uma fila limitada e descarregados por uma única
+ * thread, que agrupa até {@code tamanhoLote} itens por chamada a
+ * {@link #gravar(List)}. Quando a fila está cheia (ou o gravador ainda não foi
+ * iniciado), o item é gravado de forma síncrona na thread chamadora, preservando
+ * a durabilidade em vez de descartar o registro.
+ * </p>
+ *
+ * <p>
+ * Se um lote falhar, cada item é gravado sozinho, para que um item recusado
+ * pelo banco não impeça a gravação dos demais; os que falharem voltam para a
+ * fila e são reprocessados após uma pausa, que dobra a cada rodada com falha
+ * (de {@value #PAUSA_INICIAL_MS} ms a {@value #PAUSA_MAXIMA_MS} ms). Um item
+ * que falhar {@value #MAX_TENTATIVAS} vezes é entregue a
+ * {@link #descartar(Object, RuntimeException)} (registro no log, por padrão)
+ * e sai da fila: um item inválido não fica sendo regravado para sempre, e uma
+ * queda do banco é tolerada por alguns minutos.
+ * </p>
+ *
+ * <p>
+ * As subclasses são componentes Spring; o ciclo de vida da thread é controlado
+ * por {@link PostConstruct} e {@link PreDestroy}, e os itens pendentes são
+ * gravados no encerramento da aplicação.
+ * </p>
+ *
+ * @param <T> tipo do item gravado
+ */
+public abstract class GravadorEmLote<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(GravadorEmLote.class);
+
+    /**
+     * Falhas após as quais um item é descartado.
+     */
+    static final int MAX_TENTATIVAS = 10;
+
+    static final long PAUSA_INICIAL_MS = 1_000;
+
+    static final long PAUSA_MAXIMA_MS = 30_000;
+
+    private final String nome;
+    private final int tamanhoLote;
+    private final BlockingQueue<Pendente<T>> pendentes;
+
+    private long pausaMs = PAUSA_INICIAL_MS;
+
+    private volatile boolean ativo;
+    private Thread trabalhador;
+
+    /**
+     * Construtor da classe {@code GravadorEmLote}.
+     *
+     * @param nome        nome da thread de gravação
+     * @param capacidade  quantidade máxima de itens aguardando gravação
+     * @param tamanhoLote quantidade máxima de itens por chamada a {@link #gravar(List)}
+     */
+    protected GravadorEmLote(String nome, int capacidade, int tamanhoLote) {
+        this.nome = nome;
+        this.tamanhoLote = tamanhoLote;
+        this.pendentes = new ArrayBlockingQueue<>(capacidade);
+    }
+
+    /**
+     * Grava um lote de itens.
+     *
+     * @param lote itens a gravar (nunca vazio)
+     */
+    protected abstract void gravar(List<T> lote);
+
+    /**
+     * Recebe um item que falhou {@value #MAX_TENTATIVAS} vezes e não será mais gravado.
+     *
+     * @param item item descartado
+     * @param erro última falha de gravação
+     */
+    protected void descartar(T item, RuntimeException erro) {
+        log.error("{}: item descartado após {} falhas de gravação: {}", nome, MAX_TENTATIVAS, item, erro);
+    }
+
+    /**
+     * Enfileira um item para gravação.
+     *
+     * @param item item a gravar
+     */
+    public void registrar(T item) {
+        if (!ativo || !pendentes.offer(new Pendente<>(item, 0))) {
+            gravar(List.of(item));
+        }
+    }
+
+    /**
+     * Quantidade de itens aguardando gravação.
+     *
+     * @return tamanho atual da fila
+     */
+    public int pendentes() {
+        return pendentes.size();
+    }
+
+    @PostConstruct
+    void iniciar() {
+        ativo = true;
+        trabalhador = new Thread(this::executar, nome);
+        trabalhador.setDaemon(true);
+        trabalhador.start();
+    }
+
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        ativo = false;
+        trabalhador.interrupt();
+        trabalhador.join(TimeUnit.SECONDS.toMillis(5));
+        List<Pendente<T>> restantes = new ArrayList<>();
+        pendentes.drainTo(restantes);
+        if (restantes.isEmpty()) {
+            return;
+        }
+        try {
+            gravar(itens(restantes));
+        } catch (RuntimeException e) {
+            log.warn("{}: falha ao gravar {} itens no encerramento; gravando um a um", nome, restantes.size(), e);
+            for (Pendente<T> pendente : restantes) {
+                RuntimeException erro = gravarSozinho(pendente.item());
+                if (erro != null) {
+                    descartar(pendente.item(), erro);
+                }
+            }
+        }
+    }
+
+    private void executar() {
+        List<Pendente<T>> lote = new ArrayList<>(tamanhoLote);
+        while (ativo) {
+            try {
+                Pendente<T> primeiro = pendentes.poll(1, TimeUnit.SECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                pendentes.drainTo(lote, tamanhoLote - 1);
+                descarregar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // Nada deve chegar aqui; se chegar, a thread de gravação continua viva.
+                log.error("{}: erro inesperado na thread de gravação", nome, e);
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void descarregar(List<Pendente<T>> lote) throws InterruptedException {
+        RuntimeException erroLote;
+        try {
+            gravar(itens(lote));
+            pausaMs = PAUSA_INICIAL_MS;
+            return;
+        } catch (RuntimeException e) {
+            erroLote = e;
+        }
+        log.warn("{}: falha ao gravar lote de {} itens; nova tentativa em {} ms", nome, lote.size(), pausaMs, erroLote);
+        boolean algumGravado = false;
+        for (Pendente<T> pendente : lote) {
+            RuntimeException erro = lote.size() == 1 ? erroLote : gravarSozinho(pendente.item());
+            if (erro == null) {
+                algumGravado = true;
+            } else {
+                reenfileirar(pendente, erro);
+            }
+        }
+        if (algumGravado) {
+            pausaMs = PAUSA_INICIAL_MS;
+            return;
+        }
+        TimeUnit.MILLISECONDS.sleep(pausaMs);
+        pausaMs = Math.min(PAUSA_MAXIMA_MS, pausaMs * 2);
+    }
+
+    /**
+     * Devolve o item à fila com mais uma falha, ou o descarta ao atingir o limite.
+     * Com a fila cheia, tenta uma última gravação direta.
+     */
+    private void reenfileirar(Pendente<T> pendente, RuntimeException erro) {
+        int falhas = pendente.falhas() + 1;
+        if (falhas >= MAX_TENTATIVAS) {
+            descartar(pendente.item(), erro);
+            return;
+        }
+        if (!pendentes.offer(new Pendente<>(pendente.item(), falhas))) {
+            RuntimeException erroDireto = gravarSozinho(pendente.item());
+            if (erroDireto != null) {
+                descartar(pendente.item(), erroDireto);
+            }
+        }
+    }
+
+    /**
+     * Grava um único item.
+     *
+     * @return a falha, ou {@code null} se o item foi gravado
+     */
+    private RuntimeException gravarSozinho(T item) {
+        try {
+            gravar(List.of(item));
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static <T> List<T> itens(List<Pendente<T>> lote) {
+        List<T> itens = new ArrayList<>(lote.size());
+        for (Pendente<T> pendente : lote) {
+            itens.add(pendente.item());
+        }
+        return itens;
+    }
+
+    /**
+     * Item na fila e quantas vezes a sua gravação já falhou.
+     */
+    private record Pendente<T>(T item, int falhas) {
+    }
+}
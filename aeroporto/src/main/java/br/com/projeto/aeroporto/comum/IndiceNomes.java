@@ -0,0 +1,609 @@
+package br.com.projeto.aeroporto.comum;
+
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Índice invertido de trigramas em memória para busca de pessoas por nome,
+ * tolerante a erros de digitação e a nomes digitados pela metade.
+ *
+ * <p>
+ * Os nomes são normalizados (minúsculas, sem acentos, apenas letras e dígitos)
+ * e decompostos em trigramas como no {@code pg_trgm} do PostgreSQL: cada
+ * palavra recebe dois espaços à esquerda e um à direita. Cada trigrama aponta
+ * para a lista dos registros que o contêm.
+ * </p>
+ *
+ * <p>
+ * A pontuação é a similaridade de trigramas (trigramas em comum sobre o total
+ * de trigramas distintos) entre o termo e o trecho do nome que mais se parece
+ * com ele, como o {@code word_similarity()} do {@code pg_trgm}, somada a 1
+ * quando alguma palavra do nome começa pelo termo buscado. Entram no
+ * resultado os nomes com similaridade de pelo menos {@value #SIMILARIDADE_MINIMA}
+ * ou que começam pelo termo.
+ * </p>
+ *
+ * <p>
+ * Um nome que começa pelo termo contém todos os trigramas do termo, exceto o
+ * que fecha a última palavra: esses nomes saem da interseção das listas,
+ * começando pela mais curta. Os demais candidatos são contados por trigramas em
+ * comum com o termo; um trecho com similaridade mínima {@code s} compartilha ao
+ * menos {@code ⌈s·n⌉} dos {@code n} trigramas do termo, e os candidatos são
+ * avaliados da maior contagem para a menor, até que nenhuma contagem restante
+ * possa superar o último colocado.
+ * </p>
+ *
+ * <p>
+ * Termos curtos casam com boa parte do índice: cada fase avalia no máximo
+ * {@value #MAXIMO_CANDIDATOS} nomes, na ordem em que foram indexados, e
+ * termos com menos de {@value #TAMANHO_MINIMO_SEMELHANCA} caracteres buscam
+ * apenas por prefixo.
+ * </p>
+ *
+ * <p>
+ * Alterações e exclusões deixam entradas obsoletas nas listas, descartadas na
+ * leitura; quando passam da metade do índice, as listas são reconstruídas.
+ * Leituras são concorrentes entre si; gravações são exclusivas.
+ * </p>
+ */
+public class IndiceNomes {
+
+    /**
+     * Similaridade mínima para que um nome entre no resultado sem ser prefixo do termo.
+     */
+    public static final double SIMILARIDADE_MINIMA = 0.3;
+
+    /**
+     * Quantidade de resultados devolvida quando o cliente não informa {@code limit}.
+     */
+    public static final int LIMITE_PADRAO = 10;
+
+    /**
+     * Maior quantidade de resultados aceita em uma busca.
+     */
+    public static final int LIMITE_MAXIMO = 100;
+
+    /**
+     * Caracteres considerados do termo normalizado; o restante é ignorado.
+     */
+    public static final int TAMANHO_MAXIMO_TERMO = 64;
+
+    /**
+     * Nomes avaliados, no máximo, em cada fase de uma busca.
+     */
+    public static final int MAXIMO_CANDIDATOS = 2_000;
+
+    /**
+     * Tamanho do termo normalizado a partir do qual a busca também considera
+     * nomes semelhantes, e não apenas os iniciados pelo termo.
+     */
+    public static final int TAMANHO_MINIMO_SEMELHANCA = 3;
+
+    private static final int SIMBOLOS = 37;
+    private static final int TRIGRAMAS = SIMBOLOS * SIMBOLOS * SIMBOLOS;
+
+    private static final Comparator<Resultado> ORDEM = Comparator
+            .comparingDouble(Resultado::pontuacao).reversed()
+            .thenComparing(Resultado::nome)
+            .thenComparingLong(Resultado::id);
+
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+
+    private final int[][] listas = new int[TRIGRAMAS][];
+    private final int[] tamanhos = new int[TRIGRAMAS];
+
+    private long[] ids = new long[1024];
+    private String[] nomes = new String[1024];
+    private String[] normalizados = new String[1024];
+    private int ocupadas;
+    private int obsoletas;
+    private final Map<Long, Integer> posicoes = new HashMap<>();
+
+    private volatile boolean pronto;
+
+    /**
+     * Vetores de contadores de trigramas por posição, já zerados, à espera da
+     * próxima busca. Cada busca tira um e o devolve; o total fica limitado ao
+     * pico de buscas simultâneas, e não ao número de threads que já buscaram.
+     */
+    private final Queue<byte[]> contagens = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Inclui ou substitui o nome de um registro.
+     *
+     * @param id   identificador do registro
+     * @param nome nome a indexar ({@code null} remove o registro)
+     */
+    public void registrar(Long id, String nome) {
+        if (id == null) {
+            return;
+        }
+        String normalizado = normalizar(nome);
+        trava.writeLock().lock();
+        try {
+            Integer atual = posicoes.get(id);
+            if (atual != null) {
+                if (normalizado != null && normalizado.equals(normalizados[atual])) {
+                    nomes[atual] = nome;
+                    return;
+                }
+                descartar(atual);
+            }
+            if (normalizado != null) {
+                incluir(id, nome, normalizado);
+            }
+            compactarSeNecessario();
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove um registro do índice.
+     *
+     * @param id identificador do registro
+     */
+    public void remover(Long id) {
+        trava.writeLock().lock();
+        try {
+            Integer atual = posicoes.get(id);
+            if (atual != null) {
+                descartar(atual);
+                compactarSeNecessario();
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indica que a carga inicial terminou e o índice pode atender buscas.
+     */
+    public void marcarPronto() {
+        pronto = true;
+    }
+
+    /**
+     * Informa se a carga inicial já terminou.
+     *
+     * @return {@code true} se o índice está completo
+     */
+    public boolean isPronto() {
+        return pronto;
+    }
+
+    /**
+     * Quantidade de registros presentes no índice.
+     *
+     * @return total de registros indexados
+     */
+    public int tamanho() {
+        trava.readLock().lock();
+        try {
+            return posicoes.size();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca os nomes mais parecidos com o termo informado.
+     *
+     * @param termo  nome completo ou parcial, com ou sem acentos
+     * @param limite quantidade máxima de resultados
+     * @return resultados em ordem decrescente de pontuação
+     */
+    public List<Resultado> buscar(String termo, int limite) {
+        String consulta = normalizar(termo);
+        if (consulta == null || limite <= 0) {
+            return List.of();
+        }
+        if (consulta.length() > TAMANHO_MAXIMO_TERMO) {
+            consulta = consulta.substring(0, TAMANHO_MAXIMO_TERMO).strip();
+        }
+        int[] trigramasConsulta = trigramas(consulta);
+        int[] exigidosPrefixo = trigramasPrefixo(consulta);
+        PriorityQueue<Resultado> melhores = new PriorityQueue<>(limite + 1, ORDEM.reversed());
+        trava.readLock().lock();
+        try {
+            BitSet vistas = new BitSet(ocupadas);
+            buscarPrefixos(consulta, trigramasConsulta, exigidosPrefixo, limite, melhores, vistas);
+            boolean somentePrefixos = consulta.length() < TAMANHO_MINIMO_SEMELHANCA
+                    || melhores.size() == limite && melhores.peek().pontuacao() >= 1;
+            if (!somentePrefixos) {
+                buscarSemelhantes(consulta, trigramasConsulta, limite, melhores, vistas);
+            }
+        } finally {
+            trava.readLock().unlock();
+        }
+        List<Resultado> resultado = new ArrayList<>(melhores);
+        resultado.sort(ORDEM);
+        return resultado;
+    }
+
+    /**
+     * Ordena registros lidos de outra fonte (como o banco, antes de o índice
+     * ficar pronto) com a mesma pontuação usada pelo índice.
+     *
+     * @param termo     termo buscado
+     * @param registros registros candidatos
+     * @param id        função que extrai o identificador do registro
+     * @param nome      função que extrai o nome do registro
+     * @param limite    quantidade máxima de resultados
+     * @param <T>       tipo do registro
+     * @return resultados em ordem decrescente de pontuação
+     */
+    public static <T> List<Resultado> classificar(String termo, Collection<T> registros, ToLongFunction<T> id,
+                                                  Function<T, String> nome, int limite) {
+        String consulta = normalizar(termo);
+        if (consulta == null) {
+            return List.of();
+        }
+        int[] trigramasConsulta = trigramas(consulta);
+        List<Resultado> resultado = new ArrayList<>(registros.size());
+        for (T registro : registros) {
+            String normalizado = normalizar(nome.apply(registro));
+            if (normalizado != null) {
+                resultado.add(new Resultado(id.applyAsLong(registro), nome.apply(registro),
+                        pontuar(consulta, trigramasConsulta, normalizado)));
+            }
+        }
+        resultado.sort(ORDEM);
+        return resultado.size() > limite ? List.copyOf(resultado.subList(0, limite)) : resultado;
+    }
+
+    /**
+     * Normaliza a quantidade de resultados pedida pelo cliente.
+     *
+     * @param limit quantidade solicitada (pode ser {@code null})
+     * @return {@link #LIMITE_PADRAO} quando ausente ou não positiva;
+     *         caso contrário o valor limitado a {@link #LIMITE_MAXIMO}
+     */
+    public static int limiteEfetivo(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return LIMITE_PADRAO;
+        }
+        return Math.min(limit, LIMITE_MAXIMO);
+    }
+
+    /**
+     * Escapa os curingas de {@code LIKE} para que o termo seja comparado
+     * literalmente, com {@code ESCAPE '\'} na consulta.
+     *
+     * @param termo termo informado pelo cliente
+     * @return termo com {@code \}, {@code %} e {@code _} precedidos de {@code \}
+     */
+    public static String escaparLike(String termo) {
+        StringBuilder escapado = new StringBuilder(termo.length() + 8);
+        for (int i = 0; i < termo.length(); i++) {
+            char c = termo.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                escapado.append('\\');
+            }
+            escapado.append(c);
+        }
+        return escapado.toString();
+    }
+
+    /**
+     * Normaliza um nome: minúsculas, sem acentos, apenas letras e dígitos separados por um espaço.
+     *
+     * @param nome nome informado
+     * @return nome normalizado, ou {@code null} se não houver letras nem dígitos
+     */
+    public static String normalizar(String nome) {
+        if (nome == null) {
+            return null;
+        }
+        String decomposto = Normalizer.normalize(nome, Normalizer.Form.NFD);
+        StringBuilder normalizado = new StringBuilder(decomposto.length());
+        boolean espaco = false;
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = Character.toLowerCase(decomposto.charAt(i));
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                if (espaco && !normalizado.isEmpty()) {
+                    normalizado.append(' ');
+                }
+                normalizado.append(c);
+                espaco = false;
+            } else if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                espaco = true;
+            }
+        }
+        return normalizado.isEmpty() ? null : normalizado.toString();
+    }
+
+    /**
+     * Similaridade entre o termo e o trecho do nome com o mesmo número de palavras
+     * que mais se parece com ele, como o {@code word_similarity()} do {@code pg_trgm}:
+     * "silvia" é comparado a "silva", e não a "joao da silva".
+     */
+    private static double pontuar(String consulta, int[] trigramasConsulta, String normalizado) {
+        String[] palavras = normalizado.split(" ");
+        int palavrasConsulta = 1;
+        for (int i = 0; i < consulta.length(); i++) {
+            if (consulta.charAt(i) == ' ') {
+                palavrasConsulta++;
+            }
+        }
+        int tamanhoTrecho = Math.min(palavrasConsulta, palavras.length);
+        double similaridade = 0;
+        for (int inicio = 0; inicio + tamanhoTrecho <= palavras.length; inicio++) {
+            String trecho = String.join(" ", Arrays.copyOfRange(palavras, inicio, inicio + tamanhoTrecho));
+            similaridade = Math.max(similaridade, similaridade(trigramasConsulta, trigramas(trecho)));
+        }
+        boolean prefixo = normalizado.startsWith(consulta) || normalizado.contains(" " + consulta);
+        return prefixo ? similaridade + 1 : similaridade;
+    }
+
+    private static double similaridade(int[] trigramasConsulta, int[] trigramasNome) {
+        int comuns = 0;
+        for (int i = 0, j = 0; i < trigramasConsulta.length && j < trigramasNome.length; ) {
+            if (trigramasConsulta[i] == trigramasNome[j]) {
+                comuns++;
+                i++;
+                j++;
+            } else if (trigramasConsulta[i] < trigramasNome[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) comuns / (trigramasConsulta.length + trigramasNome.length - comuns);
+    }
+
+    /**
+     * Primeira fase: nomes com alguma palavra iniciada pelo termo. A lista mais
+     * curta dos trigramas exigidos é percorrida sem cópia, e cada posição é
+     * procurada nas demais com busca exponencial a partir da última posição
+     * encontrada em cada uma. Para ao atingir {@link #MAXIMO_CANDIDATOS}.
+     */
+    private void buscarPrefixos(String consulta, int[] trigramasConsulta, int[] exigidosPrefixo, int limite,
+                                PriorityQueue<Resultado> melhores, BitSet vistas) {
+        if (exigidosPrefixo.length == 0) {
+            return;
+        }
+        int[] porRaridade = ordenarPorRaridade(exigidosPrefixo);
+        int[] base = listas[porRaridade[0]];
+        int[] cursores = new int[porRaridade.length];
+        int avaliadas = 0;
+        for (int i = 0, n = tamanhos[porRaridade[0]]; i < n && avaliadas < MAXIMO_CANDIDATOS; i++) {
+            int posicao = base[i];
+            if (normalizados[posicao] != null && contidaNasDemais(posicao, porRaridade, cursores)) {
+                vistas.set(posicao);
+                avaliar(consulta, trigramasConsulta, posicao, limite, melhores);
+                avaliadas++;
+            }
+        }
+    }
+
+    /**
+     * Segunda fase: nomes sem o prefixo, mas com similaridade suficiente. Conta,
+     * para cada nome, quantos trigramas do termo ele contém e avalia os nomes da
+     * maior contagem para a menor; como a similaridade nunca passa de
+     * {@code comuns / n}, a avaliação para assim que nenhuma contagem restante
+     * alcança o último colocado.
+     */
+    private void buscarSemelhantes(String consulta, int[] trigramasConsulta, int limite,
+                                   PriorityQueue<Resultado> melhores, BitSet vistas) {
+        int total = trigramasConsulta.length;
+        int minimo = Math.max(1, (int) Math.ceil(SIMILARIDADE_MINIMA * total));
+        byte[] contagens = this.contagens.poll();
+        if (contagens == null || contagens.length < ocupadas) {
+            // Um vetor pequeno demais é descartado; o novo já comporta o crescimento.
+            contagens = new byte[Math.max(ocupadas, contagens == null ? 0 : contagens.length * 2)];
+        }
+        for (int trigrama : trigramasConsulta) {
+            for (int i = 0, n = tamanhos[trigrama]; i < n; i++) {
+                contagens[listas[trigrama][i]]++;
+            }
+        }
+        int[][] porContagem = new int[total + 1][];
+        int[] tamanhosContagem = new int[total + 1];
+        for (int trigrama : trigramasConsulta) {
+            for (int i = 0, n = tamanhos[trigrama]; i < n; i++) {
+                int posicao = listas[trigrama][i];
+                int comuns = contagens[posicao] & 0xFF;
+                contagens[posicao] = 0;
+                if (comuns >= minimo && !vistas.get(posicao) && normalizados[posicao] != null) {
+                    int[] grupo = porContagem[comuns];
+                    if (grupo == null) {
+                        grupo = porContagem[comuns] = new int[16];
+                    } else if (tamanhosContagem[comuns] == grupo.length) {
+                        grupo = porContagem[comuns] = Arrays.copyOf(grupo, grupo.length * 2);
+                    }
+                    grupo[tamanhosContagem[comuns]++] = posicao;
+                }
+            }
+        }
+        // Todas as posições contadas foram zeradas: o vetor pode servir a outra busca.
+        this.contagens.offer(contagens);
+        int avaliadas = 0;
+        for (int comuns = total; comuns >= minimo; comuns--) {
+            if (melhores.size() == limite && (double) comuns / total <= melhores.peek().pontuacao()) {
+                return;
+            }
+            for (int i = 0; i < tamanhosContagem[comuns]; i++) {
+                if (avaliadas++ == MAXIMO_CANDIDATOS) {
+                    return;
+                }
+                avaliar(consulta, trigramasConsulta, porContagem[comuns][i], limite, melhores);
+            }
+        }
+    }
+
+    /**
+     * Informa se a posição está nas listas de {@code trigramas[1..]}. As posições
+     * consultadas devem ser crescentes: {@code cursores[j]} guarda onde a busca
+     * na lista {@code j} parou.
+     */
+    private boolean contidaNasDemais(int posicao, int[] trigramas, int[] cursores) {
+        for (int j = 1; j < trigramas.length; j++) {
+            int[] lista = listas[trigramas[j]];
+            int tamanho = tamanhos[trigramas[j]];
+            int inicio = cursores[j];
+            int passo = 1;
+            int fim = inicio;
+            while (fim < tamanho && lista[fim] < posicao) {
+                inicio = fim + 1;
+                fim += passo;
+                passo <<= 1;
+            }
+            int encontrada = Arrays.binarySearch(lista, inicio, Math.min(fim + 1, tamanho), posicao);
+            if (encontrada < 0) {
+                cursores[j] = -encontrada - 1;
+                return false;
+            }
+            cursores[j] = encontrada + 1;
+        }
+        return true;
+    }
+
+    private void avaliar(String consulta, int[] trigramasConsulta, int posicao, int limite,
+                         PriorityQueue<Resultado> melhores) {
+        double pontuacao = pontuar(consulta, trigramasConsulta, normalizados[posicao]);
+        if (pontuacao < SIMILARIDADE_MINIMA) {
+            return;
+        }
+        melhores.add(new Resultado(ids[posicao], nomes[posicao], pontuacao));
+        if (melhores.size() > limite) {
+            melhores.poll();
+        }
+    }
+
+    private int[] ordenarPorRaridade(int[] trigramas) {
+        return Arrays.stream(trigramas)
+                .boxed()
+                .sorted(Comparator.comparingInt(t -> tamanhos[t]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private void incluir(long id, String nome, String normalizado) {
+        if (ocupadas == ids.length) {
+            int capacidade = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacidade);
+            nomes = Arrays.copyOf(nomes, capacidade);
+            normalizados = Arrays.copyOf(normalizados, capacidade);
+        }
+        int posicao = ocupadas++;
+        ids[posicao] = id;
+        nomes[posicao] = nome;
+        normalizados[posicao] = normalizado;
+        posicoes.put(id, posicao);
+        for (int trigrama : trigramas(normalizado)) {
+            int[] lista = listas[trigrama];
+            if (lista == null) {
+                lista = listas[trigrama] = new int[4];
+            } else if (tamanhos[trigrama] == lista.length) {
+                lista = listas[trigrama] = Arrays.copyOf(lista, lista.length * 2);
+            }
+            lista[tamanhos[trigrama]++] = posicao;
+        }
+    }
+
+    private void descartar(int posicao) {
+        posicoes.remove(ids[posicao]);
+        nomes[posicao] = null;
+        normalizados[posicao] = null;
+        obsoletas++;
+    }
+
+    private void compactarSeNecessario() {
+        if (obsoletas < 1024 || obsoletas < ocupadas / 2) {
+            return;
+        }
+        long[] idsAntigos = ids;
+        String[] nomesAntigos = nomes;
+        String[] normalizadosAntigos = normalizados;
+        int ocupadasAntigas = ocupadas;
+        Arrays.fill(listas, null);
+        Arrays.fill(tamanhos, 0);
+        posicoes.clear();
+        int capacidade = Math.max(1024, Integer.highestOneBit(Math.max(1, ocupadasAntigas - obsoletas)) * 2);
+        ids = new long[capacidade];
+        nomes = new String[capacidade];
+        normalizados = new String[capacidade];
+        ocupadas = 0;
+        obsoletas = 0;
+        for (int i = 0; i < ocupadasAntigas; i++) {
+            if (normalizadosAntigos[i] != null) {
+                incluir(idsAntigos[i], nomesAntigos[i], normalizadosAntigos[i]);
+            }
+        }
+    }
+
+    /**
+     * Trigramas distintos de um nome normalizado, em ordem crescente de código.
+     */
+    static int[] trigramas(String normalizado) {
+        int[] codigos = new int[normalizado.length() * 2 + 4];
+        int n = 0;
+        for (String palavra : normalizado.split(" ")) {
+            String marcada = "  " + palavra + " ";
+            for (int i = 0; i + 3 <= marcada.length(); i++) {
+                if (n == codigos.length) {
+                    codigos = Arrays.copyOf(codigos, n * 2);
+                }
+                codigos[n++] = codigo(marcada, i);
+            }
+        }
+        int[] ordenados = Arrays.copyOf(codigos, n);
+        Arrays.sort(ordenados);
+        return Arrays.stream(ordenados).distinct().toArray();
+    }
+
+    /**
+     * Trigramas que todo nome iniciado pelo termo contém: todos os do termo,
+     * exceto o que fecha a última palavra (ela pode continuar no nome).
+     */
+    private static int[] trigramasPrefixo(String consulta) {
+        int ultimoEspaco = consulta.lastIndexOf(' ');
+        String ultimaPalavra = consulta.substring(ultimoEspaco + 1);
+        String marcada = "  " + ultimaPalavra + " ";
+        int fechamento = codigo(marcada, marcada.length() - 3);
+        int[] todos = trigramas(consulta);
+        boolean fechamentoEmOutraPalavra = ultimoEspaco >= 0
+                && Arrays.binarySearch(trigramas(consulta.substring(0, ultimoEspaco)), fechamento) >= 0;
+        return fechamentoEmOutraPalavra
+                ? todos
+                : Arrays.stream(todos).filter(t -> t != fechamento).toArray();
+    }
+
+    private static int codigo(String texto, int inicio) {
+        return (simbolo(texto.charAt(inicio)) * SIMBOLOS + simbolo(texto.charAt(inicio + 1))) * SIMBOLOS
+                + simbolo(texto.charAt(inicio + 2));
+    }
+
+    private static int simbolo(char c) {
+        if (c == ' ') {
+            return 0;
+        }
+        return c <= '9' ? 27 + (c - '0') : 1 + (c - 'a');
+    }
+
+    /**
+     * Registro encontrado na busca.
+     *
+     * @param id        identificador do registro
+     * @param nome      nome como foi cadastrado
+     * @param pontuacao similaridade com o termo, mais 1 se alguma palavra do nome começar pelo termo
+     */
+    public record Resultado(long id, String nome, double pontuacao) {
+    }
+}
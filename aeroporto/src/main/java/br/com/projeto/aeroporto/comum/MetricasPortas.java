@@ -0,0 +1,120 @@
+package br.com.projeto.aeroporto.comum;
+
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede cada chamada às portas da arquitetura hexagonal: as interfaces dos
+ * pacotes {@code in} (casos de uso e {@code *ServicePort}), {@code out}
+ * (repositórios e canais de saída) e {@code port}, qualquer que seja o
+ * sufixo do nome.
+ *
+ * <p>
+ * Cada método de porta gera o timer {@value #METRICA}, com as tags
+ * {@code porta} (nome da interface), {@code metodo} e {@code resultado}
+ * ({@code sucesso} ou {@code erro}); o timer fornece vazão, contagem de erros e,
+ * pela configuração em {@code management.metrics.distribution}, os percentis
+ * p50, p99 e p999 e o histograma exportado em {@code GET /actuator/prometheus}.
+ * </p>
+ *
+ * <p>
+ * Os timers são resolvidos uma única vez por método e guardados em memória,
+ * para que a medição não procure interfaces nem monte tags a cada chamada.
+ * </p>
+ */
+@Aspect
+@Component
+public class MetricasPortas {
+
+    /**
+     * Nome do timer publicado para as chamadas às portas.
+     */
+    public static final String METRICA = "aeroporto.porta";
+
+    private static final String BASE = "br.com.projeto.aeroporto.";
+
+    private final MeterRegistry registry;
+
+    private final Map<Method, Timers> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor da classe {@code MetricasPortas}.
+     *
+     * @param registry registro de métricas da aplicação
+     */
+    public MetricasPortas(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Cronometra a chamada e a registra no timer da porta, conforme o resultado.
+     *
+     * @param chamada chamada interceptada
+     * @return retorno do método da porta
+     * @throws Throwable exceção lançada pelo método, repassada sem alteração
+     */
+    @Around("execution(* br.com.projeto.aeroporto..in.*.*(..))"
+            + " || execution(* br.com.projeto.aeroporto..out.*.*(..))"
+            + " || execution(* br.com.projeto.aeroporto..port.*.*(..))")
+    public Object medir(ProceedingJoinPoint chamada) throws Throwable {
+        Method metodo = ((MethodSignature) chamada.getSignature()).getMethod();
+        Timers timersMetodo = timers.computeIfAbsent(metodo, m -> criarTimers(m, chamada.getTarget()));
+        long inicio = System.nanoTime();
+        try {
+            Object retorno = chamada.proceed();
+            timersMetodo.sucesso().record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            return retorno;
+        } catch (Throwable erro) {
+            timersMetodo.erro().record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            throw erro;
+        }
+    }
+
+    private Timers criarTimers(Method metodo, Object alvo) {
+        String porta = nomePorta(metodo, AopUtils.getTargetClass(alvo));
+        return new Timers(timer(porta, metodo.getName(), "sucesso"), timer(porta, metodo.getName(), "erro"));
+    }
+
+    private Timer timer(String porta, String metodo, String resultado) {
+        return Timer.builder(METRICA)
+                .description("Chamadas às portas de entrada e de saída")
+                .tag("porta", porta)
+                .tag("metodo", metodo)
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+
+    /**
+     * Nome da interface de porta que declara o método; o nome da classe, se
+     * nenhuma interface de porta o declarar.
+     */
+    private static String nomePorta(Method metodo, Class<?> classeAlvo) {
+        for (Class<?> interfacePorta : ClassUtils.getAllInterfacesForClassAsSet(classeAlvo)) {
+            if (ehPacotePorta(interfacePorta.getPackageName())
+                    && ClassUtils.hasMethod(interfacePorta, metodo.getName(), metodo.getParameterTypes())) {
+                return interfacePorta.getSimpleName();
+            }
+        }
+        return classeAlvo.getSimpleName();
+    }
+
+    private static boolean ehPacotePorta(String pacote) {
+        return pacote.startsWith(BASE) && (pacote.endsWith(".in") || pacote.endsWith(".out") || pacote.endsWith(".port"));
+    }
+
+    private record Timers(Timer sucesso, Timer erro) {
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.projeto.aeroporto.comum;
+
+
+/**
+ * Regras de paginação por cursor (keyset) compartilhadas pelos endpoints de listagem.
+ *
+ * <p>
+ * Em vez de {@code OFFSET}, as listagens recebem o último identificador já
+ * entregue ao cliente ({@code after}) e devolvem no máximo {@code limit}
+ * registros com identificador maior, em ordem crescente. Assim a consulta usa
+ * sempre o índice da chave primária e o custo de cada página não cresce com o
+ * tamanho da tabela.
+ * </p>
+ *
+ * <p>
+ * Para percorrer a tabela inteira sem paginar, os controladores oferecem o
+ * modo NDJSON (ver {@link RespostaNdjson}).
+ * </p>
+ */
+public final class Paginacao {
+
+    /**
+     * Quantidade de registros devolvida quando o cliente não informa {@code limit}.
+     */
+    public static final int LIMITE_PADRAO = 100;
+
+    /**
+     * Maior quantidade de registros aceita em uma única página.
+     */
+    public static final int LIMITE_MAXIMO = 1000;
+
+    private Paginacao() {
+    }
+
+    /**
+     * Normaliza o tamanho de página pedido pelo cliente.
+     *
+     * @param limit tamanho solicitado (pode ser {@code null})
+     * @return {@link #LIMITE_PADRAO} quando ausente ou não positivo;
+     *         caso contrário o valor limitado a {@link #LIMITE_MAXIMO}
+     */
+    public static int limiteEfetivo(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return LIMITE_PADRAO;
+        }
+        return Math.min(limit, LIMITE_MAXIMO);
+    }
+
+    /**
+     * Cursor inicial para tabelas com chave numérica.
+     *
+     * @param after último identificador recebido pelo cliente (pode ser {@code null})
+     * @return o próprio cursor, ou {@code 0} para começar do primeiro registro
+     */
+    public static Long cursorInicial(Long after) {
+        return after == null ? 0L : after;
+    }
+
+    /**
+     * Cursor inicial para tabelas com chave textual (UUID gerado pelo Hibernate).
+     *
+     * @param after último identificador recebido pelo cliente (pode ser {@code null})
+     * @return o próprio cursor, ou string vazia para começar do primeiro registro
+     */
+    public static String cursorInicial(String after) {
+        return after == null ? "" : after;
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.projeto.aeroporto.comum;
+
+
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Gravação síncrona de coleções grandes em uma única transação.
+ *
+ * <p>
+ * Os itens são salvos um a um pela função recebida (normalmente o
+ * {@code save} do repositório Spring Data) e o contexto de persistência é
+ * descarregado e limpo a cada {@value #TAMANHO_LOTE} itens. Com
+ * {@code hibernate.jdbc.batch_size} igual a esse valor e ids obtidos de
+ * sequências com alocação em blocos, cada descarga vira um único lote JDBC de
+ * {@code INSERT}s, e o contexto de persistência nunca guarda mais do que
+ * um lote.
+ * </p>
+ *
+ * <p>
+ * {@link #salvarTodos} devolve as instâncias persistidas (com os ids
+ * gerados), então a lista devolvida cresce com a carga, como a coleção
+ * recebida. Quem não precisa do resultado usa {@link #gravarTodos}, que não
+ * guarda nenhuma referência além do lote em andamento.
+ * </p>
+ *
+ * <p>
+ * As entidades devolvidas ficam desanexadas do contexto de persistência. A
+ * limpeza também desanexa qualquer outra entidade carregada na mesma transação
+ * pelo chamador.
+ * </p>
+ */
+@Component
+public class PersistenciaEmLote {
+
+    /**
+     * Itens por descarga; deve acompanhar {@code hibernate.jdbc.batch_size}.
+     */
+    public static final int TAMANHO_LOTE = 50;
+
+    private final EntityManager entityManager;
+
+    /**
+     * Construtor da classe {@code PersistenciaEmLote}.
+     *
+     * @param entityManager contexto de persistência compartilhado
+     */
+    public PersistenciaEmLote(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Salva todos os itens em uma única transação, descarregando em lotes.
+     *
+     * @param itens  itens a salvar
+     * @param salvar função que salva um item e devolve a instância persistida
+     * @param <T>    tipo da entidade
+     * @return itens persistidos, na ordem recebida
+     */
+    @Transactional
+    public <T> List<T> salvarTodos(Collection<T> itens, UnaryOperator<T> salvar) {
+        List<T> salvos = new ArrayList<>(itens.size());
+        gravarTodos(itens, item -> salvos.add(salvar.apply(item)));
+        return salvos;
+    }
+
+    /**
+     * Grava todos os itens em uma única transação, descarregando em lotes,
+     * sem guardar as instâncias persistidas.
+     *
+     * @param itens  itens a gravar
+     * @param gravar função que grava um item
+     * @param <T>    tipo da entidade
+     */
+    @Transactional
+    public <T> void gravarTodos(Collection<T> itens, Consumer<? super T> gravar) {
+        int gravados = 0;
+        for (T item : itens) {
+            gravar.accept(item);
+            if (++gravados % TAMANHO_LOTE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.projeto.aeroporto.comum;
+
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Monta respostas HTTP em NDJSON (um objeto JSON por linha).
+ *
+ * <p>
+ * Cada registro é serializado e escrito na resposta assim que sai do cursor
+ * JDBC, sem montar uma {@code List} em memória. Combinado com os métodos
+ * {@code percorrerTodos} das portas de repositório, o consumo de memória fica
+ * constante, independentemente do tamanho da tabela.
+ * </p>
+ *
+ * <p>
+ * O corpo é escrito pelo executor assíncrono do Spring MVC, fora da thread da
+ * requisição; por isso a transação de leitura é aberta pelo próprio adapter
+ * durante a iteração.
+ * </p>
+ */
+@Component
+public class RespostaNdjson {
+
+    /**
+     * Tipo de mídia usado pelos endpoints de listagem em modo streaming.
+     */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(APPLICATION_NDJSON_VALUE);
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Construtor com injeção do {@link ObjectMapper} configurado pelo Spring Boot.
+     *
+     * @param objectMapper serializador JSON da aplicação
+     */
+    public RespostaNdjson(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Cria uma resposta que transmite todos os registros produzidos pela origem.
+     *
+     * @param origem função que percorre os registros, entregando cada um ao consumidor recebido
+     * @param <T>    tipo dos registros transmitidos
+     * @return {@link ResponseEntity} com status 200 e corpo em NDJSON
+     */
+    public <T> ResponseEntity<StreamingResponseBody> transmitir(Consumer<Consumer<T>> origem) {
+        StreamingResponseBody corpo = saida -> origem.accept(registro -> {
+            try {
+                saida.write(objectMapper.writeValueAsBytes(registro));
+                saida.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(corpo);
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.projeto.aeroporto.comunicacao.adapter;
+
+
+import br.com.projeto.aeroporto.comunicacao.model.Mensagem;
+import br.com.projeto.aeroporto.comunicacao.model.MensagensEntregues;
+import br.com.projeto.aeroporto.comunicacao.out.CanalEntregaPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Canal de entrega dentro do próprio processo.
+ *
+ * <p>
+ * Publica um {@link MensagensEntregues} por destinatário, recebido por
+ * qualquer {@code @EventListener} da aplicação (inclusive em testes), sem
+ * depender de um serviço externo.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "aeroporto.mensagens.canal", havingValue = "local", matchIfMissing = true)
+public class CanalEntregaLocal implements CanalEntregaPort {
+
+    private final ApplicationEventPublisher publicador;
+
+    /**
+     * Construtor da classe {@code CanalEntregaLocal}.
+     *
+     * @param publicador publicador de eventos da aplicação
+     */
+    public CanalEntregaLocal(ApplicationEventPublisher publicador) {
+        this.publicador = publicador;
+    }
+
+    /**
+     * Publica as mensagens do destinatário como um evento da aplicação.
+     *
+     * @param destinatario destinatário das mensagens
+     * @param mensagens    mensagens do destinatário
+     */
+    @Override
+    public void entregar(String destinatario, List<Mensagem> mensagens) {
+        publicador.publishEvent(new MensagensEntregues(destinatario, mensagens));
+    }
+}
@@ -4,8 +4,10 @@ package br.com.projeto.aeroporto.comunicacao.adapter;
 import br.com.projeto.aeroporto.comunicacao.model.Funcionario;
 import br.com.projeto.aeroporto.comunicacao.out.FuncionarioRepositoryOutPort;
 import br.com.projeto.aeroporto.comunicacao.repository.FuncionarioJpaRepository;
+import br.com.projeto.aeroporto.comum.IndiceNomes;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,6 +58,21 @@ public class FuncionarioRepositoryAdapter implements FuncionarioRepositoryOutPor
         return jpaRepository.save(funcionario);
     }
 
+    /**
+     * Salva vários funcionários em uma única transação.
+     *
+     * <p>
+     * Delegado ao método {@link FuncionarioJpaRepository#saveAll(Iterable)}.
+     * </p>
+     *
+     * @param funcionarios funcionários a salvar
+     * @return funcionários persistidos, na ordem recebida
+     */
+    @Override
+    public List<Funcionario> salvarTodos(Collection<Funcionario> funcionarios) {
+        return jpaRepository.saveAll(funcionarios);
+    }
+
     /**
      * Busca um funcionário pelo seu identificador.
      *
@@ -86,6 +103,25 @@ public class FuncionarioRepositoryAdapter implements FuncionarioRepositoryOutPor
         return jpaRepository.findAll();
     }
 
+    /**
+     * Busca funcionários por nome parcial ou com erros de digitação.
+     *
+     * <p>
+     * Delegado ao método {@link FuncionarioJpaRepository#buscarPorNomeSemelhante(String, String, int)},
+     * que usa os operadores do {@code pg_trgm}; na comparação por prefixo os
+     * curingas {@code %} e {@code _} do termo valem como texto.
+     * </p>
+     *
+     * @param termo  nome completo ou parcial
+     * @param limite quantidade máxima de funcionários
+     * @return funcionários mais parecidos com o termo
+     */
+    @Override
+    public List<Funcionario> buscarPorNome(String termo, int limite) {
+        String aparado = termo.trim();
+        return jpaRepository.buscarPorNomeSemelhante(aparado, IndiceNomes.escaparLike(aparado), limite);
+    }
+
     /**
      * Remove um funcionário com base em seu identificador.
      *
@@ -2,11 +2,17 @@ package br.com.projeto.aeroporto.comunicacao.adapter;
 
 
 
+import br.com.projeto.aeroporto.comunicacao.model.AvisoPainel;
 import br.com.projeto.aeroporto.comunicacao.model.Informacao;
 import br.com.projeto.aeroporto.comunicacao.out.InformacaoRepositoryPort;
 import br.com.projeto.aeroporto.comunicacao.repository.InformacaoJpaRepository;
+import br.com.projeto.aeroporto.comum.Paginacao;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,6 +63,21 @@ public class InformacaoRepositoryAdapter implements InformacaoRepositoryPort {
         return jpaRepository.save(informacao);
     }
 
+    /**
+     * Salva várias informações em uma única transação.
+     *
+     * <p>
+     * Delegado ao método {@link InformacaoJpaRepository#saveAll(Iterable)}.
+     * </p>
+     *
+     * @param informacoes informações a salvar
+     * @return informações persistidas, na ordem recebida
+     */
+    @Override
+    public List<Informacao> salvarTodos(Collection<Informacao> informacoes) {
+        return jpaRepository.saveAll(informacoes);
+    }
+
     /**
      * Busca uma informação pelo seu identificador.
      *
@@ -87,6 +108,23 @@ public class InformacaoRepositoryAdapter implements InformacaoRepositoryPort {
         return jpaRepository.findAll();
     }
 
+    /**
+     * Lista uma página de informações por cursor (keyset).
+     *
+     * <p>
+     * Delegado ao método
+     * {@link InformacaoJpaRepository#findByIdInformacaoGreaterThanOrderByIdInformacaoAsc(String, Limit)}.
+     * </p>
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de informações na página
+     * @return próxima página de informações
+     */
+    @Override
+    public List<Informacao> listarPagina(String after, int limit) {
+        return jpaRepository.findByIdInformacaoGreaterThanOrderByIdInformacaoAsc(Paginacao.cursorInicial(after), Limit.of(limit));
+    }
+
     /**
      * Remove uma informação com base em seu identificador.
      *
@@ -100,4 +138,66 @@ public class InformacaoRepositoryAdapter implements InformacaoRepositoryPort {
     public void deletarPorId(String id) {
         jpaRepository.deleteById(id);
     }
+
+    /**
+     * Lista as informações ainda válidas no formato dos painéis.
+     *
+     * <p>
+     * Delegado ao método {@link InformacaoJpaRepository#listarAvisos(LocalDateTime)}.
+     * </p>
+     *
+     * @param agora instante de referência
+     * @return informações com validade posterior a {@code agora}
+     */
+    @Override
+    public List<AvisoPainel> listarAvisos(LocalDateTime agora) {
+        return jpaRepository.listarAvisos(agora);
+    }
+
+    /**
+     * Busca uma informação no formato dos painéis.
+     *
+     * <p>
+     * Delegado ao método {@link InformacaoJpaRepository#buscarAviso(String)}.
+     * </p>
+     *
+     * @param id identificador da informação
+     * @return a informação, ou vazio se não existir
+     */
+    @Override
+    public Optional<AvisoPainel> buscarAviso(String id) {
+        return jpaRepository.buscarAviso(id);
+    }
+
+    /**
+     * Lista as informações que exibem a mensagem informada, no formato dos painéis.
+     *
+     * <p>
+     * Delegado ao método {@link InformacaoJpaRepository#listarAvisosPorMensagem(String)}.
+     * </p>
+     *
+     * @param idMensagem identificador da mensagem
+     * @return informações cujo conteúdo é a mensagem
+     */
+    @Override
+    public List<AvisoPainel> listarAvisosPorMensagem(String idMensagem) {
+        return jpaRepository.listarAvisosPorMensagem(idMensagem);
+    }
+
+    /**
+     * Exclui, em uma transação, um lote de informações vencidas.
+     *
+     * <p>
+     * Delegado ao método {@link InformacaoJpaRepository#excluirVencidas(LocalDateTime, int)}.
+     * </p>
+     *
+     * @param limite informações com validade até este instante são excluídas
+     * @param lote   quantidade máxima de informações excluídas
+     * @return quantidade de informações excluídas
+     */
+    @Override
+    @Transactional
+    public int excluirVencidas(LocalDateTime limite, int lote) {
+        return jpaRepository.excluirVencidas(limite, lote);
+    }
 }
\ No newline at end of file
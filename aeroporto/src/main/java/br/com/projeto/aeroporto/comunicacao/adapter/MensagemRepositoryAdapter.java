@@ -4,10 +4,18 @@ package br.com.projeto.aeroporto.comunicacao.adapter;
 import br.com.projeto.aeroporto.comunicacao.model.Mensagem;
 import br.com.projeto.aeroporto.comunicacao.out.MensagemRepositoryPort;
 import br.com.projeto.aeroporto.comunicacao.repository.MensagemJpaRepository;
+import br.com.projeto.aeroporto.comum.Paginacao;
+import br.com.projeto.aeroporto.comum.PersistenciaEmLote;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adaptador de repositório para {@link Mensagem} utilizando JPA.
@@ -31,14 +39,29 @@ public class MensagemRepositoryAdapter implements MensagemRepositoryPort {
      */
     private final MensagemJpaRepository jpaRepository;
 
+    /**
+     * Contexto de persistência, usado para desanexar mensagens já transmitidas
+     * em {@link #percorrerTodos(Consumer)}.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Gravação em lote usada por {@link #salvarTodos(Collection)}.
+     */
+    private final PersistenciaEmLote persistenciaEmLote;
+
     /**
      * Construtor com injeção de dependência do repositório JPA.
      *
-     * @param jpaRepository implementação de {@link MensagemJpaRepository}
-     *                      utilizada para persistir as mensagens
+     * @param jpaRepository      implementação de {@link MensagemJpaRepository}
+     *                           utilizada para persistir as mensagens
+     * @param entityManager      contexto de persistência compartilhado
+     * @param persistenciaEmLote gravação em lote de mensagens
      */
-    public MensagemRepositoryAdapter(MensagemJpaRepository jpaRepository) {
+    public MensagemRepositoryAdapter(MensagemJpaRepository jpaRepository, EntityManager entityManager, PersistenciaEmLote persistenciaEmLote) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.persistenciaEmLote = persistenciaEmLote;
     }
 
     /**
@@ -56,6 +79,38 @@ public class MensagemRepositoryAdapter implements MensagemRepositoryPort {
         return jpaRepository.save(mensagem);
     }
 
+    /**
+     * Salva várias mensagens em uma única transação.
+     *
+     * <p>
+     * Delegado ao {@link PersistenciaEmLote},
+     * que descarrega o contexto de persistência a cada lote JDBC.
+     * </p>
+     *
+     * @param mensagens mensagens a salvar
+     * @return mensagens persistidas, na ordem recebida
+     */
+    @Override
+    public List<Mensagem> salvarTodos(Collection<Mensagem> mensagens) {
+        return persistenciaEmLote.salvarTodos(mensagens, jpaRepository::save);
+    }
+
+    /**
+     * Inclui mensagens novas, com IDs já atribuídos, com inserções em lote.
+     *
+     * <p>
+     * Usa {@link EntityManager#persist(Object)} em vez de {@code save}: como o ID
+     * é atribuído pela aplicação, {@code save} faria um {@code merge}, com um
+     * {@code SELECT} por mensagem antes do {@code INSERT}.
+     * </p>
+     *
+     * @param mensagens mensagens a incluir
+     */
+    @Override
+    public void incluirTodos(Collection<Mensagem> mensagens) {
+        persistenciaEmLote.gravarTodos(mensagens, entityManager::persist);
+    }
+
     /**
      * Busca uma mensagem pelo seu identificador.
      *
@@ -86,6 +141,44 @@ public class MensagemRepositoryAdapter implements MensagemRepositoryPort {
         return jpaRepository.findAll();
     }
 
+    /**
+     * Lista uma página de mensagens por cursor (keyset).
+     *
+     * <p>
+     * Delegado ao método
+     * {@link MensagemJpaRepository#findByIdMensagemGreaterThanOrderByIdMensagemAsc(String, Limit)}.
+     * </p>
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de mensagens na página
+     * @return próxima página de mensagens
+     */
+    @Override
+    public List<Mensagem> listarPagina(String after, int limit) {
+        return jpaRepository.findByIdMensagemGreaterThanOrderByIdMensagemAsc(Paginacao.cursorInicial(after), Limit.of(limit));
+    }
+
+    /**
+     * Percorre todas as mensagens por meio de um cursor JDBC.
+     *
+     * <p>
+     * Cada mensagem é desanexada do contexto de persistência logo após ser
+     * entregue ao consumidor, mantendo o uso de memória constante.
+     * </p>
+     *
+     * @param consumidor função chamada para cada mensagem lida do banco
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerTodos(Consumer<Mensagem> consumidor) {
+        try (Stream<Mensagem> registros = jpaRepository.buscarTodosEmFluxo()) {
+            registros.forEach(m -> {
+                consumidor.accept(m);
+                entityManager.detach(m);
+            });
+        }
+    }
+
     /**
      * Remove uma mensagem com base em seu identificador.
      *
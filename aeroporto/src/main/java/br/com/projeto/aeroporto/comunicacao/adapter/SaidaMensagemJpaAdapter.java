@@ -0,0 +1,79 @@
+package br.com.projeto.aeroporto.comunicacao.adapter;
+
+
+import br.com.projeto.aeroporto.comum.PersistenciaEmLote;
+import br.com.projeto.aeroporto.comunicacao.model.SaidaMensagem;
+import br.com.projeto.aeroporto.comunicacao.out.SaidaMensagemRepositoryPort;
+import br.com.projeto.aeroporto.comunicacao.repository.SaidaMensagemJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Adapter responsável por implementar a porta {@link SaidaMensagemRepositoryPort}
+ * utilizando o repositório JPA {@link SaidaMensagemJpaRepository}.
+ */
+@Component
+public class SaidaMensagemJpaAdapter implements SaidaMensagemRepositoryPort {
+
+    private final SaidaMensagemJpaRepository repo;
+
+    private final PersistenciaEmLote persistenciaEmLote;
+
+    /**
+     * Construtor da classe {@code SaidaMensagemJpaAdapter}.
+     *
+     * @param repo               repositório JPA da caixa de saída
+     * @param persistenciaEmLote gravação em lote das linhas
+     */
+    public SaidaMensagemJpaAdapter(SaidaMensagemJpaRepository repo, PersistenciaEmLote persistenciaEmLote) {
+        this.repo = repo;
+        this.persistenciaEmLote = persistenciaEmLote;
+    }
+
+    /**
+     * Grava as linhas em uma única transação, descarregando em lotes JDBC.
+     *
+     * @param saidas linhas a gravar
+     */
+    @Override
+    public void salvarTodos(Collection<SaidaMensagem> saidas) {
+        persistenciaEmLote.gravarTodos(saidas, repo::save);
+    }
+
+    /**
+     * Bloqueia as linhas pendentes mais antigas para despacho.
+     *
+     * <p>
+     * Delegado ao método {@link SaidaMensagemJpaRepository#reservar(int)}.
+     * </p>
+     *
+     * @param lote quantidade máxima de linhas
+     * @return linhas bloqueadas, em ordem de gravação
+     */
+    @Override
+    public List<SaidaMensagem> reservar(int lote) {
+        return repo.reservar(lote);
+    }
+
+    /**
+     * Remove as linhas já despachadas.
+     *
+     * @param ids identificadores das linhas
+     */
+    @Override
+    public void excluir(Collection<Long> ids) {
+        repo.excluir(ids);
+    }
+
+    /**
+     * Quantidade de linhas pendentes.
+     *
+     * @return linhas na caixa de saída
+     */
+    @Override
+    public long contar() {
+        return repo.count();
+    }
+}
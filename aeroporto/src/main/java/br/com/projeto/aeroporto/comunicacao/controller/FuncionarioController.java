@@ -1,6 +1,7 @@
 package br.com.projeto.aeroporto.comunicacao.controller;
 
 
+import br.com.projeto.aeroporto.comum.IndiceNomes;
 import br.com.projeto.aeroporto.comunicacao.in.FuncionarioUseCase;
 import br.com.projeto.aeroporto.comunicacao.model.Funcionario;
 import io.swagger.v3.oas.annotations.Operation;
@@ -89,6 +90,24 @@ public class FuncionarioController {
         return ResponseEntity.ok(funcionarioUseCase.listar());
     }
 
+    /**
+     * Busca funcionários por nome parcial ou com erros de digitação.
+     *
+     * <p>
+     * Endpoint: {@code GET /api/funcionarios/busca?q=&limit=}
+     * </p>
+     *
+     * @param q     nome completo ou parcial
+     * @param limit quantidade máxima de resultados (opcional)
+     * @return {@link ResponseEntity} com id, nome e pontuação dos funcionários encontrados (status 200)
+     */
+    @GetMapping("/busca")
+    @Operation(summary = "Buscar funcionarios pelo nome")
+    public ResponseEntity<List<IndiceNomes.Resultado>> buscarPorNome(@RequestParam String q,
+                                                                     @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(funcionarioUseCase.buscarPorNome(q, limit));
+    }
+
     /**
      * Atualiza os dados de um funcionário existente.
      *
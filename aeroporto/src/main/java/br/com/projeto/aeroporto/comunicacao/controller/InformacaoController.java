@@ -2,10 +2,15 @@ package br.com.projeto.aeroporto.comunicacao.controller;
 
 
 import br.com.projeto.aeroporto.comunicacao.in.InformacaoUseCase;
+import br.com.projeto.aeroporto.comunicacao.model.AvisoPainel;
 import br.com.projeto.aeroporto.comunicacao.model.Informacao;
+import br.com.projeto.aeroporto.comunicacao.service.PainelInformacoes;
+import br.com.projeto.aeroporto.comum.Paginacao;
 import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -21,6 +26,11 @@ import java.util.List;
  * <p>
  * Base path dos endpoints: {@code /api/informacoes}.
  * </p>
+ *
+ * <p>
+ * Os painéis do terminal usam {@code /api/informacoes/painel}, servido da
+ * memória por {@link PainelInformacoes}, em vez de consultar a listagem.
+ * </p>
  */
 @RestController
 @RequestMapping("/api/informacoes")
@@ -31,13 +41,20 @@ public class InformacaoController {
      */
     private final InformacaoUseCase informacaoUseCase;
 
+    /**
+     * Canal de envio das informações aos painéis.
+     */
+    private final PainelInformacoes painel;
+
     /**
      * Construtor com injeção de dependência do caso de uso.
      *
      * @param informacaoUseCase implementação de {@link InformacaoUseCase}
+     * @param painel            canal de envio das informações aos painéis
      */
-    public InformacaoController(InformacaoUseCase informacaoUseCase) {
+    public InformacaoController(InformacaoUseCase informacaoUseCase, PainelInformacoes painel) {
         this.informacaoUseCase = informacaoUseCase;
+        this.painel = painel;
     }
 
     /**
@@ -56,6 +73,42 @@ public class InformacaoController {
         return ResponseEntity.ok(informacaoUseCase.criar(informacao));
     }
 
+    /**
+     * Retorna as informações válidas exibidas nos painéis, sem consultar o banco.
+     *
+     * <p>
+     * Endpoint: {@code GET /api/informacoes/painel}
+     * </p>
+     *
+     * @return {@link ResponseEntity} com as informações em ordem de validade e status 200 (OK)
+     */
+    @GetMapping("/painel")
+    @Operation(summary = "Listar as informações exibidas nos painéis")
+    public ResponseEntity<List<AvisoPainel>> listarPainel() {
+        return ResponseEntity.ok(painel.avisosAtuais());
+    }
+
+    /**
+     * Inscreve um painel para receber as informações por Server-Sent Events.
+     *
+     * <p>
+     * Endpoint: {@code GET /api/informacoes/painel/eventos}
+     * </p>
+     *
+     * <p>
+     * O primeiro evento ({@code retrato}) traz as informações válidas; os
+     * seguintes ({@code lote}) trazem as alterações acumuladas, com as
+     * informações novas ou alteradas e os IDs das removidas ou vencidas.
+     * </p>
+     *
+     * @return emissor SSE da inscrição
+     */
+    @GetMapping(value = "/painel/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Receber as informações dos painéis em tempo real")
+    public SseEmitter inscreverPainel() {
+        return painel.inscrever();
+    }
+
     /**
      * Busca uma informação pelo seu identificador.
      *
@@ -76,18 +129,27 @@ public class InformacaoController {
     }
 
     /**
-     * Lista todas as informações cadastradas.
+     * Lista uma página de informações, usando o ID como cursor.
+     *
+     * <p>
+     * Endpoint: {@code GET /api/informacoes?after=&limit=}
+     * </p>
      *
      * <p>
-     * Endpoint: {@code GET /api/informacoes}
+     * Para obter a próxima página, envie em {@code after} o ID da última
+     * informação recebida. Sem {@code limit}, são devolvidos
+     * {@value Paginacao#LIMITE_PADRAO} registros (máximo {@value Paginacao#LIMITE_MAXIMO}).
      * </p>
      *
-     * @return {@link ResponseEntity} contendo a lista de informações e status 200 (OK)
+     * @param after último ID já recebido (opcional)
+     * @param limit tamanho da página (opcional)
+     * @return {@link ResponseEntity} contendo a página de informações e status 200 (OK)
      */
     @GetMapping
-    @Operation(summary = "Listar todas as informaçoes")
-    public ResponseEntity<List<Informacao>> listar() {
-        return ResponseEntity.ok(informacaoUseCase.listar());
+    @Operation(summary = "Listar as informaçoes em páginas (cursor por ID)")
+    public ResponseEntity<List<Informacao>> listar(@RequestParam(required = false) String after,
+                                                   @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(informacaoUseCase.listarPagina(after, limit));
     }
 
     /**
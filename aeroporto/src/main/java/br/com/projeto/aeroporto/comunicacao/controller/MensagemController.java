@@ -2,9 +2,16 @@ package br.com.projeto.aeroporto.comunicacao.controller;
 
 
 import br.com.projeto.aeroporto.comunicacao.in.MensagemUseCase;
+import br.com.projeto.aeroporto.comunicacao.model.Difusao;
 import br.com.projeto.aeroporto.comunicacao.model.Mensagem;
+import br.com.projeto.aeroporto.comunicacao.service.CaixaSaidaCheiaException;
+import br.com.projeto.aeroporto.comum.Paginacao;
+import br.com.projeto.aeroporto.comum.RespostaNdjson;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -30,13 +37,20 @@ public class MensagemController {
      */
     private final MensagemUseCase mensagemUseCase;
 
+    /**
+     * Componente que transmite listagens completas em NDJSON.
+     */
+    private final RespostaNdjson respostaNdjson;
+
     /**
      * Construtor com injeção de dependência do caso de uso.
      *
      * @param mensagemUseCase implementação de {@link MensagemUseCase}
+     * @param respostaNdjson  componente de transmissão em NDJSON
      */
-    public MensagemController(MensagemUseCase mensagemUseCase) {
+    public MensagemController(MensagemUseCase mensagemUseCase, RespostaNdjson respostaNdjson) {
         this.mensagemUseCase = mensagemUseCase;
+        this.respostaNdjson = respostaNdjson;
     }
 
     /**
@@ -54,6 +68,36 @@ public class MensagemController {
         return ResponseEntity.ok(mensagemUseCase.criar(mensagem));
     }
 
+    /**
+     * Envia a mesma mensagem a vários destinatários.
+     *
+     * <p>
+     * Endpoint: {@code POST /api/mensagens/difusao}
+     * </p>
+     *
+     * <p>
+     * As mensagens são gravadas e entregues de forma assíncrona; a resposta
+     * informa quantas foram aceitas.
+     * </p>
+     *
+     * @param difusao remetente, conteúdo e destinatários (JSON no corpo da requisição)
+     * @return {@link ResponseEntity} com a quantidade de mensagens aceitas e status 202 (Accepted),
+     *         status 400 (Bad Request) se remetente, conteúdo ou algum destinatário for inválido,
+     *         ou status 503 (Service Unavailable) se houver mensagens pendentes demais
+     */
+    @PostMapping("/difusao")
+    public ResponseEntity<Integer> difundir(@RequestBody Difusao difusao) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(mensagemUseCase.difundir(difusao));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (CaixaSaidaCheiaException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+    }
+
     /**
      * Busca uma mensagem pelo seu identificador.
      *
@@ -73,17 +117,40 @@ public class MensagemController {
     }
 
     /**
-     * Lista todas as mensagens cadastradas.
+     * Lista uma página de mensagens, usando o ID como cursor.
      *
      * <p>
-     * Endpoint: {@code GET /api/mensagens}
+     * Endpoint: {@code GET /api/mensagens?after=&limit=}
      * </p>
      *
-     * @return {@link ResponseEntity} contendo a lista de mensagens e status 200 (OK)
+     * <p>
+     * Para obter a próxima página, envie em {@code after} o ID da última
+     * mensagem recebida. Sem {@code limit}, são devolvidos
+     * {@value Paginacao#LIMITE_PADRAO} registros (máximo {@value Paginacao#LIMITE_MAXIMO}).
+     * </p>
+     *
+     * @param after último ID já recebido (opcional)
+     * @param limit tamanho da página (opcional)
+     * @return {@link ResponseEntity} contendo a página de mensagens e status 200 (OK)
      */
     @GetMapping
-    public ResponseEntity<List<Mensagem>> listar() {
-        return ResponseEntity.ok(mensagemUseCase.listar());
+    public ResponseEntity<List<Mensagem>> listar(@RequestParam(required = false) String after,
+                                                 @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(mensagemUseCase.listarPagina(after, limit));
+    }
+
+    /**
+     * Transmite todas as mensagens em NDJSON, uma por linha, à medida que são lidas do banco.
+     *
+     * <p>
+     * Endpoint: {@code GET /api/mensagens} com {@code Accept: application/x-ndjson}
+     * </p>
+     *
+     * @return {@link ResponseEntity} com o corpo em streaming e status 200 (OK)
+     */
+    @GetMapping(produces = RespostaNdjson.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> transmitir() {
+        return respostaNdjson.transmitir(mensagemUseCase::percorrerTodos);
     }
 
     /**
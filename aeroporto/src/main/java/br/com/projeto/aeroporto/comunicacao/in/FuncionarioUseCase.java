@@ -1,6 +1,7 @@
 package br.com.projeto.aeroporto.comunicacao.in;
 
 
+import br.com.projeto.aeroporto.comum.IndiceNomes;
 import br.com.projeto.aeroporto.comunicacao.model.Funcionario;
 
 import java.util.List;
@@ -46,6 +47,15 @@ public interface FuncionarioUseCase {
      */
     List<Funcionario> listar();
 
+    /**
+     * Busca funcionários por nome parcial ou com erros de digitação.
+     *
+     * @param termo  nome completo ou parcial
+     * @param limite quantidade máxima de resultados ({@code null} para o padrão)
+     * @return funcionários encontrados, do mais ao menos parecido com o termo
+     */
+    List<IndiceNomes.Resultado> buscarPorNome(String termo, Integer limite);
+
     /**
      * Atualiza os dados de um funcionário existente.
      *
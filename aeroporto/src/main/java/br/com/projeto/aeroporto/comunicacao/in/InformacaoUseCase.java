@@ -46,6 +46,15 @@ public interface InformacaoUseCase {
      */
     List<Informacao> listar();
 
+    /**
+     * Retorna uma página de informações por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit tamanho da página solicitado ({@code null} para o padrão)
+     * @return informações com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<Informacao> listarPagina(String after, Integer limit);
+
     /**
      * Atualiza os dados de uma informação existente.
      *
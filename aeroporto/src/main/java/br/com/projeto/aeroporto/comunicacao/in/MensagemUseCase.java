@@ -1,10 +1,12 @@
 package br.com.projeto.aeroporto.comunicacao.in;
 
 
+import br.com.projeto.aeroporto.comunicacao.model.Difusao;
 import br.com.projeto.aeroporto.comunicacao.model.Mensagem;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Caso de uso para gestão de {@link Mensagem}.
@@ -30,6 +32,17 @@ public interface MensagemUseCase {
      */
     Mensagem criar(Mensagem mensagem);
 
+    /**
+     * Envia a mesma mensagem a vários destinatários, de forma assíncrona.
+     *
+     * @param difusao remetente, conteúdo e destinatários
+     * @return quantidade de mensagens aceitas para entrega
+     * @throws IllegalArgumentException caso remetente, conteúdo ou algum destinatário seja inválido
+     * @throws br.com.projeto.aeroporto.comunicacao.service.CaixaSaidaCheiaException caso haja
+     *         mensagens pendentes demais
+     */
+    int difundir(Difusao difusao);
+
     /**
      * Busca uma mensagem pelo seu identificador.
      *
@@ -46,12 +59,30 @@ public interface MensagemUseCase {
      */
     List<Mensagem> listar();
 
+    /**
+     * Retorna uma página de mensagens por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit tamanho da página solicitado ({@code null} para o padrão)
+     * @return mensagens com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<Mensagem> listarPagina(String after, Integer limit);
+
+    /**
+     * Percorre todas as mensagens cadastradas, uma a uma.
+     *
+     * @param consumidor função chamada para cada mensagem
+     */
+    void percorrerTodos(Consumer<Mensagem> consumidor);
+
     /**
      * Atualiza os dados de uma mensagem existente.
      *
      * @param id       identificador da mensagem a ser atualizada
      * @param mensagem objeto contendo os novos dados da mensagem
      * @return mensagem atualizada
+     * @throws br.com.projeto.aeroporto.comunicacao.service.MensagemNaoEncontradaException caso a
+     *         mensagem não exista
      */
     Mensagem atualizar(String id, Mensagem mensagem);
 
@@ -0,0 +1,15 @@
+package br.com.projeto.aeroporto.comunicacao.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Informação como exibida nos painéis do terminal, com o texto da mensagem.
+ *
+ * @param idInformacao identificador da informação
+ * @param tipo         tipo da informação (ex.: {@code "embarque"}, {@code "atraso"})
+ * @param validade     data e hora até a qual a informação é exibida
+ * @param remetente    remetente da mensagem
+ * @param texto        conteúdo da mensagem
+ */
+public record AvisoPainel(String idInformacao, String tipo, LocalDateTime validade, String remetente, String texto) {
+}
@@ -0,0 +1,13 @@
+package br.com.projeto.aeroporto.comunicacao.model;
+
+import java.util.List;
+
+/**
+ * Mensagem operacional enviada a vários destinatários de uma vez.
+ *
+ * @param remetente     remetente da mensagem
+ * @param conteudo      conteúdo da mensagem
+ * @param destinatarios destinatários (ex.: matrículas dos funcionários)
+ */
+public record Difusao(String remetente, String conteudo, List<String> destinatarios) {
+}
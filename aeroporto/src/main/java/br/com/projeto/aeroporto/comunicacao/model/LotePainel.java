@@ -0,0 +1,12 @@
+package br.com.projeto.aeroporto.comunicacao.model;
+
+import java.util.List;
+
+/**
+ * Alterações acumuladas dos painéis, enviadas de uma só vez aos inscritos.
+ *
+ * @param avisos    informações novas ou alteradas, na versão mais recente
+ * @param removidos IDs das informações excluídas ou vencidas
+ */
+public record LotePainel(List<AvisoPainel> avisos, List<String> removidos) {
+}
@@ -0,0 +1,12 @@
+package br.com.projeto.aeroporto.comunicacao.model;
+
+import java.util.List;
+
+/**
+ * Evento publicado pelo canal de entrega local com as mensagens de um destinatário.
+ *
+ * @param destinatario destinatário das mensagens
+ * @param mensagens    mensagens entregues, na ordem de difusão
+ */
+public record MensagensEntregues(String destinatario, List<Mensagem> mensagens) {
+}
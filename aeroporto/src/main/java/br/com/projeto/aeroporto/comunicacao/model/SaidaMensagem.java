@@ -0,0 +1,127 @@
+package br.com.projeto.aeroporto.comunicacao.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mensagem aguardando entrega, gravada na caixa de saída (outbox).
+ *
+ * <p>
+ * Uma difusão grava uma linha por destinatário, na mesma transação; o
+ * despacho lê as linhas pendentes em lotes, grava as {@link Mensagem}
+ * correspondentes, entrega-as pelo canal configurado e remove as linhas da
+ * caixa de saída, tudo em uma única transação.
+ * </p>
+ */
+@Entity
+@Table(name = "mensagem_saida")
+public class SaidaMensagem {
+
+    /**
+     * Identificador da linha, crescente na ordem de gravação.
+     *
+     * <p>
+     * Obtido da sequência {@code mensagem_saida_seq}, reservando 50 valores por
+     * consulta, o que permite a gravação em lote.
+     * </p>
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mensagem_saida_seq")
+    @SequenceGenerator(name = "mensagem_saida_seq", sequenceName = "mensagem_saida_seq", allocationSize = 50)
+    private Long idSaida;
+
+    /**
+     * Remetente da mensagem.
+     */
+    @Column(nullable = false)
+    private String remetente;
+
+    /**
+     * Destinatário da mensagem.
+     */
+    @Column(nullable = false)
+    private String destinatario;
+
+    /**
+     * Conteúdo textual da mensagem.
+     */
+    @Column(nullable = false)
+    private String conteudo;
+
+    /**
+     * Data e hora em que a difusão foi aceita; vira a data/hora da {@link Mensagem}.
+     */
+    @Column(nullable = false)
+    private LocalDateTime dataHora;
+
+    /**
+     * Construtor padrão sem argumentos.
+     *
+     * <p>
+     * Necessário para o funcionamento da JPA.
+     * </p>
+     */
+    public SaidaMensagem() {
+    }
+
+    /**
+     * Construtor de uma nova linha da caixa de saída.
+     *
+     * @param remetente    remetente da mensagem
+     * @param destinatario destinatário da mensagem
+     * @param conteudo     conteúdo da mensagem
+     * @param dataHora     data e hora da difusão
+     */
+    public SaidaMensagem(String remetente, String destinatario, String conteudo, LocalDateTime dataHora) {
+        this.remetente = remetente;
+        this.destinatario = destinatario;
+        this.conteudo = conteudo;
+        this.dataHora = dataHora;
+    }
+
+    /**
+     * Retorna o identificador da linha.
+     *
+     * @return id da linha
+     */
+    public Long getIdSaida() {
+        return idSaida;
+    }
+
+    /**
+     * Retorna o remetente da mensagem.
+     *
+     * @return remetente da mensagem
+     */
+    public String getRemetente() {
+        return remetente;
+    }
+
+    /**
+     * Retorna o destinatário da mensagem.
+     *
+     * @return destinatário da mensagem
+     */
+    public String getDestinatario() {
+        return destinatario;
+    }
+
+    /**
+     * Retorna o conteúdo da mensagem.
+     *
+     * @return texto da mensagem
+     */
+    public String getConteudo() {
+        return conteudo;
+    }
+
+    /**
+     * Retorna a data e hora da difusão.
+     *
+     * @return data/hora da difusão
+     */
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+}
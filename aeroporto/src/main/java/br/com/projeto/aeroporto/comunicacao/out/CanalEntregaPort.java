@@ -0,0 +1,30 @@
+package br.com.projeto.aeroporto.comunicacao.out;
+
+
+import br.com.projeto.aeroporto.comunicacao.model.Mensagem;
+
+import java.util.List;
+
+/**
+ * Porta de saída pela qual as mensagens despachadas chegam aos destinatários.
+ *
+ * <p>
+ * A implementação é escolhida pela propriedade {@code aeroporto.mensagens.canal};
+ * a padrão ({@code local}) entrega dentro do próprio processo.
+ * </p>
+ */
+public interface CanalEntregaPort {
+
+    /**
+     * Entrega as mensagens de um destinatário.
+     *
+     * <p>
+     * Uma exceção desfaz o despacho do lote inteiro, que é tentado de novo no
+     * próximo ciclo; a entrega é, portanto, pelo menos uma vez.
+     * </p>
+     *
+     * @param destinatario destinatário das mensagens
+     * @param mensagens    mensagens do destinatário, na ordem de difusão
+     */
+    void entregar(String destinatario, List<Mensagem> mensagens);
+}
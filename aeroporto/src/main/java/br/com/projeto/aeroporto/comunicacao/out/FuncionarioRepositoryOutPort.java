@@ -3,6 +3,7 @@ package br.com.projeto.aeroporto.comunicacao.out;
 
 import br.com.projeto.aeroporto.comunicacao.model.Funcionario;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,14 @@ public interface FuncionarioRepositoryOutPort {
      */
     Funcionario salvar(Funcionario funcionario);
 
+    /**
+     * Salva vários funcionários em uma única transação, com inserções em lote.
+     *
+     * @param funcionarios funcionários a salvar
+     * @return funcionários persistidos, na ordem recebida
+     */
+    List<Funcionario> salvarTodos(Collection<Funcionario> funcionarios);
+
     /**
      * Busca um funcionário pelo seu identificador.
      *
@@ -46,6 +55,15 @@ public interface FuncionarioRepositoryOutPort {
      */
     List<Funcionario> buscarTodos();
 
+    /**
+     * Busca funcionários por nome parcial ou com erros de digitação.
+     *
+     * @param termo  nome completo ou parcial
+     * @param limite quantidade máxima de funcionários
+     * @return funcionários mais parecidos com o termo, do mais ao menos parecido
+     */
+    List<Funcionario> buscarPorNome(String termo, int limite);
+
     /**
      * Remove um funcionário com base em seu identificador.
      *
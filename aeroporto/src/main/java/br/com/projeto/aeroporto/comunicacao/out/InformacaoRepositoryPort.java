@@ -1,8 +1,11 @@
 package br.com.projeto.aeroporto.comunicacao.out;
 
 
+import br.com.projeto.aeroporto.comunicacao.model.AvisoPainel;
 import br.com.projeto.aeroporto.comunicacao.model.Informacao;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +35,14 @@ public interface InformacaoRepositoryPort {
      */
     Informacao salvar(Informacao informacao);
 
+    /**
+     * Salva várias informações em uma única transação, com inserções em lote.
+     *
+     * @param informacoes informações a salvar
+     * @return informações persistidas, na ordem recebida
+     */
+    List<Informacao> salvarTodos(Collection<Informacao> informacoes);
+
     /**
      * Busca uma informação pelo seu identificador.
      *
@@ -48,6 +59,15 @@ public interface InformacaoRepositoryPort {
      */
     List<Informacao> buscarTodos();
 
+    /**
+     * Lista uma página de informações por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de informações na página
+     * @return informações com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<Informacao> listarPagina(String after, int limit);
+
     /**
      * Remove uma informação com base em seu identificador.
      *
@@ -55,4 +75,37 @@ public interface InformacaoRepositoryPort {
      */
     void deletarPorId(String id);
 
+    /**
+     * Lista as informações ainda válidas no formato dos painéis.
+     *
+     * @param agora instante de referência
+     * @return informações com validade posterior a {@code agora}
+     */
+    List<AvisoPainel> listarAvisos(LocalDateTime agora);
+
+    /**
+     * Busca uma informação no formato dos painéis.
+     *
+     * @param id identificador da informação
+     * @return a informação, ou vazio se não existir
+     */
+    Optional<AvisoPainel> buscarAviso(String id);
+
+    /**
+     * Lista as informações que exibem a mensagem informada, no formato dos painéis.
+     *
+     * @param idMensagem identificador da mensagem
+     * @return informações cujo conteúdo é a mensagem
+     */
+    List<AvisoPainel> listarAvisosPorMensagem(String idMensagem);
+
+    /**
+     * Exclui, em uma transação, um lote de informações vencidas.
+     *
+     * @param limite informações com validade até este instante são excluídas
+     * @param lote   quantidade máxima de informações excluídas
+     * @return quantidade de informações excluídas
+     */
+    int excluirVencidas(LocalDateTime limite, int lote);
+
 }
\ No newline at end of file
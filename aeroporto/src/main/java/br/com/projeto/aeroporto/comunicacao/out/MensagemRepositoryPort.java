@@ -3,8 +3,10 @@ package br.com.projeto.aeroporto.comunicacao.out;
 
 import br.com.projeto.aeroporto.comunicacao.model.Mensagem;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Porta de repositório para a entidade {@link Mensagem}.
@@ -32,6 +34,26 @@ public interface MensagemRepositoryPort {
      */
     Mensagem salvar(Mensagem mensagem);
 
+    /**
+     * Salva várias mensagens em uma única transação, com inserções em lote.
+     *
+     * @param mensagens mensagens a salvar
+     * @return mensagens persistidas, na ordem recebida
+     */
+    List<Mensagem> salvarTodos(Collection<Mensagem> mensagens);
+
+    /**
+     * Inclui mensagens novas, com IDs já atribuídos, com inserções em lote.
+     *
+     * <p>
+     * Diferente de {@link #salvarTodos(Collection)}, não consulta se cada ID
+     * já existe antes de inserir.
+     * </p>
+     *
+     * @param mensagens mensagens a incluir
+     */
+    void incluirTodos(Collection<Mensagem> mensagens);
+
     /**
      * Busca uma mensagem pelo seu identificador.
      *
@@ -48,6 +70,22 @@ public interface MensagemRepositoryPort {
      */
     List<Mensagem> buscarTodos();
 
+    /**
+     * Lista uma página de mensagens por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de mensagens na página
+     * @return mensagens com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<Mensagem> listarPagina(String after, int limit);
+
+    /**
+     * Percorre todas as mensagens em ordem de ID, sem carregá-las de uma vez em memória.
+     *
+     * @param consumidor função chamada para cada mensagem lida do banco
+     */
+    void percorrerTodos(Consumer<Mensagem> consumidor);
+
     /**
      * Remove uma mensagem com base em seu identificador.
      *
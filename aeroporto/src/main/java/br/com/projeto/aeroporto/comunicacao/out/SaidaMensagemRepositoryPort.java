@@ -0,0 +1,43 @@
+package br.com.projeto.aeroporto.comunicacao.out;
+
+
+import br.com.projeto.aeroporto.comunicacao.model.SaidaMensagem;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Porta de repositório da caixa de saída de mensagens ({@link SaidaMensagem}).
+ */
+public interface SaidaMensagemRepositoryPort {
+
+    /**
+     * Grava as linhas em uma única transação, com inserções em lote.
+     *
+     * @param saidas linhas a gravar
+     */
+    void salvarTodos(Collection<SaidaMensagem> saidas);
+
+    /**
+     * Bloqueia as linhas pendentes mais antigas para despacho; deve ser chamado
+     * dentro da transação do despacho.
+     *
+     * @param lote quantidade máxima de linhas
+     * @return linhas bloqueadas, em ordem de gravação
+     */
+    List<SaidaMensagem> reservar(int lote);
+
+    /**
+     * Remove as linhas já despachadas.
+     *
+     * @param ids identificadores das linhas
+     */
+    void excluir(Collection<Long> ids);
+
+    /**
+     * Quantidade de linhas pendentes.
+     *
+     * @return linhas na caixa de saída
+     */
+    long contar();
+}
@@ -3,8 +3,12 @@ package br.com.projeto.aeroporto.comunicacao.repository;
 
 import br.com.projeto.aeroporto.comunicacao.model.Funcionario;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repositório JPA para a entidade {@link Funcionario}.
  *
@@ -22,5 +26,27 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface FuncionarioJpaRepository extends JpaRepository<Funcionario, Long> {
-    // Métodos de consulta adicionais (query methods) podem ser declarados aqui, se necessário.
+
+    /**
+     * Busca funcionários por nome parcial ou com erros de digitação, pelo {@code pg_trgm}.
+     *
+     * <p>
+     * Atendida pelo índice GIN {@code idx_funcionario_nome_trgm}.
+     * </p>
+     *
+     * @param termo  nome completo ou parcial
+     * @param padrao o mesmo termo com os curingas escapados por {@link br.com.projeto.aeroporto.comum.IndiceNomes#escaparLike(String)}
+     * @param limite quantidade máxima de funcionários
+     * @return funcionários em ordem decrescente de semelhança com o termo
+     */
+    @Query(value = """
+            SELECT * FROM funcionario
+            WHERE :termo <% nome
+               OR nome ILIKE :padrao || '%' ESCAPE '\\'
+               OR nome ILIKE '% ' || :padrao || '%' ESCAPE '\\'
+            ORDER BY word_similarity(:termo, nome) DESC
+            LIMIT :limite
+            """, nativeQuery = true)
+    List<Funcionario> buscarPorNomeSemelhante(@Param("termo") String termo, @Param("padrao") String padrao,
+                                            @Param("limite") int limite);
 }
\ No newline at end of file
@@ -1,10 +1,19 @@
 package br.com.projeto.aeroporto.comunicacao.repository;
 
 
+import br.com.projeto.aeroporto.comunicacao.model.AvisoPainel;
 import br.com.projeto.aeroporto.comunicacao.model.Informacao;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repositório JPA para a entidade {@link Informacao}.
  *
@@ -22,5 +31,76 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface InformacaoJpaRepository extends JpaRepository<Informacao, String> {
-    // Métodos de consulta adicionais (query methods) podem ser declarados aqui, se necessário.
+
+    /**
+     * Página por cursor: informações com ID maior que o informado, em ordem crescente de ID.
+     *
+     * @param idInformacao último ID já entregue ao cliente
+     * @param limite    quantidade máxima de registros
+     * @return próxima página de informações
+     */
+    List<Informacao> findByIdInformacaoGreaterThanOrderByIdInformacaoAsc(String idInformacao, Limit limite);
+
+    /**
+     * Informações ainda válidas, já com o texto da mensagem, para os painéis.
+     *
+     * @param agora instante de referência
+     * @return informações com validade posterior a {@code agora}
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.comunicacao.model.AvisoPainel(
+                i.idInformacao, i.tipo, i.validade, m.remetente, m.conteudo)
+            from Informacao i join i.conteudo m
+            where i.validade > :agora
+            """)
+    List<AvisoPainel> listarAvisos(@Param("agora") LocalDateTime agora);
+
+    /**
+     * Uma informação no formato dos painéis.
+     *
+     * @param idInformacao identificador da informação
+     * @return a informação, se existir
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.comunicacao.model.AvisoPainel(
+                i.idInformacao, i.tipo, i.validade, m.remetente, m.conteudo)
+            from Informacao i join i.conteudo m
+            where i.idInformacao = :idInformacao
+            """)
+    Optional<AvisoPainel> buscarAviso(@Param("idInformacao") String idInformacao);
+
+    /**
+     * Informações que exibem a mensagem informada, no formato dos painéis.
+     *
+     * @param idMensagem identificador da mensagem
+     * @return informações cujo conteúdo é a mensagem
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.comunicacao.model.AvisoPainel(
+                i.idInformacao, i.tipo, i.validade, m.remetente, m.conteudo)
+            from Informacao i join i.conteudo m
+            where m.idMensagem = :idMensagem
+            """)
+    List<AvisoPainel> listarAvisosPorMensagem(@Param("idMensagem") String idMensagem);
+
+    /**
+     * Exclui um lote de informações vencidas.
+     *
+     * <p>
+     * O lote é limitado para que cada exclusão seja uma transação curta, que
+     * não bloqueia por muito tempo as gravações concorrentes.
+     * </p>
+     *
+     * @param limite informações com validade até este instante são excluídas
+     * @param lote   quantidade máxima de linhas excluídas
+     * @return quantidade de linhas excluídas
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM informacao
+            WHERE id_informacao IN (SELECT id_informacao FROM informacao
+                                    WHERE validade <= :limite
+                                    LIMIT :lote)
+            """, nativeQuery = true)
+    int excluirVencidas(@Param("limite") LocalDateTime limite, @Param("lote") int lote);
 }
\ No newline at end of file
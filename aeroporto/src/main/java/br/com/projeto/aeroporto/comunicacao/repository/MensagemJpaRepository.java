@@ -2,9 +2,17 @@ package br.com.projeto.aeroporto.comunicacao.repository;
 
 
 import br.com.projeto.aeroporto.comunicacao.model.Mensagem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Repositório JPA para a entidade {@link Mensagem}.
  *
@@ -22,5 +30,26 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface MensagemJpaRepository extends JpaRepository<Mensagem, String> {
-    // Métodos de consulta adicionais (query methods) podem ser declarados aqui, se necessário.
+
+    /**
+     * Página por cursor: mensagens com ID maior que o informado, em ordem crescente de ID.
+     *
+     * @param idMensagem último ID já entregue ao cliente
+     * @param limite    quantidade máxima de registros
+     * @return próxima página de mensagens
+     */
+    List<Mensagem> findByIdMensagemGreaterThanOrderByIdMensagemAsc(String idMensagem, Limit limite);
+
+    /**
+     * Percorre todas as mensagens em ordem de ID por meio de um cursor JDBC.
+     *
+     * <p>
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     * </p>
+     *
+     * @return fluxo de mensagens lido em lotes do tamanho do fetch size
+     */
+    @Query("select m from Mensagem m order by m.idMensagem")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Mensagem> buscarTodosEmFluxo();
 }
\ No newline at end of file
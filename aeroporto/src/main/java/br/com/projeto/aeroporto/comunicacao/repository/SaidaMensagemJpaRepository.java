@@ -0,0 +1,49 @@
+package br.com.projeto.aeroporto.comunicacao.repository;
+
+
+import br.com.projeto.aeroporto.comunicacao.model.SaidaMensagem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório JPA para a caixa de saída de mensagens ({@link SaidaMensagem}).
+ */
+@Repository
+public interface SaidaMensagemJpaRepository extends JpaRepository<SaidaMensagem, Long> {
+
+    /**
+     * Bloqueia as linhas pendentes mais antigas para despacho.
+     *
+     * <p>
+     * Com {@code SKIP LOCKED}, linhas já bloqueadas por outro despacho (por
+     * exemplo, em outra instância da aplicação) são puladas em vez de aguardadas.
+     * Deve ser executado dentro de uma transação.
+     * </p>
+     *
+     * @param lote quantidade máxima de linhas
+     * @return linhas bloqueadas, em ordem de gravação
+     */
+    @Query(value = """
+            SELECT * FROM mensagem_saida
+            ORDER BY id_saida
+            LIMIT :lote
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<SaidaMensagem> reservar(@Param("lote") int lote);
+
+    /**
+     * Remove as linhas informadas.
+     *
+     * @param ids identificadores das linhas despachadas
+     * @return quantidade de linhas removidas
+     */
+    @Modifying
+    @Query("delete from SaidaMensagem s where s.idSaida in :ids")
+    int excluir(@Param("ids") Collection<Long> ids);
+}
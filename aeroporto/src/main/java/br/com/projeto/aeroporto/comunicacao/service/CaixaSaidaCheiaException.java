@@ -0,0 +1,17 @@
+package br.com.projeto.aeroporto.comunicacao.service;
+
+/**
+ * A difusão foi recusada por inteiro: a caixa de saída já tem mensagens
+ * pendentes demais ({@code aeroporto.mensagens.limite-pendentes}).
+ *
+ * <p>
+ * É a contrapressão do despacho: o {@code MensagemController} responde
+ * {@code 503} com {@code Retry-After}, e nenhuma mensagem da difusão é gravada.
+ * </p>
+ */
+public class CaixaSaidaCheiaException extends RuntimeException {
+
+    public CaixaSaidaCheiaException(String mensagem) {
+        super(mensagem);
+    }
+}
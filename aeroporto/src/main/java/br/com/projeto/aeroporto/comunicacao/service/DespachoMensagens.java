@@ -0,0 +1,92 @@
+package br.com.projeto.aeroporto.comunicacao.service;
+
+
+import br.com.projeto.aeroporto.comunicacao.model.Mensagem;
+import br.com.projeto.aeroporto.comunicacao.model.SaidaMensagem;
+import br.com.projeto.aeroporto.comunicacao.out.CanalEntregaPort;
+import br.com.projeto.aeroporto.comunicacao.out.MensagemRepositoryPort;
+import br.com.projeto.aeroporto.comunicacao.out.SaidaMensagemRepositoryPort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Despacha um lote da caixa de saída de mensagens em uma única transação.
+ *
+ * <p>
+ * As linhas reservadas são agrupadas por destinatário; as {@link Mensagem}
+ * são incluídas em lote, já nessa ordem, e cada destinatário recebe as suas de
+ * uma vez pelo {@link CanalEntregaPort}. Só então as linhas saem da caixa de
+ * saída. Uma falha em qualquer etapa desfaz o lote inteiro, que volta a ser
+ * reservado no ciclo seguinte.
+ * </p>
+ *
+ * <p>
+ * Separado de {@link SaidaMensagens} para que a chamada passe pelo proxy
+ * transacional do Spring.
+ * </p>
+ */
+@Component
+public class DespachoMensagens {
+
+    private final SaidaMensagemRepositoryPort saidas;
+
+    private final MensagemRepositoryPort mensagens;
+
+    private final CanalEntregaPort canal;
+
+    /**
+     * Construtor da classe {@code DespachoMensagens}.
+     *
+     * @param saidas    porta da caixa de saída
+     * @param mensagens porta de acesso às mensagens
+     * @param canal     canal de entrega configurado
+     */
+    public DespachoMensagens(SaidaMensagemRepositoryPort saidas, MensagemRepositoryPort mensagens,
+                             CanalEntregaPort canal) {
+        this.saidas = saidas;
+        this.mensagens = mensagens;
+        this.canal = canal;
+    }
+
+    /**
+     * Grava e entrega até {@code tamanho} mensagens pendentes.
+     *
+     * @param tamanho quantidade máxima de mensagens no lote
+     * @return quantidade de mensagens despachadas
+     */
+    @Transactional
+    public int despacharLote(int tamanho) {
+        List<SaidaMensagem> reservadas = saidas.reservar(tamanho);
+        if (reservadas.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<Mensagem>> porDestinatario = new LinkedHashMap<>();
+        List<Long> ids = new ArrayList<>(reservadas.size());
+        for (SaidaMensagem saida : reservadas) {
+            porDestinatario.computeIfAbsent(saida.getDestinatario(), d -> new ArrayList<>()).add(mensagem(saida));
+            ids.add(saida.getIdSaida());
+        }
+        List<Mensagem> agrupadas = new ArrayList<>(reservadas.size());
+        porDestinatario.values().forEach(agrupadas::addAll);
+        mensagens.incluirTodos(agrupadas);
+        porDestinatario.forEach(canal::entregar);
+        saidas.excluir(ids);
+        return reservadas.size();
+    }
+
+    private static Mensagem mensagem(SaidaMensagem saida) {
+        Mensagem mensagem = new Mensagem();
+        mensagem.setIdMensagem(UUID.randomUUID().toString());
+        mensagem.setRemetente(saida.getRemetente());
+        mensagem.setDestinatario(saida.getDestinatario());
+        mensagem.setConteudo(saida.getConteudo());
+        mensagem.setDataHora(saida.getDataHora());
+        return mensagem;
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.projeto.aeroporto.comunicacao.service;
+
+
+import br.com.projeto.aeroporto.comunicacao.out.InformacaoRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Exclui do banco, periodicamente, as informações vencidas.
+ *
+ * <p>
+ * Sem o expurgo a tabela só cresce, e toda leitura precisa descartar as
+ * informações vencidas. A exclusão é feita em lotes de {@value #TAMANHO_LOTE}
+ * linhas, cada um em sua própria transação, até não restarem linhas vencidas
+ * há mais do que o período de retenção configurado.
+ * </p>
+ */
+@Component
+public class ExpurgoInformacoes {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpurgoInformacoes.class);
+
+    /**
+     * Linhas excluídas por transação.
+     */
+    static final int TAMANHO_LOTE = 1000;
+
+    private final InformacaoRepositoryPort repository;
+
+    private final Duration retencao;
+
+    /**
+     * Construtor da classe {@code ExpurgoInformacoes}.
+     *
+     * @param repository porta de acesso às informações
+     * @param retencaoMs tempo, após a validade, em que a informação ainda é mantida no banco
+     */
+    public ExpurgoInformacoes(InformacaoRepositoryPort repository,
+                              @Value("${aeroporto.informacoes.retencao-ms:3600000}") long retencaoMs) {
+        this.repository = repository;
+        this.retencao = Duration.ofMillis(retencaoMs);
+    }
+
+    /**
+     * Exclui as informações vencidas há mais que o período de retenção.
+     *
+     * @return quantidade de informações excluídas
+     */
+    @Scheduled(fixedDelayString = "${aeroporto.informacoes.expurgo-ms:60000}")
+    public int expurgar() {
+        LocalDateTime limite = LocalDateTime.now().minus(retencao);
+        int total = 0;
+        int excluidas;
+        do {
+            excluidas = repository.excluirVencidas(limite, TAMANHO_LOTE);
+            total += excluidas;
+        } while (excluidas == TAMANHO_LOTE);
+        if (total > 0) {
+            log.info("Informações vencidas excluídas: {}", total);
+        }
+        return total;
+    }
+}
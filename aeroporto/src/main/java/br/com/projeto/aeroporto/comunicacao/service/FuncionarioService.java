@@ -1,9 +1,12 @@
 package br.com.projeto.aeroporto.comunicacao.service;
 
 
+import br.com.projeto.aeroporto.comum.IndiceNomes;
 import br.com.projeto.aeroporto.comunicacao.in.FuncionarioUseCase;
 import br.com.projeto.aeroporto.comunicacao.model.Funcionario;
 import br.com.projeto.aeroporto.comunicacao.out.FuncionarioRepositoryOutPort;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -32,14 +35,30 @@ public class FuncionarioService implements FuncionarioUseCase {
      */
     private final FuncionarioRepositoryOutPort repository;
 
+    /**
+     * Índice de trigramas dos nomes, usado na busca por nome.
+     */
+    private final IndiceNomesFuncionarios indiceNomes;
+
     /**
      * Construtor com injeção de dependência do repositório (porta de saída).
      *
-     * @param repository implementação de {@link FuncionarioRepositoryOutPort}
-     *                   usada para persistência dos dados de funcionários
+     * @param repository  implementação de {@link FuncionarioRepositoryOutPort}
+     *                    usada para persistência dos dados de funcionários
+     * @param indiceNomes índice de trigramas usado na busca por nome
      */
-    public FuncionarioService(FuncionarioRepositoryOutPort repository) {
+    public FuncionarioService(FuncionarioRepositoryOutPort repository, IndiceNomesFuncionarios indiceNomes) {
         this.repository = repository;
+        this.indiceNomes = indiceNomes;
+    }
+
+    /**
+     * Carrega no índice de nomes todos os funcionários já cadastrados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarIndice() {
+        repository.buscarTodos().forEach(f -> indiceNomes.registrar(f.getId(), f.getNome()));
+        indiceNomes.marcarPronto();
     }
 
     /**
@@ -54,7 +73,9 @@ public class FuncionarioService implements FuncionarioUseCase {
      */
     @Override
     public Funcionario criar(Funcionario funcionario) {
-        return repository.salvar(funcionario);
+        Funcionario salvo = repository.salvar(funcionario);
+        indiceNomes.registrar(salvo.getId(), salvo.getNome());
+        return salvo;
     }
 
     /**
@@ -79,6 +100,31 @@ public class FuncionarioService implements FuncionarioUseCase {
         return repository.buscarTodos();
     }
 
+    /**
+     * Busca funcionários por nome parcial ou com erros de digitação.
+     *
+     * <p>
+     * Atendida pelo {@link IndiceNomesFuncionarios}; enquanto a carga inicial do
+     * índice não termina, a busca vai ao banco ({@code pg_trgm}).
+     * </p>
+     *
+     * @param termo  nome completo ou parcial
+     * @param limite quantidade máxima de resultados, normalizada por {@link IndiceNomes#limiteEfetivo(Integer)}
+     * @return funcionários encontrados, do mais ao menos parecido com o termo
+     */
+    @Override
+    public List<IndiceNomes.Resultado> buscarPorNome(String termo, Integer limite) {
+        int limiteEfetivo = IndiceNomes.limiteEfetivo(limite);
+        if (termo == null || termo.isBlank()) {
+            return List.of();
+        }
+        if (indiceNomes.isPronto()) {
+            return indiceNomes.buscar(termo, limiteEfetivo);
+        }
+        return IndiceNomes.classificar(termo, repository.buscarPorNome(termo, limiteEfetivo),
+                Funcionario::getId, Funcionario::getNome, limiteEfetivo);
+    }
+
     /**
      * Atualiza os dados de um funcionário existente.
      *
@@ -101,7 +147,9 @@ public class FuncionarioService implements FuncionarioUseCase {
             atualizado.setNome(funcionario.getNome());
             atualizado.setCargo(funcionario.getCargo());
             atualizado.setMatricula(funcionario.getMatricula());
-            return repository.salvar(atualizado);
+            Funcionario salvo = repository.salvar(atualizado);
+            indiceNomes.registrar(salvo.getId(), salvo.getNome());
+            return salvo;
         } else {
             throw new RuntimeException("Funcionario não encontrado");
         }
@@ -115,6 +163,7 @@ public class FuncionarioService implements FuncionarioUseCase {
     @Override
     public void deletar(Long id) {
         repository.deletarPorId(id);
+        indiceNomes.remover(id);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package br.com.projeto.aeroporto.comunicacao.service;
+
+
+import br.com.projeto.aeroporto.comum.IndiceNomes;
+import org.springframework.stereotype.Component;
+
+/**
+ * Índice de trigramas dos nomes de funcionários, usado em {@code GET /api/funcionarios/busca}.
+ *
+ * <p>
+ * Carregado na inicialização e atualizado pelo {@link FuncionarioService} a cada gravação.
+ * </p>
+ */
+@Component
+public class IndiceNomesFuncionarios extends IndiceNomes {
+}
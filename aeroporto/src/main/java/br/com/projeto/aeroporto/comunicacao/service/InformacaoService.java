@@ -1,6 +1,7 @@
 package br.com.projeto.aeroporto.comunicacao.service;
 
 
+import br.com.projeto.aeroporto.comum.Paginacao;
 import br.com.projeto.aeroporto.comunicacao.in.InformacaoUseCase;
 import br.com.projeto.aeroporto.comunicacao.model.Informacao;
 import br.com.projeto.aeroporto.comunicacao.out.InformacaoRepositoryPort;
@@ -22,6 +23,11 @@ import java.util.Optional;
  * à camada de aplicação e é normalmente utilizada por controladores REST
  * ou outros componentes de interface.
  * </p>
+ *
+ * <p>
+ * Cada gravação é repassada a {@link PainelInformacoes}, que a envia aos
+ * painéis do terminal inscritos.
+ * </p>
  */
 @Service
 public class InformacaoService implements InformacaoUseCase {
@@ -31,14 +37,21 @@ public class InformacaoService implements InformacaoUseCase {
      */
     private final InformacaoRepositoryPort repository;
 
+    /**
+     * Canal de envio das informações aos painéis.
+     */
+    private final PainelInformacoes painel;
+
     /**
      * Construtor com injeção de dependência do repositório.
      *
      * @param repository implementação de {@link InformacaoRepositoryPort}
      *                   usada para persistência das informações
+     * @param painel     canal de envio das informações aos painéis
      */
-    public InformacaoService(InformacaoRepositoryPort repository) {
+    public InformacaoService(InformacaoRepositoryPort repository, PainelInformacoes painel) {
         this.repository = repository;
+        this.painel = painel;
     }
 
     /**
@@ -53,7 +66,9 @@ public class InformacaoService implements InformacaoUseCase {
      */
     @Override
     public Informacao criar(Informacao informacao) {
-        return repository.salvar(informacao);
+        Informacao criada = repository.salvar(informacao);
+        painel.atualizar(criada.getIdInformacao());
+        return criada;
     }
 
     /**
@@ -78,6 +93,18 @@ public class InformacaoService implements InformacaoUseCase {
         return repository.buscarTodos();
     }
 
+    /**
+     * Retorna uma página de informações por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit tamanho da página solicitado, normalizado por {@link Paginacao#limiteEfetivo(Integer)}
+     * @return página de {@link Informacao}
+     */
+    @Override
+    public List<Informacao> listarPagina(String after, Integer limit) {
+        return repository.listarPagina(after, Paginacao.limiteEfetivo(limit));
+    }
+
     /**
      * Atualiza os dados de uma informação existente.
      *
@@ -99,7 +126,9 @@ public class InformacaoService implements InformacaoUseCase {
             Informacao atualizada = existente.get();
             atualizada.setTipo(informacao.getTipo());
             atualizada.setValidade(informacao.getValidade());
-            return repository.salvar(atualizada);
+            Informacao salva = repository.salvar(atualizada);
+            painel.atualizar(id);
+            return salva;
         } else {
             throw new RuntimeException("Informação não encontrada");
         }
@@ -113,5 +142,6 @@ public class InformacaoService implements InformacaoUseCase {
     @Override
     public void deletar(String id) {
         repository.deletarPorId(id);
+        painel.remover(id);
     }
 }
\ No newline at end of file
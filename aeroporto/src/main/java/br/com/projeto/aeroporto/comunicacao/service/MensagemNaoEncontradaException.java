@@ -0,0 +1,11 @@
+package br.com.projeto.aeroporto.comunicacao.service;
+
+/**
+ * Não existe mensagem com o identificador informado.
+ */
+public class MensagemNaoEncontradaException extends RuntimeException {
+
+    public MensagemNaoEncontradaException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -1,12 +1,15 @@
 package br.com.projeto.aeroporto.comunicacao.service;
 
+import br.com.projeto.aeroporto.comum.Paginacao;
 import br.com.projeto.aeroporto.comunicacao.in.MensagemUseCase;
+import br.com.projeto.aeroporto.comunicacao.model.Difusao;
 import br.com.projeto.aeroporto.comunicacao.model.Mensagem;
 import br.com.projeto.aeroporto.comunicacao.out.MensagemRepositoryPort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Serviço de aplicação para operações relacionadas a {@link Mensagem}.
@@ -21,6 +24,11 @@ import java.util.Optional;
  * à camada de aplicação e é normalmente utilizada por controladores REST
  * ou outros componentes de interface.
  * </p>
+ *
+ * <p>
+ * Alterações de uma mensagem são repassadas a {@link PainelInformacoes}, para
+ * atualizar as informações que a exibem.
+ * </p>
  */
 @Service
 public class MensagemService implements MensagemUseCase {
@@ -30,14 +38,28 @@ public class MensagemService implements MensagemUseCase {
      */
     private final MensagemRepositoryPort repository;
 
+    /**
+     * Canal de envio das informações aos painéis.
+     */
+    private final PainelInformacoes painel;
+
+    /**
+     * Caixa de saída das difusões.
+     */
+    private final SaidaMensagens saida;
+
     /**
      * Construtor com injeção de dependência do repositório.
      *
      * @param repository implementação de {@link MensagemRepositoryPort}
      *                   usada para persistência das mensagens
+     * @param painel     canal de envio das informações aos painéis
+     * @param saida      caixa de saída das difusões
      */
-    public MensagemService(MensagemRepositoryPort repository) {
+    public MensagemService(MensagemRepositoryPort repository, PainelInformacoes painel, SaidaMensagens saida) {
         this.repository = repository;
+        this.painel = painel;
+        this.saida = saida;
     }
 
     /**
@@ -55,6 +77,24 @@ public class MensagemService implements MensagemUseCase {
         return repository.salvar(mensagem);
     }
 
+    /**
+     * Envia a mesma mensagem a vários destinatários.
+     *
+     * <p>
+     * Delegado a {@link SaidaMensagens#difundir(Difusao)}: a requisição só grava
+     * a caixa de saída; as mensagens são gravadas e entregues pelo despacho.
+     * </p>
+     *
+     * @param difusao remetente, conteúdo e destinatários
+     * @return quantidade de mensagens aceitas para entrega
+     * @throws IllegalArgumentException caso remetente, conteúdo ou algum destinatário seja inválido
+     * @throws CaixaSaidaCheiaException caso haja mensagens pendentes demais
+     */
+    @Override
+    public int difundir(Difusao difusao) {
+        return saida.difundir(difusao);
+    }
+
     /**
      * Busca uma mensagem pelo seu identificador.
      *
@@ -77,6 +117,28 @@ public class MensagemService implements MensagemUseCase {
         return repository.buscarTodos();
     }
 
+    /**
+     * Retorna uma página de mensagens por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit tamanho da página solicitado, normalizado por {@link Paginacao#limiteEfetivo(Integer)}
+     * @return página de {@link Mensagem}
+     */
+    @Override
+    public List<Mensagem> listarPagina(String after, Integer limit) {
+        return repository.listarPagina(after, Paginacao.limiteEfetivo(limit));
+    }
+
+    /**
+     * Percorre todas as mensagens cadastradas, uma a uma.
+     *
+     * @param consumidor função chamada para cada mensagem
+     */
+    @Override
+    public void percorrerTodos(Consumer<Mensagem> consumidor) {
+        repository.percorrerTodos(consumidor);
+    }
+
     /**
      * Atualiza os dados de uma mensagem existente.
      *
@@ -89,7 +151,7 @@ public class MensagemService implements MensagemUseCase {
      * @param id       identificador da mensagem a ser atualizada
      * @param mensagem objeto contendo os novos dados da mensagem
      * @return mensagem atualizada e persistida
-     * @throws RuntimeException caso a mensagem não seja encontrada
+     * @throws MensagemNaoEncontradaException caso a mensagem não seja encontrada
      */
     @Override
     public Mensagem atualizar(String id, Mensagem mensagem) {
@@ -100,9 +162,11 @@ public class MensagemService implements MensagemUseCase {
             atualizada.setDestinatario(mensagem.getDestinatario());
             atualizada.setConteudo(mensagem.getConteudo());
             atualizada.setDataHora(mensagem.getDataHora());
-            return repository.salvar(atualizada);
+            Mensagem salva = repository.salvar(atualizada);
+            painel.atualizarMensagem(id);
+            return salva;
         } else {
-            throw new RuntimeException("Mensagem não encontrada");
+            throw new MensagemNaoEncontradaException("Mensagem não encontrada");
         }
     }
 
@@ -0,0 +1,339 @@
+package br.com.projeto.aeroporto.comunicacao.service;
+
+
+import br.com.projeto.aeroporto.comunicacao.model.AvisoPainel;
+import br.com.projeto.aeroporto.comunicacao.model.LotePainel;
+import br.com.projeto.aeroporto.comunicacao.out.InformacaoRepositoryPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Canal de envio (Server-Sent Events) das informações exibidas nos painéis do terminal.
+ *
+ * <p>
+ * As informações válidas ficam em memória, carregadas na inicialização e
+ * mantidas pelos serviços de {@code Informacao} e {@code Mensagem} a cada
+ * gravação. Um painel que se inscreve recebe primeiro esse retrato (evento
+ * {@code retrato}) e depois apenas as alterações (evento {@code lote}), sem
+ * consultar o banco.
+ * </p>
+ *
+ * <p>
+ * As alterações não são enviadas uma a uma: os IDs alterados são acumulados e,
+ * a cada {@value #INTERVALO_ENVIO_MS} ms, cada informação segue uma única vez,
+ * na versão mais recente. Na mesma passada, as informações vencidas saem do
+ * retrato e são enviadas como removidas. O lote é serializado uma só vez para
+ * todos os inscritos.
+ * </p>
+ *
+ * <p>
+ * O envio agendado não espera pela rede: cada inscrição tem uma fila de até
+ * {@value #CAPACIDADE_FILA} eventos, esvaziada por uma thread virtual só dela.
+ * Um painel que não acompanha os lotes tem a inscrição encerrada quando a
+ * fila enche, e o {@code EventSource} reconecta recebendo um retrato novo.
+ * </p>
+ *
+ * <p>
+ * Os vencimentos são agendados em uma {@link RodaExpiracao} pela
+ * {@code validade}; cada envio processa apenas as posições da roda vencidas
+ * desde o anterior, sem percorrer o retrato.
+ * </p>
+ */
+@Component
+public class PainelInformacoes {
+
+    /**
+     * Intervalo entre envios de lotes aos painéis.
+     */
+    static final long INTERVALO_ENVIO_MS = 250;
+
+    /**
+     * Envios vazios seguidos após os quais um comentário é enviado para manter
+     * a conexão e detectar painéis desconectados (cerca de 15 s).
+     */
+    static final int ENVIOS_ATE_SINAL = 60;
+
+    /**
+     * Duração máxima de uma inscrição; o {@code EventSource} do painel reconecta sozinho.
+     */
+    static final long DURACAO_INSCRICAO_MS = 30 * 60 * 1000L;
+
+    /**
+     * Eventos aguardando envio por inscrição (cerca de 16 s de lotes).
+     */
+    static final int CAPACIDADE_FILA = 64;
+
+    private static final Comparator<AvisoPainel> ORDEM = Comparator
+            .comparing(AvisoPainel::validade)
+            .thenComparing(AvisoPainel::idInformacao);
+
+    private final InformacaoRepositoryPort repository;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, AvisoPainel> avisos = new ConcurrentHashMap<>();
+
+    private final Map<String, Boolean> alterados = new ConcurrentHashMap<>();
+
+    private final List<Inscricao> inscritos = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService envios = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final RodaExpiracao<String> vencimentos =
+            new RodaExpiracao<>(INTERVALO_ENVIO_MS, System.currentTimeMillis());
+
+    private int enviosVazios;
+
+    /**
+     * Construtor da classe {@code PainelInformacoes}.
+     *
+     * @param repository   porta de acesso às informações
+     * @param objectMapper serializador JSON da aplicação
+     */
+    public PainelInformacoes(InformacaoRepositoryPort repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Carrega as informações válidas antes de a aplicação receber inscrições e gravações.
+     */
+    @PostConstruct
+    public void carregar() {
+        for (AvisoPainel aviso : repository.listarAvisos(LocalDateTime.now())) {
+            avisos.put(aviso.idInformacao(), aviso);
+            vencimentos.agendar(aviso.idInformacao(), epochMs(aviso.validade()));
+        }
+    }
+
+    /**
+     * Informações válidas no momento, em ordem de validade.
+     *
+     * @return retrato atual dos painéis
+     */
+    public List<AvisoPainel> avisosAtuais() {
+        LocalDateTime agora = LocalDateTime.now();
+        List<AvisoPainel> atuais = new ArrayList<>(avisos.size());
+        for (AvisoPainel aviso : avisos.values()) {
+            if (aviso.validade().isAfter(agora)) {
+                atuais.add(aviso);
+            }
+        }
+        atuais.sort(ORDEM);
+        return atuais;
+    }
+
+    /**
+     * Inscreve um painel: envia o retrato atual e, depois, os lotes de alterações.
+     *
+     * @return emissor SSE da inscrição
+     */
+    public SseEmitter inscrever() {
+        SseEmitter emissor = new SseEmitter(DURACAO_INSCRICAO_MS);
+        Inscricao inscricao = new Inscricao(emissor);
+        emissor.onCompletion(() -> inscritos.remove(inscricao));
+        emissor.onTimeout(emissor::complete);
+        emissor.onError(erro -> inscritos.remove(inscricao));
+        // Inscrito antes de tirar o retrato: um lote que chegue antes dele só
+        // contém alterações que o retrato também já reflete.
+        inscritos.add(inscricao);
+        try {
+            inscricao.entregar(SseEmitter.event().name("retrato")
+                    .data(objectMapper.writeValueAsString(avisosAtuais()), MediaType.APPLICATION_JSON).build());
+        } catch (JsonProcessingException e) {
+            inscricao.encerrar(e);
+        }
+        return emissor;
+    }
+
+    /**
+     * Relê a informação do banco e agenda o envio da versão atual.
+     *
+     * @param idInformacao identificador da informação criada ou alterada
+     */
+    public void atualizar(String idInformacao) {
+        repository.buscarAviso(idInformacao).ifPresentOrElse(this::aplicar, () -> remover(idInformacao));
+    }
+
+    /**
+     * Relê do banco as informações que exibem a mensagem e agenda o envio.
+     *
+     * @param idMensagem identificador da mensagem alterada
+     */
+    public void atualizarMensagem(String idMensagem) {
+        repository.listarAvisosPorMensagem(idMensagem).forEach(this::aplicar);
+    }
+
+    /**
+     * Retira a informação dos painéis.
+     *
+     * @param idInformacao identificador da informação excluída
+     */
+    public void remover(String idInformacao) {
+        vencimentos.cancelar(idInformacao);
+        if (avisos.remove(idInformacao) != null) {
+            alterados.put(idInformacao, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Envia aos inscritos as alterações acumuladas e as informações vencidas.
+     */
+    @Scheduled(fixedDelay = INTERVALO_ENVIO_MS)
+    public void enviar() {
+        long agoraMs = System.currentTimeMillis();
+        LocalDateTime agora = LocalDateTime.ofInstant(Instant.ofEpochMilli(agoraMs), ZoneId.systemDefault());
+        List<AvisoPainel> atualizados = new ArrayList<>();
+        List<String> removidos = new ArrayList<>();
+        for (Iterator<String> ids = alterados.keySet().iterator(); ids.hasNext(); ) {
+            String id = ids.next();
+            ids.remove();
+            AvisoPainel aviso = avisos.get(id);
+            if (aviso == null) {
+                removidos.add(id);
+            } else if (aviso.validade().isAfter(agora)) {
+                atualizados.add(aviso);
+            }
+        }
+        for (String id : vencimentos.avancar(agoraMs)) {
+            AvisoPainel aviso = avisos.get(id);
+            if (aviso != null && !aviso.validade().isAfter(agora) && avisos.remove(id, aviso)) {
+                removidos.add(id);
+            }
+        }
+        if (atualizados.isEmpty() && removidos.isEmpty()) {
+            if (++enviosVazios >= ENVIOS_ATE_SINAL) {
+                enviosVazios = 0;
+                difundir(SseEmitter.event().comment("sinal"));
+            }
+            return;
+        }
+        enviosVazios = 0;
+        atualizados.sort(ORDEM);
+        try {
+            String lote = objectMapper.writeValueAsString(new LotePainel(atualizados, removidos));
+            difundir(SseEmitter.event().name("lote").data(lote, MediaType.APPLICATION_JSON));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void aplicar(AvisoPainel aviso) {
+        avisos.put(aviso.idInformacao(), aviso);
+        vencimentos.agendar(aviso.idInformacao(), epochMs(aviso.validade()));
+        alterados.put(aviso.idInformacao(), Boolean.TRUE);
+    }
+
+    /**
+     * Instante em milissegundos, arredondado para cima: a roda nunca entrega
+     * uma informação antes de a validade ter passado.
+     */
+    private static long epochMs(LocalDateTime horario) {
+        Instant instante = horario.atZone(ZoneId.systemDefault()).toInstant();
+        return instante.toEpochMilli() + (instante.getNano() % 1_000_000 == 0 ? 0 : 1);
+    }
+
+    private void difundir(SseEmitter.SseEventBuilder evento) {
+        // build() acrescenta o terminador do evento a cada chamada: monta uma vez só.
+        Set<ResponseBodyEmitter.DataWithMediaType> dados = evento.build();
+        for (Inscricao inscricao : inscritos) {
+            inscricao.entregar(dados);
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        envios.shutdownNow();
+    }
+
+    /**
+     * Emissor de um painel com a sua fila de envio.
+     */
+    private final class Inscricao {
+
+        private final SseEmitter emissor;
+
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> pendentes =
+                new ArrayBlockingQueue<>(CAPACIDADE_FILA);
+
+        private final AtomicBoolean enviando = new AtomicBoolean();
+
+        private Inscricao(SseEmitter emissor) {
+            this.emissor = emissor;
+        }
+
+        void entregar(Set<ResponseBodyEmitter.DataWithMediaType> dados) {
+            if (!pendentes.offer(dados)) {
+                encerrar(new IllegalStateException("Painel não acompanha os lotes"));
+                return;
+            }
+            agendar();
+        }
+
+        /**
+         * Inicia o envio da fila, se nenhum estiver em andamento.
+         */
+        private void agendar() {
+            if (!enviando.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                envios.execute(this::enviar);
+            } catch (RejectedExecutionException e) {
+                enviando.set(false);
+            }
+        }
+
+        private void enviar() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> dados;
+                while ((dados = pendentes.poll()) != null) {
+                    emissor.send(dados);
+                }
+            } catch (IOException | IllegalStateException e) {
+                encerrar(e);
+                return;
+            } finally {
+                enviando.set(false);
+            }
+            // Um lote posto na fila depois do último poll e antes de liberar o envio.
+            if (!pendentes.isEmpty()) {
+                agendar();
+            }
+        }
+
+        private void encerrar(Throwable erro) {
+            if (inscritos.remove(this)) {
+                pendentes.clear();
+                emissor.completeWithError(erro);
+            }
+        }
+    }
+}
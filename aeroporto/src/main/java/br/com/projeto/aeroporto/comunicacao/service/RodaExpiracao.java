@@ -0,0 +1,179 @@
+package br.com.projeto.aeroporto.comunicacao.service;
+
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Roda de tempo hierárquica que agenda o vencimento de chaves.
+ *
+ * <p>
+ * O tempo avança em passos de {@code resolucaoMs}. Há {@value #NIVEIS} níveis
+ * de {@value #POSICOES} posições: uma posição do nível {@code n} cobre
+ * {@code 64^n} passos. Cada chave fica em uma única posição, no nível mais
+ * baixo que ainda alcança o seu prazo; quando o nível inferior dá a volta,
+ * as chaves da próxima posição do nível de cima descem para posições mais
+ * precisas. Agendar, cancelar e reagendar custam O(1), e cada passo do tempo
+ * processa apenas a posição corrente, sem percorrer as demais chaves.
+ * </p>
+ *
+ * <p>
+ * Com resolução de 250 ms, a roda alcança cerca de 48 dias; prazos além disso
+ * ficam na última posição do nível mais alto e são reposicionados quando ela
+ * é processada. Os métodos são sincronizados.
+ * </p>
+ *
+ * @param <K> tipo das chaves
+ */
+class RodaExpiracao<K> {
+
+    static final int NIVEIS = 4;
+
+    static final int POSICOES = 64;
+
+    private static final int BITS_POR_NIVEL = 6;
+
+    private static final int MASCARA = POSICOES - 1;
+
+    private final long resolucaoMs;
+
+    private final Set<K>[][] posicoes;
+
+    private final Map<K, Agendamento> agendamentos = new HashMap<>();
+
+    private final List<K> vencidas = new ArrayList<>();
+
+    private long passoAtual;
+
+    /**
+     * Cria a roda posicionada no instante informado.
+     *
+     * @param resolucaoMs duração de um passo, em milissegundos
+     * @param agoraMs     instante inicial, em milissegundos desde a época
+     */
+    @SuppressWarnings("unchecked")
+    RodaExpiracao(long resolucaoMs, long agoraMs) {
+        this.resolucaoMs = resolucaoMs;
+        this.passoAtual = agoraMs / resolucaoMs;
+        this.posicoes = new Set[NIVEIS][POSICOES];
+        for (Set<K>[] nivel : posicoes) {
+            for (int i = 0; i < POSICOES; i++) {
+                nivel[i] = new HashSet<>();
+            }
+        }
+    }
+
+    /**
+     * Agenda (ou reagenda) o vencimento da chave.
+     *
+     * @param chave   chave a vencer
+     * @param prazoMs instante do vencimento, em milissegundos desde a época
+     */
+    synchronized void agendar(K chave, long prazoMs) {
+        cancelar(chave);
+        // Arredonda para cima: a chave nunca vence antes do prazo.
+        posicionar(chave, (prazoMs + resolucaoMs - 1) / resolucaoMs);
+    }
+
+    /**
+     * Remove a chave da roda, se estiver agendada.
+     *
+     * @param chave chave a remover
+     */
+    synchronized void cancelar(K chave) {
+        Agendamento agendamento = agendamentos.remove(chave);
+        if (agendamento != null && agendamento.nivel() >= 0) {
+            posicoes[agendamento.nivel()][agendamento.posicao()].remove(chave);
+        } else if (agendamento != null) {
+            vencidas.remove(chave);
+        }
+    }
+
+    /**
+     * Avança a roda até o instante informado e devolve as chaves vencidas.
+     *
+     * @param agoraMs instante atual, em milissegundos desde a época
+     * @return chaves cujo prazo foi atingido, retiradas da roda
+     */
+    synchronized List<K> avancar(long agoraMs) {
+        long ate = agoraMs / resolucaoMs;
+        while (passoAtual < ate) {
+            passoAtual++;
+            descer(1);
+            Set<K> posicao = posicoes[0][(int) (passoAtual & MASCARA)];
+            for (K chave : posicao) {
+                agendamentos.remove(chave);
+                vencidas.add(chave);
+            }
+            posicao.clear();
+        }
+        if (vencidas.isEmpty()) {
+            return List.of();
+        }
+        List<K> resultado = new ArrayList<>(vencidas);
+        for (K chave : vencidas) {
+            agendamentos.remove(chave);
+        }
+        vencidas.clear();
+        return resultado;
+    }
+
+    /**
+     * Quantidade de chaves agendadas.
+     *
+     * @return chaves na roda
+     */
+    synchronized int tamanho() {
+        return agendamentos.size();
+    }
+
+    /**
+     * Quando o nível abaixo completa uma volta, redistribui a posição corrente
+     * deste nível (depois de fazer o mesmo, se for o caso, com o nível de cima).
+     */
+    private void descer(int nivel) {
+        if (nivel >= NIVEIS || (passoAtual & ((1L << (BITS_POR_NIVEL * nivel)) - 1)) != 0) {
+            return;
+        }
+        descer(nivel + 1);
+        Set<K> posicao = posicoes[nivel][(int) ((passoAtual >>> (BITS_POR_NIVEL * nivel)) & MASCARA)];
+        if (posicao.isEmpty()) {
+            return;
+        }
+        List<K> chaves = new ArrayList<>(posicao);
+        posicao.clear();
+        for (K chave : chaves) {
+            posicionar(chave, agendamentos.get(chave).prazo());
+        }
+    }
+
+    private void posicionar(K chave, long prazo) {
+        long distancia = prazo - passoAtual;
+        if (distancia <= 0) {
+            agendamentos.put(chave, new Agendamento(prazo, -1, 0));
+            vencidas.add(chave);
+            return;
+        }
+        int nivel = 0;
+        while (nivel < NIVEIS - 1 && distancia >= 1L << (BITS_POR_NIVEL * (nivel + 1))) {
+            nivel++;
+        }
+        long passoPosicao = distancia >= 1L << (BITS_POR_NIVEL * NIVEIS)
+                ? passoAtual + (1L << (BITS_POR_NIVEL * NIVEIS)) - 1
+                : prazo;
+        int posicao = (int) ((passoPosicao >>> (BITS_POR_NIVEL * nivel)) & MASCARA);
+        posicoes[nivel][posicao].add(chave);
+        agendamentos.put(chave, new Agendamento(prazo, nivel, posicao));
+    }
+
+    /**
+     * Prazo (em passos) e posição atual de uma chave; nível {@code -1} indica
+     * chave já vencida, aguardando o próximo {@link #avancar(long)}.
+     */
+    private record Agendamento(long prazo, int nivel, int posicao) {
+    }
+}
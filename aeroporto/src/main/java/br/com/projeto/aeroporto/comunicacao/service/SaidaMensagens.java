@@ -0,0 +1,189 @@
+package br.com.projeto.aeroporto.comunicacao.service;
+
+
+import br.com.projeto.aeroporto.comunicacao.model.Difusao;
+import br.com.projeto.aeroporto.comunicacao.model.SaidaMensagem;
+import br.com.projeto.aeroporto.comunicacao.out.SaidaMensagemRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caixa de saída (outbox) das difusões de mensagens.
+ *
+ * <p>
+ * Uma difusão só grava uma linha por destinatário na caixa de saída, em lotes
+ * JDBC e em uma única transação; a gravação das {@link br.com.projeto.aeroporto.comunicacao.model.Mensagem}
+ * e a entrega ficam para o despacho periódico, fora da thread da requisição,
+ * em lotes de {@value #TAMANHO_LOTE} ({@link DespachoMensagens}).
+ * </p>
+ *
+ * <p>
+ * Contrapressão: com mais de {@code aeroporto.mensagens.limite-pendentes}
+ * mensagens aguardando despacho, novas difusões são recusadas por inteiro, em
+ * vez de deixar a caixa de saída crescer sem limite. A vaga é reservada no
+ * contador antes da gravação e devolvida se a difusão for recusada ou a
+ * gravação falhar, de modo que difusões simultâneas não passam juntas do
+ * limite. As métricas
+ * {@code aeroporto.mensagens.aceitas}, {@code .recusadas} e {@code .entregues}
+ * (contadores), {@code .pendentes} (medidor) e {@code .despacho} (tempo de cada
+ * lote) dão a vazão e o atraso do despacho.
+ * </p>
+ */
+@Component
+public class SaidaMensagens {
+
+    private static final Logger log = LoggerFactory.getLogger(SaidaMensagens.class);
+
+    /**
+     * Mensagens despachadas por transação.
+     */
+    static final int TAMANHO_LOTE = 500;
+
+    /**
+     * Tamanho máximo do remetente, do destinatário e do conteúdo, o das colunas de {@code mensagem_saida}.
+     */
+    static final int TAMANHO_MAXIMO_CAMPO = 255;
+
+    private final SaidaMensagemRepositoryPort repository;
+
+    private final DespachoMensagens despacho;
+
+    private final long limitePendentes;
+
+    private final AtomicLong pendentes = new AtomicLong();
+
+    private final Counter aceitas;
+
+    private final Counter recusadas;
+
+    private final Counter entregues;
+
+    private final Timer duracaoLote;
+
+    /**
+     * Construtor da classe {@code SaidaMensagens}.
+     *
+     * @param repository      porta da caixa de saída
+     * @param despacho        despacho transacional de um lote
+     * @param registry        registro de métricas da aplicação
+     * @param limitePendentes quantidade de mensagens pendentes a partir da qual difusões são recusadas
+     */
+    public SaidaMensagens(SaidaMensagemRepositoryPort repository, DespachoMensagens despacho, MeterRegistry registry,
+                          @Value("${aeroporto.mensagens.limite-pendentes:200000}") long limitePendentes) {
+        this.repository = repository;
+        this.despacho = despacho;
+        this.limitePendentes = limitePendentes;
+        this.aceitas = Counter.builder("aeroporto.mensagens.aceitas")
+                .description("Mensagens gravadas na caixa de saída").register(registry);
+        this.recusadas = Counter.builder("aeroporto.mensagens.recusadas")
+                .description("Mensagens recusadas por excesso de pendências").register(registry);
+        this.entregues = Counter.builder("aeroporto.mensagens.entregues")
+                .description("Mensagens gravadas e entregues pelo despacho").register(registry);
+        this.duracaoLote = Timer.builder("aeroporto.mensagens.despacho")
+                .description("Duração de cada lote do despacho").register(registry);
+        Gauge.builder("aeroporto.mensagens.pendentes", pendentes, AtomicLong::get)
+                .description("Mensagens aguardando despacho").register(registry);
+    }
+
+    /**
+     * Conta as mensagens deixadas pendentes pela execução anterior.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        pendentes.set(repository.contar());
+    }
+
+    /**
+     * Grava uma mensagem por destinatário na caixa de saída.
+     *
+     * <p>
+     * Os campos são conferidos antes de qualquer gravação: um destinatário
+     * inválido recusa a difusão inteira, em vez de fazer falhar no despacho o
+     * lote em que a linha cair.
+     * </p>
+     *
+     * @param difusao remetente, conteúdo e destinatários (repetidos são ignorados)
+     * @return quantidade de mensagens aceitas
+     * @throws IllegalArgumentException caso remetente, conteúdo ou algum destinatário esteja
+     *                                  ausente ou passe de {@value #TAMANHO_MAXIMO_CAMPO} caracteres
+     * @throws CaixaSaidaCheiaException caso a caixa de saída esteja cheia
+     */
+    public int difundir(Difusao difusao) {
+        validar(difusao.remetente(), "Remetente");
+        validar(difusao.conteudo(), "Conteúdo");
+        LinkedHashSet<String> destinatarios = difusao.destinatarios() == null
+                ? new LinkedHashSet<>()
+                : new LinkedHashSet<>(difusao.destinatarios());
+        for (String destinatario : destinatarios) {
+            validar(destinatario, "Destinatário");
+        }
+        int quantidade = destinatarios.size();
+        if (pendentes.addAndGet(quantidade) > limitePendentes) {
+            pendentes.addAndGet(-quantidade);
+            recusadas.increment(quantidade);
+            throw new CaixaSaidaCheiaException("Caixa de saída de mensagens cheia");
+        }
+        LocalDateTime agora = LocalDateTime.now();
+        List<SaidaMensagem> saidas = new ArrayList<>(quantidade);
+        for (String destinatario : destinatarios) {
+            saidas.add(new SaidaMensagem(difusao.remetente(), destinatario, difusao.conteudo(), agora));
+        }
+        try {
+            repository.salvarTodos(saidas);
+        } catch (RuntimeException e) {
+            pendentes.addAndGet(-quantidade);
+            throw e;
+        }
+        aceitas.increment(quantidade);
+        return quantidade;
+    }
+
+    private static void validar(String campo, String nome) {
+        if (campo == null || campo.isBlank() || campo.length() > TAMANHO_MAXIMO_CAMPO) {
+            throw new IllegalArgumentException(nome + " inválido");
+        }
+    }
+
+    /**
+     * Despacha lotes até esvaziar a caixa de saída.
+     */
+    @Scheduled(fixedDelayString = "${aeroporto.mensagens.despacho-ms:200}")
+    public void despachar() {
+        int despachadas;
+        do {
+            long inicio = System.nanoTime();
+            try {
+                despachadas = despacho.despacharLote(TAMANHO_LOTE);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao despachar mensagens; nova tentativa no próximo ciclo", e);
+                return;
+            }
+            if (despachadas > 0) {
+                duracaoLote.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+                entregues.increment(despachadas);
+                long restantes = despachadas;
+                pendentes.updateAndGet(atual -> Math.max(0, atual - restantes));
+            }
+        } while (despachadas == TAMANHO_LOTE);
+        if (despachadas == 0 && pendentes.get() != 0) {
+            // Outra instância pode ter despachado parte das linhas contadas aqui.
+            pendentes.set(repository.contar());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import br.com.projeto.aeroporto.controlevoo.out.ControladorRepositoryPort;
 import br.com.projeto.aeroporto.controlevoo.repository.ControladorJpaRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +52,21 @@ public class ControladorRepositoryAdapter implements ControladorRepositoryPort {
         return controladorJpaRepository.save(controlador);
     }
 
+    /**
+     * Salva vários controladores em uma única transação.
+     *
+     * <p>
+     * Delegado ao método {@link ControladorJpaRepository#saveAll(Iterable)}.
+     * </p>
+     *
+     * @param controladores controladores a salvar
+     * @return controladores persistidos, na ordem recebida
+     */
+    @Override
+    public List<Controlador> saveAll(Collection<Controlador> controladores) {
+        return controladorJpaRepository.saveAll(controladores);
+    }
+
     /**
      * Busca um {@link Controlador} pelo seu identificador.
      *
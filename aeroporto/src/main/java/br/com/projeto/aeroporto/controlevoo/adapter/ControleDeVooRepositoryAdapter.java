@@ -1,4 +1,4 @@
-package br.com.project.airport.controlevoo.adapter;
+package br.com.projeto.aeroporto.controlevoo.adapter;
 
 
 import br.com.projeto.aeroporto.controlevoo.model.ControleDeVoo;
@@ -6,8 +6,11 @@ import br.com.projeto.aeroporto.controlevoo.port.ControleDeVooRepositoryPort;
 import br.com.projeto.aeroporto.controlevoo.repository.ControladorVooJPARepository;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -52,6 +55,21 @@ public class ControleDeVooRepositoryAdapter implements ControleDeVooRepositoryPo
         return jpaRepository.save(controle);
     }
 
+    /**
+     * Salva vários registros de controle de voo em uma única transação.
+     *
+     * <p>
+     * Delegado ao método {@link ControladorVooJPARepository#saveAll(Iterable)}.
+     * </p>
+     *
+     * @param controles registros de controle de voo a salvar
+     * @return registros de controle de voo persistidos, na ordem recebida
+     */
+    @Override
+    public List<ControleDeVoo> saveAll(Collection<ControleDeVoo> controles) {
+        return jpaRepository.saveAll(controles);
+    }
+
     /**
      * Busca um {@link ControleDeVoo} pelo seu identificador.
      *
@@ -83,4 +101,17 @@ public class ControleDeVooRepositoryAdapter implements ControleDeVooRepositoryPo
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
     }
+
+    /**
+     * Atualiza o status de vários registros de {@link ControleDeVoo} em uma única transação.
+     *
+     * @param statusPorControle novo status de cada registro, indexado pelo identificador
+     */
+    @Override
+    @Transactional
+    public void updateStatus(Map<Long, String> statusPorControle) {
+        for (ControleDeVoo controle : jpaRepository.findAllById(statusPorControle.keySet())) {
+            controle.setStatus(statusPorControle.get(controle.getIdControle()));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package br.com.projeto.aeroporto.controlevoo.adapter;
+
+
+import br.com.projeto.aeroporto.controlevoo.model.PosicaoVoo;
+import br.com.projeto.aeroporto.controlevoo.out.PosicaoVooRepositoryPort;
+import br.com.projeto.aeroporto.controlevoo.repository.PosicaoVooJpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Adapter responsável por implementar a porta {@link PosicaoVooRepositoryPort}
+ * utilizando o repositório JPA {@link PosicaoVooJpaRepository}.
+ */
+@Component
+public class PosicaoVooRepositoryAdapter implements PosicaoVooRepositoryPort {
+
+    private final PosicaoVooJpaRepository posicaoVooJpaRepository;
+
+    /**
+     * Construtor da classe {@code PosicaoVooRepositoryAdapter}.
+     *
+     * @param posicaoVooJpaRepository repositório JPA das amostras de posição
+     */
+    public PosicaoVooRepositoryAdapter(PosicaoVooJpaRepository posicaoVooJpaRepository) {
+        this.posicaoVooJpaRepository = posicaoVooJpaRepository;
+    }
+
+    /**
+     * Grava um lote de amostras de posição em uma única transação.
+     *
+     * @param posicoes amostras a gravar
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<PosicaoVoo> posicoes) {
+        posicaoVooJpaRepository.saveAll(posicoes);
+    }
+
+    /**
+     * Busca as amostras mais recentes de um voo.
+     *
+     * @param idVoo  identificador do voo
+     * @param limite quantidade máxima de amostras
+     * @return amostras em ordem decrescente de horário
+     */
+    @Override
+    public List<PosicaoVoo> findRecentes(long idVoo, int limite) {
+        return posicaoVooJpaRepository.findByIdVooOrderByHorarioDesc(idVoo, Limit.of(limite));
+    }
+}
@@ -2,8 +2,14 @@
 package br.com.projeto.aeroporto.controlevoo.controller;
 
 
+import br.com.projeto.aeroporto.controlevoo.model.ControleDeVoo;
+import br.com.projeto.aeroporto.controlevoo.model.ControleResumo;
+import br.com.projeto.aeroporto.controlevoo.model.ResultadoAutorizacao;
 import br.com.projeto.aeroporto.controlevoo.model.TorreDeControle;
+import br.com.projeto.aeroporto.controlevoo.model.TorreDetalhe;
+import br.com.projeto.aeroporto.controlevoo.model.TorreResumo;
 import br.com.projeto.aeroporto.controlevoo.service.TorreControleService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,6 +26,12 @@ import java.util.List;
  * </p>
  *
  * <p>
+ * As consultas devolvem projeções ({@link TorreResumo}, {@link TorreDetalhe} e
+ * {@link ControleResumo}) em vez da entidade, cuja lista de controles aponta
+ * de volta para a torre e seria carregada controle a controle na serialização.
+ * </p>
+ *
+ * <p>
  * Endpoints baseados no path: <b>/torres</b>
  * </p>
  */
@@ -70,15 +82,31 @@ public class TorreDeControleController {
      * </p>
      *
      * @param id identificador único da torre de controle
-     * @return {@link ResponseEntity} com a torre encontrada ou status 404
+     * @return {@link ResponseEntity} com a torre e seus controles de voo, ou status 404
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TorreDeControle> buscarPorId(@PathVariable Long id) {
-        return service.getById(id)
+    public ResponseEntity<TorreDetalhe> buscarPorId(@PathVariable Long id) {
+        return service.buscarDetalhe(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Atualiza a localização de uma torre de controle.
+     *
+     * <p>
+     * Requisição: {@code PUT /torres/{id}}
+     * </p>
+     *
+     * @param id    identificador da torre de controle
+     * @param torre objeto {@link TorreDeControle} contendo os novos dados
+     * @return {@link ResponseEntity} contendo a {@link TorreDeControle} atualizada
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<TorreDeControle> atualizar(@PathVariable Long id, @RequestBody TorreDeControle torre) {
+        return ResponseEntity.ok(service.update(id, torre));
+    }
+
     /**
      * Lista todas as torres de controle cadastradas.
      *
@@ -86,11 +114,11 @@ public class TorreDeControleController {
      * Requisição: {@code GET /torres}
      * </p>
      *
-     * @return lista de {@link TorreDeControle}
+     * @return lista de {@link TorreResumo}, com a quantidade de controles de cada torre
      */
     @GetMapping
-    public List<TorreDeControle> listar() {
-        return service.getAll();
+    public List<TorreResumo> listar() {
+        return service.listarResumos();
     }
 
     /**
@@ -108,4 +136,96 @@ public class TorreDeControleController {
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Abre um controle de voo na torre, com a pista designada para o movimento.
+     *
+     * <p>
+     * Requisição: {@code POST /torres/{id}/controles}
+     * </p>
+     *
+     * @param id       identificador da torre de controle
+     * @param controle objeto {@link ControleDeVoo} com a pista e a categoria de esteira
+     * @return {@link ResponseEntity} contendo o {@link ControleResumo} do controle aberto
+     */
+    @PostMapping("/{id}/controles")
+    public ResponseEntity<ControleResumo> abrirControle(@PathVariable Long id, @RequestBody ControleDeVoo controle) {
+        return ResponseEntity.ok(ControleResumo.de(service.abrirControle(id, controle)));
+    }
+
+    /**
+     * Pede autorização de decolagem para um controle de voo ativo na torre.
+     *
+     * <p>
+     * Requisição: {@code POST /torres/{id}/controles/{idControle}/decolagem}
+     * </p>
+     *
+     * @param id         identificador da torre de controle
+     * @param idControle identificador do controle de voo
+     * @return {@link ResponseEntity} com o {@link ResultadoAutorizacao}; o status
+     *         HTTP segue a situação (ver {@link #responder(ResultadoAutorizacao)})
+     */
+    @PostMapping("/{id}/controles/{idControle}/decolagem")
+    public ResponseEntity<ResultadoAutorizacao> autorizarDecolagem(@PathVariable Long id, @PathVariable Long idControle) {
+        return responder(service.autorizarDecolagem(id, idControle));
+    }
+
+    /**
+     * Pede autorização de pouso para um controle de voo ativo na torre.
+     *
+     * <p>
+     * Requisição: {@code POST /torres/{id}/controles/{idControle}/pouso}
+     * </p>
+     *
+     * @param id         identificador da torre de controle
+     * @param idControle identificador do controle de voo
+     * @return {@link ResponseEntity} com o {@link ResultadoAutorizacao}; o status
+     *         HTTP segue a situação (ver {@link #responder(ResultadoAutorizacao)})
+     */
+    @PostMapping("/{id}/controles/{idControle}/pouso")
+    public ResponseEntity<ResultadoAutorizacao> autorizarPouso(@PathVariable Long id, @PathVariable Long idControle) {
+        return responder(service.autorizarPouso(id, idControle));
+    }
+
+    /**
+     * Registra que a aeronave deixou a pista, concluindo o controle de voo.
+     *
+     * <p>
+     * Requisição: {@code POST /torres/{id}/controles/{idControle}/liberacao}
+     * </p>
+     *
+     * @param id         identificador da torre de controle
+     * @param idControle identificador do controle de voo
+     * @return {@link ResponseEntity} sem conteúdo (HTTP 204) em caso de sucesso
+     */
+    @PostMapping("/{id}/controles/{idControle}/liberacao")
+    public ResponseEntity<Void> liberarPista(@PathVariable Long id, @PathVariable Long idControle) {
+        service.liberarPista(id, idControle);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Converte o resultado de um pedido de autorização em resposta HTTP.
+     *
+     * <p>
+     * Retorna:
+     * <ul>
+     *   <li><b>200 OK</b> se o movimento foi autorizado;</li>
+     *   <li><b>404 Not Found</b> se o controle não está ativo na torre;</li>
+     *   <li><b>409 Conflict</b> se a pista está ocupada, a separação de esteira
+     *   ainda não foi cumprida ou o controle já tem o outro movimento autorizado.</li>
+     * </ul>
+     * </p>
+     *
+     * @param resultado resultado do pedido
+     * @return {@link ResponseEntity} com o resultado no corpo
+     */
+    private static ResponseEntity<ResultadoAutorizacao> responder(ResultadoAutorizacao resultado) {
+        HttpStatus status = switch (resultado.situacao()) {
+            case AUTORIZADO -> HttpStatus.OK;
+            case CONTROLE_NAO_ATIVO -> HttpStatus.NOT_FOUND;
+            default -> HttpStatus.CONFLICT;
+        };
+        return ResponseEntity.status(status).body(resultado);
+    }
 }
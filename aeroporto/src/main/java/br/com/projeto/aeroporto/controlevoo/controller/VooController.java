@@ -1,16 +1,93 @@
 package br.com.projeto.aeroporto.controlevoo.controller;
 
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import br.com.projeto.aeroporto.comum.Paginacao;
+import br.com.projeto.aeroporto.controlevoo.in.PosicaoVooUseCase;
+import br.com.projeto.aeroporto.controlevoo.model.PosicaoVoo;
+import br.com.projeto.aeroporto.controlevoo.model.QuadroPosicao;
+import br.com.projeto.aeroporto.controlevoo.model.ResultadoIngestao;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
+/**
+ * Controlador REST de acompanhamento da posição dos voos.
+ *
+ * <p>
+ * Endpoints baseados no path: <b>/api/Voo</b>
+ * </p>
+ */
 @RestController
 @RequestMapping("/api/Voo")
 public class VooController {
 
- public Void atualizarPosicao()
- {
-     return null;
- }
+    private final PosicaoVooUseCase service;
+
+    /**
+     * Construtor da classe {@code VooController}.
+     *
+     * @param service caso de uso de acompanhamento da posição dos voos
+     */
+    public VooController(PosicaoVooUseCase service) {
+        this.service = service;
+    }
+
+    /**
+     * Recebe um lote de relatórios de posição (radar/ADS-B).
+     *
+     * <p>
+     * Requisição: {@code POST /api/Voo/posicoes}. A resposta é {@code 202} com a
+     * contagem de relatórios aceitos e descartados; se nenhum relatório couber no
+     * buffer de ingestão, a resposta é {@code 503} para que o remetente reduza o ritmo.
+     * </p>
+     *
+     * @param quadros relatórios de posição
+     * @return {@link ResponseEntity} com o {@link ResultadoIngestao}
+     */
+    @PostMapping("/posicoes")
+    @Operation(summary = "Recebimento de relatórios de posição dos voos")
+    public ResponseEntity<ResultadoIngestao> atualizarPosicao(@RequestBody List<QuadroPosicao> quadros) {
+        ResultadoIngestao resultado = service.receber(quadros);
+        HttpStatus status = resultado.aceitos() == 0 && resultado.descartados() > 0
+                ? HttpStatus.SERVICE_UNAVAILABLE
+                : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(resultado);
+    }
 
+    /**
+     * Última posição conhecida de um voo.
+     *
+     * <p>
+     * Requisição: {@code GET /api/Voo/{idVoo}/posicao}
+     * </p>
+     *
+     * @param idVoo identificador do voo
+     * @return {@link ResponseEntity} com a posição, ou {@code 404} se o voo nunca foi reportado
+     */
+    @GetMapping("/{idVoo}/posicao")
+    @Operation(summary = "Última posição do voo")
+    public ResponseEntity<QuadroPosicao> getUltimaPosicao(@PathVariable long idVoo) {
+        return ResponseEntity.of(service.getUltimaPosicao(idVoo));
+    }
 
+    /**
+     * Amostras gravadas da trajetória de um voo.
+     *
+     * <p>
+     * Requisição: {@code GET /api/Voo/{idVoo}/posicoes?limit=}. Sem {@code limit}, são
+     * devolvidas {@value Paginacao#LIMITE_PADRAO} amostras.
+     * </p>
+     *
+     * @param idVoo identificador do voo
+     * @param limit quantidade máxima de amostras (opcional)
+     * @return {@link ResponseEntity} com as amostras, da mais recente para a mais antiga
+     */
+    @GetMapping("/{idVoo}/posicoes")
+    @Operation(summary = "Trajetória amostrada do voo")
+    public ResponseEntity<List<PosicaoVoo>> getAmostras(@PathVariable long idVoo,
+                                                        @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(service.getAmostras(idVoo, limit));
+    }
 }
@@ -0,0 +1,40 @@
+package br.com.projeto.aeroporto.controlevoo.in;
+
+
+import br.com.projeto.aeroporto.controlevoo.model.PosicaoVoo;
+import br.com.projeto.aeroporto.controlevoo.model.QuadroPosicao;
+import br.com.projeto.aeroporto.controlevoo.model.ResultadoIngestao;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface que define os casos de uso de acompanhamento da posição dos voos.
+ */
+public interface PosicaoVooUseCase {
+
+    /**
+     * Recebe um lote de relatórios de posição (radar/ADS-B).
+     *
+     * @param quadros relatórios de posição
+     * @return quantidade de relatórios aceitos e descartados
+     */
+    ResultadoIngestao receber(List<QuadroPosicao> quadros);
+
+    /**
+     * Última posição conhecida de um voo.
+     *
+     * @param idVoo identificador do voo
+     * @return posição mais recente, se o voo já foi reportado
+     */
+    Optional<QuadroPosicao> getUltimaPosicao(long idVoo);
+
+    /**
+     * Amostras gravadas da trajetória de um voo.
+     *
+     * @param idVoo identificador do voo
+     * @param limit quantidade máxima de amostras ({@code null} para o padrão)
+     * @return amostras em ordem decrescente de horário
+     */
+    List<PosicaoVoo> getAmostras(long idVoo, Integer limit);
+}
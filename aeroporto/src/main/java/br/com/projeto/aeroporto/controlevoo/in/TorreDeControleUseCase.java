@@ -1,7 +1,11 @@
 package br.com.projeto.aeroporto.controlevoo.in;
 
 
+import br.com.projeto.aeroporto.controlevoo.model.ControleDeVoo;
+import br.com.projeto.aeroporto.controlevoo.model.ResultadoAutorizacao;
 import br.com.projeto.aeroporto.controlevoo.model.TorreDeControle;
+import br.com.projeto.aeroporto.controlevoo.model.TorreDetalhe;
+import br.com.projeto.aeroporto.controlevoo.model.TorreResumo;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -35,8 +39,15 @@ public interface TorreDeControleUseCase {
      */
     TorreDeControle create(TorreDeControle torreDeControle);
 
-    // Método comentado que poderia ser utilizado futuramente para atualização.
-    // TorreDeControle update(Long id, TorreDeControle torreDeControle);
+    /**
+     * Atualiza os dados de uma torre de controle existente.
+     *
+     * @param id              identificador da torre de controle
+     * @param torreDeControle objeto contendo os novos dados
+     * @return a {@link TorreDeControle} atualizada
+     * @throws RuntimeException caso a torre não seja encontrada
+     */
+    TorreDeControle update(Long id, TorreDeControle torreDeControle);
 
     /**
      * Busca uma torre de controle pelo seu identificador.
@@ -54,10 +65,58 @@ public interface TorreDeControleUseCase {
      */
     List<TorreDeControle> getAll();
 
+    List<TorreResumo> listarResumos();
+
+    Optional<TorreDetalhe> buscarDetalhe(Long id);
+
     /**
      * Remove uma torre de controle com base no seu identificador.
      *
+     * <p>
+     * Os controles de voo ativos na torre são concluídos e as pistas que
+     * ocupavam, liberadas.
+     * </p>
+     *
      * @param id identificador da torre de controle a ser removida
      */
     void delete(Long id);
+
+    /**
+     * Abre um controle de voo na torre, tornando-o apto a pedir pouso ou decolagem.
+     *
+     * @param idTorre  identificador da torre de controle
+     * @param controle controle de voo com a pista designada
+     * @return o {@link ControleDeVoo} persistido
+     * @throws RuntimeException caso a torre não exista ou a pista não seja informada
+     */
+    ControleDeVoo abrirControle(Long idTorre, ControleDeVoo controle);
+
+    /**
+     * Pede autorização de decolagem para um controle de voo ativo na torre.
+     *
+     * @param idTorre    identificador da torre de controle
+     * @param idControle identificador do controle de voo
+     * @return resultado do pedido
+     * @throws RuntimeException caso a autorização não possa ser gravada (ela é desfeita)
+     */
+    ResultadoAutorizacao autorizarDecolagem(Long idTorre, Long idControle);
+
+    /**
+     * Pede autorização de pouso para um controle de voo ativo na torre.
+     *
+     * @param idTorre    identificador da torre de controle
+     * @param idControle identificador do controle de voo
+     * @return resultado do pedido
+     * @throws RuntimeException caso a autorização não possa ser gravada (ela é desfeita)
+     */
+    ResultadoAutorizacao autorizarPouso(Long idTorre, Long idControle);
+
+    /**
+     * Registra que a aeronave deixou a pista, concluindo o controle de voo.
+     *
+     * @param idTorre    identificador da torre de controle
+     * @param idControle identificador do controle de voo
+     * @throws RuntimeException caso o controle não esteja ativo ou não ocupe a pista
+     */
+    void liberarPista(Long idTorre, Long idControle);
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package br.com.projeto.aeroporto.controlevoo.model;
+
+
+/**
+ * Categoria de esteira de turbulência da aeronave, usada na separação entre
+ * movimentos consecutivos na mesma pista.
+ */
+public enum CategoriaEsteira {
+
+    LEVE,
+    MEDIA,
+    PESADA;
+
+    /**
+     * Separação mínima, em milissegundos, entre a liberação da pista por uma
+     * aeronave da categoria {@code anterior} e o início do movimento desta.
+     *
+     * <p>
+     * Aeronaves atrás de uma categoria mais pesada aguardam 2 minutos; nos demais
+     * casos, 1 minuto de ocupação mínima da pista. Sem movimento anterior, não
+     * há separação a cumprir.
+     * </p>
+     *
+     * @param anterior categoria da aeronave que usou a pista por último ({@code null} se nenhuma)
+     * @return separação mínima em milissegundos
+     */
+    public long separacaoAposMs(CategoriaEsteira anterior) {
+        if (anterior != null && anterior.ordinal() > this.ordinal()) {
+            return 120_000;
+        }
+        return anterior == null ? 0 : 60_000;
+    }
+}
@@ -60,6 +60,22 @@ public class ControleDeVoo {
     @JoinColumn(name = "torre_id")
     private TorreDeControle torreDeControle;
 
+    /**
+     * Pista designada para o pouso ou a decolagem deste voo.
+     */
+    private Long idPista;
+
+    /**
+     * Categoria de esteira de turbulência da aeronave.
+     *
+     * <p>
+     * Define a separação exigida em relação ao movimento anterior na mesma pista.
+     * Quando ausente, é tratada como {@link CategoriaEsteira#MEDIA}.
+     * </p>
+     */
+    @Enumerated(EnumType.STRING)
+    private CategoriaEsteira categoriaEsteira;
+
     /**
      * Construtor padrão sem argumentos.
      *
@@ -156,4 +172,40 @@ public class ControleDeVoo {
     public void setTorreDeControle(TorreDeControle torreDeControle) {
         this.torreDeControle = torreDeControle;
     }
+
+    /**
+     * Obtém a pista designada para o movimento.
+     *
+     * @return identificador da pista
+     */
+    public Long getIdPista() {
+        return idPista;
+    }
+
+    /**
+     * Define a pista designada para o movimento.
+     *
+     * @param idPista identificador da pista
+     */
+    public void setIdPista(Long idPista) {
+        this.idPista = idPista;
+    }
+
+    /**
+     * Obtém a categoria de esteira de turbulência da aeronave.
+     *
+     * @return categoria de esteira
+     */
+    public CategoriaEsteira getCategoriaEsteira() {
+        return categoriaEsteira;
+    }
+
+    /**
+     * Define a categoria de esteira de turbulência da aeronave.
+     *
+     * @param categoriaEsteira categoria de esteira
+     */
+    public void setCategoriaEsteira(CategoriaEsteira categoriaEsteira) {
+        this.categoriaEsteira = categoriaEsteira;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package br.com.projeto.aeroporto.controlevoo.model;
+
+
+/**
+ * Dados de um {@link ControleDeVoo} para exibição, sem as referências de volta
+ * para a torre e o controlador.
+ *
+ * @param idControle       identificador do controle de voo
+ * @param status           status atual do voo
+ * @param idPista          pista designada
+ * @param categoriaEsteira categoria de esteira de turbulência da aeronave
+ * @param idControlador    identificador do {@link Controlador} responsável (pode ser {@code null})
+ * @param nomeControlador  nome do controlador responsável (pode ser {@code null})
+ */
+public record ControleResumo(Long idControle,
+                             String status,
+                             Long idPista,
+                             CategoriaEsteira categoriaEsteira,
+                             Long idControlador,
+                             String nomeControlador) {
+
+    /**
+     * Cria o resumo a partir de uma entidade já carregada.
+     *
+     * @param controle controle de voo
+     * @return resumo do controle
+     */
+    public static ControleResumo de(ControleDeVoo controle) {
+        Controlador controlador = controle.getControlador();
+        return new ControleResumo(controle.getIdControle(), controle.getStatus(), controle.getIdPista(),
+                controle.getCategoriaEsteira(),
+                controlador == null ? null : controlador.getIdControlador(),
+                controlador == null ? null : controlador.getNome());
+    }
+}
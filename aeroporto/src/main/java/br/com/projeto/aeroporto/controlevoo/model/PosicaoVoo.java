@@ -0,0 +1,121 @@
+package br.com.projeto.aeroporto.controlevoo.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Amostra persistida da posição de um voo.
+ *
+ * <p>
+ * Não é gravada a cada relatório recebido: o {@code PosicaoVooService} mantém
+ * a última posição de cada voo em memória e grava apenas uma amostra por voo
+ * a cada intervalo de amostragem.
+ * </p>
+ */
+@Entity
+public class PosicaoVoo {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long idPosicao;
+
+    private Long idVoo;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private Integer altitude;
+
+    private Integer velocidade;
+
+    private Integer rumo;
+
+    private Instant horario;
+
+    public PosicaoVoo() {
+    }
+
+    /**
+     * Cria a amostra a partir de um relatório de posição.
+     *
+     * @param quadro relatório de posição recebido
+     * @return amostra pronta para gravação
+     */
+    public static PosicaoVoo de(QuadroPosicao quadro) {
+        PosicaoVoo posicao = new PosicaoVoo();
+        posicao.idVoo = quadro.idVoo();
+        posicao.latitude = quadro.latitude();
+        posicao.longitude = quadro.longitude();
+        posicao.altitude = quadro.altitude();
+        posicao.velocidade = quadro.velocidade();
+        posicao.rumo = quadro.rumo();
+        posicao.horario = Instant.ofEpochMilli(quadro.horario());
+        return posicao;
+    }
+
+    public Long getIdPosicao() {
+        return idPosicao;
+    }
+
+    public void setIdPosicao(Long idPosicao) {
+        this.idPosicao = idPosicao;
+    }
+
+    public Long getIdVoo() {
+        return idVoo;
+    }
+
+    public void setIdVoo(Long idVoo) {
+        this.idVoo = idVoo;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Integer getAltitude() {
+        return altitude;
+    }
+
+    public void setAltitude(Integer altitude) {
+        this.altitude = altitude;
+    }
+
+    public Integer getVelocidade() {
+        return velocidade;
+    }
+
+    public void setVelocidade(Integer velocidade) {
+        this.velocidade = velocidade;
+    }
+
+    public Integer getRumo() {
+        return rumo;
+    }
+
+    public void setRumo(Integer rumo) {
+        this.rumo = rumo;
+    }
+
+    public Instant getHorario() {
+        return horario;
+    }
+
+    public void setHorario(Instant horario) {
+        this.horario = horario;
+    }
+}
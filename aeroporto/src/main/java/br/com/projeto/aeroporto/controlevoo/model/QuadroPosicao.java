@@ -0,0 +1,28 @@
+package br.com.projeto.aeroporto.controlevoo.model;
+
+
+/**
+ * Relatório de posição de um voo recebido do radar ou de ADS-B.
+ *
+ * <p>
+ * É imutável e circula apenas em memória (buffer de ingestão e tabela de
+ * últimas posições); o banco recebe somente amostras periódicas na forma de
+ * {@link PosicaoVoo}.
+ * </p>
+ *
+ * @param idVoo      identificador numérico do voo (ex.: endereço ICAO de 24 bits do transponder)
+ * @param latitude   latitude em graus decimais
+ * @param longitude  longitude em graus decimais
+ * @param altitude   altitude em pés
+ * @param velocidade velocidade em relação ao solo, em nós
+ * @param rumo       rumo em graus (0–359)
+ * @param horario    instante da medição, em milissegundos desde a época Unix
+ */
+public record QuadroPosicao(long idVoo,
+                            double latitude,
+                            double longitude,
+                            int altitude,
+                            int velocidade,
+                            int rumo,
+                            long horario) {
+}
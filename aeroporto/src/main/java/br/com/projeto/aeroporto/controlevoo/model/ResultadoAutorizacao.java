@@ -0,0 +1,13 @@
+package br.com.projeto.aeroporto.controlevoo.model;
+
+
+/**
+ * Resultado de um pedido de decolagem ou pouso.
+ *
+ * @param idControle identificador do {@link ControleDeVoo}
+ * @param situacao   resposta da torre
+ * @param esperaMs   tempo mínimo de espera antes de novo pedido, em milissegundos
+ *                   (zero quando autorizado ou não aplicável)
+ */
+public record ResultadoAutorizacao(Long idControle, SituacaoAutorizacao situacao, long esperaMs) {
+}
@@ -0,0 +1,11 @@
+package br.com.projeto.aeroporto.controlevoo.model;
+
+
+/**
+ * Resultado do recebimento de um lote de {@link QuadroPosicao}.
+ *
+ * @param aceitos     relatórios colocados no buffer de ingestão
+ * @param descartados relatórios recusados por buffer cheio
+ */
+public record ResultadoIngestao(int aceitos, int descartados) {
+}
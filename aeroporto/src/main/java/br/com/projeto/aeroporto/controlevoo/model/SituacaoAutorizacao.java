@@ -0,0 +1,34 @@
+package br.com.projeto.aeroporto.controlevoo.model;
+
+
+/**
+ * Resposta da torre a um pedido de decolagem ou pouso.
+ */
+public enum SituacaoAutorizacao {
+
+    /**
+     * Pista reservada para o movimento.
+     */
+    AUTORIZADO,
+
+    /**
+     * Outra aeronave está autorizada na pista.
+     */
+    PISTA_OCUPADA,
+
+    /**
+     * A pista está livre, mas a separação de esteira ainda não foi cumprida.
+     */
+    AGUARDAR_SEPARACAO,
+
+    /**
+     * O controle já está autorizado na pista para o outro movimento
+     * (pede pouso tendo decolagem autorizada, ou o contrário).
+     */
+    MOVIMENTO_DIVERGENTE,
+
+    /**
+     * O controle não está ativo nesta torre ou não tem pista designada.
+     */
+    CONTROLE_NAO_ATIVO
+}
@@ -0,0 +1,14 @@
+package br.com.projeto.aeroporto.controlevoo.model;
+
+import java.util.List;
+
+/**
+ * Torre de controle com seus controles de voo, lida em duas consultas
+ * independentemente da quantidade de controles.
+ *
+ * @param idTorre     identificador da {@link TorreDeControle}
+ * @param localizacao localização da torre
+ * @param controles   controles de voo vinculados à torre, em ordem de ID
+ */
+public record TorreDetalhe(Long idTorre, String localizacao, List<ControleResumo> controles) {
+}
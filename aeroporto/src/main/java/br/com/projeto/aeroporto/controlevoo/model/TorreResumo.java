@@ -0,0 +1,12 @@
+package br.com.projeto.aeroporto.controlevoo.model;
+
+
+/**
+ * Torre de controle na listagem, com a contagem de seus controles de voo em vez da lista.
+ *
+ * @param idTorre             identificador da {@link TorreDeControle}
+ * @param localizacao         localização da torre
+ * @param quantidadeControles número de controles de voo vinculados à torre
+ */
+public record TorreResumo(Long idTorre, String localizacao, Long quantidadeControles) {
+}
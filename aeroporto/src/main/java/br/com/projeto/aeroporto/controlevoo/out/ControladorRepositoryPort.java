@@ -3,6 +3,7 @@ package br.com.projeto.aeroporto.controlevoo.out;
 
 import br.com.projeto.aeroporto.controlevoo.model.Controlador;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +30,14 @@ public interface ControladorRepositoryPort {
      */
     Controlador save(Controlador controlador);
 
+    /**
+     * Salva vários controladores em uma única transação, com inserções em lote.
+     *
+     * @param controladores controladores a salvar
+     * @return controladores persistidos, na ordem recebida
+     */
+    List<Controlador> saveAll(Collection<Controlador> controladores);
+
     /**
      * Busca um controlador pelo seu identificador.
      *
@@ -0,0 +1,28 @@
+package br.com.projeto.aeroporto.controlevoo.out;
+
+
+import br.com.projeto.aeroporto.controlevoo.model.PosicaoVoo;
+
+import java.util.List;
+
+/**
+ * Porta (interface) de acesso ao repositório de {@link PosicaoVoo}.
+ */
+public interface PosicaoVooRepositoryPort {
+
+    /**
+     * Grava um lote de amostras de posição.
+     *
+     * @param posicoes amostras a gravar
+     */
+    void saveAll(List<PosicaoVoo> posicoes);
+
+    /**
+     * Busca as amostras mais recentes de um voo.
+     *
+     * @param idVoo  identificador do voo
+     * @param limite quantidade máxima de amostras
+     * @return amostras em ordem decrescente de horário
+     */
+    List<PosicaoVoo> findRecentes(long idVoo, int limite);
+}
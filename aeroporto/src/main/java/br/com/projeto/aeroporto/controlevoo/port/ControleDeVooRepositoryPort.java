@@ -3,7 +3,9 @@ package br.com.projeto.aeroporto.controlevoo.port;
 
 import br.com.projeto.aeroporto.controlevoo.model.ControleDeVoo;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -29,6 +31,14 @@ public interface ControleDeVooRepositoryPort {
      */
     ControleDeVoo save(ControleDeVoo voo);
 
+    /**
+     * Salva vários registros de controle de voo em uma única transação, com inserções em lote.
+     *
+     * @param controles registros de controle de voo a salvar
+     * @return registros de controle de voo persistidos, na ordem recebida
+     */
+    List<ControleDeVoo> saveAll(Collection<ControleDeVoo> controles);
+
     /**
      * Retorna todos os registros de controle de voo armazenados no repositório.
      *
@@ -51,4 +61,11 @@ public interface ControleDeVooRepositoryPort {
      * @param id identificador do registro de controle de voo a ser removido
      */
     void deleteById(Long id);
+
+    /**
+     * Atualiza, em uma única transação, o status de vários registros de controle de voo.
+     *
+     * @param statusPorControle novo status de cada registro, indexado pelo identificador
+     */
+    void updateStatus(Map<Long, String> statusPorControle);
 }
\ No newline at end of file
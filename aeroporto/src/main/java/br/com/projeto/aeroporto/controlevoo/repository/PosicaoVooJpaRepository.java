@@ -0,0 +1,25 @@
+package br.com.projeto.aeroporto.controlevoo.repository;
+
+
+import br.com.projeto.aeroporto.controlevoo.model.PosicaoVoo;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositório JPA para a entidade {@link PosicaoVoo}.
+ */
+@Repository
+public interface PosicaoVooJpaRepository extends JpaRepository<PosicaoVoo, Long> {
+
+    /**
+     * Amostras mais recentes de um voo.
+     *
+     * @param idVoo  identificador do voo
+     * @param limite quantidade máxima de amostras
+     * @return amostras em ordem decrescente de horário
+     */
+    List<PosicaoVoo> findByIdVooOrderByHorarioDesc(Long idVoo, Limit limite);
+}
@@ -1,10 +1,17 @@
 package br.com.projeto.aeroporto.controlevoo.repository;
 
 
+import br.com.projeto.aeroporto.controlevoo.model.ControleResumo;
 import br.com.projeto.aeroporto.controlevoo.model.TorreDeControle;
+import br.com.projeto.aeroporto.controlevoo.model.TorreResumo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repositório JPA para a entidade {@link TorreDeControle}.
  *
@@ -22,5 +29,48 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface TorreDeControleJpaRepository extends JpaRepository<TorreDeControle, Long> {
-    // Métodos de consulta customizados podem ser declarados aqui, se necessário.
+
+    /**
+     * Todas as torres com a quantidade de controles de voo, em uma única consulta.
+     *
+     * @return torres em ordem de ID
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.controlevoo.model.TorreResumo(
+                t.idTorre, t.localizacao, count(c))
+            from TorreDeControle t left join t.controles c
+            group by t.idTorre, t.localizacao
+            order by t.idTorre
+            """)
+    List<TorreResumo> listarResumos();
+
+    /**
+     * Dados de uma torre, sem os controles de voo.
+     *
+     * @param idTorre identificador da torre
+     * @return torre com a quantidade de controles, se existir
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.controlevoo.model.TorreResumo(
+                t.idTorre, t.localizacao, count(c))
+            from TorreDeControle t left join t.controles c
+            where t.idTorre = :idTorre
+            group by t.idTorre, t.localizacao
+            """)
+    Optional<TorreResumo> buscarResumo(@Param("idTorre") Long idTorre);
+
+    /**
+     * Controles de voo de uma torre com o controlador responsável, em uma única consulta.
+     *
+     * @param idTorre identificador da torre
+     * @return controles em ordem de ID
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.controlevoo.model.ControleResumo(
+                c.idControle, c.status, c.idPista, c.categoriaEsteira, ct.idControlador, ct.nome)
+            from ControleDeVoo c left join c.controlador ct
+            where c.torreDeControle.idTorre = :idTorre
+            order by c.idControle
+            """)
+    List<ControleResumo> listarControles(@Param("idTorre") Long idTorre);
 }
@@ -0,0 +1,79 @@
+package br.com.projeto.aeroporto.controlevoo.service;
+
+
+import br.com.projeto.aeroporto.controlevoo.model.CategoriaEsteira;
+import br.com.projeto.aeroporto.controlevoo.model.ResultadoAutorizacao;
+import br.com.projeto.aeroporto.controlevoo.model.SituacaoAutorizacao;
+
+/**
+ * Ocupação de uma pista vista pela torre.
+ *
+ * <p>
+ * Cada pista tem o seu próprio monitor: pedidos para pistas diferentes são
+ * decididos em paralelo, e pedidos concorrentes para a mesma pista são
+ * serializados, de modo que no máximo um movimento fica autorizado por vez.
+ * A pista guarda também qual movimento foi autorizado: repetir o pedido do
+ * mesmo movimento é confirmado, pedir o outro não.
+ * </p>
+ */
+final class EstadoPista {
+
+    private Long ocupante;
+    private CategoriaEsteira categoriaOcupante;
+    private String movimentoOcupante;
+    private CategoriaEsteira ultimaCategoria;
+    private long ultimaLiberacao;
+
+    /**
+     * Tenta reservar a pista para o controle.
+     *
+     * @param idControle controle que pede a pista
+     * @param categoria  categoria de esteira da aeronave
+     * @param movimento  movimento pedido (status que o controle recebe se autorizado)
+     * @param agora      instante do pedido, em milissegundos
+     * @return resultado do pedido
+     */
+    synchronized ResultadoAutorizacao autorizar(Long idControle, CategoriaEsteira categoria, String movimento,
+                                                long agora) {
+        if (ocupante != null) {
+            if (ocupante.equals(idControle)) {
+                SituacaoAutorizacao situacao = movimento.equals(movimentoOcupante)
+                        ? SituacaoAutorizacao.AUTORIZADO
+                        : SituacaoAutorizacao.MOVIMENTO_DIVERGENTE;
+                return new ResultadoAutorizacao(idControle, situacao, 0);
+            }
+            return new ResultadoAutorizacao(idControle, SituacaoAutorizacao.PISTA_OCUPADA, 0);
+        }
+        long liberadaEm = ultimaLiberacao + categoria.separacaoAposMs(ultimaCategoria);
+        if (agora < liberadaEm) {
+            return new ResultadoAutorizacao(idControle, SituacaoAutorizacao.AGUARDAR_SEPARACAO, liberadaEm - agora);
+        }
+        ocupante = idControle;
+        categoriaOcupante = categoria;
+        movimentoOcupante = movimento;
+        return new ResultadoAutorizacao(idControle, SituacaoAutorizacao.AUTORIZADO, 0);
+    }
+
+    /**
+     * Libera a pista, se ocupada pelo controle informado.
+     *
+     * @param idControle controle que deixou a pista
+     * @param agora      instante da liberação, em milissegundos
+     * @return {@code true} se a pista estava ocupada por este controle
+     */
+    synchronized boolean liberar(Long idControle, long agora) {
+        if (ocupante == null || !ocupante.equals(idControle)) {
+            return false;
+        }
+        ocupante = null;
+        ultimaCategoria = categoriaOcupante;
+        categoriaOcupante = null;
+        movimentoOcupante = null;
+        ultimaLiberacao = agora;
+        return true;
+    }
+
+    synchronized Long ocupante() {
+        return ocupante;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.projeto.aeroporto.controlevoo.service;
+
+
+import br.com.projeto.aeroporto.comum.GravadorEmLote;
+import br.com.projeto.aeroporto.controlevoo.model.PosicaoVoo;
+import br.com.projeto.aeroporto.controlevoo.out.PosicaoVooRepositoryPort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Grava em lote as amostras periódicas de posição dos voos.
+ */
+@Component
+public class GravadorPosicoes extends GravadorEmLote<PosicaoVoo> {
+
+    static final int CAPACIDADE_FILA = 20_000;
+    static final int TAMANHO_LOTE = 500;
+
+    private final PosicaoVooRepositoryPort repository;
+
+    /**
+     * Construtor da classe {@code GravadorPosicoes}.
+     *
+     * @param repository porta de acesso ao repositório de amostras de posição
+     */
+    public GravadorPosicoes(PosicaoVooRepositoryPort repository) {
+        super("gravador-posicoes", CAPACIDADE_FILA, TAMANHO_LOTE);
+        this.repository = repository;
+    }
+
+    @Override
+    protected void gravar(List<PosicaoVoo> lote) {
+        repository.saveAll(lote);
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.projeto.aeroporto.controlevoo.service;
+
+
+import br.com.projeto.aeroporto.comum.GravadorEmLote;
+import br.com.projeto.aeroporto.controlevoo.port.ControleDeVooRepositoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grava em lote as mudanças de status dos controles de voo decididas pela torre.
+ *
+ * <p>
+ * Se o mesmo controle aparecer mais de uma vez no lote, prevalece o status mais recente.
+ * </p>
+ *
+ * <p>
+ * Um lote que falha volta para o fim da fila, e com a fila cheia a gravação
+ * é feita na thread chamadora; nos dois casos uma autorização pode chegar ao
+ * banco depois da conclusão do mesmo controle. Como a conclusão é o último
+ * status de um controle, os controles concluídos nos últimos
+ * {@value #RETENCAO_CONCLUIDOS_MIN} minutos são lembrados e qualquer outro
+ * status atrasado para eles é ignorado. As gravações são serializadas, para
+ * que a verificação e a escrita de um lote não se intercalem com as de outro.
+ * </p>
+ */
+@Component
+public class GravadorStatusControle extends GravadorEmLote<GravadorStatusControle.MudancaStatus> {
+
+    static final int CAPACIDADE_FILA = 10_000;
+    static final int TAMANHO_LOTE = 200;
+
+    /**
+     * Bem acima do tempo em que um item com falhas ainda é regravado antes de ser descartado.
+     */
+    static final long RETENCAO_CONCLUIDOS_MIN = 60;
+
+    private final ControleDeVooRepositoryPort repository;
+
+    private final Cache<Long, Boolean> concluidos = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(RETENCAO_CONCLUIDOS_MIN))
+            .build();
+
+    /**
+     * Construtor da classe {@code GravadorStatusControle}.
+     *
+     * @param repository porta de acesso ao repositório de controles de voo
+     */
+    public GravadorStatusControle(ControleDeVooRepositoryPort repository) {
+        super("gravador-status-controle", CAPACIDADE_FILA, TAMANHO_LOTE);
+        this.repository = repository;
+    }
+
+    @Override
+    public void registrar(MudancaStatus mudanca) {
+        if (TorreControleService.STATUS_CONCLUIDO.equals(mudanca.status())) {
+            concluidos.put(mudanca.idControle(), Boolean.TRUE);
+        }
+        super.registrar(mudanca);
+    }
+
+    @Override
+    protected synchronized void gravar(List<MudancaStatus> lote) {
+        Map<Long, String> status = new LinkedHashMap<>();
+        for (MudancaStatus m : lote) {
+            if (TorreControleService.STATUS_CONCLUIDO.equals(m.status())
+                    || concluidos.getIfPresent(m.idControle()) == null) {
+                status.put(m.idControle(), m.status());
+            }
+        }
+        if (!status.isEmpty()) {
+            repository.updateStatus(status);
+        }
+    }
+
+    /**
+     * Novo status de um controle de voo.
+     *
+     * @param idControle identificador do controle
+     * @param status     novo status
+     */
+    public record MudancaStatus(Long idControle, String status) {
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.projeto.aeroporto.controlevoo.service;
+
+
+import br.com.projeto.aeroporto.comum.Paginacao;
+import br.com.projeto.aeroporto.controlevoo.in.PosicaoVooUseCase;
+import br.com.projeto.aeroporto.controlevoo.model.PosicaoVoo;
+import br.com.projeto.aeroporto.controlevoo.model.QuadroPosicao;
+import br.com.projeto.aeroporto.controlevoo.model.ResultadoIngestao;
+import br.com.projeto.aeroporto.controlevoo.out.PosicaoVooRepositoryPort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingestão dos relatórios de posição dos voos.
+ *
+ * <p>
+ * O endpoint apenas coloca os relatórios em um buffer circular limitado
+ * ({@value #CAPACIDADE_BUFFER} posições) e responde; quando o buffer está cheio,
+ * o excedente é descartado e informado ao remetente, já que um relatório mais
+ * novo do mesmo voo chegará em seguida. Uma única thread consome o buffer e
+ * atualiza a {@link TabelaPosicoes}, que guarda só a posição mais recente de
+ * cada voo.
+ * </p>
+ *
+ * <p>
+ * O banco fica fora do caminho de cada atualização: a cada
+ * {@value #INTERVALO_AMOSTRAGEM_MS} ms, os voos que se moveram no intervalo geram
+ * uma única amostra {@link PosicaoVoo}, gravada em lote pelo {@link GravadorPosicoes}.
+ * Na mesma passada, os voos sem relatório há mais de {@value #INATIVIDADE_MS} ms
+ * saem da tabela.
+ * </p>
+ */
+@Service
+public class PosicaoVooService implements PosicaoVooUseCase {
+
+    static final int CAPACIDADE_BUFFER = 65_536;
+    static final int TAMANHO_DRENAGEM = 1_024;
+    static final long INTERVALO_AMOSTRAGEM_MS = 10_000;
+    static final long INATIVIDADE_MS = 30 * 60 * 1000L;
+
+    private final PosicaoVooRepositoryPort repository;
+    private final GravadorPosicoes gravador;
+    private final TabelaPosicoes tabela = new TabelaPosicoes();
+    private final BlockingQueue<QuadroPosicao> buffer = new ArrayBlockingQueue<>(CAPACIDADE_BUFFER);
+
+    private volatile boolean ativo;
+    private Thread consumidor;
+
+    /**
+     * Construtor da classe {@code PosicaoVooService}.
+     *
+     * @param repository porta de acesso às amostras de posição
+     * @param gravador   gravador em lote das amostras
+     */
+    public PosicaoVooService(PosicaoVooRepositoryPort repository, GravadorPosicoes gravador) {
+        this.repository = repository;
+        this.gravador = gravador;
+    }
+
+    @Override
+    public ResultadoIngestao receber(List<QuadroPosicao> quadros) {
+        int aceitos = 0;
+        for (QuadroPosicao quadro : quadros) {
+            if (buffer.offer(quadro)) {
+                aceitos++;
+            }
+        }
+        return new ResultadoIngestao(aceitos, quadros.size() - aceitos);
+    }
+
+    @Override
+    public Optional<QuadroPosicao> getUltimaPosicao(long idVoo) {
+        return Optional.ofNullable(tabela.buscar(idVoo));
+    }
+
+    @Override
+    public List<PosicaoVoo> getAmostras(long idVoo, Integer limit) {
+        return repository.findRecentes(idVoo, Paginacao.limiteEfetivo(limit));
+    }
+
+    @PostConstruct
+    void iniciar() {
+        ativo = true;
+        consumidor = new Thread(this::consumir, "ingestao-posicoes");
+        consumidor.setDaemon(true);
+        consumidor.start();
+    }
+
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        ativo = false;
+        consumidor.interrupt();
+        consumidor.join(TimeUnit.SECONDS.toMillis(5));
+        List<QuadroPosicao> restantes = new ArrayList<>();
+        buffer.drainTo(restantes);
+        restantes.forEach(tabela::atualizar);
+        amostrar();
+    }
+
+    private void consumir() {
+        List<QuadroPosicao> lote = new ArrayList<>(TAMANHO_DRENAGEM);
+        long proximaAmostra = System.currentTimeMillis() + INTERVALO_AMOSTRAGEM_MS;
+        while (ativo) {
+            try {
+                long espera = Math.max(1, proximaAmostra - System.currentTimeMillis());
+                QuadroPosicao primeiro = buffer.poll(espera, TimeUnit.MILLISECONDS);
+                if (primeiro != null) {
+                    lote.add(primeiro);
+                    buffer.drainTo(lote, TAMANHO_DRENAGEM - 1);
+                    lote.forEach(tabela::atualizar);
+                    lote.clear();
+                }
+                if (System.currentTimeMillis() >= proximaAmostra) {
+                    amostrar();
+                    proximaAmostra = System.currentTimeMillis() + INTERVALO_AMOSTRAGEM_MS;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void amostrar() {
+        tabela.coletarAlterados(quadro -> gravador.registrar(PosicaoVoo.de(quadro)));
+        tabela.removerInativos(System.currentTimeMillis() - INATIVIDADE_MS);
+    }
+}
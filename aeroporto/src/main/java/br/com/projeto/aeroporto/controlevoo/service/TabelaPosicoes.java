@@ -0,0 +1,213 @@
+package br.com.projeto.aeroporto.controlevoo.service;
+
+
+import br.com.projeto.aeroporto.controlevoo.model.QuadroPosicao;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Tabela da última posição conhecida de cada voo, indexada pelo {@code idVoo} primitivo.
+ *
+ * <p>
+ * Hash de endereçamento aberto (sondagem linear) sobre {@code long[]}, sem
+ * boxing de chaves nem alocação de nós por entrada. Há um único escritor (a
+ * thread de ingestão do {@link PosicaoVooService}); as consultas dos endpoints
+ * usam leitura otimista de {@link StampedLock} e só recorrem à trava de
+ * leitura quando uma escrita concorrente invalida a tentativa.
+ * </p>
+ *
+ * <p>
+ * Uma leitura otimista pode ver os vetores no meio de uma troca; por isso a
+ * sondagem nunca passa do tamanho do vetor, e vetores novos só são publicados
+ * depois de preenchidos. Voos que deixam de reportar são retirados por
+ * {@link #removerInativos(long)}, que reconstrói a tabela sem eles.
+ * </p>
+ */
+final class TabelaPosicoes {
+
+    private static final long VAZIO = Long.MIN_VALUE;
+    private static final int CAPACIDADE_INICIAL = 1024;
+
+    private final StampedLock trava = new StampedLock();
+
+    private long[] chaves;
+    private QuadroPosicao[] valores;
+    private boolean[] alterados;
+    private int tamanho;
+
+    TabelaPosicoes() {
+        chaves = new long[CAPACIDADE_INICIAL];
+        Arrays.fill(chaves, VAZIO);
+        valores = new QuadroPosicao[CAPACIDADE_INICIAL];
+        alterados = new boolean[CAPACIDADE_INICIAL];
+    }
+
+    /**
+     * Registra um relatório de posição, mantendo apenas o mais recente de cada voo.
+     * Deve ser chamado apenas pela thread de ingestão.
+     *
+     * @param quadro relatório de posição
+     * @return {@code true} se a posição do voo foi atualizada
+     */
+    boolean atualizar(QuadroPosicao quadro) {
+        long id = quadro.idVoo();
+        if (id == VAZIO) {
+            return false;
+        }
+        long carimbo = trava.writeLock();
+        try {
+            if ((tamanho + 1) * 2 > chaves.length) {
+                reconstruir(chaves.length * 2, Long.MIN_VALUE);
+            }
+            int i = indice(chaves, id);
+            if (chaves[i] == VAZIO) {
+                chaves[i] = id;
+                tamanho++;
+            } else if (valores[i].horario() > quadro.horario()) {
+                return false;
+            }
+            valores[i] = quadro;
+            alterados[i] = true;
+            return true;
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Última posição conhecida do voo.
+     *
+     * @param idVoo identificador do voo
+     * @return posição mais recente ou {@code null} se o voo nunca foi reportado
+     */
+    QuadroPosicao buscar(long idVoo) {
+        if (idVoo == VAZIO) {
+            return null;
+        }
+        long carimbo = trava.tryOptimisticRead();
+        QuadroPosicao valor = procurar(idVoo);
+        if (trava.validate(carimbo)) {
+            return valor;
+        }
+        carimbo = trava.readLock();
+        try {
+            return procurar(idVoo);
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Entrega as posições alteradas desde a última coleta e limpa as marcações.
+     * Deve ser chamado apenas pela thread de ingestão.
+     *
+     * @param destino função chamada para cada posição alterada
+     * @return quantidade de posições entregues
+     */
+    int coletarAlterados(Consumer<QuadroPosicao> destino) {
+        int total = 0;
+        for (int i = 0; i < alterados.length; i++) {
+            if (alterados[i]) {
+                alterados[i] = false;
+                destino.accept(valores[i]);
+                total++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Retira os voos cuja última posição é anterior ao horário informado,
+     * reduzindo a capacidade quando a tabela fica folgada. Deve ser chamado
+     * apenas pela thread de ingestão, depois de {@link #coletarAlterados(Consumer)}.
+     *
+     * @param horarioMinimo horário (ms desde a época Unix) a partir do qual o voo continua na tabela
+     * @return quantidade de voos retirados
+     */
+    int removerInativos(long horarioMinimo) {
+        int inativos = 0;
+        for (int i = 0; i < chaves.length; i++) {
+            if (chaves[i] != VAZIO && valores[i].horario() < horarioMinimo) {
+                inativos++;
+            }
+        }
+        if (inativos == 0) {
+            return 0;
+        }
+        int capacidade = CAPACIDADE_INICIAL;
+        while ((tamanho - inativos + 1) * 4 > capacidade) {
+            capacidade <<= 1;
+        }
+        long carimbo = trava.writeLock();
+        try {
+            reconstruir(capacidade, horarioMinimo);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+        return inativos;
+    }
+
+    /**
+     * Quantidade de voos com posição conhecida.
+     *
+     * @return total de voos na tabela
+     */
+    int tamanho() {
+        return tamanho;
+    }
+
+    private QuadroPosicao procurar(long idVoo) {
+        long[] c = chaves;
+        QuadroPosicao[] v = valores;
+        if (c.length != v.length) {
+            return null;
+        }
+        int i = indice(c, idVoo);
+        return i >= 0 && c[i] == idVoo ? v[i] : null;
+    }
+
+    /**
+     * Copia os voos com horário a partir de {@code horarioMinimo} para vetores
+     * novos da capacidade informada e só então os publica. Chamado com a trava
+     * de escrita.
+     */
+    private void reconstruir(int capacidade, long horarioMinimo) {
+        long[] novasChaves = new long[capacidade];
+        Arrays.fill(novasChaves, VAZIO);
+        QuadroPosicao[] novosValores = new QuadroPosicao[capacidade];
+        boolean[] novosAlterados = new boolean[capacidade];
+        int mantidos = 0;
+        for (int i = 0; i < chaves.length; i++) {
+            if (chaves[i] != VAZIO && valores[i].horario() >= horarioMinimo) {
+                int j = indice(novasChaves, chaves[i]);
+                novasChaves[j] = chaves[i];
+                novosValores[j] = valores[i];
+                novosAlterados[j] = alterados[i];
+                mantidos++;
+            }
+        }
+        chaves = novasChaves;
+        valores = novosValores;
+        alterados = novosAlterados;
+        tamanho = mantidos;
+    }
+
+    /**
+     * Posição da chave (ou da primeira posição livre) na sondagem linear, ou
+     * {@code -1} se o vetor inteiro foi sondado sem encontrar nenhuma das duas,
+     * o que só uma leitura otimista de vetores em troca pode ver.
+     */
+    private static int indice(long[] c, long id) {
+        int mascara = c.length - 1;
+        int i = Long.hashCode(id * 0x9E3779B97F4A7C15L) & mascara;
+        for (int sondagens = 0; sondagens < c.length; sondagens++) {
+            if (c[i] == VAZIO || c[i] == id) {
+                return i;
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+}
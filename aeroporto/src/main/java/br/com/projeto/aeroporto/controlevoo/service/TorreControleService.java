@@ -2,20 +2,89 @@ package br.com.projeto.aeroporto.controlevoo.service;
 
 
 import br.com.projeto.aeroporto.controlevoo.in.TorreDeControleUseCase;
+import br.com.projeto.aeroporto.controlevoo.model.CategoriaEsteira;
+import br.com.projeto.aeroporto.controlevoo.model.ControleDeVoo;
+import br.com.projeto.aeroporto.controlevoo.model.ResultadoAutorizacao;
+import br.com.projeto.aeroporto.controlevoo.model.SituacaoAutorizacao;
 import br.com.projeto.aeroporto.controlevoo.model.TorreDeControle;
+import br.com.projeto.aeroporto.controlevoo.model.TorreDetalhe;
+import br.com.projeto.aeroporto.controlevoo.model.TorreResumo;
+import br.com.projeto.aeroporto.controlevoo.port.ControleDeVooRepositoryPort;
 import br.com.projeto.aeroporto.controlevoo.repository.TorreDeControleJpaRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serviço da torre de controle: cadastro das torres e autorização de pousos e decolagens.
+ *
+ * <p>
+ * Os controles de voo ativos ficam em memória, agrupados por torre, e a ocupação
+ * de cada pista é mantida em um {@link EstadoPista} com trava própria. Um pedido
+ * de autorização não consulta o banco: verifica se a pista está livre e se a
+ * separação de esteira em relação ao último movimento foi cumprida, e responde.
+ * </p>
+ *
+ * <p>
+ * A autorização e a conclusão do movimento são gravadas em lote pelo
+ * {@link GravadorStatusControle}, pela mesma fila, e nenhum pedido espera o
+ * banco. É pelo status do {@link ControleDeVoo} que a ocupação das pistas é
+ * reconstruída na inicialização, antes de a aplicação receber requisições:
+ * uma conclusão perdida em uma queda deixa a pista ocupada até nova
+ * liberação, o lado seguro; uma autorização perdida volta o controle a ativo,
+ * e a aeronave precisa pedir a pista de novo à torre.
+ * </p>
+ */
 @Service
 public class TorreControleService implements TorreDeControleUseCase {
 
+    static final String STATUS_ATIVO = "ATIVO";
+    static final String STATUS_DECOLAGEM_AUTORIZADA = "DECOLAGEM_AUTORIZADA";
+    static final String STATUS_POUSO_AUTORIZADO = "POUSO_AUTORIZADO";
+    static final String STATUS_CONCLUIDO = "CONCLUIDO";
+
     private final TorreDeControleJpaRepository repository;
 
-    public TorreControleService(TorreDeControleJpaRepository repository) {
+    private final ControleDeVooRepositoryPort controleRepository;
+
+    private final GravadorStatusControle gravadorStatus;
+
+    private final Map<Long, Map<Long, ControleAtivo>> ativosPorTorre = new ConcurrentHashMap<>();
+
+    private final Map<Long, EstadoPista> pistas = new ConcurrentHashMap<>();
+
+    public TorreControleService(TorreDeControleJpaRepository repository,
+                                ControleDeVooRepositoryPort controleRepository,
+                                GravadorStatusControle gravadorStatus) {
         this.repository = repository;
+        this.controleRepository = controleRepository;
+        this.gravadorStatus = gravadorStatus;
+    }
+
+    /**
+     * Carrega os controles de voo ainda não concluídos e a ocupação atual das pistas,
+     * antes de a aplicação receber requisições.
+     */
+    @PostConstruct
+    public void carregarControlesAtivos() {
+        for (ControleDeVoo controle : controleRepository.findAll()) {
+            if (STATUS_CONCLUIDO.equals(controle.getStatus())
+                    || controle.getTorreDeControle() == null
+                    || controle.getIdPista() == null) {
+                continue;
+            }
+            ControleAtivo ativo = registrar(controle);
+            if (STATUS_DECOLAGEM_AUTORIZADA.equals(controle.getStatus())
+                    || STATUS_POUSO_AUTORIZADO.equals(controle.getStatus())) {
+                // movimento já autorizado antes da reinicialização: a pista continua ocupada
+                pista(ativo.idPista()).autorizar(ativo.idControle(), ativo.categoria(), controle.getStatus(),
+                        Long.MAX_VALUE);
+            }
+        }
     }
 
     @Override
@@ -23,23 +92,19 @@ public class TorreControleService implements TorreDeControleUseCase {
         return repository.save(torreDeControle);
     }
 
-    /*
     @Override
     public TorreDeControle update(Long id, TorreDeControle torreDeControle) {
         TorreDeControle existente = repository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Controlador não encontrado"));
+                .orElseThrow(() -> new RuntimeException("Torre de controle não encontrada"));
 
         existente.setLocalizacao(torreDeControle.getLocalizacao());
 
         return repository.save(existente);
     }
 
-     */
-
     @Override
     public Optional<TorreDeControle> getById(Long id) {
-        return Optional.ofNullable(repository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Controlador não encontrado")));
+        return repository.findById(id);
     }
 
     @Override
@@ -47,17 +112,101 @@ public class TorreControleService implements TorreDeControleUseCase {
         return repository.findAll();
     }
 
+    @Override
+    public List<TorreResumo> listarResumos() {
+        return repository.listarResumos();
+    }
+
+    @Override
+    public Optional<TorreDetalhe> buscarDetalhe(Long id) {
+        return repository.buscarResumo(id)
+                .map(torre -> new TorreDetalhe(torre.idTorre(), torre.localizacao(),
+                        repository.listarControles(id)));
+    }
+
     @Override
     public void delete(Long id) {
         repository.deleteById(id);
+        Map<Long, ControleAtivo> ativos = ativosPorTorre.remove(id);
+        if (ativos == null) {
+            return;
+        }
+        long agora = System.currentTimeMillis();
+        for (ControleAtivo ativo : ativos.values()) {
+            pista(ativo.idPista()).liberar(ativo.idControle(), agora);
+            gravadorStatus.registrar(new GravadorStatusControle.MudancaStatus(ativo.idControle(), STATUS_CONCLUIDO));
+        }
+    }
+
+    @Override
+    public ControleDeVoo abrirControle(Long idTorre, ControleDeVoo controle) {
+        TorreDeControle torre = repository.findById(idTorre)
+                .orElseThrow(() -> new RuntimeException("Torre de controle não encontrada"));
+        if (controle.getIdPista() == null) {
+            throw new RuntimeException("Pista não informada para o controle de voo");
+        }
+        controle.setTorreDeControle(torre);
+        controle.setStatus(STATUS_ATIVO);
+        ControleDeVoo salvo = controleRepository.save(controle);
+        registrar(salvo);
+        return salvo;
+    }
+
+    @Override
+    public ResultadoAutorizacao autorizarDecolagem(Long idTorre, Long idControle) {
+        return autorizar(idTorre, idControle, STATUS_DECOLAGEM_AUTORIZADA);
+    }
+
+    @Override
+    public ResultadoAutorizacao autorizarPouso(Long idTorre, Long idControle) {
+        return autorizar(idTorre, idControle, STATUS_POUSO_AUTORIZADO);
+    }
+
+    @Override
+    public void liberarPista(Long idTorre, Long idControle) {
+        Map<Long, ControleAtivo> ativos = ativosPorTorre.get(idTorre);
+        ControleAtivo ativo = ativos == null ? null : ativos.get(idControle);
+        if (ativo == null) {
+            throw new RuntimeException("Controle de voo não está ativo nesta torre");
+        }
+        if (!pista(ativo.idPista()).liberar(idControle, System.currentTimeMillis())) {
+            throw new RuntimeException("Controle de voo não ocupa a pista");
+        }
+        ativos.remove(idControle);
+        gravadorStatus.registrar(new GravadorStatusControle.MudancaStatus(idControle, STATUS_CONCLUIDO));
+    }
+
+    private ResultadoAutorizacao autorizar(Long idTorre, Long idControle, String statusAutorizado) {
+        Map<Long, ControleAtivo> ativos = ativosPorTorre.get(idTorre);
+        ControleAtivo ativo = ativos == null ? null : ativos.get(idControle);
+        if (ativo == null) {
+            return new ResultadoAutorizacao(idControle, SituacaoAutorizacao.CONTROLE_NAO_ATIVO, 0);
+        }
+        EstadoPista pista = pista(ativo.idPista());
+        boolean repeticao = idControle.equals(pista.ocupante());
+        ResultadoAutorizacao resultado = pista
+                .autorizar(idControle, ativo.categoria(), statusAutorizado, System.currentTimeMillis());
+        if (resultado.situacao() == SituacaoAutorizacao.AUTORIZADO && !repeticao) {
+            gravadorStatus.registrar(new GravadorStatusControle.MudancaStatus(idControle, statusAutorizado));
+        }
+        return resultado;
+    }
 
+    private ControleAtivo registrar(ControleDeVoo controle) {
+        CategoriaEsteira categoria = controle.getCategoriaEsteira() != null
+                ? controle.getCategoriaEsteira()
+                : CategoriaEsteira.MEDIA;
+        Long idTorre = controle.getTorreDeControle().getIdTorre();
+        ControleAtivo ativo = new ControleAtivo(controle.getIdControle(), controle.getIdPista(), categoria);
+        ativosPorTorre.computeIfAbsent(idTorre, id -> new ConcurrentHashMap<>())
+                .put(ativo.idControle(), ativo);
+        return ativo;
     }
 
-    public String autorizarDecolagem() {
-        return "";
+    private EstadoPista pista(Long idPista) {
+        return pistas.computeIfAbsent(idPista, id -> new EstadoPista());
     }
 
-    public String autorizarPouso() {
-        return "";
+    private record ControleAtivo(Long idControle, Long idPista, CategoriaEsteira categoria) {
     }
 }
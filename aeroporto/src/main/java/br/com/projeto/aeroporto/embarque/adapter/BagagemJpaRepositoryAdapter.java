@@ -1,11 +1,16 @@
 package br.com.projeto.aeroporto.embarque.adapter;
 
 
+import br.com.projeto.aeroporto.comum.Paginacao;
+import br.com.projeto.aeroporto.comum.PersistenciaEmLote;
 import br.com.projeto.aeroporto.embarque.model.Bagagem;
+import br.com.projeto.aeroporto.embarque.model.CargaBagagem;
 import br.com.projeto.aeroporto.embarque.out.BagagemRepositoryPort;
 import br.com.projeto.aeroporto.embarque.repository.BagagemJpaRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,14 +28,21 @@ public class BagagemJpaRepositoryAdapter implements BagagemRepositoryPort {
 
     private final BagagemJpaRepository jpaRepository;
 
+    /**
+     * Gravação em lote usada por {@link #salvarTodos(Collection)}.
+     */
+    private final PersistenciaEmLote persistenciaEmLote;
+
     /**
      * Construtor da classe {@code BagagemJpaRepositoryAdapter}.
      *
-     * @param jpaRepository repositório JPA responsável pelo acesso ao banco de dados
-     *                      da entidade {@link Bagagem}
+     * @param jpaRepository      repositório JPA responsável pelo acesso ao banco de dados
+     *                           da entidade {@link Bagagem}
+     * @param persistenciaEmLote gravação em lote de bagagens
      */
-    public BagagemJpaRepositoryAdapter(BagagemJpaRepository jpaRepository) {
+    public BagagemJpaRepositoryAdapter(BagagemJpaRepository jpaRepository, PersistenciaEmLote persistenciaEmLote) {
         this.jpaRepository = jpaRepository;
+        this.persistenciaEmLote = persistenciaEmLote;
     }
 
     /**
@@ -49,6 +61,22 @@ public class BagagemJpaRepositoryAdapter implements BagagemRepositoryPort {
         return jpaRepository.save(bagagem);
     }
 
+    /**
+     * Salva várias bagagens em uma única transação.
+     *
+     * <p>
+     * Delegado ao {@link PersistenciaEmLote},
+     * que descarrega o contexto de persistência a cada lote JDBC.
+     * </p>
+     *
+     * @param bagagens bagagens a salvar
+     * @return bagagens persistidas, na ordem recebida
+     */
+    @Override
+    public List<Bagagem> salvarTodos(Collection<Bagagem> bagagens) {
+        return persistenciaEmLote.salvarTodos(bagagens, jpaRepository::save);
+    }
+
     /**
      * Retorna a lista de todas as bagagens cadastradas.
      *
@@ -59,6 +87,23 @@ public class BagagemJpaRepositoryAdapter implements BagagemRepositoryPort {
         return jpaRepository.findAll();
     }
 
+    /**
+     * Lista uma página de bagagens por cursor (keyset).
+     *
+     * <p>
+     * Delegado ao método
+     * {@link BagagemJpaRepository#findByCodigoBagagemGreaterThanOrderByCodigoBagagemAsc(Long, Limit)}.
+     * </p>
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de bagagens na página
+     * @return próxima página de bagagens
+     */
+    @Override
+    public List<Bagagem> listarPagina(Long after, int limit) {
+        return jpaRepository.findByCodigoBagagemGreaterThanOrderByCodigoBagagemAsc(Paginacao.cursorInicial(after), Limit.of(limit));
+    }
+
     /**
      * Busca uma bagagem pelo seu identificador.
      *
@@ -80,4 +125,30 @@ public class BagagemJpaRepositoryAdapter implements BagagemRepositoryPort {
     public void deletar(Long id) {
         jpaRepository.deleteById(id);
     }
+
+    /**
+     * Menor e maior ID de bagagem cadastrados.
+     *
+     * @return par {@code [mínimo, máximo]}, ou vazio se não houver bagagens
+     */
+    @Override
+    public Optional<long[]> faixaCodigos() {
+        Object[] faixa = jpaRepository.faixaCodigos().get(0);
+        if (faixa[0] == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new long[]{(Long) faixa[0], (Long) faixa[1]});
+    }
+
+    /**
+     * Lista a carga das bagagens despachadas em voos, em uma faixa de IDs.
+     *
+     * @param de  primeiro ID da faixa
+     * @param ate último ID da faixa (inclusivo)
+     * @return voo, porão e peso de cada bagagem da faixa que está em um voo
+     */
+    @Override
+    public List<CargaBagagem> listarCargas(long de, long ate) {
+        return jpaRepository.listarCargas(de, ate);
+    }
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package br.com.projeto.aeroporto.embarque.adapter;
 
 
+import br.com.projeto.aeroporto.comum.PersistenciaEmLote;
 import br.com.projeto.aeroporto.embarque.model.CartaoEmbarque;
 import br.com.projeto.aeroporto.embarque.out.CartaoEmbarqueRepositoryPort;
 import br.com.projeto.aeroporto.embarque.repository.CartaoEmbarqueRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,14 +27,21 @@ public class CartaoEmbarqueJpaAdapter implements CartaoEmbarqueRepositoryPort {
 
     private final CartaoEmbarqueRepository repo;
 
+    /**
+     * Gravação em lote usada por {@link #salvarTodos(Collection)}.
+     */
+    private final PersistenciaEmLote persistenciaEmLote;
+
     /**
      * Construtor da classe {@code CartaoEmbarqueJpaAdapter}.
      *
-     * @param repo repositório JPA responsável pelo acesso ao banco de dados
+     * @param repo               repositório JPA responsável pelo acesso ao banco de dados
      *             da entidade {@link CartaoEmbarque}
+     * @param persistenciaEmLote gravação em lote de cartões de embarque
      */
-    public CartaoEmbarqueJpaAdapter(CartaoEmbarqueRepository repo) {
+    public CartaoEmbarqueJpaAdapter(CartaoEmbarqueRepository repo, PersistenciaEmLote persistenciaEmLote) {
         this.repo = repo;
+        this.persistenciaEmLote = persistenciaEmLote;
     }
 
     /**
@@ -50,6 +60,22 @@ public class CartaoEmbarqueJpaAdapter implements CartaoEmbarqueRepositoryPort {
         return repo.save(c);
     }
 
+    /**
+     * Salva vários cartões de embarque em uma única transação.
+     *
+     * <p>
+     * Delegado ao {@link PersistenciaEmLote},
+     * que descarrega o contexto de persistência a cada lote JDBC.
+     * </p>
+     *
+     * @param cartoes cartões de embarque a salvar
+     * @return cartões de embarque persistidos, na ordem recebida
+     */
+    @Override
+    public List<CartaoEmbarque> salvarTodos(Collection<CartaoEmbarque> cartoes) {
+        return persistenciaEmLote.salvarTodos(cartoes, repo::save);
+    }
+
     /**
      * Retorna a lista de todos os cartões de embarque cadastrados.
      *
@@ -68,7 +94,7 @@ public class CartaoEmbarqueJpaAdapter implements CartaoEmbarqueRepositoryPort {
      *         ou vazio se não houver registro com o ID informado
      */
     @Override
-    public Optional<CartaoEmbarque> buscarPorId(Long id) {
+    public Optional<CartaoEmbarque> buscarPorId(String id) {
         return repo.findById(id);
     }
 
@@ -78,7 +104,26 @@ public class CartaoEmbarqueJpaAdapter implements CartaoEmbarqueRepositoryPort {
      * @param id identificador único do cartão de embarque a ser removido
      */
     @Override
-    public void deletar(Long id) {
+    public void deletar(String id) {
         repo.deleteById(id);
     }
+
+    /**
+     * Registra, em lote, o embarque dos cartões informados.
+     *
+     * <p>
+     * Delegado ao método {@link CartaoEmbarqueRepository#marcarEmbarcados(Collection)},
+     * que executa um único {@code UPDATE} para todo o lote.
+     * </p>
+     *
+     * @param codigos códigos dos cartões cujo embarque foi autorizado no portão
+     */
+    @Override
+    @Transactional
+    public void marcarEmbarcados(Collection<String> codigos) {
+        if (codigos.isEmpty()) {
+            return;
+        }
+        repo.marcarEmbarcados(codigos);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package br.com.projeto.aeroporto.embarque.adapter;
+
+
+import br.com.projeto.aeroporto.comum.PersistenciaEmLote;
+import br.com.projeto.aeroporto.embarque.model.EventoBagagem;
+import br.com.projeto.aeroporto.embarque.out.EventoBagagemRepositoryPort;
+import br.com.projeto.aeroporto.embarque.repository.EventoBagagemJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Adapter responsável por implementar a porta {@link EventoBagagemRepositoryPort}
+ * utilizando o repositório JPA {@link EventoBagagemJpaRepository}.
+ */
+@Component
+public class EventoBagagemJpaAdapter implements EventoBagagemRepositoryPort {
+
+    private final EventoBagagemJpaRepository repo;
+
+    private final EntityManager entityManager;
+
+    private final PersistenciaEmLote persistenciaEmLote;
+
+    /**
+     * Construtor da classe {@code EventoBagagemJpaAdapter}.
+     *
+     * @param repo               repositório JPA dos eventos de bagagem
+     * @param entityManager      contexto de persistência, usado para desanexar eventos percorridos
+     * @param persistenciaEmLote gravação em lote de eventos
+     */
+    public EventoBagagemJpaAdapter(EventoBagagemJpaRepository repo, EntityManager entityManager,
+                                   PersistenciaEmLote persistenciaEmLote) {
+        this.repo = repo;
+        this.entityManager = entityManager;
+        this.persistenciaEmLote = persistenciaEmLote;
+    }
+
+    /**
+     * Grava os eventos em uma única transação, descarregando em lotes JDBC.
+     *
+     * @param eventos eventos a gravar
+     */
+    @Override
+    public void salvarTodos(List<EventoBagagem> eventos) {
+        persistenciaEmLote.gravarTodos(eventos, repo::save);
+    }
+
+    /**
+     * Lista os eventos de uma bagagem.
+     *
+     * <p>
+     * Delegado ao método
+     * {@link EventoBagagemJpaRepository#findByCodigoBagagemOrderByIdEventoAsc(Long)}.
+     * </p>
+     *
+     * @param codigoBagagem código da bagagem
+     * @return eventos em ordem crescente de ID
+     */
+    @Override
+    public List<EventoBagagem> listarPorBagagem(Long codigoBagagem) {
+        return repo.findByCodigoBagagemOrderByIdEventoAsc(codigoBagagem);
+    }
+
+    /**
+     * Percorre o evento mais recente de cada bagagem por meio de um cursor JDBC.
+     *
+     * <p>
+     * Cada evento é desanexado do contexto de persistência logo após ser
+     * entregue ao consumidor, mantendo o uso de memória constante.
+     * </p>
+     *
+     * @param consumidor função chamada para cada evento lido do banco
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerUltimos(Consumer<EventoBagagem> consumidor) {
+        try (Stream<EventoBagagem> eventos = repo.buscarUltimosEmFluxo()) {
+            eventos.forEach(e -> {
+                consumidor.accept(e);
+                entityManager.detach(e);
+            });
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package br.com.projeto.aeroporto.embarque.controller;
 
 
+import br.com.projeto.aeroporto.comum.Paginacao;
 import br.com.projeto.aeroporto.embarque.in.BagagemUseCase;
+import br.com.projeto.aeroporto.embarque.in.PesoBagagemUseCase;
+import br.com.projeto.aeroporto.embarque.in.RastreioBagagemUseCase;
 import br.com.projeto.aeroporto.embarque.model.Bagagem;
+import br.com.projeto.aeroporto.embarque.model.EventoBagagem;
+import br.com.projeto.aeroporto.embarque.model.LeituraBagagem;
+import br.com.projeto.aeroporto.embarque.model.PesoVoo;
+import br.com.projeto.aeroporto.embarque.model.RastreioBagagem;
+import br.com.projeto.aeroporto.embarque.model.ResultadoReconciliacaoPeso;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,10 +27,15 @@ import java.util.List;
  * Endpoints disponíveis:
  * <ul>
  *   <li><b>POST /bagagens</b> - Cria uma nova bagagem</li>
- *   <li><b>GET /bagagens</b> - Lista todas as bagagens</li>
+ *   <li><b>GET /bagagens?after=&amp;limit=</b> - Lista uma página de bagagens (cursor por ID)</li>
  *   <li><b>GET /bagagens/{id}</b> - Busca uma bagagem pelo ID</li>
  *   <li><b>PUT /bagagens/{id}</b> - Atualiza uma bagagem existente</li>
  *   <li><b>DELETE /bagagens/{id}</b> - Remove uma bagagem pelo ID</li>
+ *   <li><b>POST /bagagens/{id}/eventos</b> - Registra uma leitura de etiqueta da bagagem</li>
+ *   <li><b>GET /bagagens/{id}/eventos</b> - Lista as leituras gravadas da bagagem</li>
+ *   <li><b>GET /bagagens/{id}/rastreio</b> - Informa a etapa e o local atuais da bagagem</li>
+ *   <li><b>GET /bagagens/voos/{codigoVoo}/peso</b> - Informa o peso das bagagens do voo, por porão</li>
+ *   <li><b>POST /bagagens/peso/reconciliacao</b> - Recalcula os totais de peso a partir do banco</li>
  * </ul>
  * </p>
  */
@@ -32,13 +45,22 @@ public class BagagemController {
 
     private final BagagemUseCase service;
 
+    private final RastreioBagagemUseCase rastreioService;
+
+    private final PesoBagagemUseCase pesoService;
+
     /**
      * Construtor da classe {@code BagagemController}.
      *
-     * @param service caso de uso responsável pelas operações de negócio envolvendo {@link Bagagem}
+     * @param service         caso de uso responsável pelas operações de negócio envolvendo {@link Bagagem}
+     * @param rastreioService caso de uso do rastreio de bagagens
+     * @param pesoService     caso de uso do peso das bagagens por voo
      */
-    public BagagemController(BagagemUseCase service) {
+    public BagagemController(BagagemUseCase service, RastreioBagagemUseCase rastreioService,
+                             PesoBagagemUseCase pesoService) {
         this.service = service;
+        this.rastreioService = rastreioService;
+        this.pesoService = pesoService;
     }
 
     /**
@@ -57,17 +79,41 @@ public class BagagemController {
     }
 
     /**
-     * Lista todas as bagagens cadastradas.
+     * Cria várias bagagens em uma única requisição.
+     *
+     * <p>
+     * Requisição: {@code POST /bagagens/lote}
+     * </p>
+     *
+     * @param bagagens lista de {@link Bagagem} enviada no corpo da requisição
+     * @return as {@link Bagagem} salvas, na ordem recebida
+     */
+    @PostMapping("/lote")
+    public List<Bagagem> salvarLote(@RequestBody List<Bagagem> bagagens) {
+        return service.salvarTodos(bagagens);
+    }
+
+    /**
+     * Lista uma página de bagagens, usando o ID como cursor.
      *
      * <p>
-     * Requisição: {@code GET /bagagens}
+     * Requisição: {@code GET /bagagens?after=&limit=}
      * </p>
      *
-     * @return lista de {@link Bagagem}
+     * <p>
+     * Para obter a próxima página, envie em {@code after} o ID da última
+     * bagagem recebida. Sem {@code limit}, são devolvidos
+     * {@value Paginacao#LIMITE_PADRAO} registros (máximo {@value Paginacao#LIMITE_MAXIMO}).
+     * </p>
+     *
+     * @param after último ID já recebido (opcional)
+     * @param limit tamanho da página (opcional)
+     * @return página de {@link Bagagem} em ordem crescente de ID
      */
     @GetMapping
-    public List<Bagagem> listar() {
-        return service.listar();
+    public List<Bagagem> listar(@RequestParam(required = false) Long after,
+                                @RequestParam(required = false) Integer limit) {
+        return service.listarPagina(after, limit);
     }
 
     /**
@@ -116,4 +162,81 @@ public class BagagemController {
     public void deletar(@PathVariable Long id) {
         service.deletar(id);
     }
+
+    /**
+     * Registra uma leitura de etiqueta da bagagem.
+     *
+     * <p>
+     * Requisição: {@code POST /bagagens/{id}/eventos}
+     * </p>
+     *
+     * @param id      identificador da bagagem lida
+     * @param leitura etapa e local da leitura
+     * @return a situação da bagagem após a leitura
+     * @throws RuntimeException caso a leitura esteja fora de sequência
+     */
+    @PostMapping("/{id}/eventos")
+    public RastreioBagagem registrarLeitura(@PathVariable Long id, @RequestBody LeituraBagagem leitura) {
+        return rastreioService.registrarLeitura(id, leitura);
+    }
+
+    /**
+     * Lista as leituras já gravadas da bagagem.
+     *
+     * <p>
+     * Requisição: {@code GET /bagagens/{id}/eventos}
+     * </p>
+     *
+     * @param id identificador da bagagem
+     * @return eventos da bagagem em ordem de gravação
+     */
+    @GetMapping("/{id}/eventos")
+    public List<EventoBagagem> listarEventos(@PathVariable Long id) {
+        return rastreioService.listarEventos(id);
+    }
+
+    /**
+     * Informa a etapa e o local atuais da bagagem, a partir da memória.
+     *
+     * <p>
+     * Requisição: {@code GET /bagagens/{id}/rastreio}
+     * </p>
+     *
+     * @param id identificador da bagagem
+     * @return a última leitura da bagagem
+     * @throws RuntimeException caso a bagagem ainda não tenha sido lida
+     */
+    @GetMapping("/{id}/rastreio")
+    public RastreioBagagem rastrear(@PathVariable Long id) {
+        return rastreioService.rastrear(id);
+    }
+
+    /**
+     * Informa o peso das bagagens despachadas no voo, a partir dos totais em memória.
+     *
+     * <p>
+     * Requisição: {@code GET /bagagens/voos/{codigoVoo}/peso}
+     * </p>
+     *
+     * @param codigoVoo código do voo
+     * @return peso e quantidade de bagagens do voo e de cada porão
+     */
+    @GetMapping("/voos/{codigoVoo}/peso")
+    public PesoVoo consultarPeso(@PathVariable String codigoVoo) {
+        return pesoService.consultarPeso(codigoVoo);
+    }
+
+    /**
+     * Recalcula os totais de peso a partir do banco, corrigindo os divergentes.
+     *
+     * <p>
+     * Requisição: {@code POST /bagagens/peso/reconciliacao}
+     * </p>
+     *
+     * @return quantidade de totais verificados, corrigidos e ignorados
+     */
+    @PostMapping("/peso/reconciliacao")
+    public ResultadoReconciliacaoPeso reconciliarPeso() {
+        return pesoService.reconciliar();
+    }
 }
\ No newline at end of file
@@ -58,6 +58,21 @@ public class CartaoEmbarqueController {
         return service.salvar(c);
     }
 
+    /**
+     * Cria vários cartões de embarque em uma única requisição.
+     *
+     * <p>
+     * Requisição: {@code POST /cartoes/lote}
+     * </p>
+     *
+     * @param cartoes lista de {@link CartaoEmbarque} enviada no corpo da requisição
+     * @return os {@link CartaoEmbarque} salvos, na ordem recebida
+     */
+    @PostMapping("/lote")
+    public List<CartaoEmbarque> salvarLote(@RequestBody List<CartaoEmbarque> cartoes) {
+        return service.salvarTodos(cartoes);
+    }
+
     /**
      * Lista todos os cartões de embarque cadastrados.
      *
@@ -84,7 +99,7 @@ public class CartaoEmbarqueController {
      *         (ou lança exceção, conforme implementação de {@link CartaoEmbarqueUseCase})
      */
     @GetMapping("/{id}")
-    public CartaoEmbarque buscar(@PathVariable Long id) {
+    public CartaoEmbarque buscar(@PathVariable String id) {
         return service.buscarPorId(id);
     }
 
@@ -100,7 +115,7 @@ public class CartaoEmbarqueController {
      * @return o {@link CartaoEmbarque} atualizado
      */
     @PutMapping("/{id}")
-    public CartaoEmbarque atualizar(@PathVariable Long id, @RequestBody CartaoEmbarque c) {
+    public CartaoEmbarque atualizar(@PathVariable String id, @RequestBody CartaoEmbarque c) {
         return service.atualizar(id, c);
     }
 
@@ -114,7 +129,7 @@ public class CartaoEmbarqueController {
      * @param id identificador do cartão de embarque a ser removido
      */
     @DeleteMapping("/{id}")
-    public void deletar(@PathVariable Long id) {
+    public void deletar(@PathVariable String id) {
         service.deletar(id);
     }
 }
\ No newline at end of file
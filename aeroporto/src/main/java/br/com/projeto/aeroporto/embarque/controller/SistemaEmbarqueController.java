@@ -1,21 +1,59 @@
 package br.com.projeto.aeroporto.embarque.controller;
 
 
+import br.com.projeto.aeroporto.embarque.in.ValidacaoEmbarqueUseCase;
+import br.com.projeto.aeroporto.embarque.model.ResultadoValidacaoEmbarque;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * Controlador REST usado pelos leitores de cartão nos portões de embarque.
+ */
 @RestController
 @RequestMapping("/api/sistemas")
 public class SistemaEmbarqueController {
-/*
-    public Boolean validarCartao(CartaoEmbarque cartaoEmbarque) {
-        return true;
-    }
 
-    public void autorizarEmbarque(Passageiro passageiro) {
+    private final ValidacaoEmbarqueUseCase service;
 
+    /**
+     * Construtor da classe {@code SistemaEmbarqueController}.
+     *
+     * @param service caso de uso de validação de embarque
+     */
+    public SistemaEmbarqueController(ValidacaoEmbarqueUseCase service) {
+        this.service = service;
     }
-    Can I see you
 
- */
+    /**
+     * Verifica se o cartão permite embarque no portão, sem registrar a passagem.
+     *
+     * @param idPortao     portão onde o cartão foi lido
+     * @param codigoCartao código do cartão de embarque
+     * @return resultado da validação
+     */
+    @GetMapping("/portoes/{idPortao}/validar/{codigoCartao}")
+    public ResultadoValidacaoEmbarque validarCartao(@PathVariable String idPortao,
+                                                    @PathVariable String codigoCartao) {
+        return service.validarCartao(codigoCartao, idPortao);
+    }
+
+    /**
+     * Autoriza o embarque do passageiro portador do cartão.
+     *
+     * @param idPortao     portão onde o cartão foi lido
+     * @param codigoCartao código do cartão de embarque
+     * @return {@code 200} quando autorizado; {@code 409} com o motivo da recusa caso contrário
+     */
+    @PostMapping("/portoes/{idPortao}/embarcar/{codigoCartao}")
+    public ResponseEntity<ResultadoValidacaoEmbarque> autorizarEmbarque(@PathVariable String idPortao,
+                                                                        @PathVariable String codigoCartao) {
+        ResultadoValidacaoEmbarque resultado = service.autorizarEmbarque(codigoCartao, idPortao);
+        HttpStatus status = resultado == ResultadoValidacaoEmbarque.AUTORIZADO ? HttpStatus.OK : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(resultado);
+    }
 }
@@ -3,6 +3,7 @@ package br.com.projeto.aeroporto.embarque.in;
 
 import br.com.projeto.aeroporto.embarque.model.Bagagem;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,6 +24,14 @@ public interface BagagemUseCase {
      */
     Bagagem salvar(Bagagem bagagem);
 
+    /**
+     * Cria um lote de bagagens, como as de um manifesto de voo.
+     *
+     * @param bagagens bagagens a serem salvas
+     * @return as {@link Bagagem} salvas, na ordem recebida
+     */
+    List<Bagagem> salvarTodos(Collection<Bagagem> bagagens);
+
     /**
      * Lista todas as bagagens cadastradas.
      *
@@ -30,6 +39,15 @@ public interface BagagemUseCase {
      */
     List<Bagagem> listar();
 
+    /**
+     * Retorna uma página de bagagens por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit tamanho da página solicitado ({@code null} para o padrão)
+     * @return bagagens com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<Bagagem> listarPagina(Long after, Integer limit);
+
     /**
      * Busca uma bagagem pelo seu identificador.
      *
@@ -3,6 +3,7 @@ package br.com.projeto.aeroporto.embarque.in;
 
 import br.com.projeto.aeroporto.embarque.model.CartaoEmbarque;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,6 +26,14 @@ public interface CartaoEmbarqueUseCase {
      */
     CartaoEmbarque salvar(CartaoEmbarque cartao);
 
+    /**
+     * Cria um lote de cartões de embarque.
+     *
+     * @param cartoes cartões de embarque a serem salvos
+     * @return os {@link CartaoEmbarque} salvos, na ordem recebida
+     */
+    List<CartaoEmbarque> salvarTodos(Collection<CartaoEmbarque> cartoes);
+
     /**
      * Lista todos os cartões de embarque cadastrados.
      *
@@ -39,7 +48,7 @@ public interface CartaoEmbarqueUseCase {
      * @return o {@link CartaoEmbarque} correspondente ao ID informado
      * @throws RuntimeException (ou exceção específica) caso o cartão não seja encontrado
      */
-    CartaoEmbarque buscarPorId(Long id);
+    CartaoEmbarque buscarPorId(String id);
 
     /**
      * Atualiza os dados de um cartão de embarque existente.
@@ -48,12 +57,12 @@ public interface CartaoEmbarqueUseCase {
      * @param cartao objeto {@link CartaoEmbarque} contendo os novos dados
      * @return o {@link CartaoEmbarque} atualizado
      */
-    CartaoEmbarque atualizar(Long id, CartaoEmbarque cartao);
+    CartaoEmbarque atualizar(String id, CartaoEmbarque cartao);
 
     /**
      * Remove um cartão de embarque com base no seu identificador.
      *
      * @param id identificador do cartão de embarque a ser removido
      */
-    void deletar(Long id);
+    void deletar(String id);
 }
\ No newline at end of file
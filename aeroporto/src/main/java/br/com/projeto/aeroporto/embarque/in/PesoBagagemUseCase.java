@@ -0,0 +1,26 @@
+package br.com.projeto.aeroporto.embarque.in;
+
+
+import br.com.projeto.aeroporto.embarque.model.PesoVoo;
+import br.com.projeto.aeroporto.embarque.model.ResultadoReconciliacaoPeso;
+
+/**
+ * Caso de uso do peso das bagagens despachadas por voo e porão.
+ */
+public interface PesoBagagemUseCase {
+
+    /**
+     * Peso atual das bagagens do voo, a partir dos totais em memória.
+     *
+     * @param codigoVoo código do voo
+     * @return peso e quantidade de bagagens do voo e de cada porão
+     */
+    PesoVoo consultarPeso(String codigoVoo);
+
+    /**
+     * Recalcula os totais a partir do banco e corrige os que divergirem.
+     *
+     * @return quantidade de totais verificados, corrigidos e ignorados
+     */
+    ResultadoReconciliacaoPeso reconciliar();
+}
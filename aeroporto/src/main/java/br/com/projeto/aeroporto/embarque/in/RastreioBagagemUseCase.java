@@ -0,0 +1,43 @@
+package br.com.projeto.aeroporto.embarque.in;
+
+
+import br.com.projeto.aeroporto.embarque.model.EventoBagagem;
+import br.com.projeto.aeroporto.embarque.model.LeituraBagagem;
+import br.com.projeto.aeroporto.embarque.model.RastreioBagagem;
+
+import java.util.List;
+
+/**
+ * Caso de uso do rastreio de bagagens pelas leituras de etiqueta.
+ */
+public interface RastreioBagagemUseCase {
+
+    /**
+     * Registra uma leitura de etiqueta, se ela for uma transição válida a partir
+     * da etapa atual da bagagem.
+     *
+     * @param codigoBagagem código da bagagem lida
+     * @param leitura       etapa e local da leitura
+     * @return situação da bagagem após a leitura
+     * @throws RuntimeException caso a bagagem não exista ou a leitura esteja fora de sequência
+     */
+    RastreioBagagem registrarLeitura(Long codigoBagagem, LeituraBagagem leitura);
+
+    /**
+     * Situação atual da bagagem, sem consultar o banco (exceto para bagagens
+     * retiradas já removidas da memória).
+     *
+     * @param codigoBagagem código da bagagem
+     * @return última leitura da bagagem
+     * @throws RuntimeException caso a bagagem ainda não tenha sido lida
+     */
+    RastreioBagagem rastrear(Long codigoBagagem);
+
+    /**
+     * Histórico de leituras já gravadas da bagagem.
+     *
+     * @param codigoBagagem código da bagagem
+     * @return eventos em ordem de gravação
+     */
+    List<EventoBagagem> listarEventos(Long codigoBagagem);
+}
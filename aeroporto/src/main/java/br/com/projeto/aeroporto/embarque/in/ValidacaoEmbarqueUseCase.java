@@ -0,0 +1,29 @@
+package br.com.projeto.aeroporto.embarque.in;
+
+
+import br.com.projeto.aeroporto.embarque.model.ResultadoValidacaoEmbarque;
+
+/**
+ * Caso de uso da leitura de cartões de embarque no portão.
+ */
+public interface ValidacaoEmbarqueUseCase {
+
+    /**
+     * Verifica se o cartão permite o embarque no portão, sem alterar seu estado.
+     *
+     * @param codigoCartao código do cartão de embarque lido
+     * @param idPortao     portão onde o cartão foi lido
+     * @return resultado da validação
+     */
+    ResultadoValidacaoEmbarque validarCartao(String codigoCartao, String idPortao);
+
+    /**
+     * Valida o cartão e, se autorizado, registra o embarque do passageiro.
+     *
+     * @param codigoCartao código do cartão de embarque lido
+     * @param idPortao     portão onde o cartão foi lido
+     * @return resultado da validação; {@link ResultadoValidacaoEmbarque#AUTORIZADO}
+     *         apenas para a primeira leitura válida do cartão
+     */
+    ResultadoValidacaoEmbarque autorizarEmbarque(String codigoCartao, String idPortao);
+}
@@ -18,12 +18,16 @@ public class Bagagem {
      * Identificador único da bagagem.
      *
      * <p>
-     * Gerado automaticamente pelo banco de dados utilizando a estratégia
-     * {@link GenerationType#IDENTITY}.
+     * Obtido da sequência {@code bagagem_seq} pela estratégia
+     * {@link GenerationType#SEQUENCE}, reservando 50 valores por consulta.
+     * Com {@link GenerationType#IDENTITY} o Hibernate precisaria executar cada
+     * {@code INSERT} isoladamente para conhecer o ID gerado, impedindo a
+     * gravação em lote.
      * </p>
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bagagem_seq")
+    @SequenceGenerator(name = "bagagem_seq", sequenceName = "bagagem_seq", allocationSize = 50)
     private Long codigoBagagem;
 
     /**
@@ -39,6 +43,19 @@ public class Bagagem {
     @Column
     private Double peso;
 
+    /**
+     * Voo em que a bagagem foi despachada.
+     */
+    @Column
+    private String codigoVoo;
+
+    /**
+     * Porão da aeronave designado para a bagagem (ex.: {@code "DIANTEIRO"},
+     * {@code "TRASEIRO"}, {@code "GRANEL"}).
+     */
+    @Column
+    private String porao;
+
     /**
      * Construtor padrão sem argumentos.
      *
@@ -115,4 +132,40 @@ public class Bagagem {
     public void setPeso(Double peso) {
         this.peso = peso;
     }
+
+    /**
+     * Obtém o voo em que a bagagem foi despachada.
+     *
+     * @return código do voo
+     */
+    public String getCodigoVoo() {
+        return codigoVoo;
+    }
+
+    /**
+     * Define o voo em que a bagagem foi despachada.
+     *
+     * @param codigoVoo código do voo
+     */
+    public void setCodigoVoo(String codigoVoo) {
+        this.codigoVoo = codigoVoo;
+    }
+
+    /**
+     * Obtém o porão designado para a bagagem.
+     *
+     * @return porão da aeronave
+     */
+    public String getPorao() {
+        return porao;
+    }
+
+    /**
+     * Define o porão designado para a bagagem.
+     *
+     * @param porao porão da aeronave
+     */
+    public void setPorao(String porao) {
+        this.porao = porao;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package br.com.projeto.aeroporto.embarque.model;
+
+
+/**
+ * Contribuição de uma bagagem para o peso de um voo.
+ *
+ * <p>
+ * Usada como retrato da bagagem antes e depois de uma alteração e como
+ * projeção lida do banco na reconciliação dos totais.
+ * </p>
+ *
+ * @param codigoVoo voo da bagagem ({@code null} se não despachada para um voo)
+ * @param porao     porão designado ({@code null} se ainda não atribuído)
+ * @param peso      peso da bagagem em quilogramas ({@code null} se não informado)
+ */
+public record CargaBagagem(String codigoVoo, String porao, Double peso) {
+
+    /**
+     * Retrato da bagagem no momento da chamada.
+     *
+     * @param bagagem bagagem (pode ser {@code null})
+     * @return carga da bagagem, ou {@code null} se a bagagem não estiver em um voo
+     */
+    public static CargaBagagem de(Bagagem bagagem) {
+        if (bagagem == null || bagagem.getCodigoVoo() == null) {
+            return null;
+        }
+        return new CargaBagagem(bagagem.getCodigoVoo(), bagagem.getPorao(), bagagem.getPeso());
+    }
+}
@@ -40,6 +40,15 @@ public class CartaoEmbarque {
      */
     private String idPortao;
 
+    /**
+     * Indica se o passageiro já passou pelo portão com este cartão.
+     *
+     * <p>
+     * Registros antigos podem ter a coluna nula, tratada como "não embarcado".
+     * </p>
+     */
+    private Boolean embarcado;
+
     /**
      * Construtor padrão sem argumentos.
      *
@@ -98,16 +107,41 @@ public class CartaoEmbarque {
     }
 
     /**
-     * Método responsável por realizar a lógica de autorização de passagem.
+     * Autoriza a passagem do passageiro pelo portão, marcando o cartão como embarcado.
      *
      * <p>
-     * Atualmente não possui implementação. Pode ser utilizado futuramente
-     * para aplicar regras de negócio específicas na autorização do embarque
-     * (como validação de horário, portão, situação do voo, etc.).
+     * As regras de validação (cartão emitido, portão correto, embarque
+     * duplicado) ficam no {@code ValidacaoEmbarqueService}; este método
+     * apenas registra a transição de estado na entidade.
      * </p>
+     *
+     * @return {@code true} se o cartão ainda não havia sido usado;
+     *         {@code false} se o passageiro já estava embarcado
+     */
+    public boolean autorizarPassagem() {
+        if (isEmbarcado()) {
+            return false;
+        }
+        this.embarcado = Boolean.TRUE;
+        return true;
+    }
+
+    /**
+     * Informa se o cartão já foi usado para embarcar.
+     *
+     * @return {@code true} se o passageiro já embarcou
+     */
+    public boolean isEmbarcado() {
+        return Boolean.TRUE.equals(embarcado);
+    }
+
+    /**
+     * Define se o cartão já foi usado para embarcar.
+     *
+     * @param embarcado situação de embarque do cartão
      */
-    public void autorizarPassagem() {
-        // Lógica de autorização de passagem pode ser implementada aqui.
+    public void setEmbarcado(Boolean embarcado) {
+        this.embarcado = embarcado;
     }
 
     /**
@@ -0,0 +1,66 @@
+package br.com.projeto.aeroporto.embarque.model;
+
+
+/**
+ * Etapas do manuseio de uma bagagem, registradas pelas leituras de etiqueta.
+ *
+ * <p>
+ * As etapas formam uma máquina de estados: {@link #permiteSeguirPara(EtapaBagagem)}
+ * diz se uma leitura pode suceder a anterior. Releituras na mesma etapa são
+ * aceitas e apenas atualizam o local; uma bagagem carregada pode voltar para a
+ * triagem (descarregada ou em conexão); a retirada encerra o rastreio.
+ * </p>
+ */
+public enum EtapaBagagem {
+
+    /**
+     * Bagagem despachada no balcão.
+     */
+    CHECK_IN,
+
+    /**
+     * Inspeção de segurança (raio X).
+     */
+    INSPECAO,
+
+    /**
+     * Triagem na esteira, a caminho do voo.
+     */
+    TRIAGEM,
+
+    /**
+     * Embarcada no porão da aeronave.
+     */
+    CARREGAMENTO,
+
+    /**
+     * Entregue ao passageiro na esteira de restituição.
+     */
+    RETIRADA;
+
+    /**
+     * Indica se uma bagagem nesta etapa pode ser lida na etapa informada.
+     *
+     * @param proxima etapa da nova leitura
+     * @return {@code true} se a transição é válida
+     */
+    public boolean permiteSeguirPara(EtapaBagagem proxima) {
+        return switch (this) {
+            case CHECK_IN -> proxima == CHECK_IN || proxima == INSPECAO;
+            case INSPECAO -> proxima == INSPECAO || proxima == TRIAGEM;
+            case TRIAGEM -> proxima == TRIAGEM || proxima == CARREGAMENTO;
+            case CARREGAMENTO -> proxima == CARREGAMENTO || proxima == TRIAGEM || proxima == RETIRADA;
+            case RETIRADA -> false;
+        };
+    }
+
+    /**
+     * Indica se uma bagagem ainda sem leituras pode começar pela etapa informada.
+     *
+     * @param primeira etapa da primeira leitura
+     * @return {@code true} apenas para {@link #CHECK_IN}
+     */
+    public static boolean permiteIniciarPor(EtapaBagagem primeira) {
+        return primeira == CHECK_IN;
+    }
+}
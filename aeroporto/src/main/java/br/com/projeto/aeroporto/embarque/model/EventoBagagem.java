@@ -0,0 +1,101 @@
+package br.com.projeto.aeroporto.embarque.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Leitura de etiqueta de uma bagagem, gravada em um log apenas de inclusão.
+ *
+ * <p>
+ * Os eventos nunca são alterados nem removidos: a situação atual de cada
+ * bagagem é a do seu evento mais recente. A bagagem é referenciada apenas pelo
+ * código, sem associação JPA, para que os eventos sejam gravados em lotes JDBC
+ * sem carregar a {@link Bagagem}.
+ * </p>
+ */
+@Entity
+public class EventoBagagem {
+
+    /**
+     * Identificador do evento, crescente na ordem de gravação.
+     *
+     * <p>
+     * Obtido da sequência {@code evento_bagagem_seq}, reservando 50 valores por
+     * consulta, o que permite a gravação em lote.
+     * </p>
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evento_bagagem_seq")
+    @SequenceGenerator(name = "evento_bagagem_seq", sequenceName = "evento_bagagem_seq", allocationSize = 50)
+    private Long idEvento;
+
+    /**
+     * Código da {@link Bagagem} lida.
+     */
+    @Column(nullable = false)
+    private Long codigoBagagem;
+
+    /**
+     * Etapa do manuseio registrada pela leitura.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EtapaBagagem etapa;
+
+    /**
+     * Local da leitura (balcão, esteira, porão, etc.).
+     */
+    private String local;
+
+    /**
+     * Momento em que a leitura foi recebida.
+     */
+    @Column(nullable = false)
+    private Instant horario;
+
+    /**
+     * Construtor padrão sem argumentos.
+     *
+     * <p>
+     * Necessário para o funcionamento da JPA.
+     * </p>
+     */
+    public EventoBagagem() {
+    }
+
+    /**
+     * Construtor de um novo evento.
+     *
+     * @param codigoBagagem código da bagagem lida
+     * @param etapa         etapa registrada
+     * @param local         local da leitura
+     * @param horario       momento da leitura
+     */
+    public EventoBagagem(Long codigoBagagem, EtapaBagagem etapa, String local, Instant horario) {
+        this.codigoBagagem = codigoBagagem;
+        this.etapa = etapa;
+        this.local = local;
+        this.horario = horario;
+    }
+
+    public Long getIdEvento() {
+        return idEvento;
+    }
+
+    public Long getCodigoBagagem() {
+        return codigoBagagem;
+    }
+
+    public EtapaBagagem getEtapa() {
+        return etapa;
+    }
+
+    public String getLocal() {
+        return local;
+    }
+
+    public Instant getHorario() {
+        return horario;
+    }
+}
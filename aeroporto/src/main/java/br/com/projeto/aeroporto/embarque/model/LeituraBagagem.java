@@ -0,0 +1,11 @@
+package br.com.projeto.aeroporto.embarque.model;
+
+
+/**
+ * Leitura de etiqueta enviada por um leitor de bagagens.
+ *
+ * @param etapa etapa do manuseio em que a bagagem foi lida
+ * @param local local da leitura (balcão, esteira, porão, etc.)
+ */
+public record LeituraBagagem(EtapaBagagem etapa, String local) {
+}
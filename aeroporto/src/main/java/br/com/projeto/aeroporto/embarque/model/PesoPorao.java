@@ -0,0 +1,12 @@
+package br.com.projeto.aeroporto.embarque.model;
+
+
+/**
+ * Peso das bagagens em um porão de um voo.
+ *
+ * @param porao      porão da aeronave
+ * @param peso       soma dos pesos, em quilogramas
+ * @param quantidade número de bagagens
+ */
+public record PesoPorao(String porao, double peso, long quantidade) {
+}
@@ -0,0 +1,14 @@
+package br.com.projeto.aeroporto.embarque.model;
+
+import java.util.List;
+
+/**
+ * Peso das bagagens despachadas em um voo, usado no cálculo de peso e balanceamento.
+ *
+ * @param codigoVoo  código do voo
+ * @param peso       soma dos pesos, em quilogramas
+ * @param quantidade número de bagagens
+ * @param poroes     peso por porão, em ordem de nome
+ */
+public record PesoVoo(String codigoVoo, double peso, long quantidade, List<PesoPorao> poroes) {
+}
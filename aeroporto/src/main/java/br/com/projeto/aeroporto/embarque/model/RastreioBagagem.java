@@ -0,0 +1,14 @@
+package br.com.projeto.aeroporto.embarque.model;
+
+import java.time.Instant;
+
+/**
+ * Situação atual de uma bagagem, segundo a leitura mais recente.
+ *
+ * @param codigoBagagem código da {@link Bagagem}
+ * @param etapa         etapa da última leitura
+ * @param local         local da última leitura
+ * @param horario       momento da última leitura
+ */
+public record RastreioBagagem(Long codigoBagagem, EtapaBagagem etapa, String local, Instant horario) {
+}
@@ -0,0 +1,14 @@
+package br.com.projeto.aeroporto.embarque.model;
+
+
+/**
+ * Resultado de uma reconciliação dos totais de peso com o banco.
+ *
+ * @param verificados totais (voo e porão) comparados
+ * @param corrigidos  totais que divergiam do banco e foram substituídos
+ * @param ignorados   totais divergentes alterados durante a reconciliação,
+ *                    deixados para a próxima execução
+ * @param duracaoMs   duração da reconciliação, em milissegundos
+ */
+public record ResultadoReconciliacaoPeso(int verificados, int corrigidos, int ignorados, long duracaoMs) {
+}
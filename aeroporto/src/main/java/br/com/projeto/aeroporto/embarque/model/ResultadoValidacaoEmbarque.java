@@ -0,0 +1,33 @@
+package br.com.projeto.aeroporto.embarque.model;
+
+
+/**
+ * Resultado da leitura de um {@link CartaoEmbarque} no portão.
+ */
+public enum ResultadoValidacaoEmbarque {
+
+    /**
+     * Cartão válido para o portão e ainda não utilizado.
+     */
+    AUTORIZADO,
+
+    /**
+     * Nenhum cartão emitido com o código lido.
+     */
+    CARTAO_NAO_ENCONTRADO,
+
+    /**
+     * O cartão pertence a outro portão de embarque.
+     */
+    PORTAO_INCORRETO,
+
+    /**
+     * O assento do cartão foi reemitido para outro cartão no mesmo portão.
+     */
+    ASSENTO_EM_CONFLITO,
+
+    /**
+     * O passageiro já embarcou com este cartão.
+     */
+    JA_EMBARCADO
+}
@@ -2,7 +2,9 @@ package br.com.projeto.aeroporto.embarque.out;
 
 
 import br.com.projeto.aeroporto.embarque.model.Bagagem;
+import br.com.projeto.aeroporto.embarque.model.CargaBagagem;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +31,14 @@ public interface BagagemRepositoryPort {
      */
     Bagagem salvar(Bagagem bagagem);
 
+    /**
+     * Salva várias bagagens em uma única transação, com inserções em lote.
+     *
+     * @param bagagens bagagens a salvar
+     * @return bagagens persistidas, na ordem recebida
+     */
+    List<Bagagem> salvarTodos(Collection<Bagagem> bagagens);
+
     /**
      * Retorna todas as bagagens armazenadas no repositório.
      *
@@ -36,6 +46,15 @@ public interface BagagemRepositoryPort {
      */
     List<Bagagem> listar();
 
+    /**
+     * Lista uma página de bagagens por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de bagagens na página
+     * @return bagagens com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<Bagagem> listarPagina(Long after, int limit);
+
     /**
      * Busca uma bagagem pelo seu identificador.
      *
@@ -51,4 +70,20 @@ public interface BagagemRepositoryPort {
      * @param id identificador da bagagem a ser removida
      */
     void deletar(Long id);
+
+    /**
+     * Menor e maior ID de bagagem cadastrados.
+     *
+     * @return par {@code [mínimo, máximo]}, ou vazio se não houver bagagens
+     */
+    Optional<long[]> faixaCodigos();
+
+    /**
+     * Lista a carga das bagagens despachadas em voos, em uma faixa de IDs.
+     *
+     * @param de  primeiro ID da faixa
+     * @param ate último ID da faixa (inclusivo)
+     * @return voo, porão e peso de cada bagagem da faixa que está em um voo
+     */
+    List<CargaBagagem> listarCargas(long de, long ate);
 }
\ No newline at end of file
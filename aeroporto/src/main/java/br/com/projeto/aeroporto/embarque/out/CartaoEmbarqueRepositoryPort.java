@@ -3,6 +3,7 @@ package br.com.projeto.aeroporto.embarque.out;
 
 import br.com.projeto.aeroporto.embarque.model.CartaoEmbarque;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +30,14 @@ public interface CartaoEmbarqueRepositoryPort {
      */
     CartaoEmbarque salvar(CartaoEmbarque cartao);
 
+    /**
+     * Salva vários cartões de embarque em uma única transação, com inserções em lote.
+     *
+     * @param cartoes cartões de embarque a salvar
+     * @return cartões de embarque persistidos, na ordem recebida
+     */
+    List<CartaoEmbarque> salvarTodos(Collection<CartaoEmbarque> cartoes);
+
     /**
      * Retorna todos os cartões de embarque armazenados no repositório.
      *
@@ -43,12 +52,19 @@ public interface CartaoEmbarqueRepositoryPort {
      * @return um {@link Optional} contendo o {@link CartaoEmbarque} encontrado,
      *         ou vazio caso não exista registro com o ID informado
      */
-    Optional<CartaoEmbarque> buscarPorId(Long id);
+    Optional<CartaoEmbarque> buscarPorId(String id);
 
     /**
      * Remove um cartão de embarque do repositório com base no seu identificador.
      *
      * @param id identificador do cartão de embarque a ser removido
      */
-    void deletar(Long id);
+    void deletar(String id);
+
+    /**
+     * Registra, em lote, o embarque dos cartões informados.
+     *
+     * @param codigos códigos dos cartões cujo embarque foi autorizado no portão
+     */
+    void marcarEmbarcados(Collection<String> codigos);
 }
\ No newline at end of file
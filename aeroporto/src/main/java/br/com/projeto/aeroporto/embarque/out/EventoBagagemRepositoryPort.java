@@ -0,0 +1,39 @@
+package br.com.projeto.aeroporto.embarque.out;
+
+
+import br.com.projeto.aeroporto.embarque.model.EventoBagagem;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Porta (interface) de acesso ao log de {@link EventoBagagem}.
+ *
+ * <p>
+ * O log é apenas de inclusão: não há operações de alteração ou exclusão.
+ * </p>
+ */
+public interface EventoBagagemRepositoryPort {
+
+    /**
+     * Grava um lote de eventos em uma única transação, com inserções em lote.
+     *
+     * @param eventos eventos a gravar
+     */
+    void salvarTodos(List<EventoBagagem> eventos);
+
+    /**
+     * Lista os eventos de uma bagagem na ordem em que foram gravados.
+     *
+     * @param codigoBagagem código da bagagem
+     * @return eventos em ordem crescente de ID
+     */
+    List<EventoBagagem> listarPorBagagem(Long codigoBagagem);
+
+    /**
+     * Percorre o evento mais recente de cada bagagem.
+     *
+     * @param consumidor função chamada para cada evento
+     */
+    void percorrerUltimos(Consumer<EventoBagagem> consumidor);
+}
@@ -2,9 +2,15 @@ package br.com.projeto.aeroporto.embarque.repository;
 
 
 import br.com.projeto.aeroporto.embarque.model.Bagagem;
+import br.com.projeto.aeroporto.embarque.model.CargaBagagem;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repositório JPA para a entidade {@link Bagagem}.
  *
@@ -22,5 +28,35 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface BagagemJpaRepository extends JpaRepository<Bagagem, Long> {
-    // Métodos de consulta customizados podem ser declarados aqui, se necessário.
+
+    /**
+     * Página por cursor: bagagens com ID maior que o informado, em ordem crescente de ID.
+     *
+     * @param codigoBagagem último ID já entregue ao cliente
+     * @param limite    quantidade máxima de registros
+     * @return próxima página de bagagens
+     */
+    List<Bagagem> findByCodigoBagagemGreaterThanOrderByCodigoBagagemAsc(Long codigoBagagem, Limit limite);
+
+    /**
+     * Menor e maior ID de bagagem cadastrados.
+     *
+     * @return par {@code [mínimo, máximo]}, com valores {@code null} se não houver bagagens
+     */
+    @Query("select min(b.codigoBagagem), max(b.codigoBagagem) from Bagagem b")
+    List<Object[]> faixaCodigos();
+
+    /**
+     * Carga das bagagens despachadas em voos, em uma faixa de IDs.
+     *
+     * @param de  primeiro ID da faixa
+     * @param ate último ID da faixa (inclusivo)
+     * @return voo, porão e peso de cada bagagem da faixa que está em um voo
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.embarque.model.CargaBagagem(b.codigoVoo, b.porao, b.peso)
+            from Bagagem b
+            where b.codigoBagagem between :de and :ate and b.codigoVoo is not null
+            """)
+    List<CargaBagagem> listarCargas(@Param("de") long de, @Param("ate") long ate);
 }
@@ -3,8 +3,13 @@ package br.com.projeto.aeroporto.embarque.repository;
 
 import br.com.projeto.aeroporto.embarque.model.CartaoEmbarque;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 /**
  * Repositório JPA para a entidade {@link CartaoEmbarque}.
  *
@@ -21,6 +26,15 @@ import org.springframework.stereotype.Repository;
  * </p>
  */
 @Repository
-public interface CartaoEmbarqueRepository extends JpaRepository<CartaoEmbarque, Long> {
-    // Métodos de consulta customizados podem ser declarados aqui, se necessário.
+public interface CartaoEmbarqueRepository extends JpaRepository<CartaoEmbarque, String> {
+
+    /**
+     * Marca um conjunto de cartões como embarcados em um único comando {@code UPDATE}.
+     *
+     * @param codigos códigos dos cartões cujo embarque foi autorizado
+     * @return quantidade de registros atualizados
+     */
+    @Modifying
+    @Query("update CartaoEmbarque c set c.embarcado = true where c.codigoCartaoEmbarque in :codigos")
+    int marcarEmbarcados(@Param("codigos") Collection<String> codigos);
 }
\ No newline at end of file
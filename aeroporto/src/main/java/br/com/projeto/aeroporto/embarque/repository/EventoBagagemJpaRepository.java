@@ -0,0 +1,44 @@
+package br.com.projeto.aeroporto.embarque.repository;
+
+
+import br.com.projeto.aeroporto.embarque.model.EventoBagagem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repositório JPA para o log de {@link EventoBagagem}.
+ */
+@Repository
+public interface EventoBagagemJpaRepository extends JpaRepository<EventoBagagem, Long> {
+
+    /**
+     * Eventos de uma bagagem em ordem de gravação.
+     *
+     * @param codigoBagagem código da bagagem
+     * @return eventos em ordem crescente de ID
+     */
+    List<EventoBagagem> findByCodigoBagagemOrderByIdEventoAsc(Long codigoBagagem);
+
+    /**
+     * Percorre o evento mais recente de cada bagagem por meio de um cursor JDBC.
+     *
+     * <p>
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     * </p>
+     *
+     * @return fluxo com um evento por bagagem
+     */
+    @Query("""
+            select e from EventoBagagem e
+            where e.idEvento in (select max(u.idEvento) from EventoBagagem u group by u.codigoBagagem)
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<EventoBagagem> buscarUltimosEmFluxo();
+}
@@ -1,11 +1,15 @@
 package br.com.projeto.aeroporto.embarque.service;
 
 
+import br.com.projeto.aeroporto.comum.Paginacao;
 import br.com.projeto.aeroporto.embarque.in.BagagemUseCase;
 import br.com.projeto.aeroporto.embarque.model.Bagagem;
+import br.com.projeto.aeroporto.embarque.model.CargaBagagem;
 import br.com.projeto.aeroporto.embarque.out.BagagemRepositoryPort;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,19 +20,28 @@ import java.util.List;
  * {@link BagagemRepositoryPort} para acesso ao repositório, mantendo o domínio
  * desacoplado de detalhes de persistência.
  * </p>
+ *
+ * <p>
+ * Cada gravação informa a {@link PesoBagagens} a carga da bagagem antes e
+ * depois da alteração, mantendo os totais de peso por voo e porão.
+ * </p>
  */
 @Service
 public class BagagemService implements BagagemUseCase {
 
     private final BagagemRepositoryPort repository;
 
+    private final PesoBagagens pesos;
+
     /**
      * Construtor da classe {@code BagagemService}.
      *
      * @param repository porta de acesso ao repositório de {@link Bagagem}
+     * @param pesos      totais de peso por voo e porão
      */
-    public BagagemService(BagagemRepositoryPort repository) {
+    public BagagemService(BagagemRepositoryPort repository, PesoBagagens pesos) {
         this.repository = repository;
+        this.pesos = pesos;
     }
 
     /**
@@ -39,7 +52,29 @@ public class BagagemService implements BagagemUseCase {
      */
     @Override
     public Bagagem salvar(Bagagem bagagem) {
-        return repository.salvar(bagagem);
+        CargaBagagem anterior = cargaAtual(bagagem.getCodigoBagagem());
+        Bagagem salva = repository.salvar(bagagem);
+        pesos.aplicar(anterior, CargaBagagem.de(salva));
+        return salva;
+    }
+
+    /**
+     * Cria um lote de bagagens em uma única transação.
+     *
+     * @param bagagens bagagens a serem salvas
+     * @return as {@link Bagagem} salvas, na ordem recebida
+     */
+    @Override
+    public List<Bagagem> salvarTodos(Collection<Bagagem> bagagens) {
+        List<CargaBagagem> anteriores = new ArrayList<>(bagagens.size());
+        for (Bagagem bagagem : bagagens) {
+            anteriores.add(cargaAtual(bagagem.getCodigoBagagem()));
+        }
+        List<Bagagem> salvas = repository.salvarTodos(bagagens);
+        for (int i = 0; i < salvas.size(); i++) {
+            pesos.aplicar(anteriores.get(i), CargaBagagem.de(salvas.get(i)));
+        }
+        return salvas;
     }
 
     /**
@@ -52,6 +87,18 @@ public class BagagemService implements BagagemUseCase {
         return repository.listar();
     }
 
+    /**
+     * Retorna uma página de bagagens por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit tamanho da página solicitado, normalizado por {@link Paginacao#limiteEfetivo(Integer)}
+     * @return página de {@link Bagagem}
+     */
+    @Override
+    public List<Bagagem> listarPagina(Long after, Integer limit) {
+        return repository.listarPagina(after, Paginacao.limiteEfetivo(limit));
+    }
+
     /**
      * Busca uma bagagem pelo seu identificador.
      *
@@ -70,7 +117,7 @@ public class BagagemService implements BagagemUseCase {
      *
      * <p>
      * Primeiro busca a bagagem pelo ID; em seguida, altera os campos
-     * {@code peso} e {@code nome} com base nos dados da nova bagagem
+     * {@code peso}, {@code nome}, {@code codigoVoo} e {@code porao} com base nos dados da nova bagagem
      * informada e salva novamente no repositório.
      * </p>
      *
@@ -82,9 +129,14 @@ public class BagagemService implements BagagemUseCase {
     @Override
     public Bagagem atualizar(Long id, Bagagem novaBagagem) {
         Bagagem existente = buscarPorId(id);
+        CargaBagagem anterior = CargaBagagem.de(existente);
         existente.setPeso(novaBagagem.getPeso());
         existente.setNome(novaBagagem.getNome());
-        return repository.salvar(existente);
+        existente.setCodigoVoo(novaBagagem.getCodigoVoo());
+        existente.setPorao(novaBagagem.getPorao());
+        Bagagem salva = repository.salvar(existente);
+        pesos.aplicar(anterior, CargaBagagem.de(salva));
+        return salva;
     }
 
     /**
@@ -94,6 +146,12 @@ public class BagagemService implements BagagemUseCase {
      */
     @Override
     public void deletar(Long id) {
+        CargaBagagem anterior = cargaAtual(id);
         repository.deletar(id);
+        pesos.aplicar(anterior, null);
+    }
+
+    private CargaBagagem cargaAtual(Long id) {
+        return id == null ? null : repository.buscarPorId(id).map(CargaBagagem::de).orElse(null);
     }
 }
\ No newline at end of file
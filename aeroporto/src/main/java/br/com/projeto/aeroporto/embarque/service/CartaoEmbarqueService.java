@@ -6,6 +6,7 @@ import br.com.projeto.aeroporto.embarque.model.CartaoEmbarque;
 import br.com.projeto.aeroporto.embarque.out.CartaoEmbarqueRepositoryPort;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -21,14 +22,17 @@ import java.util.List;
 public class CartaoEmbarqueService implements CartaoEmbarqueUseCase {
 
     private final CartaoEmbarqueRepositoryPort repository;
+    private final IndiceCartoesEmbarque indice;
 
     /**
      * Construtor da classe {@code CartaoEmbarqueService}.
      *
      * @param repository porta de acesso ao repositório de {@link CartaoEmbarque}
+     * @param indice     índice em memória usado na validação no portão
      */
-    public CartaoEmbarqueService(CartaoEmbarqueRepositoryPort repository) {
+    public CartaoEmbarqueService(CartaoEmbarqueRepositoryPort repository, IndiceCartoesEmbarque indice) {
         this.repository = repository;
+        this.indice = indice;
     }
 
     /**
@@ -39,7 +43,22 @@ public class CartaoEmbarqueService implements CartaoEmbarqueUseCase {
      */
     @Override
     public CartaoEmbarque salvar(CartaoEmbarque cartao) {
-        return repository.salvar(cartao);
+        CartaoEmbarque salvo = repository.salvar(cartao);
+        indice.registrar(salvo);
+        return salvo;
+    }
+
+    /**
+     * Cria um lote de cartões de embarque e os registra no índice de validação.
+     *
+     * @param cartoes cartões de embarque a serem salvos
+     * @return os {@link CartaoEmbarque} salvos, na ordem recebida
+     */
+    @Override
+    public List<CartaoEmbarque> salvarTodos(Collection<CartaoEmbarque> cartoes) {
+        List<CartaoEmbarque> salvos = repository.salvarTodos(cartoes);
+        salvos.forEach(indice::registrar);
+        return salvos;
     }
 
     /**
@@ -60,7 +79,7 @@ public class CartaoEmbarqueService implements CartaoEmbarqueUseCase {
      * @throws RuntimeException caso nenhum cartão seja encontrado para o ID informado
      */
     @Override
-    public CartaoEmbarque buscarPorId(Long id) {
+    public CartaoEmbarque buscarPorId(String id) {
         return repository.buscarPorId(id)
                 .orElseThrow(() -> new RuntimeException("Cartão não encontrado"));
     }
@@ -80,11 +99,16 @@ public class CartaoEmbarqueService implements CartaoEmbarqueUseCase {
      * @throws RuntimeException caso o cartão não seja encontrado
      */
     @Override
-    public CartaoEmbarque atualizar(Long id, CartaoEmbarque novo) {
+    public CartaoEmbarque atualizar(String id, CartaoEmbarque novo) {
         CartaoEmbarque atual = buscarPorId(id);
         atual.setCodigoCartaoEmbarque(novo.getCodigoCartaoEmbarque());
         atual.setAssento(novo.getAssento());
-        return repository.salvar(atual);
+        CartaoEmbarque salvo = repository.salvar(atual);
+        if (!id.equals(salvo.getCodigoCartaoEmbarque())) {
+            indice.remover(id);
+        }
+        indice.registrar(salvo);
+        return salvo;
     }
 
     /**
@@ -93,7 +117,8 @@ public class CartaoEmbarqueService implements CartaoEmbarqueUseCase {
      * @param id identificador do cartão de embarque a ser removido
      */
     @Override
-    public void deletar(Long id) {
+    public void deletar(String id) {
         repository.deletar(id);
+        indice.remover(id);
     }
 }
\ No newline at end of file
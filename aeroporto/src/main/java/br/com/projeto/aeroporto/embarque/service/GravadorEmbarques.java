@@ -0,0 +1,41 @@
+package br.com.projeto.aeroporto.embarque.service;
+
+
+import br.com.projeto.aeroporto.comum.GravadorEmLote;
+import br.com.projeto.aeroporto.embarque.out.CartaoEmbarqueRepositoryPort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Grava de forma assíncrona, em lotes, os embarques autorizados no portão.
+ *
+ * <p>
+ * A validação no portão responde a partir do {@link IndiceCartoesEmbarque}; a
+ * persistência do embarque é enfileirada aqui e descarregada com até
+ * {@value #TAMANHO_LOTE} cartões por {@code UPDATE}.
+ * </p>
+ */
+@Component
+public class GravadorEmbarques extends GravadorEmLote<String> {
+
+    static final int CAPACIDADE_FILA = 10_000;
+    static final int TAMANHO_LOTE = 500;
+
+    private final CartaoEmbarqueRepositoryPort repository;
+
+    /**
+     * Construtor da classe {@code GravadorEmbarques}.
+     *
+     * @param repository porta de acesso ao repositório de cartões de embarque
+     */
+    public GravadorEmbarques(CartaoEmbarqueRepositoryPort repository) {
+        super("gravador-embarques", CAPACIDADE_FILA, TAMANHO_LOTE);
+        this.repository = repository;
+    }
+
+    @Override
+    protected void gravar(List<String> lote) {
+        repository.marcarEmbarcados(lote);
+    }
+}
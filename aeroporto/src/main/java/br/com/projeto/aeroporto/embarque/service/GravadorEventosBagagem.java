@@ -0,0 +1,42 @@
+package br.com.projeto.aeroporto.embarque.service;
+
+
+import br.com.projeto.aeroporto.comum.GravadorEmLote;
+import br.com.projeto.aeroporto.embarque.model.EventoBagagem;
+import br.com.projeto.aeroporto.embarque.out.EventoBagagemRepositoryPort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Grava de forma assíncrona, em lotes, as leituras de bagagem aceitas.
+ *
+ * <p>
+ * O {@link RastreioBagagemService} valida a leitura e atualiza a situação da
+ * bagagem em memória; o evento é enfileirado aqui e gravado com até
+ * {@value #TAMANHO_LOTE} eventos por transação.
+ * </p>
+ */
+@Component
+public class GravadorEventosBagagem extends GravadorEmLote<EventoBagagem> {
+
+    static final int CAPACIDADE_FILA = 20_000;
+    static final int TAMANHO_LOTE = 500;
+
+    private final EventoBagagemRepositoryPort repository;
+
+    /**
+     * Construtor da classe {@code GravadorEventosBagagem}.
+     *
+     * @param repository porta de acesso ao log de eventos de bagagem
+     */
+    public GravadorEventosBagagem(EventoBagagemRepositoryPort repository) {
+        super("gravador-eventos-bagagem", CAPACIDADE_FILA, TAMANHO_LOTE);
+        this.repository = repository;
+    }
+
+    @Override
+    protected void gravar(List<EventoBagagem> lote) {
+        repository.salvarTodos(lote);
+    }
+}
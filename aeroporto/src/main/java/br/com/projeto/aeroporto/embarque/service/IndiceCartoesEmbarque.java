@@ -0,0 +1,209 @@
+package br.com.projeto.aeroporto.embarque.service;
+
+
+import br.com.projeto.aeroporto.embarque.model.CartaoEmbarque;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Índice em memória dos cartões de embarque emitidos, usado na leitura do cartão no portão.
+ *
+ * <p>
+ * Mantém duas estruturas concorrentes:
+ * </p>
+ * <ul>
+ *     <li>código do cartão &rarr; {@link Entrada} (portão, assento e situação de embarque);</li>
+ *     <li>portão &rarr; (assento &rarr; código do cartão), para detectar cartões reemitidos
+ *     para o mesmo assento.</li>
+ * </ul>
+ *
+ * <p>
+ * Como ainda não existe entidade de voo no domínio, o portão ({@code idPortao})
+ * é usado como chave do embarque. A marcação de embarque é feita por CAS em
+ * {@link Entrada#marcarEmbarcado()}, garantindo que leituras simultâneas do mesmo
+ * cartão autorizem a passagem uma única vez sem bloquear outros portões.
+ * </p>
+ *
+ * <p>
+ * As duas estruturas ficam em um {@link Estado} publicado por um campo
+ * {@code volatile}. A recarga monta um estado novo e o troca de uma vez: as
+ * leituras nos portões nunca veem o índice vazio ou pela metade. Inclusões e
+ * remoções são serializadas com a recarga; cartões emitidos depois da leitura
+ * do banco passam para o estado novo, e a {@link Entrada} de um cartão que
+ * não mudou de portão nem de assento é reaproveitada, para que um embarque
+ * marcado durante a recarga não se perca.
+ * </p>
+ */
+@Component
+public class IndiceCartoesEmbarque {
+
+    private volatile Estado estado = new Estado();
+
+    /**
+     * Inclui ou substitui um cartão no índice.
+     *
+     * <p>
+     * Ao substituir, o embarque já marcado em memória é mantido: o valor lido
+     * do banco ainda não tem os embarques que o {@link GravadorEmbarques} não
+     * gravou, e descartá-los permitiria embarcar duas vezes com o mesmo cartão.
+     * </p>
+     *
+     * @param cartao cartão de embarque já persistido (com código gerado)
+     */
+    public synchronized void registrar(CartaoEmbarque cartao) {
+        String codigo = cartao.getCodigoCartaoEmbarque();
+        if (codigo != null) {
+            Entrada anterior = estado.porCodigo.get(codigo);
+            boolean embarcado = cartao.isEmbarcado() || (anterior != null && anterior.isEmbarcado());
+            estado.incluir(new Entrada(codigo, cartao.getIdPortao(), cartao.getAssento(), embarcado));
+        }
+    }
+
+    /**
+     * Remove um cartão do índice.
+     *
+     * @param codigo código do cartão de embarque
+     */
+    public synchronized void remover(String codigo) {
+        Estado atual = estado;
+        Entrada anterior = atual.porCodigo.remove(codigo);
+        if (anterior != null) {
+            atual.removerAssento(anterior);
+        }
+    }
+
+    /**
+     * Reconstrói o índice a partir de uma carga completa dos cartões e o publica de uma vez.
+     *
+     * @param cartoes todos os cartões de embarque persistidos
+     */
+    public synchronized void recarregar(Collection<CartaoEmbarque> cartoes) {
+        Estado anterior = estado;
+        Estado novo = new Estado();
+        for (CartaoEmbarque cartao : cartoes) {
+            String codigo = cartao.getCodigoCartaoEmbarque();
+            if (codigo == null) {
+                continue;
+            }
+            Entrada existente = anterior.porCodigo.get(codigo);
+            if (existente != null && Objects.equals(existente.idPortao, cartao.getIdPortao())
+                    && Objects.equals(existente.assento, cartao.getAssento())) {
+                if (cartao.isEmbarcado()) {
+                    existente.marcarEmbarcado();
+                }
+                novo.incluir(existente);
+            } else {
+                novo.incluir(new Entrada(codigo, cartao.getIdPortao(), cartao.getAssento(), cartao.isEmbarcado()));
+            }
+        }
+        // Cartões emitidos depois da leitura do banco.
+        for (Entrada entrada : anterior.porCodigo.values()) {
+            if (!novo.porCodigo.containsKey(entrada.codigo)) {
+                novo.incluir(entrada);
+            }
+        }
+        estado = novo;
+    }
+
+    /**
+     * Busca a entrada de um cartão pelo código.
+     *
+     * @param codigo código do cartão de embarque
+     * @return entrada do índice ou {@code null} se o cartão não foi emitido
+     */
+    Entrada buscar(String codigo) {
+        return codigo == null ? null : estado.porCodigo.get(codigo);
+    }
+
+    /**
+     * Busca o código do cartão atualmente vinculado a um assento no portão.
+     *
+     * @param idPortao portão de embarque
+     * @param assento  assento do passageiro
+     * @return código do cartão vigente ou {@code null}
+     */
+    String codigoDoAssento(String idPortao, String assento) {
+        Map<String, String> assentos = estado.assentosPorPortao.get(idPortao);
+        return assentos == null ? null : assentos.get(assento);
+    }
+
+    /**
+     * Quantidade de cartões presentes no índice.
+     *
+     * @return total de cartões indexados
+     */
+    public int tamanho() {
+        return estado.porCodigo.size();
+    }
+
+    /**
+     * As duas estruturas do índice, trocadas juntas na recarga.
+     */
+    private static final class Estado {
+
+        private final Map<String, Entrada> porCodigo = new ConcurrentHashMap<>();
+        private final Map<String, Map<String, String>> assentosPorPortao = new ConcurrentHashMap<>();
+
+        private void incluir(Entrada nova) {
+            Entrada anterior = porCodigo.put(nova.codigo, nova);
+            if (anterior != null) {
+                removerAssento(anterior);
+            }
+            if (nova.idPortao != null && nova.assento != null) {
+                assentosPorPortao
+                        .computeIfAbsent(nova.idPortao, p -> new ConcurrentHashMap<>())
+                        .put(nova.assento, nova.codigo);
+            }
+        }
+
+        private void removerAssento(Entrada entrada) {
+            if (entrada.idPortao == null || entrada.assento == null) {
+                return;
+            }
+            Map<String, String> assentos = assentosPorPortao.get(entrada.idPortao);
+            if (assentos != null) {
+                assentos.remove(entrada.assento, entrada.codigo);
+            }
+        }
+    }
+
+    /**
+     * Dados de um cartão mantidos no índice.
+     */
+    static final class Entrada {
+
+        final String codigo;
+        final String idPortao;
+        final String assento;
+        private final AtomicBoolean embarcado;
+
+        Entrada(String codigo, String idPortao, String assento, boolean embarcado) {
+            this.codigo = codigo;
+            this.idPortao = idPortao;
+            this.assento = assento;
+            this.embarcado = new AtomicBoolean(embarcado);
+        }
+
+        boolean isEmbarcado() {
+            return embarcado.get();
+        }
+
+        /**
+         * Marca o cartão como embarcado.
+         *
+         * @return {@code true} apenas para a primeira leitura que autorizou a passagem
+         */
+        boolean marcarEmbarcado() {
+            return embarcado.compareAndSet(false, true);
+        }
+
+        void desfazerEmbarque() {
+            embarcado.set(false);
+        }
+    }
+}
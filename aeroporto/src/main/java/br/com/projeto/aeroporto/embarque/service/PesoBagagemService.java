@@ -0,0 +1,169 @@
+package br.com.projeto.aeroporto.embarque.service;
+
+
+import br.com.projeto.aeroporto.embarque.in.PesoBagagemUseCase;
+import br.com.projeto.aeroporto.embarque.model.CargaBagagem;
+import br.com.projeto.aeroporto.embarque.model.PesoVoo;
+import br.com.projeto.aeroporto.embarque.model.ResultadoReconciliacaoPeso;
+import br.com.projeto.aeroporto.embarque.out.BagagemRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Consulta e reconciliação do peso das bagagens por voo e porão.
+ *
+ * <p>
+ * As consultas leem os totais mantidos em {@link PesoBagagens} pelas gravações
+ * de {@link BagagemService}. A reconciliação recalcula os totais a partir do
+ * banco, dividindo a faixa de IDs em blocos de {@value #TAMANHO_BLOCO}
+ * bagagens lidos em paralelo por {@value #LEITORES} threads, e corrige os que
+ * divergirem. Ela roda na inicialização, antes das gravações, servindo de carga inicial, e
+ * depois periodicamente.
+ * </p>
+ */
+@Service
+public class PesoBagagemService implements PesoBagagemUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(PesoBagagemService.class);
+
+    /**
+     * Faixa de IDs lida por consulta na reconciliação.
+     */
+    static final int TAMANHO_BLOCO = 50_000;
+
+    /**
+     * Blocos lidos em paralelo; cada um ocupa uma conexão do pool durante a leitura.
+     */
+    static final int LEITORES = 4;
+
+    private final BagagemRepositoryPort repository;
+
+    private final PesoBagagens pesos;
+
+    private final ReentrantLock reconciliando = new ReentrantLock();
+
+    /**
+     * Construtor da classe {@code PesoBagagemService}.
+     *
+     * @param repository porta de acesso ao repositório de bagagens
+     * @param pesos      totais de peso em memória
+     */
+    public PesoBagagemService(BagagemRepositoryPort repository, PesoBagagens pesos) {
+        this.repository = repository;
+        this.pesos = pesos;
+    }
+
+    /**
+     * Peso atual das bagagens do voo, sem consultar o banco.
+     *
+     * @param codigoVoo código do voo
+     * @return peso e quantidade de bagagens do voo e de cada porão
+     */
+    @Override
+    public PesoVoo consultarPeso(String codigoVoo) {
+        return pesos.consultar(codigoVoo);
+    }
+
+    /**
+     * Recalcula os totais a partir do banco e corrige os divergentes.
+     *
+     * <p>
+     * Um total alterado por uma gravação durante a reconciliação não é
+     * corrigido e conta como ignorado. Execuções simultâneas são serializadas.
+     * </p>
+     *
+     * @return quantidade de totais verificados, corrigidos e ignorados
+     */
+    @Override
+    public ResultadoReconciliacaoPeso reconciliar() {
+        reconciliando.lock();
+        try {
+            long inicio = System.nanoTime();
+            Map<PesoBagagens.Chave, PesoBagagens.Totais> retrato = pesos.retratar();
+            Map<PesoBagagens.Chave, PesoBagagens.Totais> doBanco = repository.faixaCodigos()
+                    .map(faixa -> recalcular(faixa[0], faixa[1]))
+                    .orElseGet(Map::of);
+            int[] resultado = pesos.corrigir(retrato, doBanco);
+            int verificados = retrato.size();
+            for (PesoBagagens.Chave chave : doBanco.keySet()) {
+                if (!retrato.containsKey(chave)) {
+                    verificados++;
+                }
+            }
+            return new ResultadoReconciliacaoPeso(verificados, resultado[0], resultado[1],
+                    (System.nanoTime() - inicio) / 1_000_000);
+        } finally {
+            reconciliando.unlock();
+        }
+    }
+
+    /**
+     * Carrega os totais antes de a aplicação receber gravações de bagagens.
+     */
+    @PostConstruct
+    public void carregar() {
+        log.info("Totais de peso das bagagens carregados: {}", reconciliar());
+    }
+
+    /**
+     * Reconciliação periódica, a cada {@code aeroporto.bagagens.reconciliacao-ms}.
+     */
+    @Scheduled(initialDelayString = "${aeroporto.bagagens.reconciliacao-ms:600000}",
+            fixedDelayString = "${aeroporto.bagagens.reconciliacao-ms:600000}")
+    public void reconciliarPeriodicamente() {
+        ResultadoReconciliacaoPeso resultado = reconciliar();
+        if (resultado.corrigidos() > 0) {
+            log.warn("Totais de peso das bagagens corrigidos: {}", resultado);
+        }
+    }
+
+    private Map<PesoBagagens.Chave, PesoBagagens.Totais> recalcular(long primeiro, long ultimo) {
+        List<Future<Map<PesoBagagens.Chave, long[]>>> blocos = new ArrayList<>();
+        try (ExecutorService leitores = Executors.newFixedThreadPool(LEITORES)) {
+            for (long de = primeiro; de <= ultimo; de += TAMANHO_BLOCO) {
+                long inicio = de;
+                long fim = Math.min(ultimo, de + TAMANHO_BLOCO - 1);
+                blocos.add(leitores.submit(() -> somar(repository.listarCargas(inicio, fim))));
+            }
+        }
+        Map<PesoBagagens.Chave, long[]> somas = new HashMap<>();
+        for (Future<Map<PesoBagagens.Chave, long[]>> bloco : blocos) {
+            try {
+                bloco.get().forEach((chave, soma) -> somas.merge(chave, soma,
+                        (a, b) -> new long[]{a[0] + b[0], a[1] + b[1]}));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Reconciliação interrompida", e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Falha ao ler as bagagens", e.getCause());
+            }
+        }
+        Map<PesoBagagens.Chave, PesoBagagens.Totais> totais = new HashMap<>(somas.size() * 2);
+        somas.forEach((chave, soma) -> totais.put(chave, new PesoBagagens.Totais(soma[0], soma[1])));
+        return totais;
+    }
+
+    private static Map<PesoBagagens.Chave, long[]> somar(List<CargaBagagem> cargas) {
+        Map<PesoBagagens.Chave, long[]> somas = new HashMap<>();
+        for (CargaBagagem carga : cargas) {
+            long[] soma = somas.computeIfAbsent(
+                    new PesoBagagens.Chave(carga.codigoVoo(), PesoBagagens.porao(carga)), c -> new long[2]);
+            soma[0] += PesoBagagens.gramas(carga.peso());
+            soma[1]++;
+        }
+        return somas;
+    }
+}
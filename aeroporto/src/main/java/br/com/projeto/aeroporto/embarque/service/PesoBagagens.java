@@ -0,0 +1,171 @@
+package br.com.projeto.aeroporto.embarque.service;
+
+
+import br.com.projeto.aeroporto.embarque.model.CargaBagagem;
+import br.com.projeto.aeroporto.embarque.model.PesoPorao;
+import br.com.projeto.aeroporto.embarque.model.PesoVoo;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Totais de peso das bagagens por voo e porão, mantidos em memória.
+ *
+ * <p>
+ * O peso é acumulado em gramas, em ponto fixo ({@code long}), para que somas e
+ * subtrações sucessivas não acumulem erro de arredondamento e o total possa
+ * ser comparado exatamente com o recalculado a partir do banco. Cada total
+ * (gramas e quantidade) é um valor imutável em uma {@link AtomicReference},
+ * atualizado por CAS, sem travas.
+ * </p>
+ *
+ * <p>
+ * A reconciliação substitui um total pelo valor do banco apenas se ele não
+ * mudou desde o retrato tirado no início da reconciliação; totais alterados
+ * nesse intervalo ficam para a próxima execução. O mesmo vale para um total
+ * que não existia no retrato e foi criado por uma gravação durante a
+ * reconciliação: não há como saber se essa gravação já está na leitura do
+ * banco, e somar os dois poderia contá-la duas vezes. A carga inicial roda
+ * antes de a aplicação receber gravações, quando nenhum total é criado assim.
+ * </p>
+ */
+@Component
+public class PesoBagagens {
+
+    /**
+     * Porão usado para bagagens ainda sem porão atribuído.
+     */
+    public static final String SEM_PORAO = "NAO_ATRIBUIDO";
+
+    private static final Totais ZERO = new Totais(0, 0);
+
+    private final Map<String, Map<String, AtomicReference<Totais>>> porVoo = new ConcurrentHashMap<>();
+
+    /**
+     * Aplica a alteração de uma bagagem aos totais.
+     *
+     * @param anterior carga antes da alteração ({@code null} em inclusões ou fora de voo)
+     * @param atual    carga depois da alteração ({@code null} em exclusões ou fora de voo)
+     */
+    public void aplicar(CargaBagagem anterior, CargaBagagem atual) {
+        if (anterior != null) {
+            somar(anterior, -1);
+        }
+        if (atual != null) {
+            somar(atual, 1);
+        }
+    }
+
+    /**
+     * Peso atual das bagagens do voo, em tempo constante no número de bagagens.
+     *
+     * @param codigoVoo código do voo
+     * @return totais do voo e de cada porão com bagagens
+     */
+    public PesoVoo consultar(String codigoVoo) {
+        Map<String, AtomicReference<Totais>> poroes = porVoo.getOrDefault(codigoVoo, Map.of());
+        List<PesoPorao> porPorao = new ArrayList<>(poroes.size());
+        long gramas = 0;
+        long quantidade = 0;
+        for (Map.Entry<String, AtomicReference<Totais>> porao : poroes.entrySet()) {
+            Totais totais = porao.getValue().get();
+            if (totais.quantidade() != 0) {
+                porPorao.add(new PesoPorao(porao.getKey(), quilogramas(totais.gramas()), totais.quantidade()));
+                gramas += totais.gramas();
+                quantidade += totais.quantidade();
+            }
+        }
+        porPorao.sort((a, b) -> a.porao().compareTo(b.porao()));
+        return new PesoVoo(codigoVoo, quilogramas(gramas), quantidade, porPorao);
+    }
+
+    /**
+     * Retrato dos totais atuais, usado como referência pela reconciliação.
+     *
+     * @return total atual de cada voo e porão
+     */
+    Map<Chave, Totais> retratar() {
+        Map<Chave, Totais> retrato = new HashMap<>();
+        porVoo.forEach((voo, poroes) -> poroes.forEach((porao, totais) ->
+                retrato.put(new Chave(voo, porao), totais.get())));
+        return retrato;
+    }
+
+    /**
+     * Substitui pelos valores do banco os totais divergentes que não mudaram desde o retrato.
+     *
+     * @param retrato totais no início da reconciliação
+     * @param doBanco totais recalculados a partir do banco
+     * @return quantidade de totais corrigidos e de divergentes ignorados
+     */
+    int[] corrigir(Map<Chave, Totais> retrato, Map<Chave, Totais> doBanco) {
+        int corrigidos = 0;
+        int ignorados = 0;
+        Map<Chave, Totais> todos = new HashMap<>(retrato);
+        doBanco.forEach(todos::putIfAbsent);
+        for (Chave chave : todos.keySet()) {
+            Totais esperado = retrato.get(chave);
+            Totais correto = doBanco.getOrDefault(chave, ZERO);
+            if (esperado != null && esperado.equals(correto)) {
+                continue;
+            }
+            Map<String, AtomicReference<Totais>> poroes = porVoo.computeIfAbsent(chave.codigoVoo(),
+                    v -> new ConcurrentHashMap<>());
+            boolean corrigiu;
+            if (esperado == null) {
+                // Criado por uma gravação depois do retrato: fica para a próxima execução.
+                corrigiu = poroes.putIfAbsent(chave.porao(), new AtomicReference<>(correto)) == null;
+            } else {
+                corrigiu = poroes.get(chave.porao()).compareAndSet(esperado, correto);
+            }
+            if (corrigiu) {
+                corrigidos++;
+            } else {
+                ignorados++;
+            }
+        }
+        return new int[]{corrigidos, ignorados};
+    }
+
+    /**
+     * Converte um peso em quilogramas para gramas, como feito nos totais.
+     *
+     * @param peso peso em quilogramas (pode ser {@code null})
+     * @return peso arredondado para gramas
+     */
+    static long gramas(Double peso) {
+        return peso == null ? 0 : Math.round(peso * 1000);
+    }
+
+    private void somar(CargaBagagem carga, int sinal) {
+        long gramas = sinal * gramas(carga.peso());
+        porVoo.computeIfAbsent(carga.codigoVoo(), v -> new ConcurrentHashMap<>())
+                .computeIfAbsent(porao(carga), p -> new AtomicReference<>(ZERO))
+                .getAndUpdate(t -> new Totais(t.gramas() + gramas, t.quantidade() + sinal));
+    }
+
+    static String porao(CargaBagagem carga) {
+        return carga.porao() == null ? SEM_PORAO : carga.porao();
+    }
+
+    private static double quilogramas(long gramas) {
+        return gramas / 1000.0;
+    }
+
+    /**
+     * Voo e porão de um total.
+     */
+    record Chave(String codigoVoo, String porao) {
+    }
+
+    /**
+     * Peso em gramas e quantidade de bagagens de um voo e porão.
+     */
+    record Totais(long gramas, long quantidade) {
+    }
+}
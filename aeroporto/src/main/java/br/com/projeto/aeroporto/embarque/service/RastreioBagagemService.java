@@ -0,0 +1,153 @@
+package br.com.projeto.aeroporto.embarque.service;
+
+
+import br.com.projeto.aeroporto.embarque.in.RastreioBagagemUseCase;
+import br.com.projeto.aeroporto.embarque.model.EtapaBagagem;
+import br.com.projeto.aeroporto.embarque.model.EventoBagagem;
+import br.com.projeto.aeroporto.embarque.model.LeituraBagagem;
+import br.com.projeto.aeroporto.embarque.model.RastreioBagagem;
+import br.com.projeto.aeroporto.embarque.out.BagagemRepositoryPort;
+import br.com.projeto.aeroporto.embarque.out.EventoBagagemRepositoryPort;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rastreio de bagagens a partir das leituras de etiqueta.
+ *
+ * <p>
+ * A situação atual de cada bagagem fica em uma {@link TabelaRastreio}, e a
+ * sequência de etapas é validada por {@link EtapaBagagem#permiteSeguirPara}.
+ * Uma leitura aceita atualiza a tabela e é enfileirada no
+ * {@link GravadorEventosBagagem}, que a grava em lote no log de eventos; a
+ * consulta do rastreio não acessa o banco. Apenas o check-in confere se a
+ * bagagem está cadastrada: as etapas seguintes exigem uma leitura anterior
+ * na tabela.
+ * </p>
+ *
+ * <p>
+ * A tabela é carregada do log de eventos antes de a aplicação receber
+ * requisições. Bagagens retiradas ficam na tabela por
+ * {@code aeroporto.bagagens.retencao-retirada-h} horas e depois são
+ * removidas, para que a tabela não cresça com todas as bagagens já
+ * entregues; o rastreio de uma bagagem removida consulta o último evento no
+ * banco, e ela continua sem aceitar novas leituras.
+ * </p>
+ *
+ * <p>
+ * O histórico ({@link #listarEventos(Long)}) vem do banco e pode ainda não
+ * conter as leituras aguardando gravação.
+ * </p>
+ */
+@Service
+public class RastreioBagagemService implements RastreioBagagemUseCase {
+
+    private final BagagemRepositoryPort bagagemRepository;
+
+    private final EventoBagagemRepositoryPort eventoRepository;
+
+    private final GravadorEventosBagagem gravador;
+
+    private final TabelaRastreio tabela = new TabelaRastreio();
+
+    private final long retencaoRetiradaMs;
+
+    /**
+     * Construtor da classe {@code RastreioBagagemService}.
+     *
+     * @param bagagemRepository     porta de acesso às bagagens
+     * @param eventoRepository      porta do log de eventos de bagagem
+     * @param gravador              gravador assíncrono das leituras aceitas
+     * @param retencaoRetiradaHoras horas que uma bagagem retirada permanece na tabela
+     */
+    public RastreioBagagemService(BagagemRepositoryPort bagagemRepository,
+                                  EventoBagagemRepositoryPort eventoRepository,
+                                  GravadorEventosBagagem gravador,
+                                  @Value("${aeroporto.bagagens.retencao-retirada-h:24}") long retencaoRetiradaHoras) {
+        this.bagagemRepository = bagagemRepository;
+        this.eventoRepository = eventoRepository;
+        this.gravador = gravador;
+        this.retencaoRetiradaMs = TimeUnit.HOURS.toMillis(retencaoRetiradaHoras);
+    }
+
+    /**
+     * Reconstrói a situação de cada bagagem a partir do seu último evento
+     * gravado, antes de a aplicação receber leituras. Bagagens retiradas além
+     * da retenção não são carregadas.
+     */
+    @PostConstruct
+    public void carregarRastreio() {
+        long limite = System.currentTimeMillis() - retencaoRetiradaMs;
+        eventoRepository.percorrerUltimos(evento -> {
+            if (evento.getEtapa() != EtapaBagagem.RETIRADA || evento.getHorario().toEpochMilli() >= limite) {
+                tabela.restaurar(evento.getCodigoBagagem(), evento.getEtapa(), evento.getLocal(), evento.getHorario());
+            }
+        });
+    }
+
+    /**
+     * Remove da tabela as bagagens retiradas há mais tempo que a retenção.
+     */
+    @Scheduled(fixedDelayString = "${aeroporto.bagagens.expurgo-ms:600000}")
+    public void expurgarRetiradas() {
+        tabela.expurgarRetiradas(System.currentTimeMillis() - retencaoRetiradaMs);
+    }
+
+    @Override
+    public RastreioBagagem registrarLeitura(Long codigoBagagem, LeituraBagagem leitura) {
+        if (codigoBagagem == null || leitura == null || leitura.etapa() == null) {
+            throw new RuntimeException("Leitura de bagagem incompleta");
+        }
+        if (leitura.etapa() == EtapaBagagem.CHECK_IN && tabela.buscar(codigoBagagem) == null) {
+            if (bagagemRepository.buscarPorId(codigoBagagem).isEmpty()) {
+                throw new RuntimeException("Bagagem não encontrada");
+            }
+            RastreioBagagem expurgada = ultimoEvento(codigoBagagem);
+            if (expurgada != null && expurgada.etapa() == EtapaBagagem.RETIRADA) {
+                throw new RuntimeException("Leitura fora de sequência: RETIRADA -> " + leitura.etapa());
+            }
+        }
+        Instant horario = Instant.now();
+        if (!tabela.avancar(codigoBagagem, leitura.etapa(), leitura.local(), horario)) {
+            RastreioBagagem atual = tabela.buscar(codigoBagagem);
+            throw new RuntimeException("Leitura fora de sequência: "
+                    + (atual == null ? "sem leituras" : atual.etapa()) + " -> " + leitura.etapa());
+        }
+        gravador.registrar(new EventoBagagem(codigoBagagem, leitura.etapa(), leitura.local(), horario));
+        return new RastreioBagagem(codigoBagagem, leitura.etapa(), leitura.local(), horario);
+    }
+
+    @Override
+    public RastreioBagagem rastrear(Long codigoBagagem) {
+        RastreioBagagem rastreio = codigoBagagem == null ? null : tabela.buscar(codigoBagagem);
+        if (rastreio == null) {
+            rastreio = codigoBagagem == null ? null : ultimoEvento(codigoBagagem);
+        }
+        if (rastreio == null) {
+            throw new RuntimeException("Bagagem sem leituras registradas");
+        }
+        return rastreio;
+    }
+
+    @Override
+    public List<EventoBagagem> listarEventos(Long codigoBagagem) {
+        return eventoRepository.listarPorBagagem(codigoBagagem);
+    }
+
+    /**
+     * Último evento gravado de uma bagagem que não está na tabela (retirada e expurgada).
+     */
+    private RastreioBagagem ultimoEvento(Long codigoBagagem) {
+        List<EventoBagagem> eventos = eventoRepository.listarPorBagagem(codigoBagagem);
+        if (eventos.isEmpty()) {
+            return null;
+        }
+        EventoBagagem ultimo = eventos.getLast();
+        return new RastreioBagagem(codigoBagagem, ultimo.getEtapa(), ultimo.getLocal(), ultimo.getHorario());
+    }
+}
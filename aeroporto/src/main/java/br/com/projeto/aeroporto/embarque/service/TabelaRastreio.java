@@ -0,0 +1,303 @@
+package br.com.projeto.aeroporto.embarque.service;
+
+
+import br.com.projeto.aeroporto.embarque.model.EtapaBagagem;
+import br.com.projeto.aeroporto.embarque.model.RastreioBagagem;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Tabela da situação atual de cada bagagem, indexada pelo {@code codigoBagagem} primitivo.
+ *
+ * <p>
+ * Hash de endereçamento aberto (sondagem linear) sobre arrays primitivos: por
+ * bagagem são guardados o código, o horário da última leitura em milissegundos
+ * e um {@code int} com a etapa e o local. Os locais se repetem entre milhares
+ * de bagagens e são guardados uma única vez, em um dicionário, e referenciados
+ * pelo índice. Não há objetos por entrada.
+ * </p>
+ *
+ * <p>
+ * As leituras chegam de várias threads de requisição; a validação da
+ * transição e a atualização ocorrem sob a trava de escrita de um
+ * {@link StampedLock}. As consultas usam leitura otimista e só recorrem à
+ * trava de leitura quando uma escrita concorrente invalida a tentativa.
+ * Como a leitura otimista pode ver os vetores no meio de uma troca, a
+ * sondagem nunca passa do tamanho do vetor, e vetores novos só são
+ * publicados depois de preenchidos.
+ * </p>
+ *
+ * <p>
+ * Bagagens retiradas não recebem novas leituras e são removidas por
+ * {@link #expurgarRetiradas(long)}; a remoção desloca as entradas seguintes da
+ * sondagem para trás, sem marcadores de posição apagada.
+ * </p>
+ */
+final class TabelaRastreio {
+
+    private static final long VAZIO = Long.MIN_VALUE;
+    private static final int CAPACIDADE_INICIAL = 1024;
+    private static final int BITS_LOCAL = 24;
+    private static final int MASCARA_LOCAL = (1 << BITS_LOCAL) - 1;
+    private static final EtapaBagagem[] ETAPAS = EtapaBagagem.values();
+
+    private final StampedLock trava = new StampedLock();
+
+    private final Map<String, Integer> indicesLocais = new HashMap<>();
+    private String[] locais = new String[16];
+
+    private long[] chaves;
+    private long[] horarios;
+    private int[] situacoes;
+    private int tamanho;
+
+    TabelaRastreio() {
+        chaves = new long[CAPACIDADE_INICIAL];
+        Arrays.fill(chaves, VAZIO);
+        horarios = new long[CAPACIDADE_INICIAL];
+        situacoes = new int[CAPACIDADE_INICIAL];
+    }
+
+    /**
+     * Registra uma leitura se ela for uma transição válida a partir da etapa atual.
+     *
+     * @param codigoBagagem código da bagagem
+     * @param etapa         etapa lida
+     * @param local         local da leitura
+     * @param horario       momento da leitura
+     * @return {@code true} se a leitura foi aceita
+     */
+    boolean avancar(long codigoBagagem, EtapaBagagem etapa, String local, Instant horario) {
+        if (codigoBagagem == VAZIO) {
+            return false;
+        }
+        long carimbo = trava.writeLock();
+        try {
+            int i = indice(chaves, codigoBagagem);
+            boolean aceita = chaves[i] == VAZIO
+                    ? EtapaBagagem.permiteIniciarPor(etapa)
+                    : etapa(situacoes[i]).permiteSeguirPara(etapa);
+            if (aceita) {
+                gravar(codigoBagagem, etapa, local, horario);
+            }
+            return aceita;
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Registra a última leitura conhecida de uma bagagem, sem validar a transição.
+     * Usado na carga inicial a partir do log de eventos.
+     *
+     * @param codigoBagagem código da bagagem
+     * @param etapa         etapa lida
+     * @param local         local da leitura
+     * @param horario       momento da leitura
+     */
+    void restaurar(long codigoBagagem, EtapaBagagem etapa, String local, Instant horario) {
+        if (codigoBagagem == VAZIO) {
+            return;
+        }
+        long carimbo = trava.writeLock();
+        try {
+            gravar(codigoBagagem, etapa, local, horario);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Situação atual da bagagem.
+     *
+     * @param codigoBagagem código da bagagem
+     * @return última leitura ou {@code null} se a bagagem nunca foi lida
+     */
+    RastreioBagagem buscar(long codigoBagagem) {
+        if (codigoBagagem == VAZIO) {
+            return null;
+        }
+        long carimbo = trava.tryOptimisticRead();
+        RastreioBagagem rastreio = procurar(codigoBagagem);
+        if (trava.validate(carimbo)) {
+            return rastreio;
+        }
+        carimbo = trava.readLock();
+        try {
+            return procurar(codigoBagagem);
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Remove as bagagens retiradas cuja última leitura é anterior ao limite.
+     *
+     * @param limiteEpochMs instante limite, em milissegundos desde a época
+     * @return quantidade de bagagens removidas
+     */
+    int expurgarRetiradas(long limiteEpochMs) {
+        long carimbo = trava.writeLock();
+        try {
+            int removidas = 0;
+            int i = 0;
+            while (i < chaves.length) {
+                if (chaves[i] != VAZIO && etapa(situacoes[i]) == EtapaBagagem.RETIRADA
+                        && horarios[i] < limiteEpochMs) {
+                    // A posição recebe a entrada seguinte da sondagem: examina de novo.
+                    remover(i);
+                    removidas++;
+                } else {
+                    i++;
+                }
+            }
+            return removidas;
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Quantidade de bagagens com ao menos uma leitura.
+     *
+     * @return total de bagagens na tabela
+     */
+    int tamanho() {
+        return tamanho;
+    }
+
+    private void gravar(long codigoBagagem, EtapaBagagem etapa, String local, Instant horario) {
+        int situacao = etapa.ordinal() << BITS_LOCAL | indiceLocal(local);
+        if ((tamanho + 1) * 2 > chaves.length) {
+            redimensionar();
+        }
+        int i = indice(chaves, codigoBagagem);
+        if (chaves[i] == VAZIO) {
+            chaves[i] = codigoBagagem;
+            tamanho++;
+        }
+        horarios[i] = horario.toEpochMilli();
+        situacoes[i] = situacao;
+    }
+
+    /**
+     * Índice do local no dicionário; o índice 0 representa local não informado.
+     */
+    private int indiceLocal(String local) {
+        if (local == null) {
+            return 0;
+        }
+        Integer existente = indicesLocais.get(local);
+        if (existente != null) {
+            return existente;
+        }
+        int indice = indicesLocais.size() + 1;
+        if (indice > MASCARA_LOCAL) {
+            throw new IllegalStateException("Limite de locais de leitura de bagagem atingido");
+        }
+        if (indice == locais.length) {
+            locais = Arrays.copyOf(locais, locais.length * 2);
+        }
+        locais[indice] = local;
+        indicesLocais.put(local, indice);
+        return indice;
+    }
+
+    private RastreioBagagem procurar(long codigoBagagem) {
+        long[] c = chaves;
+        long[] h = horarios;
+        int[] s = situacoes;
+        if (c.length != h.length || c.length != s.length) {
+            return null;
+        }
+        int i = indice(c, codigoBagagem);
+        if (i < 0 || c[i] != codigoBagagem) {
+            return null;
+        }
+        int situacao = s[i];
+        String[] l = locais;
+        int indiceLocal = situacao & MASCARA_LOCAL;
+        return new RastreioBagagem(codigoBagagem, etapa(situacao),
+                indiceLocal < l.length ? l[indiceLocal] : null, Instant.ofEpochMilli(h[i]));
+    }
+
+    private static EtapaBagagem etapa(int situacao) {
+        return ETAPAS[situacao >>> BITS_LOCAL];
+    }
+
+    /**
+     * Esvazia a posição e traz para trás as entradas seguintes que a sondagem
+     * deixaria de encontrar com a lacuna.
+     */
+    private void remover(int posicao) {
+        int mascara = chaves.length - 1;
+        int lacuna = posicao;
+        int j = posicao;
+        while (true) {
+            j = (j + 1) & mascara;
+            if (chaves[j] == VAZIO) {
+                break;
+            }
+            int inicial = posicaoInicial(chaves[j], mascara);
+            // A entrada em j pode ocupar a lacuna se a sua posição inicial não estiver em (lacuna, j].
+            boolean alcancavel = lacuna <= j
+                    ? inicial <= lacuna || inicial > j
+                    : inicial <= lacuna && inicial > j;
+            if (alcancavel) {
+                chaves[lacuna] = chaves[j];
+                horarios[lacuna] = horarios[j];
+                situacoes[lacuna] = situacoes[j];
+                lacuna = j;
+            }
+        }
+        chaves[lacuna] = VAZIO;
+        tamanho--;
+    }
+
+    /**
+     * Copia as entradas para vetores com o dobro da capacidade e só depois os publica.
+     */
+    private void redimensionar() {
+        int capacidade = chaves.length * 2;
+        long[] novasChaves = new long[capacidade];
+        Arrays.fill(novasChaves, VAZIO);
+        long[] novosHorarios = new long[capacidade];
+        int[] novasSituacoes = new int[capacidade];
+        for (int i = 0; i < chaves.length; i++) {
+            if (chaves[i] != VAZIO) {
+                int j = indice(novasChaves, chaves[i]);
+                novasChaves[j] = chaves[i];
+                novosHorarios[j] = horarios[i];
+                novasSituacoes[j] = situacoes[i];
+            }
+        }
+        chaves = novasChaves;
+        horarios = novosHorarios;
+        situacoes = novasSituacoes;
+    }
+
+    /**
+     * Posição da chave (ou da primeira posição livre) na sondagem linear, ou
+     * {@code -1} depois de sondar o vetor inteiro sem achar nenhuma das duas;
+     * com a tabela nunca acima da metade, só uma leitura otimista chega a isso.
+     */
+    private static int indice(long[] c, long codigo) {
+        int mascara = c.length - 1;
+        int i = posicaoInicial(codigo, mascara);
+        for (int sondagens = 0; sondagens < c.length; sondagens++) {
+            if (c[i] == VAZIO || c[i] == codigo) {
+                return i;
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    private static int posicaoInicial(long codigo, int mascara) {
+        return Long.hashCode(codigo * 0x9E3779B97F4A7C15L) & mascara;
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.projeto.aeroporto.embarque.service;
+
+
+import br.com.projeto.aeroporto.embarque.in.ValidacaoEmbarqueUseCase;
+import br.com.projeto.aeroporto.embarque.model.ResultadoValidacaoEmbarque;
+import br.com.projeto.aeroporto.embarque.out.CartaoEmbarqueRepositoryPort;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serviço de validação de cartões de embarque no portão.
+ *
+ * <p>
+ * Responde a partir do {@link IndiceCartoesEmbarque}, sem consultar o banco a
+ * cada leitura. O índice é carregado antes de a aplicação receber leituras e mantido
+ * atualizado pelo {@link CartaoEmbarqueService}. Embarques autorizados são
+ * persistidos em lote pelo {@link GravadorEmbarques}.
+ * </p>
+ */
+@Service
+public class ValidacaoEmbarqueService implements ValidacaoEmbarqueUseCase {
+
+    private final CartaoEmbarqueRepositoryPort repository;
+    private final IndiceCartoesEmbarque indice;
+    private final GravadorEmbarques gravador;
+
+    /**
+     * Construtor da classe {@code ValidacaoEmbarqueService}.
+     *
+     * @param repository porta de acesso ao repositório de cartões de embarque
+     * @param indice     índice em memória dos cartões emitidos
+     * @param gravador   gravador assíncrono dos embarques autorizados
+     */
+    public ValidacaoEmbarqueService(CartaoEmbarqueRepositoryPort repository,
+                                    IndiceCartoesEmbarque indice,
+                                    GravadorEmbarques gravador) {
+        this.repository = repository;
+        this.indice = indice;
+        this.gravador = gravador;
+    }
+
+    /**
+     * Carrega o índice com todos os cartões emitidos, antes de a aplicação
+     * receber leituras nos portões.
+     */
+    @PostConstruct
+    public void carregarIndice() {
+        indice.recarregar(repository.listar());
+    }
+
+    @Override
+    public ResultadoValidacaoEmbarque validarCartao(String codigoCartao, String idPortao) {
+        IndiceCartoesEmbarque.Entrada entrada = indice.buscar(codigoCartao);
+        ResultadoValidacaoEmbarque resultado = verificar(entrada, idPortao);
+        if (resultado == ResultadoValidacaoEmbarque.AUTORIZADO && entrada.isEmbarcado()) {
+            return ResultadoValidacaoEmbarque.JA_EMBARCADO;
+        }
+        return resultado;
+    }
+
+    @Override
+    public ResultadoValidacaoEmbarque autorizarEmbarque(String codigoCartao, String idPortao) {
+        IndiceCartoesEmbarque.Entrada entrada = indice.buscar(codigoCartao);
+        ResultadoValidacaoEmbarque resultado = verificar(entrada, idPortao);
+        if (resultado != ResultadoValidacaoEmbarque.AUTORIZADO) {
+            return resultado;
+        }
+        if (!entrada.marcarEmbarcado()) {
+            return ResultadoValidacaoEmbarque.JA_EMBARCADO;
+        }
+        try {
+            gravador.registrar(entrada.codigo);
+        } catch (RuntimeException e) {
+            entrada.desfazerEmbarque();
+            throw e;
+        }
+        return ResultadoValidacaoEmbarque.AUTORIZADO;
+    }
+
+    private ResultadoValidacaoEmbarque verificar(IndiceCartoesEmbarque.Entrada entrada, String idPortao) {
+        if (entrada == null) {
+            return ResultadoValidacaoEmbarque.CARTAO_NAO_ENCONTRADO;
+        }
+        if (entrada.idPortao == null || !entrada.idPortao.equals(idPortao)) {
+            return ResultadoValidacaoEmbarque.PORTAO_INCORRETO;
+        }
+        if (entrada.assento != null
+                && !entrada.codigo.equals(indice.codigoDoAssento(idPortao, entrada.assento))) {
+            return ResultadoValidacaoEmbarque.ASSENTO_EM_CONFLITO;
+        }
+        return ResultadoValidacaoEmbarque.AUTORIZADO;
+    }
+}
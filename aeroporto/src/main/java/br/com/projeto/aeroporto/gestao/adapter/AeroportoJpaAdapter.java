@@ -1,11 +1,15 @@
 package br.com.projeto.aeroporto.gestao.adapter;
 
 
+import br.com.projeto.aeroporto.comum.Caches;
 import br.com.projeto.aeroporto.gestao.model.Aeroporto;
 import br.com.projeto.aeroporto.gestao.out.AeroportoRepositoryPort;
 import br.com.projeto.aeroporto.gestao.repository.AeroportoJpaRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,17 +50,35 @@ public class AeroportoJpaAdapter implements AeroportoRepositoryPort {
      * Salva um novo aeroporto ou atualiza um já existente.
      *
      * <p>
-     * Delegado ao método {@link AeroportoJpaRepository#save(Object)}.
+     * Delegado ao método {@link AeroportoJpaRepository#save(Object)}. A entrada
+     * do aeroporto no cache {@link Caches#AEROPORTOS} é invalidada.
      * </p>
      *
      * @param a aeroporto a ser salvo
      * @return aeroporto persistido
      */
     @Override
+    @CacheEvict(cacheNames = Caches.AEROPORTOS, key = "#result.idAeroporto")
     public Aeroporto salvar(Aeroporto a) {
         return repo.save(a);
     }
 
+    /**
+     * Salva vários aeroportos em uma única transação.
+     *
+     * <p>
+     * Delegado ao método {@link AeroportoJpaRepository#saveAll(Iterable)}.
+     * </p>
+     *
+     * @param aeroportos aeroportos a salvar
+     * @return aeroportos persistidos, na ordem recebida
+     */
+    @Override
+    @CacheEvict(cacheNames = Caches.AEROPORTOS, allEntries = true)
+    public List<Aeroporto> salvarTodos(Collection<Aeroporto> aeroportos) {
+        return repo.saveAll(aeroportos);
+    }
+
     /**
      * Lista todos os aeroportos persistidos.
      *
@@ -75,7 +97,8 @@ public class AeroportoJpaAdapter implements AeroportoRepositoryPort {
      * Busca um aeroporto pelo seu identificador.
      *
      * <p>
-     * Delegado ao método {@link AeroportoJpaRepository#findById(Object)}.
+     * Delegado ao método {@link AeroportoJpaRepository#findById(Object)} apenas
+     * quando o aeroporto não está no cache {@link Caches#AEROPORTOS}.
      * </p>
      *
      * @param id identificador do aeroporto
@@ -83,6 +106,7 @@ public class AeroportoJpaAdapter implements AeroportoRepositoryPort {
      *         vazio caso contrário
      */
     @Override
+    @Cacheable(Caches.AEROPORTOS)
     public Optional<Aeroporto> buscarPorId(Long id) {
         return repo.findById(id);
     }
@@ -91,12 +115,14 @@ public class AeroportoJpaAdapter implements AeroportoRepositoryPort {
      * Remove um aeroporto com base em seu identificador.
      *
      * <p>
-     * Delegado ao método {@link AeroportoJpaRepository#deleteById(Object)}.
+     * Delegado ao método {@link AeroportoJpaRepository#deleteById(Object)}. A entrada
+     * do aeroporto no cache {@link Caches#AEROPORTOS} é invalidada.
      * </p>
      *
      * @param id identificador do aeroporto a ser removido
      */
     @Override
+    @CacheEvict(Caches.AEROPORTOS)
     public void deletar(Long id) {
         repo.deleteById(id);
     }
@@ -1,13 +1,23 @@
 package br.com.projeto.aeroporto.gestao.adapter;
 
 
+import br.com.projeto.aeroporto.gestao.model.AssentoReservado;
 import br.com.projeto.aeroporto.gestao.model.Bilhete;
+import br.com.projeto.aeroporto.gestao.model.BilheteResumo;
 import br.com.projeto.aeroporto.gestao.out.BilheteRepositoryPort;
+import br.com.projeto.aeroporto.comum.Paginacao;
+import br.com.projeto.aeroporto.comum.PersistenciaEmLote;
 import br.com.projeto.aeroporto.gestao.repository.BilheteJpaRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adaptador JPA para a entidade {@link Bilhete}.
@@ -32,14 +42,21 @@ public class BilheteJpaAdapter implements BilheteRepositoryPort {
      */
     private final BilheteJpaRepository repo;
 
+    /**
+     * Gravação em lote usada por {@link #salvarTodos(Collection)}.
+     */
+    private final PersistenciaEmLote persistenciaEmLote;
+
     /**
      * Construtor com injeção de dependência do repositório JPA.
      *
-     * @param repo implementação de {@link BilheteJpaRepository}
-     *             usada para persistir os dados de {@link Bilhete}
+     * @param repo               implementação de {@link BilheteJpaRepository}
+     *                           usada para persistir os dados de {@link Bilhete}
+     * @param persistenciaEmLote gravação em lote de bilhetes
      */
-    public BilheteJpaAdapter(BilheteJpaRepository repo) {
+    public BilheteJpaAdapter(BilheteJpaRepository repo, PersistenciaEmLote persistenciaEmLote) {
         this.repo = repo;
+        this.persistenciaEmLote = persistenciaEmLote;
     }
 
     /**
@@ -57,6 +74,22 @@ public class BilheteJpaAdapter implements BilheteRepositoryPort {
         return repo.save(b);
     }
 
+    /**
+     * Salva vários bilhetes em uma única transação.
+     *
+     * <p>
+     * Delegado ao {@link PersistenciaEmLote},
+     * que descarrega o contexto de persistência a cada lote JDBC.
+     * </p>
+     *
+     * @param bilhetes bilhetes a salvar
+     * @return bilhetes persistidos, na ordem recebida
+     */
+    @Override
+    public List<Bilhete> salvarTodos(Collection<Bilhete> bilhetes) {
+        return persistenciaEmLote.salvarTodos(bilhetes, repo::save);
+    }
+
     /**
      * Lista todos os bilhetes persistidos.
      *
@@ -71,6 +104,82 @@ public class BilheteJpaAdapter implements BilheteRepositoryPort {
         return repo.findAll();
     }
 
+    /**
+     * Lista uma página de bilhetes por cursor (keyset).
+     *
+     * <p>
+     * Delegado ao método
+     * {@link BilheteJpaRepository#findByIdBilheteGreaterThanOrderByIdBilheteAsc(Long, Limit)}.
+     * </p>
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de bilhetes na página
+     * @return próxima página de bilhetes
+     */
+    @Override
+    public List<Bilhete> listarPagina(Long after, int limit) {
+        return repo.findByIdBilheteGreaterThanOrderByIdBilheteAsc(Paginacao.cursorInicial(after), Limit.of(limit));
+    }
+
+    /**
+     * Lista uma página de bilhetes por cursor, projetados em {@link BilheteResumo}.
+     *
+     * <p>
+     * Delegado ao método {@link BilheteJpaRepository#listarResumos(Long, Limit)}:
+     * uma consulta por página, sem carregar passageiros e bagagens um a um.
+     * </p>
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de bilhetes na página
+     * @return próxima página de bilhetes
+     */
+    @Override
+    public List<BilheteResumo> listarResumos(Long after, int limit) {
+        return repo.listarResumos(Paginacao.cursorInicial(after), Limit.of(limit));
+    }
+
+    /**
+     * Busca um bilhete projetado em {@link BilheteResumo}.
+     *
+     * <p>
+     * Delegado ao método {@link BilheteJpaRepository#buscarResumo(Long)}.
+     * </p>
+     *
+     * @param id identificador do bilhete
+     * @return um {@link Optional} contendo o bilhete, caso encontrado;
+     * vazio caso contrário
+     */
+    @Override
+    public Optional<BilheteResumo> buscarResumo(Long id) {
+        return repo.buscarResumo(id);
+    }
+
+    /**
+     * Percorre todos os bilhetes projetados por meio de um cursor JDBC.
+     *
+     * <p>
+     * Passageiro e bagagem chegam na mesma linha, sem uma consulta por
+     * bilhete, e nada fica retido no contexto de persistência.
+     * </p>
+     *
+     * @param consumidor função chamada para cada bilhete lido do banco
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerResumos(Consumer<BilheteResumo> consumidor) {
+        try (Stream<BilheteResumo> bilhetes = repo.buscarResumosEmFluxo()) {
+            bilhetes.forEach(consumidor);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerAssentosReservados(Consumer<AssentoReservado> consumidor) {
+        try (Stream<AssentoReservado> assentos = repo.buscarAssentosReservadosEmFluxo()) {
+            assentos.forEach(consumidor);
+        }
+    }
+
     /**
      * Busca um bilhete pelo seu identificador.
      *
@@ -100,4 +209,10 @@ public class BilheteJpaAdapter implements BilheteRepositoryPort {
     public void deletar(Long id) {
         repo.deleteById(id);
     }
+
+    @Override
+    @Transactional
+    public void atribuirAssentos(Map<Long, String> assentosPorBilhete) {
+        assentosPorBilhete.forEach(repo::atribuirAssento);
+    }
 }
@@ -3,10 +3,20 @@ package br.com.projeto.aeroporto.gestao.adapter;
 
 import br.com.projeto.aeroporto.gestao.model.Passageiro;
 import br.com.projeto.aeroporto.gestao.out.PassageiroRepositoryPort;
+import br.com.projeto.aeroporto.comum.IndiceNomes;
+import br.com.projeto.aeroporto.comum.Paginacao;
+import br.com.projeto.aeroporto.comum.PersistenciaEmLote;
 import br.com.projeto.aeroporto.gestao.repository.PassageiroJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adaptador JPA para a entidade {@link Passageiro}.
@@ -31,14 +41,29 @@ public class PassageiroJpaAdapter implements PassageiroRepositoryPort {
      */
     private final PassageiroJpaRepository repo;
 
+    /**
+     * Contexto de persistência, usado para desanexar passageiros já transmitidos
+     * em {@link #percorrerTodos(Consumer)}.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Gravação em lote usada por {@link #salvarTodos(Collection)}.
+     */
+    private final PersistenciaEmLote persistenciaEmLote;
+
     /**
      * Construtor com injeção de dependência do repositório JPA.
      *
-     * @param repo implementação de {@link PassageiroJpaRepository}
-     *             usada para persistir os dados de {@link Passageiro}
+     * @param repo               implementação de {@link PassageiroJpaRepository}
+     *                           usada para persistir os dados de {@link Passageiro}
+     * @param entityManager      contexto de persistência compartilhado
+     * @param persistenciaEmLote gravação em lote de passageiros
      */
-    public PassageiroJpaAdapter(PassageiroJpaRepository repo) {
+    public PassageiroJpaAdapter(PassageiroJpaRepository repo, EntityManager entityManager, PersistenciaEmLote persistenciaEmLote) {
         this.repo = repo;
+        this.entityManager = entityManager;
+        this.persistenciaEmLote = persistenciaEmLote;
     }
 
     /**
@@ -56,6 +81,22 @@ public class PassageiroJpaAdapter implements PassageiroRepositoryPort {
         return  repo.save(p);
     }
 
+    /**
+     * Salva vários passageiros em uma única transação.
+     *
+     * <p>
+     * Delegado ao {@link PersistenciaEmLote},
+     * que descarrega o contexto de persistência a cada lote JDBC.
+     * </p>
+     *
+     * @param passageiros passageiros a salvar
+     * @return passageiros persistidos, na ordem recebida
+     */
+    @Override
+    public List<Passageiro> salvarTodos(Collection<Passageiro> passageiros) {
+        return persistenciaEmLote.salvarTodos(passageiros, repo::save);
+    }
+
     /**
      * Lista todos os passageiros persistidos.
      *
@@ -70,6 +111,44 @@ public class PassageiroJpaAdapter implements PassageiroRepositoryPort {
         return repo.findAll();
     }
 
+    /**
+     * Lista uma página de passageiros por cursor (keyset).
+     *
+     * <p>
+     * Delegado ao método
+     * {@link PassageiroJpaRepository#findByCodigoPassageiroGreaterThanOrderByCodigoPassageiroAsc(Long, Limit)}.
+     * </p>
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de passageiros na página
+     * @return próxima página de passageiros
+     */
+    @Override
+    public List<Passageiro> listarPagina(Long after, int limit) {
+        return repo.findByCodigoPassageiroGreaterThanOrderByCodigoPassageiroAsc(Paginacao.cursorInicial(after), Limit.of(limit));
+    }
+
+    /**
+     * Percorre todos os passageiros por meio de um cursor JDBC.
+     *
+     * <p>
+     * Cada passageiro é desanexado do contexto de persistência logo após ser
+     * entregue ao consumidor, mantendo o uso de memória constante.
+     * </p>
+     *
+     * @param consumidor função chamada para cada passageiro lido do banco
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerTodos(Consumer<Passageiro> consumidor) {
+        try (Stream<Passageiro> registros = repo.buscarTodosEmFluxo()) {
+            registros.forEach(p -> {
+                consumidor.accept(p);
+                entityManager.detach(p);
+            });
+        }
+    }
+
     /**
      * Busca um passageiro pelo seu identificador.
      *
@@ -96,6 +175,59 @@ public class PassageiroJpaAdapter implements PassageiroRepositoryPort {
     }
     */
 
+    /**
+     * Busca um passageiro pelo documento normalizado.
+     *
+     * <p>
+     * Delegado ao método {@link PassageiroJpaRepository#buscarPorDocumentoNormalizado(String)},
+     * atendido pelo índice de expressão sobre o documento normalizado.
+     * </p>
+     *
+     * @param documento documento informado
+     * @return passageiro encontrado, se houver
+     */
+    @Override
+    public Optional<Passageiro> buscarPorDocumento(String documento) {
+        String normalizado = Passageiro.normalizarIdentificador(documento);
+        return normalizado == null ? Optional.empty() : repo.buscarPorDocumentoNormalizado(normalizado);
+    }
+
+    /**
+     * Busca um passageiro pelo número de cartão normalizado.
+     *
+     * <p>
+     * Delegado ao método {@link PassageiroJpaRepository#buscarPorNumeroCartaoNormalizado(String)},
+     * atendido pelo índice de expressão sobre o número de cartão normalizado.
+     * </p>
+     *
+     * @param numeroCartao número do cartão informado
+     * @return passageiro encontrado, se houver
+     */
+    @Override
+    public Optional<Passageiro> buscarPorNumeroCartao(String numeroCartao) {
+        String normalizado = Passageiro.normalizarIdentificador(numeroCartao);
+        return normalizado == null ? Optional.empty() : repo.buscarPorNumeroCartaoNormalizado(normalizado);
+    }
+
+    /**
+     * Busca passageiros por nome parcial ou com erros de digitação.
+     *
+     * <p>
+     * Delegado ao método {@link PassageiroJpaRepository#buscarPorNomeSemelhante(String, String, int)},
+     * que usa os operadores do {@code pg_trgm}; na comparação por prefixo os
+     * curingas {@code %} e {@code _} do termo valem como texto.
+     * </p>
+     *
+     * @param termo  nome completo ou parcial
+     * @param limite quantidade máxima de passageiros
+     * @return passageiros mais parecidos com o termo
+     */
+    @Override
+    public List<Passageiro> buscarPorNome(String termo, int limite) {
+        String aparado = termo.trim();
+        return repo.buscarPorNomeSemelhante(aparado, IndiceNomes.escaparLike(aparado), limite);
+    }
+
     /**
      * Remove um passageiro com base em seu identificador.
      *
@@ -1,9 +1,14 @@
 package br.com.projeto.aeroporto.gestao.controller;
 
 
+import br.com.projeto.aeroporto.comum.Paginacao;
+import br.com.projeto.aeroporto.comum.RespostaNdjson;
 import br.com.projeto.aeroporto.gestao.in.BilheteUseCase;
 import br.com.projeto.aeroporto.gestao.model.Bilhete;
+import br.com.projeto.aeroporto.gestao.model.BilheteResumo;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,9 +25,12 @@ import java.util.List;
  * Endpoints principais:
  * <ul>
  *   <li>POST {@code /bilhetes} – cria um novo bilhete</li>
- *   <li>GET {@code /bilhetes} – lista todos os bilhetes</li>
+ *   <li>POST {@code /bilhetes/lote} – cria vários bilhetes de uma vez</li>
+ *   <li>GET {@code /bilhetes?after=&limit=} – lista uma página de bilhetes (cursor por ID)</li>
+ *   <li>GET {@code /bilhetes} com {@code Accept: application/x-ndjson} – transmite todos os bilhetes</li>
  *   <li>GET {@code /bilhetes/{id}} – busca bilhete por ID</li>
  *   <li>PUT {@code /bilhetes/{id}} – atualiza bilhete existente</li>
+ *   <li>PUT {@code /bilhetes/{id}/assento/{assento}} – marca assento no voo do bilhete</li>
  *   <li>DELETE {@code /bilhetes/{id}} – remove bilhete</li>
  * </ul>
  * </p>
@@ -36,13 +44,20 @@ public class BilheteController {
      */
     private final BilheteUseCase service;
 
+    /**
+     * Componente que transmite listagens completas em NDJSON.
+     */
+    private final RespostaNdjson respostaNdjson;
+
     /**
      * Construtor com injeção de dependência do caso de uso.
      *
-     * @param service implementação de {@link BilheteUseCase}
+     * @param service        implementação de {@link BilheteUseCase}
+     * @param respostaNdjson componente de transmissão em NDJSON
      */
-    public BilheteController(BilheteUseCase service) {
+    public BilheteController(BilheteUseCase service, RespostaNdjson respostaNdjson) {
         this.service = service;
+        this.respostaNdjson = respostaNdjson;
     }
 
     /**
@@ -61,24 +76,59 @@ public class BilheteController {
     }
 
     /**
-     * Lista todos os bilhetes cadastrados.
+     * Cria vários bilhetes em uma única requisição.
+     *
+     * <p>
+     * Os assentos de todo o lote são reservados antes da gravação; se algum
+     * estiver ocupado, nenhum bilhete do lote é salvo.
+     * </p>
+     *
+     * @param bilhetes bilhetes a serem salvos
+     * @return bilhetes criados, na ordem recebida
+     */
+    @PostMapping("/lote")
+    public List<Bilhete> salvarLote(@RequestBody List<Bilhete> bilhetes) {
+        return service.salvarTodos(bilhetes);
+    }
+
+    /**
+     * Lista uma página de bilhetes, usando o ID como cursor.
+     *
+     * <p>
+     * Para obter a próxima página, envie em {@code after} o ID do último
+     * bilhete recebido. Sem {@code limit}, são devolvidos
+     * {@value Paginacao#LIMITE_PADRAO} registros (máximo {@value Paginacao#LIMITE_MAXIMO}).
+     * </p>
      *
-     * @return lista de bilhetes
+     * @param after último ID já recebido (opcional)
+     * @param limit tamanho da página (opcional)
+     * @return página de bilhetes em ordem crescente de ID, com passageiro e bagagem
      */
     @GetMapping
-    public List<Bilhete> listar() {
-        return service.listar();
+    public List<BilheteResumo> listar(@RequestParam(required = false) Long after,
+                                      @RequestParam(required = false) Integer limit) {
+        return service.listarResumos(after, limit);
+    }
+
+    /**
+     * Transmite todos os bilhetes em NDJSON, um por linha, à medida que são lidos do banco.
+     *
+     * @return resposta em streaming com todos os bilhetes
+     */
+    @GetMapping(produces = RespostaNdjson.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> transmitir() {
+        return respostaNdjson.transmitir(service::percorrerResumos);
     }
 
     /**
      * Busca um bilhete pelo seu identificador.
      *
      * @param id identificador do bilhete (extraído do caminho da URL)
-     * @return bilhete correspondente ao ID informado
+     * @return bilhete correspondente ao ID informado, com passageiro e bagagem
      */
     @GetMapping("/{id}")
-    public Bilhete buscar(@PathVariable Long id) {
-        return service.buscarPorId(id);
+    public BilheteResumo buscar(@PathVariable Long id) {
+        return service.buscarResumo(id);
     }
 
     /**
@@ -97,6 +147,18 @@ public class BilheteController {
         return service.atualizar(id, b);
     }
 
+    /**
+     * Marca um assento para o bilhete no voo ao qual ele pertence.
+     *
+     * @param id      identificador do bilhete
+     * @param assento assento desejado (ex.: {@code 12A})
+     * @return bilhete com o novo assento
+     */
+    @PutMapping("/{id}/assento/{assento}")
+    public Bilhete marcarAssento(@PathVariable Long id, @PathVariable String assento) {
+        return service.marcarAssento(id, assento);
+    }
+
     /**
      * Remove um bilhete com base em seu identificador.
      *
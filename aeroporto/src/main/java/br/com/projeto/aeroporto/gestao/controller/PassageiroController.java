@@ -1,9 +1,14 @@
 package br.com.projeto.aeroporto.gestao.controller;
 
 
+import br.com.projeto.aeroporto.comum.IndiceNomes;
+import br.com.projeto.aeroporto.comum.Paginacao;
+import br.com.projeto.aeroporto.comum.RespostaNdjson;
 import br.com.projeto.aeroporto.gestao.in.PassageiroUseCase;
 import br.com.projeto.aeroporto.gestao.model.Passageiro;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,8 +25,13 @@ import java.util.List;
  * Endpoints principais:
  * <ul>
  *   <li>POST {@code /passageiros} – cria um novo passageiro</li>
- *   <li>GET {@code /passageiros} – lista todos os passageiros</li>
+ *   <li>POST {@code /passageiros/lote} – cria vários passageiros de uma vez</li>
+ *   <li>GET {@code /passageiros?after=&limit=} – lista uma página de passageiros (cursor por ID)</li>
+ *   <li>GET {@code /passageiros} com {@code Accept: application/x-ndjson} – transmite todos os passageiros</li>
  *   <li>GET {@code /passageiros/{id}} – busca passageiro por ID</li>
+ *   <li>GET {@code /passageiros/busca?q=&limit=} – busca passageiros por nome parcial ou aproximado</li>
+ *   <li>GET {@code /passageiros/documento/{documento}} – busca passageiro por documento</li>
+ *   <li>GET {@code /passageiros/cartao/{numeroCartao}} – busca passageiro por número de cartão</li>
  *   <li>PUT {@code /passageiros/{id}} – atualiza passageiro existente</li>
  *   <li>DELETE {@code /passageiros/{id}} – remove passageiro</li>
  * </ul>
@@ -36,13 +46,20 @@ public class PassageiroController {
      */
     private final PassageiroUseCase service;
 
+    /**
+     * Componente que transmite listagens completas em NDJSON.
+     */
+    private final RespostaNdjson respostaNdjson;
+
     /**
      * Construtor com injeção de dependência do caso de uso.
      *
-     * @param service implementação de {@link PassageiroUseCase}
+     * @param service        implementação de {@link PassageiroUseCase}
+     * @param respostaNdjson componente de transmissão em NDJSON
      */
-    public PassageiroController(PassageiroUseCase service) {
+    public PassageiroController(PassageiroUseCase service, RespostaNdjson respostaNdjson) {
         this.service = service;
+        this.respostaNdjson = respostaNdjson;
     }
 
     /**
@@ -61,13 +78,48 @@ public class PassageiroController {
     }
 
     /**
-     * Lista todos os passageiros cadastrados.
+     * Cria vários passageiros em uma única requisição.
+     *
+     * <p>
+     * Pensado para cargas de manifestos: os registros são gravados em uma única
+     * transação, com inserções agrupadas em lotes JDBC.
+     * </p>
      *
-     * @return lista de passageiros
+     * @param passageiros passageiros a serem salvos
+     * @return passageiros criados, na ordem recebida
+     */
+    @PostMapping("/lote")
+    public List<Passageiro> salvarLote(@RequestBody List<Passageiro> passageiros) {
+        return service.salvarTodos(passageiros);
+    }
+
+    /**
+     * Lista uma página de passageiros, usando o ID como cursor.
+     *
+     * <p>
+     * Para obter a próxima página, envie em {@code after} o ID do último
+     * passageiro recebido. Sem {@code limit}, são devolvidos
+     * {@value Paginacao#LIMITE_PADRAO} registros (máximo {@value Paginacao#LIMITE_MAXIMO}).
+     * </p>
+     *
+     * @param after último ID já recebido (opcional)
+     * @param limit tamanho da página (opcional)
+     * @return página de passageiros em ordem crescente de ID
      */
     @GetMapping
-    public List<Passageiro> listar() {
-        return service.listar();
+    public List<Passageiro> listar(@RequestParam(required = false) Long after,
+                                   @RequestParam(required = false) Integer limit) {
+        return service.listarPagina(after, limit);
+    }
+
+    /**
+     * Transmite todos os passageiros em NDJSON, um por linha, à medida que são lidos do banco.
+     *
+     * @return resposta em streaming com todos os passageiros
+     */
+    @GetMapping(produces = RespostaNdjson.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> transmitir() {
+        return respostaNdjson.transmitir(service::percorrerTodos);
     }
 
     /**
@@ -81,6 +133,47 @@ public class PassageiroController {
         return service.buscarPorId(id);
     }
 
+    /**
+     * Busca passageiros por nome parcial ou com erros de digitação.
+     *
+     * <p>
+     * Devolve os mais parecidos primeiro; nomes com alguma palavra iniciada pelo
+     * termo vêm antes dos demais. Sem {@code limit}, são devolvidos
+     * {@value IndiceNomes#LIMITE_PADRAO} resultados (máximo {@value IndiceNomes#LIMITE_MAXIMO}).
+     * </p>
+     *
+     * @param q     nome completo ou parcial
+     * @param limit quantidade máxima de resultados (opcional)
+     * @return código, nome e pontuação dos passageiros encontrados
+     */
+    @GetMapping("/busca")
+    public List<IndiceNomes.Resultado> buscarPorNome(@RequestParam String q,
+                                                     @RequestParam(required = false) Integer limit) {
+        return service.buscarPorNome(q, limit);
+    }
+
+    /**
+     * Busca um passageiro pelo documento, como no check-in.
+     *
+     * @param documento documento do passageiro, com ou sem pontuação
+     * @return passageiro correspondente ao documento
+     */
+    @GetMapping("/documento/{documento}")
+    public Passageiro buscarPorDocumento(@PathVariable String documento) {
+        return service.buscarPorDocumento(documento);
+    }
+
+    /**
+     * Busca um passageiro pelo número do cartão, como nos programas de fidelidade.
+     *
+     * @param numeroCartao número do cartão, com ou sem pontuação
+     * @return passageiro correspondente ao cartão
+     */
+    @GetMapping("/cartao/{numeroCartao}")
+    public Passageiro buscarPorNumeroCartao(@PathVariable String numeroCartao) {
+        return service.buscarPorNumeroCartao(numeroCartao);
+    }
+
     /**
      * Atualiza os dados de um passageiro existente.
      *
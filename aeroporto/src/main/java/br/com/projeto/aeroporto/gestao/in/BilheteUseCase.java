@@ -2,8 +2,11 @@ package br.com.projeto.aeroporto.gestao.in;
 
 
 import br.com.projeto.aeroporto.gestao.model.Bilhete;
+import br.com.projeto.aeroporto.gestao.model.BilheteResumo;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Caso de uso para gestão de {@link Bilhete}.
@@ -29,6 +32,14 @@ public interface BilheteUseCase {
      */
     Bilhete salvar(Bilhete bilhete);
 
+    /**
+     * Salva um lote de bilhetes, reservando os assentos informados.
+     *
+     * @param bilhetes bilhetes a serem salvos
+     * @return bilhetes persistidos, na ordem recebida
+     */
+    List<Bilhete> salvarTodos(Collection<Bilhete> bilhetes);
+
     /**
      * Retorna a lista de todos os bilhetes cadastrados.
      *
@@ -36,6 +47,31 @@ public interface BilheteUseCase {
      */
     List<Bilhete> listar();
 
+    /**
+     * Retorna uma página de bilhetes por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit tamanho da página solicitado ({@code null} para o padrão)
+     * @return bilhetes com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<Bilhete> listarPagina(Long after, Integer limit);
+
+    /**
+     * Retorna uma página de bilhetes por cursor, com passageiro e bagagem resolvidos.
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit tamanho da página solicitado ({@code null} para o padrão)
+     * @return bilhetes com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<BilheteResumo> listarResumos(Long after, Integer limit);
+
+    /**
+     * Percorre todos os bilhetes cadastrados, um a um, com passageiro e bagagem resolvidos.
+     *
+     * @param consumidor função chamada para cada bilhete
+     */
+    void percorrerResumos(Consumer<BilheteResumo> consumidor);
+
     /**
      * Busca um bilhete pelo seu identificador.
      *
@@ -45,6 +81,15 @@ public interface BilheteUseCase {
      */
     Bilhete buscarPorId(Long id);
 
+    /**
+     * Busca um bilhete para exibição, com passageiro e bagagem resolvidos.
+     *
+     * @param id identificador do bilhete
+     * @return o bilhete correspondente ao ID informado
+     * @throws RuntimeException caso o bilhete não seja encontrado
+     */
+    BilheteResumo buscarResumo(Long id);
+
     /**
      * Atualiza os dados de um bilhete existente.
      *
@@ -55,6 +100,16 @@ public interface BilheteUseCase {
      */
     Bilhete atualizar(Long id, Bilhete bilhete);
 
+    /**
+     * Marca um assento para o bilhete no voo ao qual ele pertence.
+     *
+     * @param id      identificador do bilhete
+     * @param assento assento desejado (ex.: {@code "12A"})
+     * @return bilhete com o novo assento
+     * @throws RuntimeException caso o assento esteja indisponível no voo
+     */
+    Bilhete marcarAssento(Long id, String assento);
+
     /**
      * Remove um bilhete com base em seu identificador.
      *
@@ -1,9 +1,12 @@
 package br.com.projeto.aeroporto.gestao.in;
 
 
+import br.com.projeto.aeroporto.comum.IndiceNomes;
 import br.com.projeto.aeroporto.gestao.model.Passageiro;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Caso de uso para gestão de {@link Passageiro}.
@@ -25,6 +28,14 @@ public interface PassageiroUseCase {
      */
     Passageiro salvar(Passageiro passageiro);
 
+    /**
+     * Salva um lote de passageiros, como os de um manifesto de voo.
+     *
+     * @param passageiros passageiros a serem salvos
+     * @return passageiros persistidos, na ordem recebida
+     */
+    List<Passageiro> salvarTodos(Collection<Passageiro> passageiros);
+
     /**
      * Retorna a lista de todos os passageiros cadastrados.
      *
@@ -32,6 +43,22 @@ public interface PassageiroUseCase {
      */
     List<Passageiro> listar();
 
+    /**
+     * Retorna uma página de passageiros por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit tamanho da página solicitado ({@code null} para o padrão)
+     * @return passageiros com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<Passageiro> listarPagina(Long after, Integer limit);
+
+    /**
+     * Percorre todos os passageiros cadastrados, um a um.
+     *
+     * @param consumidor função chamada para cada passageiro
+     */
+    void percorrerTodos(Consumer<Passageiro> consumidor);
+
     /**
      * Busca um passageiro pelo seu identificador.
      *
@@ -41,6 +68,33 @@ public interface PassageiroUseCase {
      */
     Passageiro buscarPorId(Long id);
 
+    /**
+     * Busca um passageiro pelo documento, ignorando pontuação, espaços e caixa.
+     *
+     * @param documento documento informado no balcão
+     * @return passageiro correspondente ao documento
+     * @throws RuntimeException caso o passageiro não seja encontrado
+     */
+    Passageiro buscarPorDocumento(String documento);
+
+    /**
+     * Busca um passageiro pelo número do cartão, ignorando pontuação, espaços e caixa.
+     *
+     * @param numeroCartao número do cartão informado
+     * @return passageiro correspondente ao cartão
+     * @throws RuntimeException caso o passageiro não seja encontrado
+     */
+    Passageiro buscarPorNumeroCartao(String numeroCartao);
+
+    /**
+     * Busca passageiros por nome parcial ou com erros de digitação.
+     *
+     * @param termo  nome completo ou parcial
+     * @param limite quantidade máxima de resultados ({@code null} para o padrão)
+     * @return passageiros encontrados, do mais ao menos parecido com o termo
+     */
+    List<IndiceNomes.Resultado> buscarPorNome(String termo, Integer limite);
+
     /**
      * Atualiza os dados de um passageiro existente.
      *
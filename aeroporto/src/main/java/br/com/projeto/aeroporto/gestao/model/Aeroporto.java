@@ -1,6 +1,8 @@
 package br.com.projeto.aeroporto.gestao.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Representa um aeroporto no sistema.
@@ -8,6 +10,8 @@ import jakarta.persistence.*;
  * informações básicas como identificador, nome e código do aeroporto.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Aeroporto {
 
     /**
@@ -0,0 +1,12 @@
+package br.com.projeto.aeroporto.gestao.model;
+
+
+/**
+ * Assento ocupado por um {@link Bilhete}, lido do banco para carregar o mapa de assentos.
+ *
+ * @param idBilhete identificador do bilhete
+ * @param codigoVoo voo do bilhete
+ * @param assento   assento marcado
+ */
+public record AssentoReservado(Long idBilhete, String codigoVoo, String assento) {
+}
@@ -15,10 +15,11 @@ public class Bilhete {
 
     /**
      * Identificador único do bilhete.
-     * Valor gerado automaticamente pelo provedor JPA.
+     * Obtido da sequência {@code bilhete_seq} em blocos de 50 valores.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bilhete_seq")
+    @SequenceGenerator(name = "bilhete_seq", sequenceName = "bilhete_seq", allocationSize = 50)
     private Long idBilhete;
 
     /**
@@ -31,9 +32,18 @@ public class Bilhete {
     /**
      * Assento associado ao bilhete.
      * Exemplo: "12A", "5C".
+     * Gravado na inclusão; depois, só pelo {@code GravadorAssentos}, para que
+     * uma alteração síncrona e um lote atrasado não se sobreponham.
      */
+    @Column(updatable = false)
     private String assento;
 
+    /**
+     * Código do voo ao qual o bilhete pertence.
+     * Exemplo: "G31234". Identifica o mapa de assentos usado na reserva.
+     */
+    private String codigoVoo;
+
     /**
      * Bagagem associada a este bilhete.
      * Relação um-para-um com a entidade {@link Bagagem}. O carregamento é
@@ -132,6 +142,24 @@ public class Bilhete {
         this.assento = assento;
     }
 
+    /**
+     * Retorna o código do voo ao qual o bilhete pertence.
+     *
+     * @return código do voo
+     */
+    public String getCodigoVoo() {
+        return codigoVoo;
+    }
+
+    /**
+     * Define o código do voo ao qual o bilhete pertence.
+     *
+     * @param codigoVoo novo código do voo
+     */
+    public void setCodigoVoo(String codigoVoo) {
+        this.codigoVoo = codigoVoo;
+    }
+
     //  private Voo voo;
 
     public static void main() {
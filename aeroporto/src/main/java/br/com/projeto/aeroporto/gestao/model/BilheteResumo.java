@@ -0,0 +1,23 @@
+package br.com.projeto.aeroporto.gestao.model;
+
+
+/**
+ * Dados de um {@link Bilhete} para exibição, com o passageiro e a bagagem
+ * resolvidos na mesma consulta em vez de proxies preguiçosos.
+ *
+ * @param idBilhete        identificador do bilhete
+ * @param numero           número do bilhete
+ * @param assento          assento marcado (pode ser {@code null})
+ * @param codigoVoo        voo do bilhete
+ * @param codigoPassageiro identificador do {@link Passageiro} (pode ser {@code null})
+ * @param nomePassageiro   nome do passageiro (pode ser {@code null})
+ * @param codigoBagagem    identificador da bagagem despachada (pode ser {@code null})
+ */
+public record BilheteResumo(Long idBilhete,
+                            Integer numero,
+                            String assento,
+                            String codigoVoo,
+                            Long codigoPassageiro,
+                            String nomePassageiro,
+                            Long codigoBagagem) {
+}
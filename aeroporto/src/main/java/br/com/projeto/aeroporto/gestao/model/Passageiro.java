@@ -14,11 +14,12 @@ public class Passageiro {
 
     /**
      * Identificador único do passageiro.
-     * Gerado automaticamente pelo provedor JPA.
-
+     * Obtido da sequência {@code passageiro_seq} em blocos de 50 valores,
+     * o que permite agrupar as inserções em lotes JDBC.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "passageiro_seq")
+    @SequenceGenerator(name = "passageiro_seq", sequenceName = "passageiro_seq", allocationSize = 50)
     private Long codigoPassageiro;
 
     /**
@@ -136,6 +137,34 @@ public class Passageiro {
         this.numeroCartao = numeroCartao;
     }
 
+    /**
+     * Normaliza um documento ou número de cartão para comparação: remove tudo o
+     * que não for letra ou dígito e converte para maiúsculas
+     * ({@code "123.456.789-00"} e {@code "12345678900"} ficam iguais).
+     *
+     * <p>
+     * Deve acompanhar a expressão dos índices em {@code db/passageiro_indices.sql}.
+     * </p>
+     *
+     * @param identificador documento ou número de cartão informado
+     * @return identificador normalizado, ou {@code null} se não houver letras nem dígitos
+     */
+    public static String normalizarIdentificador(String identificador) {
+        if (identificador == null) {
+            return null;
+        }
+        StringBuilder normalizado = new StringBuilder(identificador.length());
+        for (int i = 0; i < identificador.length(); i++) {
+            char c = identificador.charAt(i);
+            if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z')) {
+                normalizado.append(c);
+            } else if (c >= 'a' && c <= 'z') {
+                normalizado.append((char) (c - ('a' - 'A')));
+            }
+        }
+        return normalizado.isEmpty() ? null : normalizado.toString();
+    }
+
 
     /**
      * Realiza a compra de um bilhete para o passageiro.
@@ -3,6 +3,7 @@ package br.com.projeto.aeroporto.gestao.out;
 
 import br.com.projeto.aeroporto.gestao.model.Aeroporto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,14 @@ public interface AeroportoRepositoryPort {
      */
     Aeroporto salvar(Aeroporto aeroporto);
 
+    /**
+     * Salva vários aeroportos em uma única transação, com inserções em lote.
+     *
+     * @param aeroportos aeroportos a salvar
+     * @return aeroportos persistidos, na ordem recebida
+     */
+    List<Aeroporto> salvarTodos(Collection<Aeroporto> aeroportos);
+
     /**
      * Lista todos os aeroportos persistidos.
      *
@@ -1,10 +1,15 @@
 package br.com.projeto.aeroporto.gestao.out;
 
 
+import br.com.projeto.aeroporto.gestao.model.AssentoReservado;
 import br.com.projeto.aeroporto.gestao.model.Bilhete;
+import br.com.projeto.aeroporto.gestao.model.BilheteResumo;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Porta de repositório para a entidade {@link Bilhete}.
@@ -30,6 +35,14 @@ public interface BilheteRepositoryPort {
      */
     Bilhete salvar(Bilhete bilhete);
 
+    /**
+     * Salva vários bilhetes em uma única transação, com inserções em lote.
+     *
+     * @param bilhetes bilhetes a salvar
+     * @return bilhetes persistidos, na ordem recebida
+     */
+    List<Bilhete> salvarTodos(Collection<Bilhete> bilhetes);
+
     /**
      * Lista todos os bilhetes persistidos.
      *
@@ -37,6 +50,48 @@ public interface BilheteRepositoryPort {
      */
     List<Bilhete> listar();
 
+    /**
+     * Lista uma página de bilhetes por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de bilhetes na página
+     * @return bilhetes com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<Bilhete> listarPagina(Long after, int limit);
+
+    /**
+     * Lista uma página de bilhetes por cursor, já projetados para exibição.
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de bilhetes na página
+     * @return bilhetes com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<BilheteResumo> listarResumos(Long after, int limit);
+
+    /**
+     * Busca um bilhete já projetado para exibição.
+     *
+     * @param id identificador do bilhete
+     * @return um {@link Optional} com o bilhete, ou vazio se não existir
+     */
+    Optional<BilheteResumo> buscarResumo(Long id);
+
+    /**
+     * Percorre todos os bilhetes projetados, em ordem de ID, sem carregá-los de
+     * uma vez em memória.
+     *
+     * @param consumidor função chamada para cada bilhete lido do banco
+     */
+    void percorrerResumos(Consumer<BilheteResumo> consumidor);
+
+    /**
+     * Percorre apenas os assentos ocupados (bilhetes com voo e assento), sem
+     * carregar os bilhetes.
+     *
+     * @param consumidor função chamada para cada assento ocupado
+     */
+    void percorrerAssentosReservados(Consumer<AssentoReservado> consumidor);
+
     /**
      * Busca um bilhete pelo seu identificador.
      *
@@ -52,4 +107,11 @@ public interface BilheteRepositoryPort {
      * @param id identificador do bilhete a ser removido
      */
     void deletar(Long id);
+
+    /**
+     * Grava o assento de cada bilhete, em uma única transação.
+     *
+     * @param assentosPorBilhete assento vigente por bilhete ({@code null} remove o assento)
+     */
+    void atribuirAssentos(Map<Long, String> assentosPorBilhete);
 }
\ No newline at end of file
@@ -3,7 +3,10 @@ package br.com.projeto.aeroporto.gestao.out;
 
 import br.com.projeto.aeroporto.gestao.model.Passageiro;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Porta de repositório para a entidade {@link Passageiro}.
@@ -29,6 +32,14 @@ public interface PassageiroRepositoryPort {
      */
     Passageiro salvar(Passageiro passageiro);
 
+    /**
+     * Salva vários passageiros em uma única transação, com inserções em lote.
+     *
+     * @param passageiros passageiros a salvar
+     * @return passageiros persistidos, na ordem recebida
+     */
+    List<Passageiro> salvarTodos(Collection<Passageiro> passageiros);
+
     /**
      * Lista todos os passageiros persistidos.
      *
@@ -36,6 +47,22 @@ public interface PassageiroRepositoryPort {
      */
     List<Passageiro> listar();
 
+    /**
+     * Lista uma página de passageiros por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de passageiros na página
+     * @return passageiros com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<Passageiro> listarPagina(Long after, int limit);
+
+    /**
+     * Percorre todos os passageiros em ordem de ID, sem carregá-los de uma vez em memória.
+     *
+     * @param consumidor função chamada para cada passageiro lido do banco
+     */
+    void percorrerTodos(Consumer<Passageiro> consumidor);
+
     /**
      * Busca um passageiro pelo seu identificador.
      *
@@ -45,6 +72,31 @@ public interface PassageiroRepositoryPort {
      */
     Passageiro buscarPorId(Long id);
 
+    /**
+     * Busca um passageiro pelo documento, ignorando pontuação, espaços e caixa.
+     *
+     * @param documento documento informado (CPF, RG, passaporte etc.)
+     * @return passageiro com o documento informado; havendo mais de um, o cadastrado por último
+     */
+    Optional<Passageiro> buscarPorDocumento(String documento);
+
+    /**
+     * Busca um passageiro pelo número do cartão, ignorando pontuação, espaços e caixa.
+     *
+     * @param numeroCartao número do cartão informado
+     * @return passageiro com o cartão informado; havendo mais de um, o cadastrado por último
+     */
+    Optional<Passageiro> buscarPorNumeroCartao(String numeroCartao);
+
+    /**
+     * Busca passageiros por nome parcial ou com erros de digitação.
+     *
+     * @param termo  nome completo ou parcial
+     * @param limite quantidade máxima de passageiros
+     * @return passageiros mais parecidos com o termo, do mais ao menos parecido
+     */
+    List<Passageiro> buscarPorNome(String termo, int limite);
+
     /**
      * Remove um passageiro com base em seu identificador.
      *
@@ -1,10 +1,23 @@
 package br.com.projeto.aeroporto.gestao.repository;
 
 
+import br.com.projeto.aeroporto.gestao.model.AssentoReservado;
 import br.com.projeto.aeroporto.gestao.model.Bilhete;
+import br.com.projeto.aeroporto.gestao.model.BilheteResumo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Repositório JPA para a entidade {@link Bilhete}.
  *
@@ -22,5 +35,94 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface BilheteJpaRepository extends JpaRepository<Bilhete, Long> {
-    // Métodos de consulta adicionais (query methods) podem ser declarados aqui, se necessário.
+
+    /**
+     * Página por cursor: bilhetes com ID maior que o informado, em ordem crescente de ID.
+     *
+     * @param idBilhete último ID já entregue ao cliente
+     * @param limite    quantidade máxima de registros
+     * @return próxima página de bilhetes
+     */
+    List<Bilhete> findByIdBilheteGreaterThanOrderByIdBilheteAsc(Long idBilhete, Limit limite);
+
+    /**
+     * Percorre todos os bilhetes, projetados em {@link BilheteResumo}, em ordem
+     * de ID por meio de um cursor JDBC.
+     *
+     * <p>
+     * Passageiro e bagagem vêm das junções da própria consulta. Deve ser
+     * consumido dentro de uma transação e fechado ao final.
+     * </p>
+     *
+     * @return fluxo de bilhetes lido em lotes do tamanho do fetch size
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.gestao.model.BilheteResumo(
+                b.idBilhete, b.numero, b.assento, b.codigoVoo, p.codigoPassageiro, p.nome, g.codigoBagagem)
+            from Bilhete b left join b.passageiro p left join b.bagagem g
+            order by b.idBilhete
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<BilheteResumo> buscarResumosEmFluxo();
+
+    /**
+     * Percorre os assentos ocupados, sem carregar os bilhetes, por meio de um cursor JDBC.
+     *
+     * <p>
+     * Usa o índice {@code idx_bilhete_voo_assento}. Deve ser consumido dentro
+     * de uma transação e fechado ao final.
+     * </p>
+     *
+     * @return fluxo dos assentos ocupados, em ordem de ID do bilhete
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.gestao.model.AssentoReservado(b.idBilhete, b.codigoVoo, b.assento)
+            from Bilhete b
+            where b.codigoVoo is not null and b.assento is not null
+            order by b.idBilhete
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<AssentoReservado> buscarAssentosReservadosEmFluxo();
+
+    /**
+     * Grava o assento de um bilhete; a coluna não é atualizada pelo {@code save}.
+     *
+     * @param idBilhete identificador do bilhete
+     * @param assento   assento vigente (pode ser {@code null})
+     * @return quantidade de bilhetes alterados
+     */
+    @Modifying
+    @Query("update Bilhete b set b.assento = :assento where b.idBilhete = :idBilhete")
+    int atribuirAssento(@Param("idBilhete") Long idBilhete, @Param("assento") String assento);
+
+    /**
+     * Página por cursor já projetada em {@link BilheteResumo}, com passageiro e
+     * bagagem resolvidos por junções na mesma consulta.
+     *
+     * @param idBilhete último ID já entregue ao cliente
+     * @param limite    quantidade máxima de registros
+     * @return próxima página de bilhetes
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.gestao.model.BilheteResumo(
+                b.idBilhete, b.numero, b.assento, b.codigoVoo, p.codigoPassageiro, p.nome, g.codigoBagagem)
+            from Bilhete b left join b.passageiro p left join b.bagagem g
+            where b.idBilhete > :idBilhete
+            order by b.idBilhete
+            """)
+    List<BilheteResumo> listarResumos(@Param("idBilhete") Long idBilhete, Limit limite);
+
+    /**
+     * Um bilhete projetado em {@link BilheteResumo}.
+     *
+     * @param idBilhete identificador do bilhete
+     * @return bilhete com passageiro e bagagem, se existir
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.gestao.model.BilheteResumo(
+                b.idBilhete, b.numero, b.assento, b.codigoVoo, p.codigoPassageiro, p.nome, g.codigoBagagem)
+            from Bilhete b left join b.passageiro p left join b.bagagem g
+            where b.idBilhete = :idBilhete
+            """)
+    Optional<BilheteResumo> buscarResumo(@Param("idBilhete") Long idBilhete);
 }
\ No newline at end of file
@@ -2,9 +2,19 @@ package br.com.projeto.aeroporto.gestao.repository;
 
 
 import br.com.projeto.aeroporto.gestao.model.Passageiro;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Repositório JPA para a entidade {@link Passageiro}.
  *
@@ -22,5 +32,85 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface PassageiroJpaRepository extends JpaRepository<Passageiro, Long> {
-    // Métodos de consulta adicionais (query methods) podem ser declarados aqui, se necessário.
+
+    /**
+     * Página por cursor: passageiros com ID maior que o informado, em ordem crescente de ID.
+     *
+     * @param codigoPassageiro último ID já entregue ao cliente
+     * @param limite    quantidade máxima de registros
+     * @return próxima página de passageiros
+     */
+    List<Passageiro> findByCodigoPassageiroGreaterThanOrderByCodigoPassageiroAsc(Long codigoPassageiro, Limit limite);
+
+    /**
+     * Percorre todos os passageiros em ordem de ID por meio de um cursor JDBC.
+     *
+     * <p>
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     * </p>
+     *
+     * @return fluxo de passageiros lido em lotes do tamanho do fetch size
+     */
+    @Query("select p from Passageiro p order by p.codigoPassageiro")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Passageiro> buscarTodosEmFluxo();
+
+    /**
+     * Busca um passageiro pelo documento já normalizado.
+     *
+     * <p>
+     * A expressão é a mesma do índice {@code idx_passageiro_documento_normalizado}.
+     * </p>
+     *
+     * @param documento documento normalizado por {@link Passageiro#normalizarIdentificador(String)}
+     * @return passageiro com o documento informado, se houver
+     */
+    @Query(value = """
+            SELECT * FROM passageiro
+            WHERE upper(regexp_replace(documento, '[^0-9A-Za-z]', '', 'g')) = :documento
+            ORDER BY codigo_passageiro DESC
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<Passageiro> buscarPorDocumentoNormalizado(@Param("documento") String documento);
+
+    /**
+     * Busca um passageiro pelo número de cartão já normalizado.
+     *
+     * <p>
+     * A expressão é a mesma do índice {@code idx_passageiro_numero_cartao_normalizado}.
+     * </p>
+     *
+     * @param numeroCartao número de cartão normalizado por {@link Passageiro#normalizarIdentificador(String)}
+     * @return passageiro com o cartão informado, se houver
+     */
+    @Query(value = """
+            SELECT * FROM passageiro
+            WHERE upper(regexp_replace(numero_cartao, '[^0-9A-Za-z]', '', 'g')) = :numeroCartao
+            ORDER BY codigo_passageiro DESC
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<Passageiro> buscarPorNumeroCartaoNormalizado(@Param("numeroCartao") String numeroCartao);
+
+    /**
+     * Busca passageiros por nome parcial ou com erros de digitação, pelo {@code pg_trgm}.
+     *
+     * <p>
+     * Atendida pelo índice GIN {@code idx_passageiro_nome_trgm}.
+     * </p>
+     *
+     * @param termo  nome completo ou parcial
+     * @param padrao o mesmo termo com os curingas escapados por {@link br.com.projeto.aeroporto.comum.IndiceNomes#escaparLike(String)}
+     * @param limite quantidade máxima de passageiros
+     * @return passageiros em ordem decrescente de semelhança com o termo
+     */
+    @Query(value = """
+            SELECT * FROM passageiro
+            WHERE :termo <% nome
+               OR nome ILIKE :padrao || '%' ESCAPE '\\'
+               OR nome ILIKE '% ' || :padrao || '%' ESCAPE '\\'
+            ORDER BY word_similarity(:termo, nome) DESC
+            LIMIT :limite
+            """, nativeQuery = true)
+    List<Passageiro> buscarPorNomeSemelhante(@Param("termo") String termo, @Param("padrao") String padrao,
+                                            @Param("limite") int limite);
 }
@@ -78,6 +78,12 @@ public class AeroportoService implements AeroportoUseCase {
     /**
      * Atualiza os dados de um aeroporto existente.
      *
+     * <p>
+     * A instância devolvida por {@link #buscarPorId(Long)} pode ser a do cache
+     * {@code aeroportos}, compartilhada com outras requisições: as alterações
+     * vão para uma cópia, e o cache só é invalidado depois que ela é gravada.
+     * </p>
+     *
      * @param id   identificador do aeroporto a ser atualizado
      * @param novo objeto contendo os novos dados do aeroporto
      * @return aeroporto atualizado e persistido
@@ -86,9 +92,7 @@ public class AeroportoService implements AeroportoUseCase {
     @Override
     public Aeroporto atualizar(Long id, Aeroporto novo) {
         Aeroporto atual = buscarPorId(id);
-        atual.setNome(novo.getNome());
-        atual.setCodigo(novo.getCodigo());
-        return repository.salvar(atual);
+        return repository.salvar(new Aeroporto(atual.getIdAeroporto(), novo.getNome(), novo.getCodigo()));
     }
 
     /**
@@ -1,12 +1,18 @@
 package br.com.projeto.aeroporto.gestao.service;
 
 
+import br.com.projeto.aeroporto.comum.Paginacao;
 import br.com.projeto.aeroporto.gestao.in.BilheteUseCase;
 import br.com.projeto.aeroporto.gestao.model.Bilhete;
+import br.com.projeto.aeroporto.gestao.model.BilheteResumo;
 import br.com.projeto.aeroporto.gestao.out.BilheteRepositoryPort;
+import jakarta.annotation.PostConstruct;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Serviço de aplicação para operações relacionadas a {@link Bilhete}.
@@ -30,24 +36,138 @@ public class BilheteService implements BilheteUseCase {
     private final BilheteRepositoryPort repository;
 
     /**
-     * Construtor que recebe a dependência de repositório via injeção.
+     * Mapa em memória dos assentos reservados em cada voo.
+     */
+    private final MapaAssentos mapaAssentos;
+
+    /**
+     * Gravador em lote das marcações de assento.
+     */
+    private final GravadorAssentos gravadorAssentos;
+
+    /**
+     * Construtor que recebe as dependências via injeção.
      *
-     * @param repository implementação de {@link BilheteRepositoryPort}
-     *                   utilizada para persistência dos dados de bilhetes
+     * @param repository       implementação de {@link BilheteRepositoryPort}
+     *                         utilizada para persistência dos dados de bilhetes
+     * @param mapaAssentos     mapa em memória dos assentos reservados
+     * @param gravadorAssentos gravador em lote das marcações de assento
      */
-    public BilheteService(BilheteRepositoryPort repository) {
+    public BilheteService(BilheteRepositoryPort repository, MapaAssentos mapaAssentos,
+                          GravadorAssentos gravadorAssentos) {
         this.repository = repository;
+        this.mapaAssentos = mapaAssentos;
+        this.gravadorAssentos = gravadorAssentos;
+    }
+
+    /**
+     * Carrega no mapa os assentos ocupados, antes de a aplicação receber
+     * vendas: uma venda antes da carga poderia reservar um assento já gravado.
+     */
+    @PostConstruct
+    public void carregarMapaAssentos() {
+        repository.percorrerAssentosReservados(mapaAssentos::carregar);
     }
 
     /**
      * Salva um novo bilhete ou atualiza um já existente.
      *
+     * <p>
+     * Quando o bilhete informa voo e assento, o assento é reservado no
+     * {@link MapaAssentos} antes da gravação; se já estiver ocupado por outro
+     * bilhete, a venda é recusada. Em um bilhete já existente, o assento é
+     * gravado pelo {@link GravadorAssentos}.
+     * </p>
+     *
      * @param bilhete objeto contendo os dados do bilhete a ser salvo
      * @return o bilhete persistido
+     * @throws RuntimeException caso o assento esteja indisponível no voo
      */
     @Override
     public Bilhete salvar(Bilhete bilhete) {
-        return repository.salvar(bilhete);
+        boolean reservou = reservarAssento(bilhete.getIdBilhete(), bilhete.getCodigoVoo(), bilhete.getAssento());
+        Bilhete salvo;
+        try {
+            salvo = repository.salvar(bilhete);
+        } catch (RuntimeException e) {
+            if (reservou) {
+                mapaAssentos.liberar(bilhete.getCodigoVoo(), bilhete.getAssento());
+            }
+            throw e;
+        }
+        mapaAssentos.vincular(salvo.getIdBilhete(), salvo.getCodigoVoo(), salvo.getAssento());
+        if (bilhete.getIdBilhete() != null) {
+            gravadorAssentos.registrar(new GravadorAssentos.Atribuicao(salvo.getIdBilhete(), salvo.getAssento()));
+        }
+        return salvo;
+    }
+
+    /**
+     * Salva um lote de bilhetes em uma única transação.
+     *
+     * <p>
+     * Todos os assentos do lote são reservados no {@link MapaAssentos} antes da
+     * gravação. Se algum estiver ocupado, ou se a gravação falhar, as reservas
+     * feitas para o lote são desfeitas e nenhum bilhete é salvo.
+     * </p>
+     *
+     * @param bilhetes bilhetes a serem salvos
+     * @return bilhetes persistidos, na ordem recebida
+     * @throws RuntimeException caso algum assento esteja indisponível no voo
+     */
+    @Override
+    public List<Bilhete> salvarTodos(Collection<Bilhete> bilhetes) {
+        List<Bilhete> reservados = new ArrayList<>();
+        List<Bilhete> salvos;
+        try {
+            for (Bilhete bilhete : bilhetes) {
+                if (reservarAssento(bilhete.getIdBilhete(), bilhete.getCodigoVoo(), bilhete.getAssento())) {
+                    reservados.add(bilhete);
+                }
+            }
+            salvos = repository.salvarTodos(bilhetes);
+        } catch (RuntimeException e) {
+            reservados.forEach(b -> mapaAssentos.liberar(b.getCodigoVoo(), b.getAssento()));
+            throw e;
+        }
+        for (Bilhete salvo : salvos) {
+            mapaAssentos.vincular(salvo.getIdBilhete(), salvo.getCodigoVoo(), salvo.getAssento());
+        }
+        // Bilhetes já existentes: o assento é gravado pelo GravadorAssentos.
+        for (Bilhete bilhete : bilhetes) {
+            if (bilhete.getIdBilhete() != null) {
+                gravadorAssentos.registrar(new GravadorAssentos.Atribuicao(bilhete.getIdBilhete(), bilhete.getAssento()));
+            }
+        }
+        return salvos;
+    }
+
+    /**
+     * Marca um assento para o bilhete, confirmando a reserva em memória.
+     *
+     * <p>
+     * A reserva é decidida imediatamente no {@link MapaAssentos} e o assento
+     * anterior do bilhete é liberado; a gravação no banco é feita em lote pelo
+     * {@link GravadorAssentos}.
+     * </p>
+     *
+     * @param id      identificador do bilhete
+     * @param assento assento desejado
+     * @return bilhete com o novo assento
+     * @throws RuntimeException caso o bilhete não seja encontrado, não tenha voo
+     *                          ou o assento esteja indisponível
+     */
+    @Override
+    public Bilhete marcarAssento(Long id, String assento) {
+        Bilhete bilhete = buscarPorId(id);
+        if (bilhete.getCodigoVoo() == null) {
+            throw new RuntimeException("Bilhete sem voo associado");
+        }
+        reservarAssento(id, bilhete.getCodigoVoo(), assento);
+        mapaAssentos.vincular(id, bilhete.getCodigoVoo(), assento);
+        gravadorAssentos.registrar(new GravadorAssentos.Atribuicao(id, assento));
+        bilhete.setAssento(assento);
+        return bilhete;
     }
 
     /**
@@ -60,6 +180,33 @@ public class BilheteService implements BilheteUseCase {
         return repository.listar();
     }
 
+    /**
+     * Retorna uma página de bilhetes por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit tamanho da página solicitado, normalizado por {@link Paginacao#limiteEfetivo(Integer)}
+     * @return página de {@link Bilhete}
+     */
+    @Override
+    public List<Bilhete> listarPagina(Long after, Integer limit) {
+        return repository.listarPagina(after, Paginacao.limiteEfetivo(limit));
+    }
+
+    @Override
+    public List<BilheteResumo> listarResumos(Long after, Integer limit) {
+        return repository.listarResumos(after, Paginacao.limiteEfetivo(limit));
+    }
+
+    /**
+     * Percorre todos os bilhetes cadastrados, um a um, já projetados.
+     *
+     * @param consumidor função chamada para cada bilhete
+     */
+    @Override
+    public void percorrerResumos(Consumer<BilheteResumo> consumidor) {
+        repository.percorrerResumos(consumidor);
+    }
+
     /**
      * Busca um bilhete pelo seu identificador.
      *
@@ -77,7 +224,10 @@ public class BilheteService implements BilheteUseCase {
      * Atualiza os dados de um bilhete existente.
      *
      * <p>
-     * Atualmente são atualizados o assento e o número do bilhete.
+     * Atualmente são atualizados o voo, o assento e o número do bilhete.
+     * O novo assento é reservado no {@link MapaAssentos} antes da gravação e
+     * o anterior é liberado depois dela; como na marcação de assento, a
+     * coluna é gravada pelo {@link GravadorAssentos}.
      * As atualizações de bagagem e passageiro estão comentadas e podem ser
      * habilitadas futuramente, conforme as regras de negócio.
      * </p>
@@ -87,14 +237,33 @@ public class BilheteService implements BilheteUseCase {
      * @return bilhete atualizado e persistido
      * @throws RuntimeException caso o bilhete não seja encontrado
      */
+    @Override
+    public BilheteResumo buscarResumo(Long id) {
+        return repository.buscarResumo(id)
+                .orElseThrow(() -> new RuntimeException("Bilhete não encontrado"));
+    }
+
     @Override
     public Bilhete atualizar(Long id, Bilhete novo) {
         Bilhete atual = buscarPorId(id);
+        boolean reservou = reservarAssento(id, novo.getCodigoVoo(), novo.getAssento());
         atual.setAssento(novo.getAssento());
+        atual.setCodigoVoo(novo.getCodigoVoo());
         // atual.setBagagem(novo.getBagagem());
         atual.setNumero(novo.getNumero());
         // atual.setPassageiro(novo.getPassageiro());
-        return repository.salvar(atual);
+        Bilhete salvo;
+        try {
+            salvo = repository.salvar(atual);
+        } catch (RuntimeException e) {
+            if (reservou) {
+                mapaAssentos.liberar(novo.getCodigoVoo(), novo.getAssento());
+            }
+            throw e;
+        }
+        mapaAssentos.vincular(id, salvo.getCodigoVoo(), salvo.getAssento());
+        gravadorAssentos.registrar(new GravadorAssentos.Atribuicao(id, salvo.getAssento()));
+        return salvo;
     }
 
     /**
@@ -105,5 +274,23 @@ public class BilheteService implements BilheteUseCase {
     @Override
     public void deletar(Long id) {
         repository.deletar(id);
+        mapaAssentos.desvincular(id);
+    }
+
+    /**
+     * Reserva o assento no mapa do voo, se ainda não pertencer ao bilhete.
+     *
+     * @return {@code true} se uma nova reserva foi feita (e deve ser desfeita em caso de falha)
+     * @throws RuntimeException caso o assento esteja ocupado por outro bilhete
+     */
+    private boolean reservarAssento(Long idBilhete, String codigoVoo, String assento) {
+        if (codigoVoo == null || assento == null
+                || mapaAssentos.pertenceAoBilhete(idBilhete, codigoVoo, assento)) {
+            return false;
+        }
+        if (!mapaAssentos.reservar(codigoVoo, assento)) {
+            throw new RuntimeException("Assento " + assento + " indisponível no voo " + codigoVoo);
+        }
+        return true;
     }
 }
\ No newline at end of file
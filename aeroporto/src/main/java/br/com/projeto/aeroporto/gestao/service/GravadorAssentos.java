@@ -0,0 +1,64 @@
+package br.com.projeto.aeroporto.gestao.service;
+
+
+import br.com.projeto.aeroporto.comum.GravadorEmLote;
+import br.com.projeto.aeroporto.gestao.out.BilheteRepositoryPort;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grava em lote as marcações de assento confirmadas pelo {@link MapaAssentos}.
+ *
+ * <p>
+ * É o único caminho de gravação do assento de um bilhete já incluído: o
+ * {@code save} não atualiza a coluna. Cada lote vira uma única transação e
+ * grava o assento vigente no {@link MapaAssentos} no momento da gravação, e
+ * não o da marcação enfileirada; assim, um item atrasado (ou reenfileirado
+ * após uma falha) nunca sobrepõe uma marcação mais recente. O valor
+ * enfileirado só é usado quando o bilhete não tem reserva no mapa (sem voo).
+ * </p>
+ */
+@Component
+public class GravadorAssentos extends GravadorEmLote<GravadorAssentos.Atribuicao> {
+
+    static final int CAPACIDADE_FILA = 10_000;
+    static final int TAMANHO_LOTE = 500;
+
+    private final BilheteRepositoryPort repository;
+
+    private final MapaAssentos mapaAssentos;
+
+    /**
+     * Construtor da classe {@code GravadorAssentos}.
+     *
+     * @param repository   porta de acesso ao repositório de bilhetes
+     * @param mapaAssentos mapa com o assento vigente de cada bilhete
+     */
+    public GravadorAssentos(BilheteRepositoryPort repository, MapaAssentos mapaAssentos) {
+        super("gravador-assentos", CAPACIDADE_FILA, TAMANHO_LOTE);
+        this.repository = repository;
+        this.mapaAssentos = mapaAssentos;
+    }
+
+    @Override
+    protected void gravar(List<Atribuicao> lote) {
+        Map<Long, String> assentos = new LinkedHashMap<>();
+        for (Atribuicao a : lote) {
+            String vigente = mapaAssentos.assentoDe(a.idBilhete());
+            assentos.put(a.idBilhete(), vigente != null ? vigente : a.assento());
+        }
+        repository.atribuirAssentos(assentos);
+    }
+
+    /**
+     * Assento confirmado para um bilhete.
+     *
+     * @param idBilhete identificador do bilhete
+     * @param assento   assento reservado
+     */
+    public record Atribuicao(Long idBilhete, String assento) {
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.projeto.aeroporto.gestao.service;
+
+
+import br.com.projeto.aeroporto.comum.IndiceNomes;
+import org.springframework.stereotype.Component;
+
+/**
+ * Índice de trigramas dos nomes de passageiros, usado em {@code GET /passageiros/busca}.
+ *
+ * <p>
+ * Carregado na inicialização e atualizado pelo {@link PassageiroService} a cada gravação.
+ * </p>
+ */
+@Component
+public class IndiceNomesPassageiros extends IndiceNomes {
+}
@@ -0,0 +1,107 @@
+package br.com.projeto.aeroporto.gestao.service;
+
+
+import br.com.projeto.aeroporto.gestao.model.Passageiro;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice em memória dos passageiros por documento e por número de cartão,
+ * usado no check-in para resolver o passageiro no balcão sem ir ao banco.
+ *
+ * <p>
+ * As chaves são normalizadas por {@link Passageiro#normalizarIdentificador(String)},
+ * como nas consultas do banco. O índice guarda uma cópia de cada passageiro,
+ * desvinculada do contexto de persistência; havendo documentos ou cartões
+ * repetidos, vale o último passageiro registrado.
+ * </p>
+ */
+@Component
+public class IndicePassageiros {
+
+    private final Map<String, Passageiro> porDocumento = new ConcurrentHashMap<>();
+    private final Map<String, Passageiro> porNumeroCartao = new ConcurrentHashMap<>();
+    private final Map<Long, Passageiro> porCodigo = new ConcurrentHashMap<>();
+
+    /**
+     * Inclui ou substitui um passageiro no índice.
+     *
+     * @param passageiro passageiro já persistido (com código gerado)
+     */
+    public void registrar(Passageiro passageiro) {
+        Long codigo = passageiro.getCodigoPassageiro();
+        if (codigo == null) {
+            return;
+        }
+        Passageiro copia = new Passageiro(codigo, passageiro.getNome(),
+                passageiro.getDocumento(), passageiro.getNumeroCartao());
+        Passageiro anterior = porCodigo.put(codigo, copia);
+        if (anterior != null) {
+            removerChaves(anterior);
+        }
+        String documento = Passageiro.normalizarIdentificador(copia.getDocumento());
+        if (documento != null) {
+            porDocumento.put(documento, copia);
+        }
+        String numeroCartao = Passageiro.normalizarIdentificador(copia.getNumeroCartao());
+        if (numeroCartao != null) {
+            porNumeroCartao.put(numeroCartao, copia);
+        }
+    }
+
+    /**
+     * Remove um passageiro do índice.
+     *
+     * @param codigo código do passageiro
+     */
+    public void remover(Long codigo) {
+        Passageiro anterior = porCodigo.remove(codigo);
+        if (anterior != null) {
+            removerChaves(anterior);
+        }
+    }
+
+    /**
+     * Busca um passageiro pelo documento.
+     *
+     * @param documento documento informado, com ou sem pontuação
+     * @return cópia do passageiro ou {@code null} se não estiver no índice
+     */
+    public Passageiro buscarPorDocumento(String documento) {
+        String chave = Passageiro.normalizarIdentificador(documento);
+        return chave == null ? null : porDocumento.get(chave);
+    }
+
+    /**
+     * Busca um passageiro pelo número do cartão.
+     *
+     * @param numeroCartao número do cartão informado, com ou sem pontuação
+     * @return cópia do passageiro ou {@code null} se não estiver no índice
+     */
+    public Passageiro buscarPorNumeroCartao(String numeroCartao) {
+        String chave = Passageiro.normalizarIdentificador(numeroCartao);
+        return chave == null ? null : porNumeroCartao.get(chave);
+    }
+
+    /**
+     * Quantidade de passageiros presentes no índice.
+     *
+     * @return total de passageiros indexados
+     */
+    public int tamanho() {
+        return porCodigo.size();
+    }
+
+    private void removerChaves(Passageiro passageiro) {
+        String documento = Passageiro.normalizarIdentificador(passageiro.getDocumento());
+        if (documento != null) {
+            porDocumento.remove(documento, passageiro);
+        }
+        String numeroCartao = Passageiro.normalizarIdentificador(passageiro.getNumeroCartao());
+        if (numeroCartao != null) {
+            porNumeroCartao.remove(numeroCartao, passageiro);
+        }
+    }
+}
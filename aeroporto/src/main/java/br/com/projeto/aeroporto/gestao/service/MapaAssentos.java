@@ -0,0 +1,199 @@
+package br.com.projeto.aeroporto.gestao.service;
+
+
+import br.com.projeto.aeroporto.gestao.model.AssentoReservado;
+import br.com.projeto.aeroporto.gestao.model.Bilhete;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reserva de assentos em memória, por voo.
+ *
+ * <p>
+ * Mantém um {@link MapaAssentosVoo} (bitset atualizado por CAS) para cada
+ * {@link Bilhete#getCodigoVoo() código de voo} e o assento vigente de cada
+ * bilhete. A reserva do assento é decidida aqui, antes da gravação no banco,
+ * de modo que duas vendas concorrentes nunca recebem o mesmo assento e vendas
+ * em assentos diferentes do mesmo voo não disputam trava alguma.
+ * </p>
+ *
+ * <p>
+ * Assentos seguem o formato fileira + letra ({@code "12A"}), com até
+ * {@value #MAX_FILEIRAS} fileiras e letras de {@code A} a {@code Z}. As cabines
+ * ocupam faixas de fileiras do mesmo mapa.
+ * </p>
+ */
+@Component
+public class MapaAssentos {
+
+    private static final Logger log = LoggerFactory.getLogger(MapaAssentos.class);
+
+    static final int MAX_FILEIRAS = 99;
+    static final int LETRAS = 26;
+
+    private final Map<String, MapaAssentosVoo> porVoo = new ConcurrentHashMap<>();
+    private final Map<Long, Reserva> reservasPorBilhete = new ConcurrentHashMap<>();
+
+    /**
+     * Tenta reservar um assento livre no voo.
+     *
+     * @param codigoVoo código do voo
+     * @param assento   assento desejado (ex.: {@code "12A"})
+     * @return {@code true} se o assento estava livre e foi reservado
+     * @throws RuntimeException se o assento não estiver no formato esperado
+     */
+    public boolean reservar(String codigoVoo, String assento) {
+        return mapa(codigoVoo).reservar(posicao(assento));
+    }
+
+    /**
+     * Libera um assento no voo.
+     *
+     * @param codigoVoo código do voo
+     * @param assento   assento a liberar
+     */
+    public void liberar(String codigoVoo, String assento) {
+        MapaAssentosVoo mapa = porVoo.get(codigoVoo);
+        if (mapa != null) {
+            mapa.liberar(posicao(assento));
+        }
+    }
+
+    /**
+     * Informa se o bilhete já detém o assento no voo.
+     *
+     * @param idBilhete identificador do bilhete (pode ser {@code null})
+     * @param codigoVoo código do voo
+     * @param assento   assento
+     * @return {@code true} se o assento já está vinculado a este bilhete
+     */
+    public boolean pertenceAoBilhete(Long idBilhete, String codigoVoo, String assento) {
+        return idBilhete != null && new Reserva(codigoVoo, assento).equals(reservasPorBilhete.get(idBilhete));
+    }
+
+    /**
+     * Registra o assento vigente do bilhete, liberando o assento anterior se houver.
+     *
+     * <p>
+     * Deve ser chamado depois que o assento foi reservado com
+     * {@link #reservar(String, String)} (ou já pertencia ao bilhete).
+     * Sem voo ou sem assento, apenas desvincula o bilhete.
+     * </p>
+     *
+     * @param idBilhete identificador do bilhete
+     * @param codigoVoo código do voo
+     * @param assento   assento reservado
+     */
+    public void vincular(Long idBilhete, String codigoVoo, String assento) {
+        if (codigoVoo == null || assento == null) {
+            desvincular(idBilhete);
+            return;
+        }
+        Reserva nova = new Reserva(codigoVoo, assento);
+        Reserva anterior = reservasPorBilhete.put(idBilhete, nova);
+        if (anterior != null && !anterior.equals(nova)) {
+            liberar(anterior.codigoVoo(), anterior.assento());
+        }
+    }
+
+    /**
+     * Remove o vínculo do bilhete e libera seu assento.
+     *
+     * @param idBilhete identificador do bilhete
+     */
+    public void desvincular(Long idBilhete) {
+        Reserva anterior = reservasPorBilhete.remove(idBilhete);
+        if (anterior != null) {
+            liberar(anterior.codigoVoo(), anterior.assento());
+        }
+    }
+
+    /**
+     * Assento vigente do bilhete.
+     *
+     * @param idBilhete identificador do bilhete
+     * @return assento reservado para o bilhete ou {@code null} se ele não tiver reserva
+     */
+    public String assentoDe(Long idBilhete) {
+        Reserva reserva = reservasPorBilhete.get(idBilhete);
+        return reserva == null ? null : reserva.assento();
+    }
+
+    /**
+     * Carrega no mapa o assento de um bilhete já persistido.
+     *
+     * <p>
+     * Se o assento já foi carregado para outro bilhete (dados gravados antes
+     * do mapa), só o primeiro fica com a reserva: vincular os dois faria a
+     * troca de assento de um liberar o assento do outro.
+     * </p>
+     *
+     * @param reservado assento lido do banco
+     */
+    public void carregar(AssentoReservado reservado) {
+        if (reservado.codigoVoo() == null || reservado.assento() == null) {
+            return;
+        }
+        if (!reservar(reservado.codigoVoo(), reservado.assento())) {
+            log.warn("Assento {} do voo {} já pertence a outro bilhete; bilhete {} carregado sem assento",
+                    reservado.assento(), reservado.codigoVoo(), reservado.idBilhete());
+            return;
+        }
+        reservasPorBilhete.put(reservado.idBilhete(), new Reserva(reservado.codigoVoo(), reservado.assento()));
+    }
+
+    /**
+     * Quantidade de assentos ocupados no voo.
+     *
+     * @param codigoVoo código do voo
+     * @return total de assentos reservados
+     */
+    public int ocupados(String codigoVoo) {
+        MapaAssentosVoo mapa = porVoo.get(codigoVoo);
+        return mapa == null ? 0 : mapa.totalOcupados();
+    }
+
+    /**
+     * Converte um assento ({@code "12A"}) na sua posição no mapa do voo.
+     *
+     * @param assento assento no formato fileira + letra
+     * @return posição do assento
+     * @throws RuntimeException se o assento não estiver no formato esperado
+     */
+    static int posicao(String assento) {
+        String valor = assento == null ? "" : assento.trim();
+        int tamanho = valor.length();
+        if (tamanho < 2 || tamanho > 3) {
+            throw new RuntimeException("Assento inválido: " + assento);
+        }
+        char letra = Character.toUpperCase(valor.charAt(tamanho - 1));
+        int fileira = 0;
+        for (int i = 0; i < tamanho - 1; i++) {
+            char c = valor.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new RuntimeException("Assento inválido: " + assento);
+            }
+            fileira = fileira * 10 + (c - '0');
+        }
+        if (letra < 'A' || letra > 'Z' || fileira < 1 || fileira > MAX_FILEIRAS) {
+            throw new RuntimeException("Assento inválido: " + assento);
+        }
+        return (fileira - 1) * LETRAS + (letra - 'A');
+    }
+
+    private MapaAssentosVoo mapa(String codigoVoo) {
+        return porVoo.computeIfAbsent(codigoVoo, v -> new MapaAssentosVoo(MAX_FILEIRAS * LETRAS));
+    }
+
+    private record Reserva(String codigoVoo, String assento) {
+
+        Reserva {
+            assento = assento.trim().toUpperCase(Locale.ROOT);
+        }
+    }
+}
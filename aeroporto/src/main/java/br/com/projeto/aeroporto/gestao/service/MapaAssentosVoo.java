@@ -0,0 +1,75 @@
+package br.com.projeto.aeroporto.gestao.service;
+
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Mapa de ocupação dos assentos de um voo, um bit por assento.
+ *
+ * <p>
+ * Cada posição corresponde a um assento (ver {@link MapaAssentos#posicao(String)}).
+ * A reserva e a liberação alteram apenas a palavra de 64 bits que contém o
+ * assento, via {@code compareAndSet}, sem travas: vendas concorrentes em
+ * assentos distintos não se bloqueiam e, no mesmo assento, apenas uma vence.
+ * </p>
+ */
+final class MapaAssentosVoo {
+
+    private final AtomicLongArray ocupados;
+
+    MapaAssentosVoo(int capacidade) {
+        this.ocupados = new AtomicLongArray((capacidade + 63) >>> 6);
+    }
+
+    /**
+     * Marca o assento como ocupado.
+     *
+     * @param posicao posição do assento no mapa
+     * @return {@code true} se o assento estava livre e foi reservado
+     */
+    boolean reservar(int posicao) {
+        int indice = posicao >>> 6;
+        long bit = 1L << (posicao & 63);
+        while (true) {
+            long atual = ocupados.get(indice);
+            if ((atual & bit) != 0) {
+                return false;
+            }
+            if (ocupados.compareAndSet(indice, atual, atual | bit)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Marca o assento como livre.
+     *
+     * @param posicao posição do assento no mapa
+     * @return {@code true} se o assento estava ocupado
+     */
+    boolean liberar(int posicao) {
+        int indice = posicao >>> 6;
+        long bit = 1L << (posicao & 63);
+        while (true) {
+            long atual = ocupados.get(indice);
+            if ((atual & bit) == 0) {
+                return false;
+            }
+            if (ocupados.compareAndSet(indice, atual, atual & ~bit)) {
+                return true;
+            }
+        }
+    }
+
+    boolean ocupado(int posicao) {
+        return (ocupados.get(posicao >>> 6) & (1L << (posicao & 63))) != 0;
+    }
+
+    int totalOcupados() {
+        int total = 0;
+        for (int i = 0; i < ocupados.length(); i++) {
+            total += Long.bitCount(ocupados.get(i));
+        }
+        return total;
+    }
+}
@@ -1,12 +1,18 @@
 package br.com.projeto.aeroporto.gestao.service;
 
 
+import br.com.projeto.aeroporto.comum.IndiceNomes;
+import br.com.projeto.aeroporto.comum.Paginacao;
 import br.com.projeto.aeroporto.gestao.in.PassageiroUseCase;
 import br.com.projeto.aeroporto.gestao.model.Passageiro;
 import br.com.projeto.aeroporto.gestao.out.PassageiroRepositoryPort;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Serviço de aplicação para operações relacionadas a {@link Passageiro}.
@@ -30,14 +36,41 @@ public class PassageiroService implements PassageiroUseCase {
      */
     private final PassageiroRepositoryPort repository;
 
+    /**
+     * Índice em memória por documento e número de cartão.
+     */
+    private final IndicePassageiros indice;
+
+    /**
+     * Índice de trigramas dos nomes, usado na busca por nome.
+     */
+    private final IndiceNomesPassageiros indiceNomes;
+
     /**
      * Construtor que recebe a dependência de repositório via injeção.
      *
-     * @param repository implementação de {@link PassageiroRepositoryPort}
-     *                   utilizada para persistência dos dados de passageiros
+     * @param repository  implementação de {@link PassageiroRepositoryPort}
+     *                    utilizada para persistência dos dados de passageiros
+     * @param indice      índice em memória usado nas buscas do check-in
+     * @param indiceNomes índice de trigramas usado na busca por nome
      */
-    public PassageiroService(PassageiroRepositoryPort repository) {
+    public PassageiroService(PassageiroRepositoryPort repository, IndicePassageiros indice,
+                             IndiceNomesPassageiros indiceNomes) {
         this.repository = repository;
+        this.indice = indice;
+        this.indiceNomes = indiceNomes;
+    }
+
+    /**
+     * Carrega nos índices todos os passageiros já cadastrados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarIndice() {
+        repository.percorrerTodos(p -> {
+            indice.registrar(p);
+            indiceNomes.registrar(p.getCodigoPassageiro(), p.getNome());
+        });
+        indiceNomes.marcarPronto();
     }
 
     /**
@@ -48,7 +81,26 @@ public class PassageiroService implements PassageiroUseCase {
      */
     @Override
     public Passageiro salvar(Passageiro passageiro) {
-        return repository.salvar(passageiro);
+        Passageiro salvo = repository.salvar(passageiro);
+        indice.registrar(salvo);
+        indiceNomes.registrar(salvo.getCodigoPassageiro(), salvo.getNome());
+        return salvo;
+    }
+
+    /**
+     * Salva um lote de passageiros em uma única transação.
+     *
+     * @param passageiros passageiros a serem salvos
+     * @return passageiros persistidos, na ordem recebida
+     */
+    @Override
+    public List<Passageiro> salvarTodos(Collection<Passageiro> passageiros) {
+        List<Passageiro> salvos = repository.salvarTodos(passageiros);
+        salvos.forEach(p -> {
+            indice.registrar(p);
+            indiceNomes.registrar(p.getCodigoPassageiro(), p.getNome());
+        });
+        return salvos;
     }
 
     /**
@@ -61,6 +113,28 @@ public class PassageiroService implements PassageiroUseCase {
         return repository.listar();
     }
 
+    /**
+     * Retorna uma página de passageiros por cursor (keyset).
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit tamanho da página solicitado, normalizado por {@link Paginacao#limiteEfetivo(Integer)}
+     * @return página de {@link Passageiro}
+     */
+    @Override
+    public List<Passageiro> listarPagina(Long after, Integer limit) {
+        return repository.listarPagina(after, Paginacao.limiteEfetivo(limit));
+    }
+
+    /**
+     * Percorre todos os passageiros cadastrados, um a um.
+     *
+     * @param consumidor função chamada para cada passageiro
+     */
+    @Override
+    public void percorrerTodos(Consumer<Passageiro> consumidor) {
+        repository.percorrerTodos(consumidor);
+    }
+
     /**
      * Busca um passageiro pelo seu identificador.
      *
@@ -78,6 +152,74 @@ public class PassageiroService implements PassageiroUseCase {
         return repository.buscarPorId(id);
     }
 
+    /**
+     * Busca um passageiro pelo documento.
+     *
+     * <p>
+     * Consulta primeiro o {@link IndicePassageiros}; o banco só é consultado se o
+     * documento não estiver no índice.
+     * </p>
+     *
+     * @param documento documento informado, com ou sem pontuação
+     * @return passageiro correspondente ao documento
+     * @throws RuntimeException caso nenhum passageiro tenha o documento informado
+     */
+    @Override
+    public Passageiro buscarPorDocumento(String documento) {
+        Passageiro passageiro = indice.buscarPorDocumento(documento);
+        if (passageiro != null) {
+            return passageiro;
+        }
+        return registrarEncontrado(repository.buscarPorDocumento(documento).orElse(null));
+    }
+
+    /**
+     * Busca um passageiro pelo número do cartão.
+     *
+     * <p>
+     * Consulta primeiro o {@link IndicePassageiros}; o banco só é consultado se o
+     * cartão não estiver no índice.
+     * </p>
+     *
+     * @param numeroCartao número do cartão informado, com ou sem pontuação
+     * @return passageiro correspondente ao cartão
+     * @throws RuntimeException caso nenhum passageiro tenha o cartão informado
+     */
+    @Override
+    public Passageiro buscarPorNumeroCartao(String numeroCartao) {
+        Passageiro passageiro = indice.buscarPorNumeroCartao(numeroCartao);
+        if (passageiro != null) {
+            return passageiro;
+        }
+        return registrarEncontrado(repository.buscarPorNumeroCartao(numeroCartao).orElse(null));
+    }
+
+    /**
+     * Busca passageiros por nome parcial ou com erros de digitação.
+     *
+     * <p>
+     * Atendida pelo {@link IndiceNomesPassageiros}; enquanto a carga inicial do
+     * índice não termina, a busca vai ao banco ({@code pg_trgm}) e o resultado
+     * recebe a mesma pontuação do índice.
+     * </p>
+     *
+     * @param termo  nome completo ou parcial
+     * @param limite quantidade máxima de resultados, normalizada por {@link IndiceNomes#limiteEfetivo(Integer)}
+     * @return passageiros encontrados, do mais ao menos parecido com o termo
+     */
+    @Override
+    public List<IndiceNomes.Resultado> buscarPorNome(String termo, Integer limite) {
+        int limiteEfetivo = IndiceNomes.limiteEfetivo(limite);
+        if (termo == null || termo.isBlank()) {
+            return List.of();
+        }
+        if (indiceNomes.isPronto()) {
+            return indiceNomes.buscar(termo, limiteEfetivo);
+        }
+        return IndiceNomes.classificar(termo, repository.buscarPorNome(termo, limiteEfetivo),
+                Passageiro::getCodigoPassageiro, Passageiro::getNome, limiteEfetivo);
+    }
+
     /**
      * Atualiza os dados de um passageiro existente.
      *
@@ -91,7 +233,7 @@ public class PassageiroService implements PassageiroUseCase {
         atual.setNome(novo.getNome());
         atual.setDocumento(novo.getDocumento());
         atual.setNumeroCartao(novo.getNumeroCartao());
-        return repository.salvar(atual);
+        return salvar(atual);
     }
 
     /**
@@ -102,5 +244,15 @@ public class PassageiroService implements PassageiroUseCase {
     @Override
     public void deletar(Long id) {
         repository.deletar(id);
+        indice.remover(id);
+        indiceNomes.remover(id);
+    }
+
+    private Passageiro registrarEncontrado(Passageiro passageiro) {
+        if (passageiro == null) {
+            throw new RuntimeException("Passageiro não encontrado");
+        }
+        indice.registrar(passageiro);
+        return passageiro;
     }
 }
\ No newline at end of file
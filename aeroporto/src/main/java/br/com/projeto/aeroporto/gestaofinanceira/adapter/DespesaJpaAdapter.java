@@ -2,12 +2,20 @@ package br.com.projeto.aeroporto.gestaofinanceira.adapter;
 
 
 import br.com.projeto.aeroporto.gestaofinanceira.model.Despesa;
+import br.com.projeto.aeroporto.gestaofinanceira.model.DespesaResumo;
 import br.com.projeto.aeroporto.gestaofinanceira.out.DespesaRepositoryPort;
+import br.com.projeto.aeroporto.comum.Paginacao;
+import br.com.projeto.aeroporto.comum.PersistenciaEmLote;
 import br.com.projeto.aeroporto.gestaofinanceira.repository.DespesaJpaRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adapter responsável por implementar a porta {@link DespesaRepositoryPort}
@@ -25,13 +33,20 @@ public class DespesaJpaAdapter implements DespesaRepositoryPort {
 
     private final DespesaJpaRepository repo;
 
+    /**
+     * Gravação em lote usada por {@link #salvarTodos(Collection)}.
+     */
+    private final PersistenciaEmLote persistenciaEmLote;
+
     /**
      * Construtor da classe {@code DespesaJpaAdapter}.
      *
-     * @param repo repositório JPA responsável pelo acesso aos dados da entidade {@link Despesa}
+     * @param repo               repositório JPA responsável pelo acesso aos dados da entidade {@link Despesa}
+     * @param persistenciaEmLote gravação em lote de despesas
      */
-    public DespesaJpaAdapter(DespesaJpaRepository repo) {
+    public DespesaJpaAdapter(DespesaJpaRepository repo, PersistenciaEmLote persistenciaEmLote) {
         this.repo = repo;
+        this.persistenciaEmLote = persistenciaEmLote;
     }
 
     /**
@@ -50,6 +65,22 @@ public class DespesaJpaAdapter implements DespesaRepositoryPort {
         return repo.save(d);
     }
 
+    /**
+     * Salva várias despesas em uma única transação.
+     *
+     * <p>
+     * Delegado ao {@link PersistenciaEmLote},
+     * que descarrega o contexto de persistência a cada lote JDBC.
+     * </p>
+     *
+     * @param despesas despesas a salvar
+     * @return despesas persistidas, na ordem recebida
+     */
+    @Override
+    public List<Despesa> salvarTodos(Collection<Despesa> despesas) {
+        return persistenciaEmLote.salvarTodos(despesas, repo::save);
+    }
+
     /**
      * Retorna todas as despesas cadastradas no banco de dados.
      *
@@ -60,6 +91,40 @@ public class DespesaJpaAdapter implements DespesaRepositoryPort {
         return repo.findAll();
     }
 
+    /**
+     * Lista uma página de despesas por cursor (keyset), já projetada.
+     *
+     * <p>
+     * Delegado ao método {@link DespesaJpaRepository#listarResumos(Long, Limit)}.
+     * </p>
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit quantidade máxima de despesas na página
+     * @return próxima página de despesas
+     */
+    @Override
+    public List<DespesaResumo> listarResumos(Long after, int limit) {
+        return repo.listarResumos(Paginacao.cursorInicial(after), Limit.of(limit));
+    }
+
+    /**
+     * Percorre todas as despesas projetadas por meio de um cursor JDBC.
+     *
+     * <p>
+     * As projeções não entram no contexto de persistência, então o uso de
+     * memória fica constante sem precisar desanexar nada.
+     * </p>
+     *
+     * @param consumidor função chamada para cada despesa lida do banco
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void percorrerResumos(Consumer<DespesaResumo> consumidor) {
+        try (Stream<DespesaResumo> registros = repo.buscarResumosEmFluxo()) {
+            registros.forEach(consumidor);
+        }
+    }
+
     /**
      * Busca uma despesa pelo seu identificador.
      *
@@ -72,6 +137,24 @@ public class DespesaJpaAdapter implements DespesaRepositoryPort {
         return repo.findById(id);
     }
 
+    /**
+     * Busca uma despesa travando a linha até o fim da transação em andamento.
+     *
+     * <p>
+     * Usada antes de alterar ou excluir a despesa: duas alterações simultâneas
+     * são serializadas, e cada uma calcula a diferença aplicada aos totais a
+     * partir do valor gravado pela outra.
+     * </p>
+     *
+     * @param id identificador único da despesa
+     * @return um {@link Optional} contendo a {@link Despesa} encontrada,
+     *         ou vazio caso não exista registro com o ID informado
+     */
+    @Override
+    public Optional<Despesa> buscarPorIdParaAlterar(Long id) {
+        return repo.buscarParaAlterar(id);
+    }
+
     /**
      * Remove uma despesa do banco de dados com base no seu identificador.
      *
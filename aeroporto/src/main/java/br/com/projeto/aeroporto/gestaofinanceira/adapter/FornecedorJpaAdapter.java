@@ -1,11 +1,14 @@
 package br.com.projeto.aeroporto.gestaofinanceira.adapter;
 
 
+import br.com.projeto.aeroporto.gestaofinanceira.model.DespesaResumo;
 import br.com.projeto.aeroporto.gestaofinanceira.model.Fornecedor;
+import br.com.projeto.aeroporto.gestaofinanceira.model.FornecedorResumo;
 import br.com.projeto.aeroporto.gestaofinanceira.out.FornecedorRepositoryPort;
 import br.com.projeto.aeroporto.gestaofinanceira.repository.FornecedorJpaRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,6 +53,21 @@ public class FornecedorJpaAdapter implements FornecedorRepositoryPort {
         return repo.save(f);
     }
 
+    /**
+     * Salva vários fornecedores em uma única transação.
+     *
+     * <p>
+     * Delegado ao método {@link FornecedorJpaRepository#saveAll(Iterable)}.
+     * </p>
+     *
+     * @param fornecedores fornecedores a salvar
+     * @return fornecedores persistidos, na ordem recebida
+     */
+    @Override
+    public List<Fornecedor> salvarTodos(Collection<Fornecedor> fornecedores) {
+        return repo.saveAll(fornecedores);
+    }
+
     /**
      * Retorna todos os fornecedores cadastrados no banco de dados.
      *
@@ -81,4 +99,41 @@ public class FornecedorJpaAdapter implements FornecedorRepositoryPort {
     public void deletar(Long id) {
         repo.deleteById(id);
     }
+
+    /**
+     * Lista os fornecedores com a quantidade e a soma de suas despesas.
+     *
+     * <p>
+     * Delegado ao método {@link FornecedorJpaRepository#listarResumos()}: uma
+     * única consulta agregada, qualquer que seja o número de despesas.
+     * </p>
+     *
+     * @return fornecedores em ordem de ID
+     */
+    @Override
+    public List<FornecedorResumo> listarResumos() {
+        return repo.listarResumos();
+    }
+
+    /**
+     * Busca os dados de um fornecedor, sem carregar suas despesas.
+     *
+     * @param id identificador único do fornecedor
+     * @return um {@link Optional} com o resumo do fornecedor, ou vazio se não existir
+     */
+    @Override
+    public Optional<FornecedorResumo> buscarResumo(Long id) {
+        return repo.buscarResumo(id);
+    }
+
+    /**
+     * Lista as despesas de um fornecedor como {@link DespesaResumo}.
+     *
+     * @param idFornecedor identificador do fornecedor
+     * @return despesas em ordem de ID
+     */
+    @Override
+    public List<DespesaResumo> listarDespesas(Long idFornecedor) {
+        return repo.listarDespesas(idFornecedor);
+    }
 }
\ No newline at end of file
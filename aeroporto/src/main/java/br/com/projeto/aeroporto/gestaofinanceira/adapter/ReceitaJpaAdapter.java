@@ -0,0 +1,60 @@
+package br.com.projeto.aeroporto.gestaofinanceira.adapter;
+
+
+import br.com.projeto.aeroporto.gestaofinanceira.model.Receita;
+import br.com.projeto.aeroporto.gestaofinanceira.out.ReceitaRepositoryPort;
+import br.com.projeto.aeroporto.gestaofinanceira.repository.ReceitaJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter responsável por implementar a porta {@link ReceitaRepositoryPort}
+ * utilizando o repositório JPA {@link ReceitaJpaRepository}.
+ */
+@Component
+public class ReceitaJpaAdapter implements ReceitaRepositoryPort {
+
+    private final ReceitaJpaRepository repo;
+
+    /**
+     * Construtor da classe {@code ReceitaJpaAdapter}.
+     *
+     * @param repo repositório JPA responsável pelo acesso aos dados da entidade {@link Receita}
+     */
+    public ReceitaJpaAdapter(ReceitaJpaRepository repo) {
+        this.repo = repo;
+    }
+
+    @Override
+    public Receita salvar(Receita r) {
+        return repo.save(r);
+    }
+
+    @Override
+    public List<Receita> salvarTodos(Collection<Receita> receitas) {
+        return repo.saveAll(receitas);
+    }
+
+    @Override
+    public List<Receita> listar() {
+        return repo.findAll();
+    }
+
+    @Override
+    public Optional<Receita> buscarPorId(Long id) {
+        return repo.findById(id);
+    }
+
+    @Override
+    public Optional<Receita> buscarPorIdParaAlterar(Long id) {
+        return repo.buscarParaAlterar(id);
+    }
+
+    @Override
+    public void deletar(Long id) {
+        repo.deleteById(id);
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.projeto.aeroporto.gestaofinanceira.adapter;
+
+
+import br.com.projeto.aeroporto.gestaofinanceira.model.Granularidade;
+import br.com.projeto.aeroporto.gestaofinanceira.model.NaturezaLancamento;
+import br.com.projeto.aeroporto.gestaofinanceira.model.TotalPeriodo;
+import br.com.projeto.aeroporto.gestaofinanceira.out.TotalPeriodoRepositoryPort;
+import br.com.projeto.aeroporto.gestaofinanceira.repository.TotalPeriodoJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Adapter responsável por implementar a porta {@link TotalPeriodoRepositoryPort}
+ * utilizando o repositório JPA {@link TotalPeriodoJpaRepository}.
+ *
+ * <p>
+ * As escritas participam da transação do chamador, de modo que o total é
+ * atualizado junto com o lançamento que o originou.
+ * </p>
+ */
+@Component
+public class TotalPeriodoJpaAdapter implements TotalPeriodoRepositoryPort {
+
+    private final TotalPeriodoJpaRepository repo;
+
+    /**
+     * Construtor da classe {@code TotalPeriodoJpaAdapter}.
+     *
+     * @param repo repositório JPA responsável pelo acesso aos dados da entidade {@link TotalPeriodo}
+     */
+    public TotalPeriodoJpaAdapter(TotalPeriodoJpaRepository repo) {
+        this.repo = repo;
+    }
+
+    @Override
+    @Transactional
+    public void acumular(Granularidade granularidade, LocalDate inicio, NaturezaLancamento natureza,
+                         String categoria, BigDecimal valor, long quantidade) {
+        repo.acumular(granularidade.name(), inicio, natureza.name(), categoria, valor, quantidade);
+    }
+
+    @Override
+    public List<TotalPeriodo> buscar(Granularidade granularidade, LocalDate de, LocalDate ate) {
+        return repo.findByGranularidadeAndInicioBetween(granularidade, de, ate);
+    }
+
+    @Override
+    public boolean vazio() {
+        return repo.count() == 0;
+    }
+
+    @Override
+    @Transactional
+    public void reconstruir(String semCategoria) {
+        repo.reconstruir(semCategoria);
+    }
+}
@@ -1,9 +1,14 @@
 package br.com.projeto.aeroporto.gestaofinanceira.controller;
 
 
+import br.com.projeto.aeroporto.comum.Paginacao;
+import br.com.projeto.aeroporto.comum.RespostaNdjson;
 import br.com.projeto.aeroporto.gestaofinanceira.model.Despesa;
+import br.com.projeto.aeroporto.gestaofinanceira.model.DespesaResumo;
 import br.com.projeto.aeroporto.gestaofinanceira.service.DespesaService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -25,13 +30,17 @@ public class DespesaController {
 
     private final DespesaService despesaUseCase;
 
+    private final RespostaNdjson respostaNdjson;
+
     /**
      * Construtor da classe {@code DespesaController}.
      *
      * @param despesaUseCase serviço responsável pelas operações de negócio envolvendo {@link Despesa}
+     * @param respostaNdjson componente que transmite listagens completas em NDJSON
      */
-    public DespesaController(DespesaService despesaUseCase) {
+    public DespesaController(DespesaService despesaUseCase, RespostaNdjson respostaNdjson) {
         this.despesaUseCase = despesaUseCase;
+        this.respostaNdjson = respostaNdjson;
     }
 
     /**
@@ -50,17 +59,55 @@ public class DespesaController {
     }
 
     /**
-     * Lista todas as despesas cadastradas.
+     * Cria várias despesas em uma única requisição.
+     *
+     * <p>
+     * Requisição: {@code POST /despesas/lote}
+     * </p>
+     *
+     * @param despesas lista de {@link Despesa} enviada no corpo da requisição
+     * @return as {@link Despesa} salvas, na ordem recebida
+     */
+    @PostMapping("/lote")
+    public List<Despesa> salvarLote(@RequestBody List<Despesa> despesas) {
+        return despesaUseCase.salvarTodos(despesas);
+    }
+
+    /**
+     * Lista uma página de despesas, usando o ID como cursor.
+     *
+     * <p>
+     * Requisição: {@code GET /despesas?after=&limit=}
+     * </p>
      *
      * <p>
-     * Requisição: {@code GET /despesas}
+     * Para obter a próxima página, envie em {@code after} o ID da última
+     * despesa recebida. Sem {@code limit}, são devolvidos
+     * {@value Paginacao#LIMITE_PADRAO} registros (máximo {@value Paginacao#LIMITE_MAXIMO}).
      * </p>
      *
-     * @return lista de {@link Despesa}
+     * @param after último ID já recebido (opcional)
+     * @param limit tamanho da página (opcional)
+     * @return página de {@link DespesaResumo} em ordem crescente de ID
      */
     @GetMapping
-    public List<Despesa> listar() {
-        return despesaUseCase.listar();
+    public List<DespesaResumo> listar(@RequestParam(required = false) Long after,
+                                      @RequestParam(required = false) Integer limit) {
+        return despesaUseCase.listarResumos(after, limit);
+    }
+
+    /**
+     * Transmite todas as despesas em NDJSON, uma por linha, à medida que são lidas do banco.
+     *
+     * <p>
+     * Requisição: {@code GET /despesas} com {@code Accept: application/x-ndjson}
+     * </p>
+     *
+     * @return resposta em streaming com todas as despesas
+     */
+    @GetMapping(produces = RespostaNdjson.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> transmitir() {
+        return respostaNdjson.transmitir(despesaUseCase::percorrerResumos);
     }
 
     /**
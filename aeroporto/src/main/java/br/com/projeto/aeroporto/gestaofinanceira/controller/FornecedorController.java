@@ -2,6 +2,8 @@ package br.com.projeto.aeroporto.gestaofinanceira.controller;
 
 
 import br.com.projeto.aeroporto.gestaofinanceira.model.Fornecedor;
+import br.com.projeto.aeroporto.gestaofinanceira.model.FornecedorDetalhe;
+import br.com.projeto.aeroporto.gestaofinanceira.model.FornecedorResumo;
 import br.com.projeto.aeroporto.gestaofinanceira.service.FornecedorService;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,6 +15,9 @@ import java.util.List;
  * <p>
  * Esta classe recebe as requisições HTTP, delega a lógica de negócio para o serviço
  * {@link FornecedorService} e retorna as respostas diretamente como entidades.
+ * As consultas devolvem projeções ({@link FornecedorResumo} e
+ * {@link FornecedorDetalhe}), lidas com um número fixo de consultas SQL, em vez
+ * de percorrer a coleção preguiçosa de despesas de cada fornecedor.
  * </p>
  *
  * <p>
@@ -56,11 +61,11 @@ public class FornecedorController {
      * Requisição: {@code GET /fornecedores}
      * </p>
      *
-     * @return lista de {@link Fornecedor}
+     * @return lista de {@link FornecedorResumo}, com quantidade e soma das despesas
      */
     @GetMapping
-    public List<Fornecedor> listar() {
-        return fornecedorService.listar();
+    public List<FornecedorResumo> listar() {
+        return fornecedorService.listarResumos();
     }
 
     /**
@@ -71,13 +76,13 @@ public class FornecedorController {
      * </p>
      *
      * @param id identificador único do fornecedor
-     * @return o {@link Fornecedor} correspondente ao ID informado
+     * @return o {@link FornecedorDetalhe} correspondente ao ID informado, com suas despesas
      * @throws RuntimeException (ou exceção específica) caso o fornecedor não seja encontrado,
      *                          a depender da implementação de {@link FornecedorService}
      */
     @GetMapping("/{id}")
-    public Fornecedor buscar(@PathVariable Long id) {
-        return fornecedorService.buscarPorId(id);
+    public FornecedorDetalhe buscar(@PathVariable Long id) {
+        return fornecedorService.buscarDetalhe(id);
     }
 
     /**
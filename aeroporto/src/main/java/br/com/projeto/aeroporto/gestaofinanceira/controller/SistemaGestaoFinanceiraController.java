@@ -4,9 +4,14 @@ package br.com.projeto.aeroporto.gestaofinanceira.controller;
 
 import br.com.projeto.aeroporto.gestaofinanceira.model.Despesa;
 import br.com.projeto.aeroporto.gestaofinanceira.model.Receita;
-import br.com.projeto.aeroporto.gestaofinanceira.model.Relatorio;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import br.com.projeto.aeroporto.gestaofinanceira.model.ResumoFinanceiro;
+import br.com.projeto.aeroporto.gestaofinanceira.service.DespesaService;
+import br.com.projeto.aeroporto.gestaofinanceira.service.ReceitaService;
+import br.com.projeto.aeroporto.gestaofinanceira.service.RelatorioService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
 
 /**
  * Controlador REST responsável por operações do Sistema de Gestão Financeira.
@@ -22,57 +27,81 @@ import org.springframework.web.bind.annotation.RestController;
  * </ul>
  *
  * <p>
- * Atualmente, os métodos ainda não possuem implementação nem mapeamentos HTTP
- * específicos ({@code @PostMapping}, {@code @GetMapping}, etc.), funcionando como
- * placeholders para futuras funcionalidades.
+ * Cada registro de receita ou despesa atualiza os totais diários e mensais
+ * usados pelos relatórios.
  * </p>
  */
 @RestController
 @RequestMapping("/SistemaFinanceiro")
 public class SistemaGestaoFinanceiraController {
 
+    private final ReceitaService receitaService;
+
+    private final DespesaService despesaService;
+
+    private final RelatorioService relatorioService;
+
+    /**
+     * Construtor da classe {@code SistemaGestaoFinanceiraController}.
+     *
+     * @param receitaService   serviço de receitas
+     * @param despesaService   serviço de despesas
+     * @param relatorioService serviço de relatórios financeiros
+     */
+    public SistemaGestaoFinanceiraController(ReceitaService receitaService, DespesaService despesaService,
+                                             RelatorioService relatorioService) {
+        this.receitaService = receitaService;
+        this.despesaService = despesaService;
+        this.relatorioService = relatorioService;
+    }
+
     /**
      * Registra uma nova receita no sistema financeiro.
      *
      * <p>
-     * Método ainda sem implementação. Deve futuramente receber uma requisição contendo
-     * os dados de {@link Receita} e delegar o processamento para a camada de serviço.
+     * Requisição: {@code POST /SistemaFinanceiro/receitas}
      * </p>
      *
      * @param receita objeto {@link Receita} que representa a receita a ser registrada
+     * @return a {@link Receita} salva, com ID gerado
      */
-    public void registrarReceita(Receita receita) {
-
+    @PostMapping("/receitas")
+    public Receita registrarReceita(@RequestBody Receita receita) {
+        return receitaService.salvar(receita);
     }
 
     /**
      * Registra uma nova despesa no sistema financeiro.
      *
      * <p>
-     * Método ainda sem implementação. Deve futuramente receber uma requisição contendo
-     * os dados de {@link Despesa} e delegar o processamento para a camada de serviço.
+     * Requisição: {@code POST /SistemaFinanceiro/despesas}
      * </p>
      *
      * @param despesa objeto {@link Despesa} que representa a despesa a ser registrada
+     * @return a {@link Despesa} salva, com ID gerado
      */
-    public void registrarDespesa(Despesa despesa) {
-
+    @PostMapping("/despesas")
+    public Despesa registrarDespesa(@RequestBody Despesa despesa) {
+        return despesaService.salvar(despesa);
     }
 
     /**
-     * Gera um relatório financeiro consolidado.
+     * Gera um relatório financeiro consolidado do período.
      *
      * <p>
-     * Método ainda sem implementação. A expectativa é que, no futuro, ele consolide
-     * as informações de receitas e despesas e retorne um {@link Relatorio} com os dados
-     * financeiros do período desejado.
+     * Requisição: {@code GET /SistemaFinanceiro/relatorio?periodoInicio=2025-01-01&periodoFim=2025-03-31}.
+     * O relatório é montado a partir dos totais pré-agregados, sem percorrer os lançamentos.
      * </p>
      *
-     * @return um objeto {@link Relatorio} contendo o resumo financeiro,
-     *         atualmente retornando {@code null} como placeholder
+     * @param periodoInicio primeiro dia do período
+     * @param periodoFim    último dia do período (inclusivo)
+     * @return um {@link ResumoFinanceiro} com receitas, despesas e saldo do período
      */
-    public Relatorio gerarRelatorioFinanceiro() {
-        return null;
+    @GetMapping("/relatorio")
+    public ResumoFinanceiro gerarRelatorioFinanceiro(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate periodoInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate periodoFim) {
+        return relatorioService.gerarResumo(periodoInicio, periodoFim);
     }
 
-}
\ No newline at end of file
+}
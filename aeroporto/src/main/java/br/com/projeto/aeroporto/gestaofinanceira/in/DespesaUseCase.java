@@ -2,8 +2,11 @@ package br.com.projeto.aeroporto.gestaofinanceira.in;
 
 
 import br.com.projeto.aeroporto.gestaofinanceira.model.Despesa;
+import br.com.projeto.aeroporto.gestaofinanceira.model.DespesaResumo;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Caso de uso responsável pelas operações de negócio relacionadas à entidade {@link Despesa}.
@@ -23,6 +26,14 @@ public interface DespesaUseCase {
      */
     Despesa salvar(Despesa despesa);
 
+    /**
+     * Cria um lote de despesas.
+     *
+     * @param despesas despesas a serem salvas
+     * @return as {@link Despesa} salvas, na ordem recebida
+     */
+    List<Despesa> salvarTodos(Collection<Despesa> despesas);
+
     /**
      * Lista todas as despesas cadastradas.
      *
@@ -30,6 +41,22 @@ public interface DespesaUseCase {
      */
     List<Despesa> listar();
 
+    /**
+     * Retorna uma página de despesas por cursor (keyset), sem fornecedor e relatório.
+     *
+     * @param after último ID já recebido pelo cliente ({@code null} para a primeira página)
+     * @param limit tamanho da página solicitado ({@code null} para o padrão)
+     * @return despesas com ID maior que {@code after}, em ordem crescente de ID
+     */
+    List<DespesaResumo> listarResumos(Long after, Integer limit);
+
+    /**
+     * Percorre todas as despesas cadastradas, uma a uma, já projetadas.
+     *
+     * @param consumidor função chamada para cada despesa
+     */
+    void percorrerResumos(Consumer<DespesaResumo> consumidor);
+
     /**
      * Busca uma despesa pelo seu identificador.
      *
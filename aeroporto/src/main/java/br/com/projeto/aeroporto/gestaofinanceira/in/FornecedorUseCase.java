@@ -2,6 +2,8 @@ package br.com.projeto.aeroporto.gestaofinanceira.in;
 
 
 import br.com.projeto.aeroporto.gestaofinanceira.model.Fornecedor;
+import br.com.projeto.aeroporto.gestaofinanceira.model.FornecedorDetalhe;
+import br.com.projeto.aeroporto.gestaofinanceira.model.FornecedorResumo;
 
 import java.util.List;
 
@@ -31,6 +33,22 @@ public interface FornecedorUseCase {
      */
     List<Fornecedor> listar();
 
+    /**
+     * Lista os fornecedores com a quantidade e a soma de suas despesas, sem carregá-las.
+     *
+     * @return uma lista de {@link FornecedorResumo} em ordem de ID
+     */
+    List<FornecedorResumo> listarResumos();
+
+    /**
+     * Busca um fornecedor e suas despesas para exibição.
+     *
+     * @param id identificador único do fornecedor
+     * @return o {@link FornecedorDetalhe} correspondente ao ID informado
+     * @throws RuntimeException caso o fornecedor não seja encontrado
+     */
+    FornecedorDetalhe buscarDetalhe(Long id);
+
     /**
      * Busca um fornecedor pelo seu identificador.
      *
@@ -0,0 +1,53 @@
+package br.com.projeto.aeroporto.gestaofinanceira.in;
+
+
+import br.com.projeto.aeroporto.gestaofinanceira.model.Receita;
+
+import java.util.List;
+
+/**
+ * Caso de uso responsável pelas operações de negócio relacionadas à entidade {@link Receita}.
+ */
+public interface ReceitaUseCase {
+
+    /**
+     * Cria ou atualiza uma receita.
+     *
+     * @param receita objeto {@link Receita} a ser salvo
+     * @return a {@link Receita} salva, possivelmente com ID gerado/atualizado
+     */
+    Receita salvar(Receita receita);
+
+    /**
+     * Lista todas as receitas cadastradas.
+     *
+     * @return uma lista contendo todas as {@link Receita} persistidas
+     */
+    List<Receita> listar();
+
+    /**
+     * Busca uma receita pelo seu identificador.
+     *
+     * @param id identificador único da receita
+     * @return a {@link Receita} correspondente ao ID informado
+     * @throws RuntimeException caso a receita não seja encontrada
+     */
+    Receita buscarPorId(Long id);
+
+    /**
+     * Atualiza os dados de uma receita existente.
+     *
+     * @param id      identificador da receita a ser atualizada
+     * @param receita objeto {@link Receita} contendo os novos dados
+     * @return a {@link Receita} atualizada
+     * @throws RuntimeException caso a receita não seja encontrada
+     */
+    Receita atualizar(Long id, Receita receita);
+
+    /**
+     * Remove uma receita com base no seu identificador.
+     *
+     * @param id identificador da receita a ser removida
+     */
+    void deletar(Long id);
+}
@@ -20,12 +20,13 @@ public class Despesa {
      * Identificador único da despesa.
      *
      * <p>
-     * Gerado automaticamente pelo banco de dados utilizando a estratégia
-     * {@link GenerationType#AUTO}.
+     * Obtido da sequência {@code despesa_seq} pela estratégia
+     * {@link GenerationType#SEQUENCE}, reservando 50 valores por consulta.
      * </p>
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "despesa_seq")
+    @SequenceGenerator(name = "despesa_seq", sequenceName = "despesa_seq", allocationSize = 50)
     private Long idDespesa;
 
     /**
@@ -65,9 +66,11 @@ public class Despesa {
      * Relacionamento muitos-para-um com {@link Fornecedor}, indicando
      * que um fornecedor pode estar vinculado a várias despesas.
      * A chave estrangeira é armazenada na coluna {@code id_fornecedor}.
+     * Carregado sob demanda, para que listar despesas não dispare uma
+     * consulta por fornecedor.
      * </p>
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_fornecedor")
     private Fornecedor fornecedor;
 
@@ -75,11 +78,11 @@ public class Despesa {
      * Relatório financeiro ao qual esta despesa está vinculada.
      *
      * <p>
-     * Relacionamento muitos-para-um com {@link Relatorio}.
+     * Relacionamento muitos-para-um com {@link Relatorio}, carregado sob demanda.
      * A chave estrangeira é armazenada na coluna {@code id_relatorio}.
      * </p>
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_relatorio")
     private Relatorio relatorio;
 
@@ -0,0 +1,15 @@
+package br.com.projeto.aeroporto.gestaofinanceira.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dados de uma {@link Despesa} sem as associações com fornecedor e relatório.
+ *
+ * @param idDespesa identificador da despesa
+ * @param categoria categoria da despesa
+ * @param valor     valor da despesa
+ * @param data      data e hora da despesa
+ * @param descricao descrição da despesa
+ */
+public record DespesaResumo(Long idDespesa, String categoria, Double valor, LocalDateTime data, String descricao) {
+}
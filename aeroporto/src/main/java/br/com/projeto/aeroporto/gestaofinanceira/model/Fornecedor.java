@@ -47,11 +47,11 @@ public class Fornecedor {
      * <p>
      * Relacionamento um-para-muitos com {@link Despesa}, mapeado pelo atributo
      * {@code fornecedor} na entidade {@link Despesa}.
-     * O {@link CascadeType#ALL} indica que operações realizadas sobre o fornecedor
-     * (como salvar ou deletar) serão propagadas para suas despesas associadas.
+     * Sem cascata: as despesas são gravadas e excluídas pelo
+     * {@code DespesaService}, que mantém os totais financeiros por período.
      * </p>
      */
-    @OneToMany(mappedBy = "fornecedor", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "fornecedor")
     private List<Despesa> despesas;
 
     /**
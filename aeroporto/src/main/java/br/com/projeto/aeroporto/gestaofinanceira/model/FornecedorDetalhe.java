@@ -0,0 +1,17 @@
+package br.com.projeto.aeroporto.gestaofinanceira.model;
+
+import java.util.List;
+
+/**
+ * Fornecedor com suas despesas, lido em duas consultas independentemente da quantidade de despesas.
+ *
+ * @param idFornecedor    identificador do {@link Fornecedor}
+ * @param nome            nome do fornecedor
+ * @param servicoPrestado serviço prestado
+ * @param despesas        despesas associadas, em ordem de ID
+ */
+public record FornecedorDetalhe(Long idFornecedor,
+                                String nome,
+                                String servicoPrestado,
+                                List<DespesaResumo> despesas) {
+}
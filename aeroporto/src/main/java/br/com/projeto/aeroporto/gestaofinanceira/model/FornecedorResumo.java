@@ -0,0 +1,17 @@
+package br.com.projeto.aeroporto.gestaofinanceira.model;
+
+/**
+ * Fornecedor na listagem, com o total de suas despesas em vez da lista completa.
+ *
+ * @param idFornecedor       identificador do {@link Fornecedor}
+ * @param nome               nome do fornecedor
+ * @param servicoPrestado    serviço prestado
+ * @param quantidadeDespesas número de despesas associadas
+ * @param totalDespesas      soma dos valores das despesas associadas
+ */
+public record FornecedorResumo(Long idFornecedor,
+                               String nome,
+                               String servicoPrestado,
+                               Long quantidadeDespesas,
+                               Double totalDespesas) {
+}
@@ -0,0 +1,9 @@
+package br.com.projeto.aeroporto.gestaofinanceira.model;
+
+/**
+ * Tamanho do período coberto por um {@link TotalPeriodo}.
+ */
+public enum Granularidade {
+    DIA,
+    MES
+}
@@ -0,0 +1,9 @@
+package br.com.projeto.aeroporto.gestaofinanceira.model;
+
+/**
+ * Natureza de um lançamento financeiro agregado em {@link TotalPeriodo}.
+ */
+public enum NaturezaLancamento {
+    DESPESA,
+    RECEITA
+}
@@ -16,10 +16,10 @@ public class Relatorio {
     private LocalDate periodoInicio;
     private LocalDate periodoFim;
 
-    @OneToMany(mappedBy = "relatorio", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "relatorio")
     private List<Despesa> despesas;
 
-    @OneToMany(mappedBy = "relatorio", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "relatorio")
     private List<Receita> receitas;
 
 
@@ -0,0 +1,29 @@
+package br.com.projeto.aeroporto.gestaofinanceira.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Resumo financeiro de um período, calculado a partir dos {@link TotalPeriodo}.
+ *
+ * @param periodoInicio        primeiro dia do período
+ * @param periodoFim           último dia do período (inclusivo)
+ * @param totalReceitas        soma das receitas
+ * @param totalDespesas        soma das despesas
+ * @param saldo                receitas menos despesas
+ * @param quantidadeReceitas   número de receitas lançadas
+ * @param quantidadeDespesas   número de despesas lançadas
+ * @param receitasPorCategoria soma das receitas por tipo
+ * @param despesasPorCategoria soma das despesas por categoria
+ */
+public record ResumoFinanceiro(LocalDate periodoInicio,
+                               LocalDate periodoFim,
+                               BigDecimal totalReceitas,
+                               BigDecimal totalDespesas,
+                               BigDecimal saldo,
+                               long quantidadeReceitas,
+                               long quantidadeDespesas,
+                               Map<String, BigDecimal> receitasPorCategoria,
+                               Map<String, BigDecimal> despesasPorCategoria) {
+}
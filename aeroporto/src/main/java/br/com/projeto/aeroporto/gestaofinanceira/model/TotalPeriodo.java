@@ -0,0 +1,105 @@
+package br.com.projeto.aeroporto.gestaofinanceira.model;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Total acumulado de despesas ou receitas de uma categoria em um dia ou mês.
+ *
+ * <p>
+ * Mantido de forma incremental a cada gravação de {@link Despesa} ou
+ * {@link Receita}, para que os relatórios somem poucos totais por período em
+ * vez de percorrer os lançamentos. Em períodos mensais, {@code inicio} é o
+ * primeiro dia do mês.
+ * </p>
+ *
+ * <p>
+ * As linhas são gravadas apenas por {@code INSERT ... ON CONFLICT}, por isso o
+ * ID usa {@link GenerationType#IDENTITY}.
+ * </p>
+ */
+@Entity
+@Table(name = "total_periodo",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"granularidade", "inicio", "natureza", "categoria"}))
+public class TotalPeriodo {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long idTotal;
+
+    @Enumerated(EnumType.STRING)
+    private Granularidade granularidade;
+
+    private LocalDate inicio;
+
+    @Enumerated(EnumType.STRING)
+    private NaturezaLancamento natureza;
+
+    private String categoria;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal total;
+
+    private Long quantidade;
+
+    public TotalPeriodo() {
+    }
+
+    public Long getIdTotal() {
+        return idTotal;
+    }
+
+    public void setIdTotal(Long idTotal) {
+        this.idTotal = idTotal;
+    }
+
+    public Granularidade getGranularidade() {
+        return granularidade;
+    }
+
+    public void setGranularidade(Granularidade granularidade) {
+        this.granularidade = granularidade;
+    }
+
+    public LocalDate getInicio() {
+        return inicio;
+    }
+
+    public void setInicio(LocalDate inicio) {
+        this.inicio = inicio;
+    }
+
+    public NaturezaLancamento getNatureza() {
+        return natureza;
+    }
+
+    public void setNatureza(NaturezaLancamento natureza) {
+        this.natureza = natureza;
+    }
+
+    public String getCategoria() {
+        return categoria;
+    }
+
+    public void setCategoria(String categoria) {
+        this.categoria = categoria;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public Long getQuantidade() {
+        return quantidade;
+    }
+
+    public void setQuantidade(Long quantidade) {
+        this.quantidade = quantidade;
+    }
+}
@@ -2,14 +2,21 @@ package br.com.projeto.aeroporto.gestaofinanceira.out;
 
 
 import br.com.projeto.aeroporto.gestaofinanceira.model.Despesa;
+import br.com.projeto.aeroporto.gestaofinanceira.model.DespesaResumo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface DespesaRepositoryPort {
     Despesa salvar(Despesa despesa);
+    List<Despesa> salvarTodos(Collection<Despesa> despesas);
     List<Despesa> listar();
+    List<DespesaResumo> listarResumos(Long after, int limit);
+    void percorrerResumos(Consumer<DespesaResumo> consumidor);
     Optional<Despesa> buscarPorId(Long id);
+    Optional<Despesa> buscarPorIdParaAlterar(Long id);
     void deletar(Long id);
 }
 
@@ -1,15 +1,22 @@
 package br.com.projeto.aeroporto.gestaofinanceira.out;
 
 
+import br.com.projeto.aeroporto.gestaofinanceira.model.DespesaResumo;
 import br.com.projeto.aeroporto.gestaofinanceira.model.Fornecedor;
+import br.com.projeto.aeroporto.gestaofinanceira.model.FornecedorResumo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FornecedorRepositoryPort {
     Fornecedor salvar(Fornecedor fornecedor);
+    List<Fornecedor> salvarTodos(Collection<Fornecedor> fornecedores);
     List<Fornecedor> listar();
     Optional<Fornecedor> buscarPorId(Long id);
     void deletar(Long id);
+    List<FornecedorResumo> listarResumos();
+    Optional<FornecedorResumo> buscarResumo(Long id);
+    List<DespesaResumo> listarDespesas(Long idFornecedor);
 
 }
@@ -0,0 +1,17 @@
+package br.com.projeto.aeroporto.gestaofinanceira.out;
+
+
+import br.com.projeto.aeroporto.gestaofinanceira.model.Receita;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReceitaRepositoryPort {
+    Receita salvar(Receita receita);
+    List<Receita> salvarTodos(Collection<Receita> receitas);
+    List<Receita> listar();
+    Optional<Receita> buscarPorId(Long id);
+    Optional<Receita> buscarPorIdParaAlterar(Long id);
+    void deletar(Long id);
+}
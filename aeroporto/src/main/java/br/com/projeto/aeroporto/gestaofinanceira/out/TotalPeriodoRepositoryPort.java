@@ -0,0 +1,18 @@
+package br.com.projeto.aeroporto.gestaofinanceira.out;
+
+
+import br.com.projeto.aeroporto.gestaofinanceira.model.Granularidade;
+import br.com.projeto.aeroporto.gestaofinanceira.model.NaturezaLancamento;
+import br.com.projeto.aeroporto.gestaofinanceira.model.TotalPeriodo;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TotalPeriodoRepositoryPort {
+    void acumular(Granularidade granularidade, LocalDate inicio, NaturezaLancamento natureza,
+                  String categoria, BigDecimal valor, long quantidade);
+    List<TotalPeriodo> buscar(Granularidade granularidade, LocalDate de, LocalDate ate);
+    boolean vazio();
+    void reconstruir(String semCategoria);
+}
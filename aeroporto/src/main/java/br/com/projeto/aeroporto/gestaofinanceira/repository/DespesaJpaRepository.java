@@ -2,9 +2,69 @@ package br.com.projeto.aeroporto.gestaofinanceira.repository;
 
 
 import br.com.projeto.aeroporto.gestaofinanceira.model.Despesa;
+import br.com.projeto.aeroporto.gestaofinanceira.model.DespesaResumo;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface DespesaJpaRepository extends JpaRepository<Despesa, Long> {}
+public interface DespesaJpaRepository extends JpaRepository<Despesa, Long> {
+
+    /**
+     * Página por cursor já projetada em {@link DespesaResumo}, sem carregar
+     * fornecedor nem relatório.
+     *
+     * @param idDespesa último ID já entregue ao cliente
+     * @param limite    quantidade máxima de registros
+     * @return próxima página de despesas
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.gestaofinanceira.model.DespesaResumo(
+                d.idDespesa, d.categoria, d.valor, d.data, d.descricao)
+            from Despesa d
+            where d.idDespesa > :idDespesa
+            order by d.idDespesa
+            """)
+    List<DespesaResumo> listarResumos(@Param("idDespesa") Long idDespesa, Limit limite);
+
+    /**
+     * Percorre todas as despesas, projetadas em {@link DespesaResumo}, em ordem
+     * de ID por meio de um cursor JDBC.
+     *
+     * <p>
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     * </p>
+     *
+     * @return fluxo de despesas lido em lotes do tamanho do fetch size
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.gestaofinanceira.model.DespesaResumo(
+                d.idDespesa, d.categoria, d.valor, d.data, d.descricao)
+            from Despesa d
+            order by d.idDespesa
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<DespesaResumo> buscarResumosEmFluxo();
+
+    /**
+     * Busca uma despesa travando a linha ({@code SELECT ... FOR UPDATE}) até o fim da transação.
+     *
+     * @param idDespesa identificador da despesa
+     * @return despesa encontrada, se existir
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d from Despesa d where d.idDespesa = :idDespesa")
+    Optional<Despesa> buscarParaAlterar(@Param("idDespesa") Long idDespesa);
+}
 
@@ -1,8 +1,59 @@
 package br.com.projeto.aeroporto.gestaofinanceira.repository;
 
 
+import br.com.projeto.aeroporto.gestaofinanceira.model.DespesaResumo;
 import br.com.projeto.aeroporto.gestaofinanceira.model.Fornecedor;
+import br.com.projeto.aeroporto.gestaofinanceira.model.FornecedorResumo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface FornecedorJpaRepository extends JpaRepository<Fornecedor, Long> {}
+import java.util.List;
+import java.util.Optional;
 
+public interface FornecedorJpaRepository extends JpaRepository<Fornecedor, Long> {
+
+    /**
+     * Todos os fornecedores com a quantidade e a soma de suas despesas, em uma única consulta.
+     *
+     * @return fornecedores em ordem de ID
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.gestaofinanceira.model.FornecedorResumo(
+                f.idFornecedor, f.nome, f.servicoPrestado, count(d), coalesce(sum(d.valor), 0.0))
+            from Fornecedor f left join f.despesas d
+            group by f.idFornecedor, f.nome, f.servicoPrestado
+            order by f.idFornecedor
+            """)
+    List<FornecedorResumo> listarResumos();
+
+    /**
+     * Dados de um fornecedor, sem as despesas.
+     *
+     * @param idFornecedor identificador do fornecedor
+     * @return fornecedor com quantidade e soma das despesas, se existir
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.gestaofinanceira.model.FornecedorResumo(
+                f.idFornecedor, f.nome, f.servicoPrestado, count(d), coalesce(sum(d.valor), 0.0))
+            from Fornecedor f left join f.despesas d
+            where f.idFornecedor = :idFornecedor
+            group by f.idFornecedor, f.nome, f.servicoPrestado
+            """)
+    Optional<FornecedorResumo> buscarResumo(@Param("idFornecedor") Long idFornecedor);
+
+    /**
+     * Despesas de um fornecedor, sem carregar as entidades nem suas associações.
+     *
+     * @param idFornecedor identificador do fornecedor
+     * @return despesas em ordem de ID
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.gestaofinanceira.model.DespesaResumo(
+                d.idDespesa, d.categoria, d.valor, d.data, d.descricao)
+            from Despesa d
+            where d.fornecedor.idFornecedor = :idFornecedor
+            order by d.idDespesa
+            """)
+    List<DespesaResumo> listarDespesas(@Param("idFornecedor") Long idFornecedor);
+}
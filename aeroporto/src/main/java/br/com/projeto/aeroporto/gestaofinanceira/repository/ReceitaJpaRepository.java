@@ -0,0 +1,24 @@
+package br.com.projeto.aeroporto.gestaofinanceira.repository;
+
+
+import br.com.projeto.aeroporto.gestaofinanceira.model.Receita;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ReceitaJpaRepository extends JpaRepository<Receita, Long> {
+
+    /**
+     * Busca uma receita travando a linha ({@code SELECT ... FOR UPDATE}) até o fim da transação.
+     *
+     * @param idReceita identificador da receita
+     * @return receita encontrada, se existir
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Receita r where r.idReceita = :idReceita")
+    Optional<Receita> buscarParaAlterar(@Param("idReceita") Long idReceita);
+}
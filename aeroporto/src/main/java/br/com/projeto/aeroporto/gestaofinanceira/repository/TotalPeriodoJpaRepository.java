@@ -0,0 +1,78 @@
+package br.com.projeto.aeroporto.gestaofinanceira.repository;
+
+
+import br.com.projeto.aeroporto.gestaofinanceira.model.Granularidade;
+import br.com.projeto.aeroporto.gestaofinanceira.model.TotalPeriodo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TotalPeriodoJpaRepository extends JpaRepository<TotalPeriodo, Long> {
+
+    /**
+     * Totais de uma granularidade com início dentro do intervalo (inclusivo).
+     *
+     * @param granularidade dia ou mês
+     * @param de            primeiro início aceito
+     * @param ate           último início aceito
+     * @return totais encontrados
+     */
+    List<TotalPeriodo> findByGranularidadeAndInicioBetween(Granularidade granularidade, LocalDate de, LocalDate ate);
+
+    /**
+     * Soma valor e quantidade ao total do período, criando-o se ainda não existir.
+     *
+     * <p>
+     * Executado como um único {@code INSERT ... ON CONFLICT} no PostgreSQL, o que
+     * torna a atualização atômica entre transações concorrentes.
+     * </p>
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO total_periodo (granularidade, inicio, natureza, categoria, total, quantidade)
+            VALUES (:granularidade, :inicio, :natureza, :categoria, :valor, :quantidade)
+            ON CONFLICT (granularidade, inicio, natureza, categoria)
+            DO UPDATE SET total = total_periodo.total + EXCLUDED.total,
+                          quantidade = total_periodo.quantidade + EXCLUDED.quantidade
+            """, nativeQuery = true)
+    void acumular(@Param("granularidade") String granularidade,
+                  @Param("inicio") LocalDate inicio,
+                  @Param("natureza") String natureza,
+                  @Param("categoria") String categoria,
+                  @Param("valor") BigDecimal valor,
+                  @Param("quantidade") long quantidade);
+
+    /**
+     * Recalcula todos os totais diários e mensais a partir dos lançamentos gravados.
+     *
+     * <p>
+     * A agregação é feita inteiramente no banco; deve ser executada com a tabela vazia.
+     * </p>
+     *
+     * @param semCategoria categoria usada para lançamentos sem categoria
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO total_periodo (granularidade, inicio, natureza, categoria, total, quantidade)
+            SELECT g.granularidade,
+                   CASE WHEN g.granularidade = 'DIA' THEN CAST(l.data AS date)
+                        ELSE CAST(date_trunc('month', l.data) AS date) END,
+                   l.natureza, l.categoria,
+                   COALESCE(SUM(CAST(l.valor AS numeric(19, 2))), 0), COUNT(*)
+            FROM (SELECT 'DESPESA' AS natureza, COALESCE(categoria, :semCategoria) AS categoria, valor, data
+                  FROM despesa WHERE data IS NOT NULL
+                  UNION ALL
+                  SELECT 'RECEITA', COALESCE(tipo, :semCategoria), valor, data
+                  FROM receita WHERE data IS NOT NULL) l
+            CROSS JOIN (VALUES ('DIA'), ('MES')) AS g(granularidade)
+            GROUP BY 1, 2, 3, 4
+            """, nativeQuery = true)
+    void reconstruir(@Param("semCategoria") String semCategoria);
+}
@@ -0,0 +1,152 @@
+package br.com.projeto.aeroporto.gestaofinanceira.service;
+
+
+import br.com.projeto.aeroporto.gestaofinanceira.model.Despesa;
+import br.com.projeto.aeroporto.gestaofinanceira.model.Granularidade;
+import br.com.projeto.aeroporto.gestaofinanceira.model.NaturezaLancamento;
+import br.com.projeto.aeroporto.gestaofinanceira.model.Receita;
+import br.com.projeto.aeroporto.gestaofinanceira.model.TotalPeriodo;
+import br.com.projeto.aeroporto.gestaofinanceira.out.TotalPeriodoRepositoryPort;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mantém os {@link TotalPeriodo} diários e mensais a cada gravação de despesa ou receita.
+ *
+ * <p>
+ * Os serviços informam o lançamento antes e depois da alteração; a diferença é
+ * somada aos totais do dia e do mês correspondentes, dentro da mesma transação
+ * da gravação. O lançamento anterior é lido com a linha travada
+ * ({@code buscarPorIdParaAlterar}): sem a trava, duas alterações simultâneas
+ * do mesmo lançamento partiriam do mesmo valor e os totais contariam a
+ * diferença errada. Os totais afetados são atualizados sempre na mesma ordem, para
+ * que transações concorrentes não se bloqueiem mutuamente.
+ * </p>
+ */
+@Component
+public class AgregadorFinanceiro {
+
+    /**
+     * Categoria usada para lançamentos sem categoria (ou tipo) informado.
+     */
+    public static final String SEM_CATEGORIA = "SEM CATEGORIA";
+
+    private static final Comparator<Balde> ORDEM = Comparator
+            .comparing(Balde::granularidade)
+            .thenComparing(Balde::natureza)
+            .thenComparing(Balde::categoria)
+            .thenComparing(Balde::inicio);
+
+    private final TotalPeriodoRepositoryPort repository;
+
+    public AgregadorFinanceiro(TotalPeriodoRepositoryPort repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Recalcula os totais a partir dos lançamentos quando a tabela ainda está vazia,
+     * como na primeira execução após a criação da tabela.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruirSeVazio() {
+        if (repository.vazio()) {
+            repository.reconstruir(SEM_CATEGORIA);
+        }
+    }
+
+    /**
+     * Aplica a alteração de um lançamento aos totais.
+     *
+     * @param anterior lançamento antes da alteração ({@code null} em inclusões)
+     * @param atual    lançamento depois da alteração ({@code null} em exclusões)
+     */
+    public void registrar(Lancamento anterior, Lancamento atual) {
+        Map<Balde, Acumulado> deltas = new TreeMap<>(ORDEM);
+        acumular(deltas, anterior, -1);
+        acumular(deltas, atual, 1);
+        aplicar(deltas);
+    }
+
+    /**
+     * Aplica a inclusão de vários lançamentos aos totais, agrupando-os por período.
+     *
+     * @param incluidos lançamentos incluídos
+     */
+    public void registrarTodos(Collection<Lancamento> incluidos) {
+        Map<Balde, Acumulado> deltas = new TreeMap<>(ORDEM);
+        for (Lancamento lancamento : incluidos) {
+            acumular(deltas, lancamento, 1);
+        }
+        aplicar(deltas);
+    }
+
+    private void acumular(Map<Balde, Acumulado> deltas, Lancamento lancamento, int sinal) {
+        if (lancamento == null || lancamento.dia() == null) {
+            return;
+        }
+        BigDecimal valor = sinal < 0 ? lancamento.valor().negate() : lancamento.valor();
+        for (Balde balde : List.of(
+                new Balde(Granularidade.DIA, lancamento.dia(), lancamento.natureza(), lancamento.categoria()),
+                new Balde(Granularidade.MES, lancamento.dia().withDayOfMonth(1), lancamento.natureza(), lancamento.categoria()))) {
+            deltas.merge(balde, new Acumulado(valor, sinal), Acumulado::somar);
+        }
+    }
+
+    private void aplicar(Map<Balde, Acumulado> deltas) {
+        deltas.forEach((balde, delta) -> {
+            if (delta.quantidade() != 0 || delta.valor().signum() != 0) {
+                repository.acumular(balde.granularidade(), balde.inicio(), balde.natureza(),
+                        balde.categoria(), delta.valor(), delta.quantidade());
+            }
+        });
+    }
+
+    /**
+     * Retrato de uma despesa ou receita no momento da gravação.
+     *
+     * @param natureza  despesa ou receita
+     * @param categoria categoria da despesa ou tipo da receita
+     * @param dia       dia do lançamento ({@code null} se o lançamento não tiver data)
+     * @param valor     valor arredondado a duas casas decimais, como no {@code numeric(19, 2)} do banco
+     */
+    public record Lancamento(NaturezaLancamento natureza, String categoria, LocalDate dia, BigDecimal valor) {
+
+        public static Lancamento de(Despesa despesa) {
+            return new Lancamento(NaturezaLancamento.DESPESA, categoria(despesa.getCategoria()),
+                    despesa.getData() == null ? null : despesa.getData().toLocalDate(), valor(despesa.getValor()));
+        }
+
+        public static Lancamento de(Receita receita) {
+            return new Lancamento(NaturezaLancamento.RECEITA, categoria(receita.getTipo()),
+                    receita.getData() == null ? null : receita.getData().toLocalDate(), valor(receita.getValor()));
+        }
+
+        private static String categoria(String categoria) {
+            return categoria == null ? SEM_CATEGORIA : categoria;
+        }
+
+        private static BigDecimal valor(Double valor) {
+            return valor == null ? BigDecimal.ZERO : BigDecimal.valueOf(valor).setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+
+    private record Balde(Granularidade granularidade, LocalDate inicio, NaturezaLancamento natureza, String categoria) {
+    }
+
+    private record Acumulado(BigDecimal valor, long quantidade) {
+
+        Acumulado somar(Acumulado outro) {
+            return new Acumulado(valor.add(outro.valor), quantidade + outro.quantidade);
+        }
+    }
+}
@@ -1,45 +1,87 @@
 package br.com.projeto.aeroporto.gestaofinanceira.service;
 
 
+import br.com.projeto.aeroporto.comum.Paginacao;
 import br.com.projeto.aeroporto.gestaofinanceira.in.DespesaUseCase;
 import br.com.projeto.aeroporto.gestaofinanceira.model.Despesa;
+import br.com.projeto.aeroporto.gestaofinanceira.model.DespesaResumo;
 import br.com.projeto.aeroporto.gestaofinanceira.out.DespesaRepositoryPort;
+import br.com.projeto.aeroporto.gestaofinanceira.service.AgregadorFinanceiro.Lancamento;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class DespesaService implements DespesaUseCase {
 
     private final DespesaRepositoryPort repository;
 
-    public DespesaService(DespesaRepositoryPort repository) {
+    private final AgregadorFinanceiro agregador;
+
+    public DespesaService(DespesaRepositoryPort repository, AgregadorFinanceiro agregador) {
         this.repository = repository;
+        this.agregador = agregador;
     }
 
+    @Transactional
     public Despesa salvar(Despesa despesa) {
-        return repository.salvar(despesa);
+        Lancamento anterior = despesa.getIdDespesa() == null ? null
+                : repository.buscarPorIdParaAlterar(despesa.getIdDespesa()).map(Lancamento::de).orElse(null);
+        Despesa salva = repository.salvar(despesa);
+        agregador.registrar(anterior, Lancamento.de(salva));
+        return salva;
+    }
+
+    @Transactional
+    public List<Despesa> salvarTodos(Collection<Despesa> despesas) {
+        if (despesas.stream().anyMatch(d -> d.getIdDespesa() != null)) {
+            return despesas.stream().map(this::salvar).toList();
+        }
+        List<Despesa> salvas = repository.salvarTodos(despesas);
+        agregador.registrarTodos(salvas.stream().map(Lancamento::de).toList());
+        return salvas;
     }
 
     public List<Despesa> listar() {
         return repository.listar();
     }
 
+    public List<DespesaResumo> listarResumos(Long after, Integer limit) {
+        return repository.listarResumos(after, Paginacao.limiteEfetivo(limit));
+    }
+
+    public void percorrerResumos(Consumer<DespesaResumo> consumidor) {
+        repository.percorrerResumos(consumidor);
+    }
+
     public Despesa buscarPorId(Long id) {
         return repository.buscarPorId(id)
                 .orElseThrow(() -> new RuntimeException("Despesa não encontrada"));
     }
 
+    @Transactional
     public Despesa atualizar(Long id, Despesa nova) {
-        Despesa atual = buscarPorId(id);
+        Despesa atual = repository.buscarPorIdParaAlterar(id)
+                .orElseThrow(() -> new RuntimeException("Despesa não encontrada"));
+        Lancamento anterior = Lancamento.de(atual);
         atual.setDescricao(nova.getDescricao());
         atual.setValor(nova.getValor());
         atual.setData(nova.getData());
         atual.setCategoria(nova.getCategoria());
-        return repository.salvar(atual);
+        Despesa salva = repository.salvar(atual);
+        agregador.registrar(anterior, Lancamento.de(salva));
+        return salva;
     }
 
+    @Transactional
     public void deletar(Long id) {
-        repository.deletar(id);
+        repository.buscarPorIdParaAlterar(id).ifPresent(despesa -> {
+            Lancamento anterior = Lancamento.de(despesa);
+            repository.deletar(id);
+            agregador.registrar(anterior, null);
+        });
     }
 }
\ No newline at end of file
@@ -2,9 +2,13 @@ package br.com.projeto.aeroporto.gestaofinanceira.service;
 
 
 import br.com.projeto.aeroporto.gestaofinanceira.in.FornecedorUseCase;
+import br.com.projeto.aeroporto.gestaofinanceira.model.Despesa;
 import br.com.projeto.aeroporto.gestaofinanceira.model.Fornecedor;
+import br.com.projeto.aeroporto.gestaofinanceira.model.FornecedorDetalhe;
+import br.com.projeto.aeroporto.gestaofinanceira.model.FornecedorResumo;
 import br.com.projeto.aeroporto.gestaofinanceira.out.FornecedorRepositoryPort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -13,11 +17,30 @@ public class FornecedorService implements FornecedorUseCase {
 
     private final FornecedorRepositoryPort repository;
 
-    public FornecedorService(FornecedorRepositoryPort repository) {
+    private final DespesaService despesaService;
+
+    public FornecedorService(FornecedorRepositoryPort repository, DespesaService despesaService) {
         this.repository = repository;
+        this.despesaService = despesaService;
     }
 
+    /**
+     * Salva o fornecedor e as despesas enviadas junto com ele.
+     *
+     * <p>
+     * As despesas passam pelo {@link DespesaService}, e não pela associação,
+     * para que entrem nos totais financeiros.
+     * </p>
+     *
+     * @param fornecedor fornecedor com as despesas a incluir (opcional)
+     * @return fornecedor salvo
+     */
+    @Transactional
     public Fornecedor salvar(Fornecedor fornecedor) {
+        List<Despesa> despesas = fornecedor.getDespesas();
+        if (despesas != null && !despesas.isEmpty()) {
+            fornecedor.setDespesas(despesaService.salvarTodos(despesas));
+        }
         return repository.salvar(fornecedor);
     }
 
@@ -25,6 +48,17 @@ public class FornecedorService implements FornecedorUseCase {
         return repository.listar();
     }
 
+    public List<FornecedorResumo> listarResumos() {
+        return repository.listarResumos();
+    }
+
+    public FornecedorDetalhe buscarDetalhe(Long id) {
+        FornecedorResumo fornecedor = repository.buscarResumo(id)
+                .orElseThrow(() -> new RuntimeException("Fornecedor não encontrado"));
+        return new FornecedorDetalhe(fornecedor.idFornecedor(), fornecedor.nome(), fornecedor.servicoPrestado(),
+                repository.listarDespesas(id));
+    }
+
     public Fornecedor buscarPorId(Long id) {
         return repository.buscarPorId(id)
                 .orElseThrow(() -> new RuntimeException("Fornecedor não encontrado"));
@@ -37,7 +71,14 @@ public class FornecedorService implements FornecedorUseCase {
         return repository.salvar(atual);
     }
 
+    /**
+     * Exclui o fornecedor e suas despesas, descontando-as dos totais financeiros.
+     *
+     * @param id identificador do fornecedor
+     */
+    @Transactional
     public void deletar(Long id) {
+        repository.listarDespesas(id).forEach(d -> despesaService.deletar(d.idDespesa()));
         repository.deletar(id);
     }
 }
\ No newline at end of file
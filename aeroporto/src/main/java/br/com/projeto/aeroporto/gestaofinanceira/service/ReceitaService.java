@@ -0,0 +1,65 @@
+package br.com.projeto.aeroporto.gestaofinanceira.service;
+
+
+import br.com.projeto.aeroporto.gestaofinanceira.in.ReceitaUseCase;
+import br.com.projeto.aeroporto.gestaofinanceira.model.Receita;
+import br.com.projeto.aeroporto.gestaofinanceira.out.ReceitaRepositoryPort;
+import br.com.projeto.aeroporto.gestaofinanceira.service.AgregadorFinanceiro.Lancamento;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class ReceitaService implements ReceitaUseCase {
+
+    private final ReceitaRepositoryPort repository;
+
+    private final AgregadorFinanceiro agregador;
+
+    public ReceitaService(ReceitaRepositoryPort repository, AgregadorFinanceiro agregador) {
+        this.repository = repository;
+        this.agregador = agregador;
+    }
+
+    @Transactional
+    public Receita salvar(Receita receita) {
+        Lancamento anterior = receita.getIdReceita() == null ? null
+                : repository.buscarPorIdParaAlterar(receita.getIdReceita()).map(Lancamento::de).orElse(null);
+        Receita salva = repository.salvar(receita);
+        agregador.registrar(anterior, Lancamento.de(salva));
+        return salva;
+    }
+
+    public List<Receita> listar() {
+        return repository.listar();
+    }
+
+    public Receita buscarPorId(Long id) {
+        return repository.buscarPorId(id)
+                .orElseThrow(() -> new RuntimeException("Receita não encontrada"));
+    }
+
+    @Transactional
+    public Receita atualizar(Long id, Receita nova) {
+        Receita atual = repository.buscarPorIdParaAlterar(id)
+                .orElseThrow(() -> new RuntimeException("Receita não encontrada"));
+        Lancamento anterior = Lancamento.de(atual);
+        atual.setTipo(nova.getTipo());
+        atual.setValor(nova.getValor());
+        atual.setData(nova.getData());
+        atual.setDescricao(nova.getDescricao());
+        Receita salva = repository.salvar(atual);
+        agregador.registrar(anterior, Lancamento.de(salva));
+        return salva;
+    }
+
+    @Transactional
+    public void deletar(Long id) {
+        repository.buscarPorIdParaAlterar(id).ifPresent(receita -> {
+            Lancamento anterior = Lancamento.de(receita);
+            repository.deletar(id);
+            agregador.registrar(anterior, null);
+        });
+    }
+}
@@ -1,10 +1,88 @@
 package br.com.projeto.aeroporto.gestaofinanceira.service;
 
+import br.com.projeto.aeroporto.gestaofinanceira.model.Granularidade;
+import br.com.projeto.aeroporto.gestaofinanceira.model.NaturezaLancamento;
+import br.com.projeto.aeroporto.gestaofinanceira.model.ResumoFinanceiro;
+import br.com.projeto.aeroporto.gestaofinanceira.model.TotalPeriodo;
+import br.com.projeto.aeroporto.gestaofinanceira.out.TotalPeriodoRepositoryPort;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Gera resumos financeiros a partir dos totais pré-agregados em {@link TotalPeriodo}.
+ *
+ * <p>
+ * Um período qualquer é decomposto em meses completos, lidos dos totais
+ * mensais, e nos dias avulsos do começo e do fim, lidos dos totais diários.
+ * O custo depende do número de categorias e de meses, não da quantidade de
+ * lançamentos.
+ * </p>
+ */
+@Service
 public class RelatorioService {
 
-   public String gerarResumo()
-    {
+    private final TotalPeriodoRepositoryPort repository;
+
+    public RelatorioService(TotalPeriodoRepositoryPort repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Resume receitas e despesas do período informado.
+     *
+     * @param periodoInicio primeiro dia do período
+     * @param periodoFim    último dia do período (inclusivo)
+     * @return totais do período, gerais e por categoria
+     * @throws RuntimeException caso o início seja posterior ao fim
+     */
+    public ResumoFinanceiro gerarResumo(LocalDate periodoInicio, LocalDate periodoFim) {
+        if (periodoInicio.isAfter(periodoFim)) {
+            throw new RuntimeException("Período inválido");
+        }
+        List<TotalPeriodo> totais = new ArrayList<>();
+        LocalDate primeiroMesCompleto = periodoInicio.getDayOfMonth() == 1
+                ? periodoInicio
+                : periodoInicio.withDayOfMonth(1).plusMonths(1);
+        LocalDate fimMesesCompletos = periodoFim.plusDays(1).withDayOfMonth(1);
+        if (primeiroMesCompleto.isBefore(fimMesesCompletos)) {
+            totais.addAll(repository.buscar(Granularidade.MES, primeiroMesCompleto, fimMesesCompletos.minusMonths(1)));
+            if (periodoInicio.isBefore(primeiroMesCompleto)) {
+                totais.addAll(repository.buscar(Granularidade.DIA, periodoInicio, primeiroMesCompleto.minusDays(1)));
+            }
+            if (!fimMesesCompletos.isAfter(periodoFim)) {
+                totais.addAll(repository.buscar(Granularidade.DIA, fimMesesCompletos, periodoFim));
+            }
+        } else {
+            totais.addAll(repository.buscar(Granularidade.DIA, periodoInicio, periodoFim));
+        }
+        return resumir(periodoInicio, periodoFim, totais);
+    }
 
-        return "";
+    private ResumoFinanceiro resumir(LocalDate periodoInicio, LocalDate periodoFim, List<TotalPeriodo> totais) {
+        Map<String, BigDecimal> receitas = new TreeMap<>();
+        Map<String, BigDecimal> despesas = new TreeMap<>();
+        BigDecimal totalReceitas = BigDecimal.ZERO;
+        BigDecimal totalDespesas = BigDecimal.ZERO;
+        long quantidadeReceitas = 0;
+        long quantidadeDespesas = 0;
+        for (TotalPeriodo total : totais) {
+            if (total.getNatureza() == NaturezaLancamento.RECEITA) {
+                receitas.merge(total.getCategoria(), total.getTotal(), BigDecimal::add);
+                totalReceitas = totalReceitas.add(total.getTotal());
+                quantidadeReceitas += total.getQuantidade();
+            } else {
+                despesas.merge(total.getCategoria(), total.getTotal(), BigDecimal::add);
+                totalDespesas = totalDespesas.add(total.getTotal());
+                quantidadeDespesas += total.getQuantidade();
+            }
+        }
+        return new ResumoFinanceiro(periodoInicio, periodoFim, totalReceitas, totalDespesas,
+                totalReceitas.subtract(totalDespesas), quantidadeReceitas, quantidadeDespesas, receitas, despesas);
     }
 }
@@ -6,6 +6,7 @@ import br.com.projeto.aeroporto.gestaorecurso.out.PistaRepositoryPort;
 import br.com.projeto.aeroporto.gestaorecurso.repository.PistaRepositoryJpa;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,11 @@ public class PistaRepositoryAdapter implements PistaRepositoryPort {
         return repositoryJpa.save(pista);
     }
 
+    @Override
+    public List<Pista> salvarTodos(Collection<Pista> pistas) {
+        return repositoryJpa.saveAll(pistas);
+    }
+
     @Override
     public Optional<Pista> buscarPorId(Long id) {
         return repositoryJpa.findById(id);
@@ -6,6 +6,7 @@ import br.com.projeto.aeroporto.gestaorecurso.out.RecursoRepositoryPort;
 import br.com.projeto.aeroporto.gestaorecurso.repository.RecursoRepositoryJPA;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,11 @@ public class RecursoAdapter implements RecursoRepositoryPort {
         return recursoRepositoryJPA.save(recurso);
     }
 
+    @Override
+    public List<Recurso> salvarTodos(Collection<Recurso> recursos) {
+        return recursoRepositoryJPA.saveAll(recursos);
+    }
+
     @Override
     public Optional<Recurso> buscarPorId(String id) {
         return recursoRepositoryJPA.findById(id);
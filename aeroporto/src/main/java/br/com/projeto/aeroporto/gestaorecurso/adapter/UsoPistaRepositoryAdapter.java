@@ -0,0 +1,54 @@
+package br.com.projeto.aeroporto.gestaorecurso.adapter;
+
+
+import br.com.projeto.aeroporto.gestaorecurso.model.UsoPista;
+import br.com.projeto.aeroporto.gestaorecurso.out.UsoPistaRepositoryPort;
+import br.com.projeto.aeroporto.gestaorecurso.repository.UsoPistaRepositoryJpa;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class UsoPistaRepositoryAdapter implements UsoPistaRepositoryPort {
+
+    private final UsoPistaRepositoryJpa repositoryJpa;
+
+    public UsoPistaRepositoryAdapter(UsoPistaRepositoryJpa repositoryJpa) {
+        this.repositoryJpa = repositoryJpa;
+    }
+
+    @Override
+    public UsoPista salvar(UsoPista uso) {
+        return repositoryJpa.save(uso);
+    }
+
+    @Override
+    @Transactional
+    public List<UsoPista> salvarTodos(Collection<UsoPista> usos) {
+        return repositoryJpa.saveAll(usos);
+    }
+
+    @Override
+    public Optional<UsoPista> buscarPorId(Long id) {
+        return repositoryJpa.findById(id);
+    }
+
+    @Override
+    public List<UsoPista> buscarTerminandoApos(Instant instante) {
+        return repositoryJpa.findByFimAfter(instante);
+    }
+
+    @Override
+    public List<UsoPista> buscarPorPistaEntre(Long idPista, Instant de, Instant ate) {
+        return repositoryJpa.findByIdPistaAndFimAfterAndInicioBeforeOrderByInicioAsc(idPista, de, ate);
+    }
+
+    @Override
+    public void deletarPorId(Long id) {
+        repositoryJpa.deleteById(id);
+    }
+}
@@ -2,10 +2,14 @@ package br.com.projeto.aeroporto.gestaorecurso.controller;
 
 
 import br.com.projeto.aeroporto.gestaorecurso.in.PistaServicePort;
+import br.com.projeto.aeroporto.gestaorecurso.model.PedidoUsoPista;
+import br.com.projeto.aeroporto.gestaorecurso.model.ResultadoAgendamentoLote;
 import br.com.projeto.aeroporto.gestaorecurso.model.Pista;
+import br.com.projeto.aeroporto.gestaorecurso.model.UsoPista;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -45,4 +49,31 @@ public class PistaController {
         pistaService.deletarPista(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/{id}/usos")
+    public ResponseEntity<UsoPista> agendarUso(@PathVariable Long id, @RequestBody PedidoUsoPista pedido) {
+        try {
+            return ResponseEntity.ok(pistaService.agendarUso(id, pedido));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/usos/lote")
+    public ResponseEntity<ResultadoAgendamentoLote> agendarLote(@RequestBody List<PedidoUsoPista> pedidos) {
+        return ResponseEntity.ok(pistaService.agendarLote(pedidos));
+    }
+
+    @GetMapping("/{id}/usos")
+    public ResponseEntity<List<UsoPista>> listarAgenda(@PathVariable Long id,
+                                                       @RequestParam Instant de,
+                                                       @RequestParam Instant ate) {
+        return ResponseEntity.ok(pistaService.listarAgenda(id, de, ate));
+    }
+
+    @DeleteMapping("/usos/{idUso}")
+    public ResponseEntity<Void> cancelarUso(@PathVariable Long idUso) {
+        pistaService.cancelarUso(idUso);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
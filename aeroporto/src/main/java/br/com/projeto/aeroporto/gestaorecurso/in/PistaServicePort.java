@@ -1,8 +1,12 @@
 package br.com.projeto.aeroporto.gestaorecurso.in;
 
 
+import br.com.projeto.aeroporto.gestaorecurso.model.PedidoUsoPista;
+import br.com.projeto.aeroporto.gestaorecurso.model.ResultadoAgendamentoLote;
 import br.com.projeto.aeroporto.gestaorecurso.model.Pista;
+import br.com.projeto.aeroporto.gestaorecurso.model.UsoPista;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +16,8 @@ public interface PistaServicePort {
     List<Pista> listarTodas();
     Pista atualizarPista(Long id, Pista pista);
     void deletarPista(Long id);
+    UsoPista agendarUso(Long idPista, PedidoUsoPista pedido);
+    ResultadoAgendamentoLote agendarLote(List<PedidoUsoPista> pedidos);
+    List<UsoPista> listarAgenda(Long idPista, Instant de, Instant ate);
+    void cancelarUso(Long idUso);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package br.com.projeto.aeroporto.gestaorecurso.model;
+
+import java.time.Instant;
+
+/**
+ * Pedido de uso de pista para um movimento (pouso ou decolagem).
+ *
+ * @param identificacaoVoo voo que fará o movimento
+ * @param tipo             tipo do movimento (ex.: "POUSO", "DECOLAGEM")
+ * @param horarioDesejado  horário a partir do qual o movimento pode ocorrer
+ * @param duracaoSegundos  tempo de ocupação da pista, em segundos
+ * @param idPista          pista exigida; {@code null} para qualquer pista
+ */
+public record PedidoUsoPista(String identificacaoVoo,
+                             String tipo,
+                             Instant horarioDesejado,
+                             int duracaoSegundos,
+                             Long idPista) {
+}
@@ -0,0 +1,13 @@
+package br.com.projeto.aeroporto.gestaorecurso.model;
+
+import java.util.List;
+
+/**
+ * Resultado do agendamento de um lote de pedidos de uso de pista.
+ *
+ * @param agendados usos gravados, na ordem de horário desejado
+ * @param recusados pedidos sem pista disponível, com pista inexistente ou
+ *                  incompletos (sem horário ou com duração não positiva)
+ */
+public record ResultadoAgendamentoLote(List<UsoPista> agendados, List<PedidoUsoPista> recusados) {
+}
@@ -0,0 +1,83 @@
+package br.com.projeto.aeroporto.gestaorecurso.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+public class UsoPista {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long idUso;
+
+    @Column(name = "id_pista")
+    private Long idPista;
+
+    private String identificacaoVoo;
+
+    private String tipo;
+
+    private Instant inicio;
+
+    private Instant fim;
+
+    public UsoPista() {
+    }
+
+    public UsoPista(Long idPista, String identificacaoVoo, String tipo, Instant inicio, Instant fim) {
+        this.idPista = idPista;
+        this.identificacaoVoo = identificacaoVoo;
+        this.tipo = tipo;
+        this.inicio = inicio;
+        this.fim = fim;
+    }
+
+    public Long getIdUso() {
+        return idUso;
+    }
+
+    public void setIdUso(Long idUso) {
+        this.idUso = idUso;
+    }
+
+    public Long getIdPista() {
+        return idPista;
+    }
+
+    public void setIdPista(Long idPista) {
+        this.idPista = idPista;
+    }
+
+    public String getIdentificacaoVoo() {
+        return identificacaoVoo;
+    }
+
+    public void setIdentificacaoVoo(String identificacaoVoo) {
+        this.identificacaoVoo = identificacaoVoo;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public Instant getInicio() {
+        return inicio;
+    }
+
+    public void setInicio(Instant inicio) {
+        this.inicio = inicio;
+    }
+
+    public Instant getFim() {
+        return fim;
+    }
+
+    public void setFim(Instant fim) {
+        this.fim = fim;
+    }
+}
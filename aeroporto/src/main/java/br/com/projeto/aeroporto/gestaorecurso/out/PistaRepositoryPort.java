@@ -3,11 +3,13 @@ package br.com.projeto.aeroporto.gestaorecurso.out;
 
 import br.com.projeto.aeroporto.gestaorecurso.model.Pista;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PistaRepositoryPort {
     Pista salvar(Pista pista);
+    List<Pista> salvarTodos(Collection<Pista> pistas);
     Optional<Pista> buscarPorId(Long id);
     List<Pista> buscarTodas();
     void deletarPorId(Long id);
@@ -2,6 +2,7 @@ package br.com.projeto.aeroporto.gestaorecurso.out;
 
 import br.com.projeto.aeroporto.gestaorecurso.model.Recurso;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +10,7 @@ import java.util.Optional;
 public interface RecursoRepositoryPort {
 
     Recurso salvar(Recurso recurso);
+    List<Recurso> salvarTodos(Collection<Recurso> recursos);
     Optional<Recurso> buscarPorId(String id);
     List<Recurso> buscarTodos();
     void deletar(String id);
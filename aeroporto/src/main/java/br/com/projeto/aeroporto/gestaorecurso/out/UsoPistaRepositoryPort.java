@@ -0,0 +1,18 @@
+package br.com.projeto.aeroporto.gestaorecurso.out;
+
+
+import br.com.projeto.aeroporto.gestaorecurso.model.UsoPista;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface UsoPistaRepositoryPort {
+    UsoPista salvar(UsoPista uso);
+    List<UsoPista> salvarTodos(Collection<UsoPista> usos);
+    Optional<UsoPista> buscarPorId(Long id);
+    List<UsoPista> buscarTerminandoApos(Instant instante);
+    List<UsoPista> buscarPorPistaEntre(Long idPista, Instant de, Instant ate);
+    void deletarPorId(Long id);
+}
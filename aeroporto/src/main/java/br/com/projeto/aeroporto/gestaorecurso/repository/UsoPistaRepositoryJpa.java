@@ -0,0 +1,17 @@
+package br.com.projeto.aeroporto.gestaorecurso.repository;
+
+
+import br.com.projeto.aeroporto.gestaorecurso.model.UsoPista;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface UsoPistaRepositoryJpa extends JpaRepository<UsoPista, Long> {
+
+    List<UsoPista> findByFimAfter(Instant instante);
+
+    List<UsoPista> findByIdPistaAndFimAfterAndInicioBeforeOrderByInicioAsc(Long idPista, Instant de, Instant ate);
+}
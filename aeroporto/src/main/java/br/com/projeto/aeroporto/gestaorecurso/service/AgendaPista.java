@@ -0,0 +1,245 @@
+package br.com.projeto.aeroporto.gestaorecurso.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Agenda de ocupação de uma pista: intervalos {@code [inicio, fim)} sem sobreposição.
+ *
+ * <p>
+ * Treap ordenada por início em que cada nó guarda a folga até o fim do intervalo
+ * anterior e o maior valor de folga da sua subárvore. Com isso, "próximo horário
+ * livre a partir de t com duração d" desce a árvore uma única vez: O(log n) esperado,
+ * assim como reservar e liberar.
+ * </p>
+ *
+ * <p>
+ * Não é thread-safe; o {@link EscalonadorPistas} sincroniza o acesso por pista.
+ * </p>
+ */
+final class AgendaPista {
+
+    private static final long SEM_ANTERIOR = Long.MAX_VALUE;
+
+    private No raiz;
+    private int tamanho;
+
+    /**
+     * Primeiro instante {@code >= t} em que a pista fica livre por {@code duracao}.
+     */
+    long proximoLivre(long t, long duracao) {
+        long candidato = t;
+        No anterior = piso(t);
+        if (anterior != null && anterior.fim > candidato) {
+            candidato = anterior.fim;
+        }
+        No seguinte = teto(candidato);
+        if (seguinte == null || seguinte.inicio - candidato >= duracao) {
+            return candidato;
+        }
+        No comFolga = primeiroComFolga(raiz, seguinte.inicio, duracao);
+        if (comFolga == null) {
+            return ultimo().fim;
+        }
+        return comFolga.inicio - comFolga.folga;
+    }
+
+    /**
+     * Indica se {@code [inicio, fim)} não se sobrepõe a nenhum intervalo reservado.
+     */
+    boolean livre(long inicio, long fim) {
+        No anterior = piso(inicio);
+        if (anterior != null && anterior.fim > inicio) {
+            return false;
+        }
+        No seguinte = teto(inicio);
+        return seguinte == null || seguinte.inicio >= fim;
+    }
+
+    /**
+     * Reserva {@code [inicio, fim)}; o intervalo deve estar {@link #livre(long, long) livre}.
+     */
+    void reservar(long inicio, long fim) {
+        No[] partes = dividir(raiz, inicio);
+        No esquerda = partes[0];
+        No direita = partes[1];
+        No anterior = maximo(esquerda);
+        No novo = new No(inicio, fim, anterior == null ? SEM_ANTERIOR : inicio - anterior.fim);
+        if (direita != null) {
+            direita = ajustarFolgaDoPrimeiro(direita, fim);
+        }
+        raiz = unir(unir(esquerda, novo), direita);
+        tamanho++;
+    }
+
+    /**
+     * Libera o intervalo que começa em {@code inicio}.
+     *
+     * @return {@code true} se havia intervalo reservado nesse início
+     */
+    boolean liberar(long inicio) {
+        No[] partes = dividir(raiz, inicio);
+        No[] meio = dividir(partes[1], inicio + 1);
+        if (meio[0] == null) {
+            raiz = unir(partes[0], partes[1]);
+            return false;
+        }
+        No anterior = maximo(partes[0]);
+        No direita = meio[1];
+        if (direita != null) {
+            direita = anterior == null
+                    ? ajustarFolgaDoPrimeiro(direita, Long.MIN_VALUE)
+                    : ajustarFolgaDoPrimeiro(direita, anterior.fim);
+        }
+        raiz = unir(partes[0], direita);
+        tamanho--;
+        return true;
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    private No piso(long chave) {
+        No atual = raiz;
+        No resultado = null;
+        while (atual != null) {
+            if (atual.inicio <= chave) {
+                resultado = atual;
+                atual = atual.dir;
+            } else {
+                atual = atual.esq;
+            }
+        }
+        return resultado;
+    }
+
+    private No teto(long chave) {
+        No atual = raiz;
+        No resultado = null;
+        while (atual != null) {
+            if (atual.inicio >= chave) {
+                resultado = atual;
+                atual = atual.esq;
+            } else {
+                atual = atual.dir;
+            }
+        }
+        return resultado;
+    }
+
+    private No ultimo() {
+        return maximo(raiz);
+    }
+
+    /**
+     * Primeiro nó com início maior que {@code chave} cuja folga comporta {@code duracao}.
+     */
+    private static No primeiroComFolga(No no, long chave, long duracao) {
+        if (no == null || no.maxFolga < duracao) {
+            return null;
+        }
+        if (no.inicio <= chave) {
+            return primeiroComFolga(no.dir, chave, duracao);
+        }
+        No resultado = primeiroComFolga(no.esq, chave, duracao);
+        if (resultado != null) {
+            return resultado;
+        }
+        if (no.folga >= duracao) {
+            return no;
+        }
+        return primeiroComFolga(no.dir, chave, duracao);
+    }
+
+    private static No maximo(No no) {
+        if (no == null) {
+            return null;
+        }
+        while (no.dir != null) {
+            no = no.dir;
+        }
+        return no;
+    }
+
+    /**
+     * Recalcula a folga do menor nó da subárvore, dado o fim do intervalo anterior
+     * ({@link Long#MIN_VALUE} quando não há anterior).
+     */
+    private static No ajustarFolgaDoPrimeiro(No no, long fimAnterior) {
+        if (no.esq != null) {
+            no.esq = ajustarFolgaDoPrimeiro(no.esq, fimAnterior);
+        } else {
+            no.folga = fimAnterior == Long.MIN_VALUE ? SEM_ANTERIOR : no.inicio - fimAnterior;
+        }
+        no.atualizar();
+        return no;
+    }
+
+    /**
+     * Divide a subárvore em nós com início {@code < chave} e {@code >= chave}.
+     */
+    private static No[] dividir(No no, long chave) {
+        if (no == null) {
+            return new No[]{null, null};
+        }
+        if (no.inicio < chave) {
+            No[] partes = dividir(no.dir, chave);
+            no.dir = partes[0];
+            no.atualizar();
+            return new No[]{no, partes[1]};
+        }
+        No[] partes = dividir(no.esq, chave);
+        no.esq = partes[1];
+        no.atualizar();
+        return new No[]{partes[0], no};
+    }
+
+    /**
+     * Une duas subárvores em que todos os inícios de {@code a} são menores que os de {@code b}.
+     */
+    private static No unir(No a, No b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.prioridade > b.prioridade) {
+            a.dir = unir(a.dir, b);
+            a.atualizar();
+            return a;
+        }
+        b.esq = unir(a, b.esq);
+        b.atualizar();
+        return b;
+    }
+
+    private static final class No {
+
+        final long inicio;
+        final long fim;
+        final int prioridade = ThreadLocalRandom.current().nextInt();
+        long folga;
+        long maxFolga;
+        No esq;
+        No dir;
+
+        No(long inicio, long fim, long folga) {
+            this.inicio = inicio;
+            this.fim = fim;
+            this.folga = folga;
+            this.maxFolga = folga;
+        }
+
+        void atualizar() {
+            long max = folga;
+            if (esq != null && esq.maxFolga > max) {
+                max = esq.maxFolga;
+            }
+            if (dir != null && dir.maxFolga > max) {
+                max = dir.maxFolga;
+            }
+            maxFolga = max;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.projeto.aeroporto.gestaorecurso.service;
+
+import br.com.projeto.aeroporto.gestaorecurso.model.PedidoUsoPista;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Escalonador de uso das pistas, com uma {@link AgendaPista} por pista.
+ *
+ * <p>
+ * Mantém apenas o estado em memória; a gravação dos usos alocados é feita pelo
+ * {@link PistaService}. Cada agenda é protegida pelo seu próprio monitor, então
+ * pedidos para pistas diferentes não disputam trava.
+ * </p>
+ */
+@Component
+public class EscalonadorPistas {
+
+    private final Map<Long, AgendaPista> agendas = new ConcurrentHashMap<>();
+
+    void registrarPista(Long idPista) {
+        agendas.computeIfAbsent(idPista, id -> new AgendaPista());
+    }
+
+    void removerPista(Long idPista) {
+        agendas.remove(idPista);
+    }
+
+    Collection<Long> pistas() {
+        return agendas.keySet();
+    }
+
+    /**
+     * Marca como ocupado um intervalo já gravado (carga inicial).
+     */
+    void ocupar(Long idPista, long inicio, long fim) {
+        AgendaPista agenda = agendas.computeIfAbsent(idPista, id -> new AgendaPista());
+        synchronized (agenda) {
+            if (agenda.livre(inicio, fim)) {
+                agenda.reservar(inicio, fim);
+            }
+        }
+    }
+
+    void liberar(Long idPista, long inicio) {
+        AgendaPista agenda = agendas.get(idPista);
+        if (agenda != null) {
+            synchronized (agenda) {
+                agenda.liberar(inicio);
+            }
+        }
+    }
+
+    /**
+     * Aloca o pedido no primeiro horário livre a partir do horário desejado.
+     *
+     * <p>
+     * Se o pedido não exige pista, escolhe a pista que fica livre mais cedo.
+     * </p>
+     *
+     * @return alocação feita, ou {@code null} se não houver pista disponível
+     */
+    Alocacao alocar(PedidoUsoPista pedido) {
+        long duracao = pedido.duracaoSegundos() * 1000L;
+        if (duracao <= 0) {
+            throw new RuntimeException("Duração do uso de pista deve ser positiva");
+        }
+        long desejado = pedido.horarioDesejado().toEpochMilli();
+        Collection<Long> candidatas = pedido.idPista() != null ? List.of(pedido.idPista()) : agendas.keySet();
+        while (true) {
+            Long melhorPista = null;
+            AgendaPista melhorAgenda = null;
+            long melhorInicio = Long.MAX_VALUE;
+            for (Long idPista : candidatas) {
+                AgendaPista agenda = agendas.get(idPista);
+                if (agenda == null) {
+                    continue;
+                }
+                long inicio;
+                synchronized (agenda) {
+                    inicio = agenda.proximoLivre(desejado, duracao);
+                }
+                if (inicio < melhorInicio) {
+                    melhorInicio = inicio;
+                    melhorPista = idPista;
+                    melhorAgenda = agenda;
+                }
+            }
+            if (melhorAgenda == null) {
+                return null;
+            }
+            synchronized (melhorAgenda) {
+                // Uma pista removida nesse meio-tempo sai do mapa: procura de novo.
+                if (agendas.get(melhorPista) == melhorAgenda
+                        && melhorAgenda.livre(melhorInicio, melhorInicio + duracao)) {
+                    melhorAgenda.reservar(melhorInicio, melhorInicio + duracao);
+                    return new Alocacao(melhorPista, melhorInicio, melhorInicio + duracao, pedido);
+                }
+            }
+        }
+    }
+
+    /**
+     * Aloca um lote de pedidos (por exemplo, todos os movimentos do dia) em ordem de horário desejado.
+     *
+     * @return alocações na ordem em que foram feitas e pedidos recusados: sem
+     *         pista disponível, com pista inexistente ou incompletos
+     */
+    Lote alocarLote(List<PedidoUsoPista> pedidos) {
+        List<PedidoUsoPista> ordenados = new ArrayList<>(pedidos.size());
+        List<PedidoUsoPista> recusados = new ArrayList<>();
+        for (PedidoUsoPista pedido : pedidos) {
+            if (pedido.horarioDesejado() == null || pedido.duracaoSegundos() <= 0) {
+                recusados.add(pedido);
+            } else {
+                ordenados.add(pedido);
+            }
+        }
+        ordenados.sort(Comparator.comparing(PedidoUsoPista::horarioDesejado));
+        List<Alocacao> alocacoes = new ArrayList<>(ordenados.size());
+        for (PedidoUsoPista pedido : ordenados) {
+            Alocacao alocacao = alocar(pedido);
+            if (alocacao != null) {
+                alocacoes.add(alocacao);
+            } else {
+                recusados.add(pedido);
+            }
+        }
+        return new Lote(alocacoes, recusados);
+    }
+
+    record Alocacao(Long idPista, long inicio, long fim, PedidoUsoPista pedido) {
+    }
+
+    record Lote(List<Alocacao> alocacoes, List<PedidoUsoPista> recusados) {
+    }
+}
@@ -2,10 +2,17 @@ package br.com.projeto.aeroporto.gestaorecurso.service;
 
 
 import br.com.projeto.aeroporto.gestaorecurso.in.PistaServicePort;
+import br.com.projeto.aeroporto.gestaorecurso.model.PedidoUsoPista;
+import br.com.projeto.aeroporto.gestaorecurso.model.ResultadoAgendamentoLote;
 import br.com.projeto.aeroporto.gestaorecurso.model.Pista;
+import br.com.projeto.aeroporto.gestaorecurso.model.UsoPista;
 import br.com.projeto.aeroporto.gestaorecurso.out.PistaRepositoryPort;
+import br.com.projeto.aeroporto.gestaorecurso.out.UsoPistaRepositoryPort;
+import jakarta.annotation.PostConstruct;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,13 +22,36 @@ public class PistaService  implements PistaServicePort {
 
     private final PistaRepositoryPort pistaRepositoryPort;
 
-    public PistaService(PistaRepositoryPort pistaRepositoryPort) {
+    private final UsoPistaRepositoryPort usoPistaRepositoryPort;
+
+    private final EscalonadorPistas escalonador;
+
+    public PistaService(PistaRepositoryPort pistaRepositoryPort, UsoPistaRepositoryPort usoPistaRepositoryPort,
+                        EscalonadorPistas escalonador) {
         this.pistaRepositoryPort = pistaRepositoryPort;
+        this.usoPistaRepositoryPort = usoPistaRepositoryPort;
+        this.escalonador = escalonador;
+    }
+
+    /**
+     * Carrega as pistas e os usos ainda não terminados antes de a aplicação
+     * receber pedidos de agendamento.
+     */
+    @PostConstruct
+    public void carregarAgendas() {
+        for (Pista pista : pistaRepositoryPort.buscarTodas()) {
+            escalonador.registrarPista(pista.getIdPista());
+        }
+        for (UsoPista uso : usoPistaRepositoryPort.buscarTerminandoApos(Instant.now())) {
+            escalonador.ocupar(uso.getIdPista(), uso.getInicio().toEpochMilli(), uso.getFim().toEpochMilli());
+        }
     }
 
     @Override
     public Pista criarPista(Pista pista) {
-        return pistaRepositoryPort.salvar(pista);
+        Pista salva = pistaRepositoryPort.salvar(pista);
+        escalonador.registrarPista(salva.getIdPista());
+        return salva;
     }
 
     @Override
@@ -50,11 +80,68 @@ public class PistaService  implements PistaServicePort {
     @Override
     public void deletarPista(Long id) {
         pistaRepositoryPort.deletarPorId(id);
+        escalonador.removerPista(id);
+    }
+
+    @Override
+    public UsoPista agendarUso(Long idPista, PedidoUsoPista pedido) {
+        if (pedido.horarioDesejado() == null) {
+            throw new IllegalArgumentException("Horário desejado do uso de pista não informado");
+        }
+        if (pedido.duracaoSegundos() <= 0) {
+            throw new IllegalArgumentException("Duração do uso de pista deve ser positiva");
+        }
+        if (pistaRepositoryPort.buscarPorId(idPista).isEmpty()) {
+            throw new RuntimeException("Pista não encontrada com id: " + idPista);
+        }
+        escalonador.registrarPista(idPista);
+        PedidoUsoPista naPista = new PedidoUsoPista(pedido.identificacaoVoo(), pedido.tipo(),
+                pedido.horarioDesejado(), pedido.duracaoSegundos(), idPista);
+        EscalonadorPistas.Alocacao alocacao = escalonador.alocar(naPista);
+        if (alocacao == null) {
+            // Pista removida entre a consulta e a alocação.
+            throw new RuntimeException("Pista não encontrada com id: " + idPista);
+        }
+        try {
+            return usoPistaRepositoryPort.salvar(paraUso(alocacao));
+        } catch (RuntimeException e) {
+            escalonador.liberar(alocacao.idPista(), alocacao.inicio());
+            throw e;
+        }
     }
 
-   public String agendarUso()
-   {
+    @Override
+    public ResultadoAgendamentoLote agendarLote(List<PedidoUsoPista> pedidos) {
+        EscalonadorPistas.Lote lote = escalonador.alocarLote(pedidos);
+        List<EscalonadorPistas.Alocacao> alocacoes = lote.alocacoes();
+        List<UsoPista> usos = new ArrayList<>(alocacoes.size());
+        for (EscalonadorPistas.Alocacao alocacao : alocacoes) {
+            usos.add(paraUso(alocacao));
+        }
+        try {
+            return new ResultadoAgendamentoLote(usoPistaRepositoryPort.salvarTodos(usos), lote.recusados());
+        } catch (RuntimeException e) {
+            alocacoes.forEach(a -> escalonador.liberar(a.idPista(), a.inicio()));
+            throw e;
+        }
+    }
 
-       return "";
-   }
+    @Override
+    public List<UsoPista> listarAgenda(Long idPista, Instant de, Instant ate) {
+        return usoPistaRepositoryPort.buscarPorPistaEntre(idPista, de, ate);
+    }
+
+    @Override
+    public void cancelarUso(Long idUso) {
+        UsoPista uso = usoPistaRepositoryPort.buscarPorId(idUso)
+                .orElseThrow(() -> new RuntimeException("Uso de pista não encontrado com id: " + idUso));
+        usoPistaRepositoryPort.deletarPorId(idUso);
+        escalonador.liberar(uso.getIdPista(), uso.getInicio().toEpochMilli());
+    }
+
+    private static UsoPista paraUso(EscalonadorPistas.Alocacao alocacao) {
+        PedidoUsoPista pedido = alocacao.pedido();
+        return new UsoPista(alocacao.idPista(), pedido.identificacaoVoo(), pedido.tipo(),
+                Instant.ofEpochMilli(alocacao.inicio()), Instant.ofEpochMilli(alocacao.fim()));
+    }
 }
@@ -1,11 +1,15 @@
 package br.com.projeto.aeroporto.regulamentacao.adapter;
 
 
+import br.com.projeto.aeroporto.comum.Caches;
 import br.com.projeto.aeroporto.regulamentacao.model.Aeronave;
 import br.com.projeto.aeroporto.regulamentacao.out.AeronaveRepositoryPort;
 import br.com.projeto.aeroporto.regulamentacao.repository.AeronaveRepositoryJpa;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,22 +31,31 @@ public class AeronaveRepositoryAdapter implements AeronaveRepositoryPort {
  */
 
     @Override
+    @CacheEvict(cacheNames = Caches.AERONAVES, key = "#result.codigoAeronave")
     public Aeronave salvar(Aeronave aeronave) {
-        return null;
+        return repositoryJpa.save(aeronave);
     }
 
     @Override
+    @CacheEvict(cacheNames = Caches.AERONAVES, allEntries = true)
+    public List<Aeronave> salvarTodos(Collection<Aeronave> aeronaves) {
+        return repositoryJpa.saveAll(aeronaves);
+    }
+
+    @Override
+    @Cacheable(Caches.AERONAVES)
     public Optional<Aeronave> buscarPorId(Long id) {
-        return Optional.empty();
+        return repositoryJpa.findById(id);
     }
 
     @Override
     public List<Aeronave> buscarTodas() {
-        return List.of();
+        return repositoryJpa.findAll();
     }
 
     @Override
+    @CacheEvict(Caches.AERONAVES)
     public void deletarPorId(Long id) {
-
+        repositoryJpa.deleteById(id);
     }
 }
@@ -1,11 +1,15 @@
 package br.com.projeto.aeroporto.regulamentacao.adapter;
 
 
+import br.com.projeto.aeroporto.comum.Caches;
 import br.com.projeto.aeroporto.regulamentacao.model.CompanhiaAerea;
 import br.com.projeto.aeroporto.regulamentacao.out.CompanhiaAereaRepositoryPort;
 import br.com.projeto.aeroporto.regulamentacao.repository.CompanhiaAereaRepositoryJpa;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,11 +24,19 @@ public class CompanhiaAereaRepositoryAdapter implements CompanhiaAereaRepository
     }
 
     @Override
+    @CacheEvict(cacheNames = Caches.COMPANHIAS_AEREAS, key = "#result.codigoCompanhiaAerea")
     public CompanhiaAerea salvar(CompanhiaAerea companhiaAerea) {
         return companhiaAereaRepositoryJpa.save(companhiaAerea);
     }
 
     @Override
+    @CacheEvict(cacheNames = Caches.COMPANHIAS_AEREAS, allEntries = true)
+    public List<CompanhiaAerea> salvarTodos(Collection<CompanhiaAerea> companhiasAereas) {
+        return companhiaAereaRepositoryJpa.saveAll(companhiasAereas);
+    }
+
+    @Override
+    @Cacheable(Caches.COMPANHIAS_AEREAS)
     public Optional<CompanhiaAerea> buscarPorId(Long id) {
         return companhiaAereaRepositoryJpa.findById(id);
     }
@@ -35,6 +47,7 @@ public class CompanhiaAereaRepositoryAdapter implements CompanhiaAereaRepository
     }
 
     @Override
+    @CacheEvict(Caches.COMPANHIAS_AEREAS)
     public void deletarPorId(Long id) {
         companhiaAereaRepositoryJpa.deleteById(id);
 
@@ -7,6 +7,7 @@ import br.com.projeto.aeroporto.regulamentacao.repository.NormaRepositoryJpa;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,7 +28,12 @@ public class NormaController implements NormaRepositoryPort {
     }
 
     @Override
-    public Optional<Norma> buscarPorId(Long id) {
+    public List<Norma> salvarTodos(Collection<Norma> normas) {
+        return repositoryJpa.saveAll(normas);
+    }
+
+    @Override
+    public Optional<Norma> buscarPorId(String id) {
         return repositoryJpa.findById(id);
     }
 
@@ -37,7 +43,7 @@ public class NormaController implements NormaRepositoryPort {
     }
 
     @Override
-    public void deletarPorId(Long id) {
+    public void deletarPorId(String id) {
         repositoryJpa.deleteById(id);
 
     }
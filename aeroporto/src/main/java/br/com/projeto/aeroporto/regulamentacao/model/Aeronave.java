@@ -1,8 +1,12 @@
 package br.com.projeto.aeroporto.regulamentacao.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Aeronave{
 
     @Id
@@ -3,11 +3,13 @@ package br.com.projeto.aeroporto.regulamentacao.out;
 
 import br.com.projeto.aeroporto.regulamentacao.model.Aeronave;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AeronaveRepositoryPort {
     Aeronave salvar(Aeronave aeronave);
+    List<Aeronave> salvarTodos(Collection<Aeronave> aeronaves);
     Optional<Aeronave> buscarPorId(Long id);
     List<Aeronave> buscarTodas();
     void deletarPorId(Long id);
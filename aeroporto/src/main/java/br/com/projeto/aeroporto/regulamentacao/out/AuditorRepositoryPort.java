@@ -3,11 +3,13 @@ package br.com.projeto.aeroporto.regulamentacao.out;
 
 import br.com.projeto.aeroporto.regulamentacao.model.Auditor;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AuditorRepositoryPort {
     Auditor salvar(Auditor auditor);
+    List<Auditor> salvarTodos(Collection<Auditor> auditores);
     Optional<Auditor> buscarPorId(Long id);
     List<Auditor> buscarTodas();
     void deletarPorId(Long id);
@@ -3,11 +3,13 @@ package br.com.projeto.aeroporto.regulamentacao.out;
 
 import br.com.projeto.aeroporto.regulamentacao.model.CompanhiaAerea;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CompanhiaAereaRepositoryPort {
     CompanhiaAerea salvar(CompanhiaAerea companhiaAerea);
+    List<CompanhiaAerea> salvarTodos(Collection<CompanhiaAerea> companhiasAereas);
     Optional<CompanhiaAerea> buscarPorId(Long id);
     List<CompanhiaAerea> buscarTodas();
     void deletarPorId(Long id);
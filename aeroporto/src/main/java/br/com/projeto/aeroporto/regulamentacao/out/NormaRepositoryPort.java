@@ -3,12 +3,14 @@ package br.com.projeto.aeroporto.regulamentacao.out;
 
 import br.com.projeto.aeroporto.regulamentacao.model.Norma;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface NormaRepositoryPort {
     Norma salvar(Norma norma);
-    Optional<Norma> buscarPorId(Long id);
+    List<Norma> salvarTodos(Collection<Norma> normas);
+    Optional<Norma> buscarPorId(String id);
     List<Norma> buscarTodas();
-    void deletarPorId(Long id);
+    void deletarPorId(String id);
 }
@@ -6,5 +6,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface NormaRepositoryJpa extends JpaRepository<Norma, Long> {
+public interface NormaRepositoryJpa extends JpaRepository<Norma, String> {
 }
@@ -5,6 +5,7 @@ import br.com.projeto.aeroporto.regulamentacao.model.Aeronave;
 import br.com.projeto.aeroporto.regulamentacao.out.AeronaveRepositoryPort;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,11 @@ public class AeronaveService implements AeronaveRepositoryPort {
         return aeronaveRepositoryPort.salvar(aeronave);
     }
 
+    @Override
+    public List<Aeronave> salvarTodos(Collection<Aeronave> aeronaves) {
+        return aeronaveRepositoryPort.salvarTodos(aeronaves);
+    }
+
     @Override
     public Optional<Aeronave> buscarPorId(Long id) {
         return aeronaveRepositoryPort.buscarPorId(id);
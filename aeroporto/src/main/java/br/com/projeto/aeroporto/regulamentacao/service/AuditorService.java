@@ -6,6 +6,7 @@ import br.com.projeto.aeroporto.regulamentacao.out.AuditorRepositoryPort;
 import br.com.projeto.aeroporto.regulamentacao.repository.AuditorRepositoryJpa;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,11 @@ public class AuditorService implements AuditorRepositoryPort {
         return auditorRepositoryJpa.save(auditor);
     }
 
+    @Override
+    public List<Auditor> salvarTodos(Collection<Auditor> auditores) {
+        return auditorRepositoryJpa.saveAll(auditores);
+    }
+
     @Override
     public Optional<Auditor> buscarPorId(Long id) {
         return auditorRepositoryJpa.findById(id);
@@ -3,7 +3,7 @@ package br.com.projeto.aeroporto.regulamentacao.service;
 
 import br.com.projeto.aeroporto.regulamentacao.in.CompanhiaAereaServicePort;
 import br.com.projeto.aeroporto.regulamentacao.model.CompanhiaAerea;
-import br.com.projeto.aeroporto.regulamentacao.repository.CompanhiaAereaRepositoryJpa;
+import br.com.projeto.aeroporto.regulamentacao.out.CompanhiaAereaRepositoryPort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,26 +12,26 @@ import java.util.Optional;
 @Service
 public class CompanhiaAereaService implements CompanhiaAereaServicePort {
 
-    private final CompanhiaAereaRepositoryJpa companhiaAereaRepositoryJpa;
+    private final CompanhiaAereaRepositoryPort companhiaAereaRepositoryPort;
 
-    public CompanhiaAereaService(CompanhiaAereaRepositoryJpa companhiaAereaRepositoryJpa) {
-        this.companhiaAereaRepositoryJpa = companhiaAereaRepositoryJpa;
+    public CompanhiaAereaService(CompanhiaAereaRepositoryPort companhiaAereaRepositoryPort) {
+        this.companhiaAereaRepositoryPort = companhiaAereaRepositoryPort;
     }
 
 
     @Override
     public CompanhiaAerea criarCompanhiaAerea(CompanhiaAerea companhiaAerea) {
-        return companhiaAereaRepositoryJpa.save(companhiaAerea);
+        return companhiaAereaRepositoryPort.salvar(companhiaAerea);
     }
 
     @Override
     public Optional<CompanhiaAerea> buscarPorId(Long id) {
-        return companhiaAereaRepositoryJpa.findById(id);
+        return companhiaAereaRepositoryPort.buscarPorId(id);
     }
 
     @Override
     public List<CompanhiaAerea> listarTodasCompanhias() {
-        return companhiaAereaRepositoryJpa.findAll();
+        return companhiaAereaRepositoryPort.buscarTodas();
     }
 
     @Override
@@ -42,7 +42,7 @@ public class CompanhiaAereaService implements CompanhiaAereaServicePort {
 
     @Override
     public void deletarCompanhia(Long id) {
-        companhiaAereaRepositoryJpa.deleteById(id);
+        companhiaAereaRepositoryPort.deletarPorId(id);
 
     }
 }
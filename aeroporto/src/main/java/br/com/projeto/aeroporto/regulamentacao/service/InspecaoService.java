@@ -6,6 +6,7 @@ import br.com.projeto.aeroporto.regulamentacao.out.InspecaoRepositoryPort;
 import br.com.projeto.aeroporto.regulamentacao.repository.InspecaoRepositoryJpa;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,11 @@ public class InspecaoService implements InspecaoRepositoryPort {
         return inspecaoRepositoryJpa.save(inspecao);
     }
 
+    @Override
+    public List<Inspecao> salvarTodos(Collection<Inspecao> inspecoes) {
+        return inspecaoRepositoryJpa.saveAll(inspecoes);
+    }
+
     @Override
     public Optional<Inspecao> buscarPorId(Long id) {
         return inspecaoRepositoryJpa.findById(id);
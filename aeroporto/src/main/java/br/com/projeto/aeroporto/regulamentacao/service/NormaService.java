@@ -1,11 +1,15 @@
 package br.com.projeto.aeroporto.regulamentacao.service;
 
 
+import br.com.projeto.aeroporto.comum.Caches;
 import br.com.projeto.aeroporto.regulamentacao.model.Norma;
 import br.com.projeto.aeroporto.regulamentacao.out.NormaRepositoryPort;
 import br.com.projeto.aeroporto.regulamentacao.repository.NormaRepositoryJpa;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,12 +24,20 @@ public class NormaService implements NormaRepositoryPort {
 
 
     @Override
+    @CacheEvict(cacheNames = Caches.NORMAS, key = "#result.codigoNorma")
     public Norma salvar(Norma norma) {
         return normaRepositoryJpa.save(norma);
     }
 
     @Override
-    public Optional<Norma> buscarPorId(Long id) {
+    @CacheEvict(cacheNames = Caches.NORMAS, allEntries = true)
+    public List<Norma> salvarTodos(Collection<Norma> normas) {
+        return normaRepositoryJpa.saveAll(normas);
+    }
+
+    @Override
+    @Cacheable(Caches.NORMAS)
+    public Optional<Norma> buscarPorId(String id) {
         return normaRepositoryJpa.findById(id);
     }
 
@@ -35,7 +47,8 @@ public class NormaService implements NormaRepositoryPort {
     }
 
     @Override
-    public void deletarPorId(Long id) {
+    @CacheEvict(Caches.NORMAS)
+    public void deletarPorId(String id) {
         normaRepositoryJpa.deleteById(id);
 
     }
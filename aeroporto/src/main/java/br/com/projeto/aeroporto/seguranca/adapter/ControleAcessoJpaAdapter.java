@@ -0,0 +1,81 @@
+package br.com.projeto.aeroporto.seguranca.adapter;
+
+
+import br.com.projeto.aeroporto.seguranca.model.AreaRestrita;
+import br.com.projeto.aeroporto.seguranca.model.CartaoAcesso;
+import br.com.projeto.aeroporto.seguranca.model.NivelAcesso;
+import br.com.projeto.aeroporto.seguranca.out.ControleAcessoRepositoryPort;
+import br.com.projeto.aeroporto.seguranca.repository.AreaRestritaJpaRepository;
+import br.com.projeto.aeroporto.seguranca.repository.CartaoAcessoJpaRepository;
+import br.com.projeto.aeroporto.seguranca.repository.NivelAcessoJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adapter responsável por implementar a porta {@link ControleAcessoRepositoryPort}
+ * com os repositórios JPA de níveis, áreas e cartões.
+ */
+@Component
+public class ControleAcessoJpaAdapter implements ControleAcessoRepositoryPort {
+
+    private final NivelAcessoJpaRepository niveis;
+
+    private final AreaRestritaJpaRepository areas;
+
+    private final CartaoAcessoJpaRepository cartoes;
+
+    /**
+     * Construtor da classe {@code ControleAcessoJpaAdapter}.
+     *
+     * @param niveis  repositório JPA dos níveis de acesso
+     * @param areas   repositório JPA das áreas restritas
+     * @param cartoes repositório JPA dos cartões de acesso
+     */
+    public ControleAcessoJpaAdapter(NivelAcessoJpaRepository niveis, AreaRestritaJpaRepository areas,
+                                    CartaoAcessoJpaRepository cartoes) {
+        this.niveis = niveis;
+        this.areas = areas;
+        this.cartoes = cartoes;
+    }
+
+    @Override
+    public List<NivelAcesso> listarNiveis() {
+        return niveis.listarComHerdados();
+    }
+
+    @Override
+    public List<AreaRestrita> listarAreas() {
+        return areas.findAll();
+    }
+
+    @Override
+    public List<CartaoAcesso> listarCartoes() {
+        return cartoes.findAll();
+    }
+
+    @Override
+    public NivelAcesso salvarNivel(NivelAcesso nivel) {
+        return niveis.save(nivel);
+    }
+
+    @Override
+    public void excluirNivel(String codigo) {
+        niveis.deleteById(codigo);
+    }
+
+    @Override
+    public AreaRestrita salvarArea(AreaRestrita area) {
+        return areas.save(area);
+    }
+
+    @Override
+    public CartaoAcesso salvarCartao(CartaoAcesso cartao) {
+        return cartoes.save(cartao);
+    }
+
+    @Override
+    public void excluirCartao(String idCartao) {
+        cartoes.deleteById(idCartao);
+    }
+}
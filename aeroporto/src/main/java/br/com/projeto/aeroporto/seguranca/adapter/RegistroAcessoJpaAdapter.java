@@ -0,0 +1,152 @@
+package br.com.projeto.aeroporto.seguranca.adapter;
+
+
+import br.com.projeto.aeroporto.comum.PersistenciaEmLote;
+import br.com.projeto.aeroporto.seguranca.model.ContagemMotivo;
+import br.com.projeto.aeroporto.seguranca.model.RegistroAcesso;
+import br.com.projeto.aeroporto.seguranca.out.RegistroAcessoRepositoryPort;
+import br.com.projeto.aeroporto.seguranca.repository.RegistroAcessoJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Adapter responsável por implementar a porta {@link RegistroAcessoRepositoryPort}
+ * utilizando o repositório JPA {@link RegistroAcessoJpaRepository}.
+ */
+@Component
+public class RegistroAcessoJpaAdapter implements RegistroAcessoRepositoryPort {
+
+    private static final DateTimeFormatter SUFIXO_PARTICAO = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final RegistroAcessoJpaRepository repo;
+
+    private final EntityManager entityManager;
+
+    private final PersistenciaEmLote persistenciaEmLote;
+
+    /**
+     * Construtor da classe {@code RegistroAcessoJpaAdapter}.
+     *
+     * @param repo               repositório JPA dos registros de acesso
+     * @param entityManager      contexto de persistência, usado para incluir e criar partições
+     * @param persistenciaEmLote gravação em lote de registros
+     */
+    public RegistroAcessoJpaAdapter(RegistroAcessoJpaRepository repo, EntityManager entityManager,
+                                    PersistenciaEmLote persistenciaEmLote) {
+        this.repo = repo;
+        this.entityManager = entityManager;
+        this.persistenciaEmLote = persistenciaEmLote;
+    }
+
+    /**
+     * Inclui os registros com {@code persist}: os IDs já vêm atribuídos, e o
+     * {@code save} do Spring Data faria um {@code SELECT} por registro antes
+     * de decidir incluir.
+     *
+     * @param registros registros novos, já com identificador
+     */
+    @Override
+    public void incluirTodos(Collection<RegistroAcesso> registros) {
+        persistenciaEmLote.gravarTodos(registros, entityManager::persist);
+    }
+
+    /**
+     * Verifica os IDs restringindo o horário ao intervalo dos registros, para
+     * que apenas as partições desse intervalo sejam lidas.
+     *
+     * @param registros registros a verificar
+     * @return IDs já gravados
+     */
+    @Override
+    public List<Long> listarExistentes(Collection<RegistroAcesso> registros) {
+        if (registros.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime inicio = registros.stream().map(RegistroAcesso::getHorario)
+                .min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime fim = registros.stream().map(RegistroAcesso::getHorario)
+                .max(Comparator.naturalOrder()).orElseThrow();
+        return repo.listarExistentes(registros.stream().map(RegistroAcesso::getCodigoRegistroAcesso).toList(),
+                inicio, fim);
+    }
+
+    /**
+     * Inclui o registro em {@code registro_acesso_rejeitado}, cujas colunas de
+     * texto não têm limite de tamanho.
+     *
+     * @param registro registro recusado
+     * @param erro     descrição da falha
+     */
+    @Override
+    @Transactional
+    public void rejeitar(RegistroAcesso registro, String erro) {
+        entityManager.createNativeQuery("INSERT INTO registro_acesso_rejeitado"
+                        + " (codigo_registro_acesso, horario, id_cartao, codigo_area, permitido, motivo, erro, rejeitado_em)"
+                        + " VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7, ?8) ON CONFLICT (codigo_registro_acesso) DO NOTHING")
+                .setParameter(1, registro.getCodigoRegistroAcesso())
+                .setParameter(2, registro.getHorario())
+                .setParameter(3, registro.getIdCartao())
+                .setParameter(4, registro.getCodigoArea())
+                .setParameter(5, registro.isPermitido())
+                .setParameter(6, String.valueOf(registro.getMotivo()))
+                .setParameter(7, erro)
+                .setParameter(8, LocalDateTime.now())
+                .executeUpdate();
+    }
+
+    /**
+     * Lista os registros do intervalo, opcionalmente de um só cartão.
+     *
+     * <p>
+     * Delegado aos métodos
+     * {@link RegistroAcessoJpaRepository#listarPorPeriodo(LocalDateTime, LocalDateTime, Limit)} e
+     * {@link RegistroAcessoJpaRepository#listarPorCartaoEPeriodo(String, LocalDateTime, LocalDateTime, Limit)}.
+     * </p>
+     */
+    @Override
+    public List<RegistroAcesso> listar(LocalDateTime inicio, LocalDateTime fim, String idCartao, int limite) {
+        return idCartao == null
+                ? repo.listarPorPeriodo(inicio, fim, Limit.of(limite))
+                : repo.listarPorCartaoEPeriodo(idCartao, inicio, fim, Limit.of(limite));
+    }
+
+    /**
+     * Conta os registros do intervalo por motivo da decisão.
+     *
+     * <p>
+     * Delegado ao método
+     * {@link RegistroAcessoJpaRepository#contarPorMotivo(LocalDateTime, LocalDateTime)}.
+     * </p>
+     */
+    @Override
+    public List<ContagemMotivo> contarPorMotivo(LocalDateTime inicio, LocalDateTime fim) {
+        return repo.contarPorMotivo(inicio, fim);
+    }
+
+    /**
+     * Cria a partição {@code registro_acesso_AAAAMMDD} do dia.
+     *
+     * <p>
+     * O nome e os limites são formatados a partir da data, nunca de texto
+     * externo; a DDL não aceita parâmetros.
+     * </p>
+     *
+     * @param dia dia da partição
+     */
+    @Override
+    @Transactional
+    public void criarParticao(LocalDate dia) {
+        entityManager.createNativeQuery("CREATE TABLE IF NOT EXISTS registro_acesso_" + SUFIXO_PARTICAO.format(dia)
+                        + " PARTITION OF registro_acesso FOR VALUES FROM ('" + dia + "') TO ('" + dia.plusDays(1) + "')")
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,180 @@
+package br.com.projeto.aeroporto.seguranca.controller;
+
+
+import br.com.projeto.aeroporto.seguranca.in.ControleAcessoUseCase;
+import br.com.projeto.aeroporto.seguranca.in.RegistroAcessoUseCase;
+import br.com.projeto.aeroporto.seguranca.model.AreaRestrita;
+import br.com.projeto.aeroporto.seguranca.model.CartaoAcesso;
+import br.com.projeto.aeroporto.seguranca.model.DecisaoAcesso;
+import br.com.projeto.aeroporto.seguranca.model.NivelAcesso;
+import br.com.projeto.aeroporto.seguranca.model.RegistroAcesso;
+import br.com.projeto.aeroporto.seguranca.model.ResumoAcessos;
+import br.com.projeto.aeroporto.seguranca.model.SolicitacaoAcesso;
+import br.com.projeto.aeroporto.seguranca.service.RegistroAcessoIndisponivelException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Controlador REST das decisões de acesso às áreas restritas.
+ *
+ * <p>
+ * Endpoints disponíveis:
+ * <ul>
+ *   <li><b>POST /api/acesso/validacoes</b> - Decide se um cartão pode entrar em uma área</li>
+ *   <li><b>PUT /api/acesso/niveis/{codigo}</b> - Cria ou altera um nível de acesso</li>
+ *   <li><b>DELETE /api/acesso/niveis/{codigo}</b> - Remove um nível de acesso</li>
+ *   <li><b>POST /api/acesso/areas</b> - Cria ou altera uma área restrita</li>
+ *   <li><b>POST /api/acesso/cartoes</b> - Cria ou altera um cartão de acesso</li>
+ *   <li><b>DELETE /api/acesso/cartoes/{idCartao}</b> - Revoga um cartão de acesso imediatamente</li>
+ *   <li><b>POST /api/acesso/recarga</b> - Relê as regras de acesso do banco</li>
+ *   <li><b>GET /api/acesso/registros</b> - Lista os registros de acesso de um intervalo</li>
+ *   <li><b>GET /api/acesso/registros/resumo</b> - Totaliza os registros de acesso de um intervalo</li>
+ * </ul>
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/acesso")
+public class AcessoController {
+
+    private final ControleAcessoUseCase service;
+
+    private final RegistroAcessoUseCase registros;
+
+    /**
+     * Construtor da classe {@code AcessoController}.
+     *
+     * @param service   caso de uso das decisões de acesso
+     * @param registros caso de uso das consultas ao log de acessos
+     */
+    public AcessoController(ControleAcessoUseCase service, RegistroAcessoUseCase registros) {
+        this.service = service;
+        this.registros = registros;
+    }
+
+    /**
+     * Decide se o cartão pode entrar na área, sem consultar o banco.
+     *
+     * @param solicitacao cartão apresentado e área solicitada
+     * @return decisão, com o motivo; status 400 (Bad Request) se o cartão não
+     * for informado ou tiver mais de 255 caracteres, e 503 (Service Unavailable),
+     * com {@code Retry-After}, se a passagem não puder ser registrada: nesse
+     * caso o acesso não é liberado
+     */
+    @PostMapping("/validacoes")
+    public ResponseEntity<DecisaoAcesso> validar(@RequestBody SolicitacaoAcesso solicitacao) {
+        try {
+            return ResponseEntity.ok(service.validar(solicitacao.idCartao(), solicitacao.codigoArea()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RegistroAcessoIndisponivelException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
+    }
+
+    /**
+     * Cria ou altera um nível de acesso.
+     *
+     * @param codigo código do nível
+     * @param nivel  descrição e níveis herdados
+     * @return nível salvo
+     */
+    @PutMapping("/niveis/{codigo}")
+    public NivelAcesso salvarNivel(@PathVariable String codigo, @RequestBody NivelAcesso nivel) {
+        nivel.setCodigo(codigo);
+        return service.salvarNivel(nivel);
+    }
+
+    /**
+     * Remove um nível de acesso.
+     *
+     * @param codigo código do nível
+     * @return status 204 (No Content)
+     */
+    @DeleteMapping("/niveis/{codigo}")
+    public ResponseEntity<Void> excluirNivel(@PathVariable String codigo) {
+        service.excluirNivel(codigo);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Cria ou altera uma área restrita.
+     *
+     * @param area área a salvar
+     * @return área salva
+     */
+    @PostMapping("/areas")
+    public AreaRestrita salvarArea(@RequestBody AreaRestrita area) {
+        return service.salvarArea(area);
+    }
+
+    /**
+     * Cria ou altera um cartão de acesso.
+     *
+     * @param cartao cartão a salvar
+     * @return cartão salvo
+     */
+    @PostMapping("/cartoes")
+    public CartaoAcesso salvarCartao(@RequestBody CartaoAcesso cartao) {
+        return service.salvarCartao(cartao);
+    }
+
+    /**
+     * Revoga um cartão de acesso. As regras são recompiladas antes da
+     * resposta: as validações seguintes já recusam o cartão.
+     *
+     * @param idCartao identificador do cartão
+     * @return status 204 (No Content)
+     */
+    @DeleteMapping("/cartoes/{idCartao}")
+    public ResponseEntity<Void> revogarCartao(@PathVariable String idCartao) {
+        service.revogarCartao(idCartao);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Relê níveis, áreas e cartões do banco.
+     *
+     * @return status 204 (No Content)
+     */
+    @PostMapping("/recarga")
+    public ResponseEntity<Void> recarregar() {
+        service.recarregar();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Lista os registros de acesso do intervalo, em ordem de horário.
+     *
+     * @param inicio   início do intervalo (inclusivo)
+     * @param fim      fim do intervalo (exclusivo)
+     * @param idCartao cartão (opcional)
+     * @param limite   quantidade máxima de registros (padrão 1000, máximo 10000)
+     * @return registros encontrados
+     */
+    @GetMapping("/registros")
+    public List<RegistroAcesso> listarRegistros(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
+                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fim,
+                                                @RequestParam(required = false) String idCartao,
+                                                @RequestParam(defaultValue = "1000") int limite) {
+        return registros.listar(inicio, fim, idCartao, limite);
+    }
+
+    /**
+     * Totaliza os registros de acesso do intervalo.
+     *
+     * @param inicio início do intervalo (inclusivo)
+     * @param fim    fim do intervalo (exclusivo)
+     * @return acessos permitidos, negados e por motivo
+     */
+    @GetMapping("/registros/resumo")
+    public ResumoAcessos resumirRegistros(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
+                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fim) {
+        return registros.resumir(inicio, fim);
+    }
+}
@@ -1,26 +1,47 @@
 package br.com.projeto.aeroporto.seguranca.controller;
 
+import br.com.projeto.aeroporto.seguranca.model.Credenciais;
+import br.com.projeto.aeroporto.seguranca.model.ResultadoLogin;
+import br.com.projeto.aeroporto.seguranca.service.AutenticacaoService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/auth")
 @CrossOrigin(origins = "http://localhost:4200")
 public class AuthController {
-/*
-    @Autowired
-    private AuthenticationManager authenticationManager;
-    @Autowired
-    private JwtUtil jwtUtil;
 
-    @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody User user) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(user.getUsername(), user.getPassword()));
+    private final AutenticacaoService autenticacaoService;
+
+    public AuthController(AutenticacaoService autenticacaoService) {
+        this.autenticacaoService = autenticacaoService;
+    }
 
-        String token = jwtUtil.generateToken(user.getUsername());
-        return ResponseEntity.ok(Map.of("token", token));
+    /**
+     * Confere usuário e senha e emite o token. A resposta é assíncrona: a
+     * senha é conferida no executor de login, fora da thread da requisição.
+     *
+     * @param credenciais usuário e senha
+     * @param request     requisição, para o endereço de origem
+     * @return token JWT; {@code 401} se as credenciais não conferem, {@code 429}
+     * (com {@code Retry-After}) após tentativas demais e {@code 503} se a fila de logins estiver cheia
+     */
+    @PostMapping("/login")
+    public CompletableFuture<ResponseEntity<Map<String, String>>> login(@RequestBody Credenciais credenciais,
+                                                                        HttpServletRequest request) {
+        return autenticacaoService.autenticar(credenciais, request.getRemoteAddr())
+                .thenApply(AuthController::resposta);
     }
 
     @GetMapping("/hello")
@@ -28,5 +49,14 @@ public class AuthController {
         return ResponseEntity.ok("Olá, você está autenticado!");
     }
 
- */
-}
\ No newline at end of file
+    private static ResponseEntity<Map<String, String>> resposta(ResultadoLogin resultado) {
+        return switch (resultado.situacao()) {
+            case AUTENTICADO -> ResponseEntity.ok(Map.of("token", resultado.token()));
+            case RECUSADO -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            case BLOQUEADO -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(resultado.esperaSegundos())).build();
+            case SOBRECARREGADO -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1").build();
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.projeto.aeroporto.seguranca.controller;
+
+
+import br.com.projeto.aeroporto.seguranca.model.EventoSeguranca;
+import br.com.projeto.aeroporto.seguranca.service.AgenteSegurancaService;
+import br.com.projeto.aeroporto.seguranca.service.SistemaSegurancaService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * Controlador REST dos eventos e alertas de segurança.
+ *
+ * <p>
+ * Endpoints disponíveis:
+ * <ul>
+ *   <li><b>POST /api/seguranca/eventos</b> - Entrega eventos de sensores e portas à correlação</li>
+ *   <li><b>GET /api/seguranca/agentes/{idAgente}/alertas</b> - Inscreve um agente nos alertas (SSE)</li>
+ * </ul>
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/seguranca")
+public class SegurancaController {
+
+    private final SistemaSegurancaService sistemaSeguranca;
+
+    private final AgenteSegurancaService agentes;
+
+    /**
+     * Construtor da classe {@code SegurancaController}.
+     *
+     * @param sistemaSeguranca entrada dos eventos de segurança
+     * @param agentes          encaminhamento dos alertas aos agentes
+     */
+    public SegurancaController(SistemaSegurancaService sistemaSeguranca, AgenteSegurancaService agentes) {
+        this.sistemaSeguranca = sistemaSeguranca;
+        this.agentes = agentes;
+    }
+
+    /**
+     * Entrega os eventos à correlação, sem esperar o processamento.
+     *
+     * @param eventos eventos de segurança
+     * @return status 202 (Accepted) com a quantidade aceita, ou 503 (Service
+     * Unavailable) se nenhum evento coube na fila
+     */
+    @PostMapping("/eventos")
+    public ResponseEntity<Integer> registrarEventos(@RequestBody List<EventoSeguranca> eventos) {
+        int aceitos = sistemaSeguranca.registrarEventos(eventos);
+        HttpStatus status = aceitos == 0 && !eventos.isEmpty() ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(aceitos);
+    }
+
+    /**
+     * Inscreve o agente nos alertas das áreas pelas quais responde.
+     *
+     * @param idAgente identificador do agente
+     * @return fluxo de eventos {@code alerta}
+     */
+    @GetMapping(value = "/agentes/{idAgente}/alertas", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter inscreverAgente(@PathVariable String idAgente) {
+        return agentes.inscrever(idAgente);
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.projeto.aeroporto.seguranca.in;
+
+
+import br.com.projeto.aeroporto.seguranca.model.AreaRestrita;
+import br.com.projeto.aeroporto.seguranca.model.CartaoAcesso;
+import br.com.projeto.aeroporto.seguranca.model.DecisaoAcesso;
+import br.com.projeto.aeroporto.seguranca.model.NivelAcesso;
+
+/**
+ * Caso de uso das decisões de acesso de catracas e portas às áreas restritas.
+ */
+public interface ControleAcessoUseCase {
+
+    /**
+     * Decide, sem consultar o banco, se o cartão pode entrar na área, e
+     * registra a passagem.
+     *
+     * @param idCartao   cartão apresentado, com até 255 caracteres
+     * @param codigoArea área solicitada
+     * @return decisão, com o motivo
+     * @throws IllegalArgumentException caso o cartão não seja informado ou seja longo demais
+     * @throws br.com.projeto.aeroporto.seguranca.service.RegistroAcessoIndisponivelException
+     *         caso a passagem não possa ser registrada; o acesso não é liberado
+     */
+    DecisaoAcesso validar(String idCartao, Long codigoArea);
+
+    /**
+     * Cria ou altera um nível de acesso e recompila as regras.
+     *
+     * @param nivel nível, com os níveis herdados
+     * @return nível salvo
+     */
+    NivelAcesso salvarNivel(NivelAcesso nivel);
+
+    /**
+     * Remove um nível de acesso e recompila as regras.
+     *
+     * @param codigo código do nível
+     */
+    void excluirNivel(String codigo);
+
+    /**
+     * Cria ou altera uma área restrita e recompila as regras.
+     *
+     * @param area área a salvar
+     * @return área salva
+     */
+    AreaRestrita salvarArea(AreaRestrita area);
+
+    /**
+     * Cria ou altera um cartão de acesso e recompila as regras.
+     *
+     * @param cartao cartão a salvar
+     * @return cartão salvo
+     */
+    CartaoAcesso salvarCartao(CartaoAcesso cartao);
+
+    /**
+     * Revoga um cartão de acesso e recompila as regras na hora, sem esperar a
+     * recarga periódica: a partir do retorno, o cartão é recusado.
+     *
+     * @param idCartao identificador do cartão
+     */
+    void revogarCartao(String idCartao);
+
+    /**
+     * Relê níveis, áreas e cartões do banco e substitui as regras em uso.
+     */
+    void recarregar();
+}
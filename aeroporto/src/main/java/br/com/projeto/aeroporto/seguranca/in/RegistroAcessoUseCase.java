@@ -0,0 +1,34 @@
+package br.com.projeto.aeroporto.seguranca.in;
+
+
+import br.com.projeto.aeroporto.seguranca.model.RegistroAcesso;
+import br.com.projeto.aeroporto.seguranca.model.ResumoAcessos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Caso de uso das consultas ao log de registros de acesso.
+ */
+public interface RegistroAcessoUseCase {
+
+    /**
+     * Lista os registros do intervalo, opcionalmente de um só cartão.
+     *
+     * @param inicio   início do intervalo (inclusivo)
+     * @param fim      fim do intervalo (exclusivo)
+     * @param idCartao cartão ({@code null} para todos)
+     * @param limite   quantidade máxima de registros
+     * @return registros em ordem de horário
+     */
+    List<RegistroAcesso> listar(LocalDateTime inicio, LocalDateTime fim, String idCartao, int limite);
+
+    /**
+     * Totaliza os registros do intervalo.
+     *
+     * @param inicio início do intervalo (inclusivo)
+     * @param fim    fim do intervalo (exclusivo)
+     * @return acessos permitidos, negados e por motivo
+     */
+    ResumoAcessos resumir(LocalDateTime inicio, LocalDateTime fim);
+}
@@ -0,0 +1,16 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Alerta gerado pela correlação de eventos de uma área restrita.
+ *
+ * @param codigoArea     área do alerta
+ * @param tipo           padrão detectado
+ * @param quantidade     eventos que caracterizaram o padrão (negações, ou passagens além das permitidas)
+ * @param janelaSegundos duração da janela observada
+ * @param horario        momento da detecção
+ */
+public record AlertaSeguranca(Long codigoArea, TipoAlertaSeguranca tipo, int quantidade, int janelaSegundos,
+                              LocalDateTime horario) {
+}
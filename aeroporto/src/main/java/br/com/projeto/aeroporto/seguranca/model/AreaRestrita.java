@@ -16,6 +16,11 @@ public class AreaRestrita {
 
     private String nivelRequerido;
 
+    /**
+     * Agente de segurança ({@link AgenteSeguranca#getIdAgente()}) que recebe os alertas da área.
+     */
+    private String idAgente;
+
     public AreaRestrita() {
     }
 
@@ -48,4 +53,12 @@ public class AreaRestrita {
     public void setNivelRequerido(String nivelRequerido) {
         this.nivelRequerido = nivelRequerido;
     }
+
+    public String getIdAgente() {
+        return idAgente;
+    }
+
+    public void setIdAgente(String idAgente) {
+        this.idAgente = idAgente;
+    }
 }
@@ -15,8 +15,15 @@ public class CartaoAcesso {
 
     private String nivelAcesso;
 
-    public Boolean validar(AreaRestrita area) {
-        return null;
+    /**
+     * Indica se este cartão dá acesso à área, segundo a política compilada.
+     *
+     * @param area     área solicitada
+     * @param politica regras de acesso em vigor
+     * @return {@code true} se o nível do cartão concede o nível exigido pela área
+     */
+    public boolean validar(AreaRestrita area, PoliticaAcesso politica) {
+        return politica.permite(nivelAcesso, area.getNivelRequerido());
     }
 
     public CartaoAcesso() {
@@ -0,0 +1,10 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+/**
+ * Quantidade de registros de acesso com um mesmo motivo.
+ *
+ * @param motivo     motivo da decisão
+ * @param quantidade registros com esse motivo
+ */
+public record ContagemMotivo(MotivoDecisao motivo, Long quantidade) {
+}
@@ -0,0 +1,10 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+/**
+ * Usuário e senha informados no login.
+ *
+ * @param username nome de usuário
+ * @param password senha
+ */
+public record Credenciais(String username, String password) {
+}
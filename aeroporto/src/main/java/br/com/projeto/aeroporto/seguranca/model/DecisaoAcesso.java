@@ -0,0 +1,12 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+/**
+ * Resultado da validação de um cartão em uma área restrita.
+ *
+ * @param idCartao   cartão apresentado
+ * @param codigoArea área solicitada
+ * @param permitido  {@code true} se o acesso foi liberado
+ * @param motivo     motivo da decisão
+ */
+public record DecisaoAcesso(String idCartao, Long codigoArea, boolean permitido, MotivoDecisao motivo) {
+}
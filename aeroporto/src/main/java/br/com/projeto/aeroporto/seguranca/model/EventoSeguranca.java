@@ -0,0 +1,11 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+/**
+ * Evento de segurança de uma área restrita.
+ *
+ * @param tipo       tipo do evento
+ * @param codigoArea área onde ocorreu
+ * @param idCartao   cartão envolvido ({@code null} para {@link TipoEventoSeguranca#PASSAGEM})
+ */
+public record EventoSeguranca(TipoEventoSeguranca tipo, Long codigoArea, String idCartao) {
+}
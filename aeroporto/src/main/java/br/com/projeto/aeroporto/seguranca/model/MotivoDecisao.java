@@ -0,0 +1,27 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+/**
+ * Motivo de uma {@link DecisaoAcesso}.
+ */
+public enum MotivoDecisao {
+
+    /**
+     * O nível do cartão concede o nível exigido pela área.
+     */
+    PERMITIDO,
+
+    /**
+     * Cartão não cadastrado.
+     */
+    CARTAO_DESCONHECIDO,
+
+    /**
+     * Área não cadastrada.
+     */
+    AREA_DESCONHECIDA,
+
+    /**
+     * O nível do cartão não concede o nível exigido pela área.
+     */
+    NIVEL_INSUFICIENTE
+}
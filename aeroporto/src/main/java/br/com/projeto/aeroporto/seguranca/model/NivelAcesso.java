@@ -0,0 +1,72 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+import jakarta.persistence.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Nível de acesso atribuído a cartões e exigido por áreas restritas.
+ *
+ * <p>
+ * Os níveis formam uma hierarquia: um nível concede, além de si mesmo, todos
+ * os níveis que herda, direta ou indiretamente. Por exemplo, {@code "PISTA"}
+ * pode herdar {@code "EMBARQUE"}, que herda {@code "PUBLICO"}.
+ * </p>
+ */
+@Entity
+public class NivelAcesso {
+
+    /**
+     * Código do nível, o mesmo usado em {@link CartaoAcesso#getNivelAcesso()}
+     * e {@link AreaRestrita#getNivelRequerido()}.
+     */
+    @Id
+    private String codigo;
+
+    /**
+     * Descrição do nível.
+     */
+    private String descricao;
+
+    /**
+     * Códigos dos níveis concedidos por este, além dele mesmo.
+     */
+    @ElementCollection
+    @CollectionTable(name = "nivel_acesso_herdado", joinColumns = @JoinColumn(name = "codigo_nivel"))
+    @Column(name = "codigo_herdado")
+    private Set<String> herdados = new HashSet<>();
+
+    public NivelAcesso() {
+    }
+
+    public NivelAcesso(String codigo, String descricao, Set<String> herdados) {
+        this.codigo = codigo;
+        this.descricao = descricao;
+        this.herdados = herdados;
+    }
+
+    public String getCodigo() {
+        return codigo;
+    }
+
+    public void setCodigo(String codigo) {
+        this.codigo = codigo;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public void setDescricao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public Set<String> getHerdados() {
+        return herdados;
+    }
+
+    public void setHerdados(Set<String> herdados) {
+        this.herdados = herdados;
+    }
+}
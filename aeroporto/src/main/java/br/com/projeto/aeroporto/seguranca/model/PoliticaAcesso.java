@@ -0,0 +1,190 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Regras de acesso compiladas para decisão em memória.
+ *
+ * <p>
+ * Cada nível recebe um índice, e a hierarquia de {@link NivelAcesso} é
+ * resolvida uma única vez em uma matriz de bits: a linha de um nível tem
+ * ligados os bits de todos os níveis que ele concede (ele mesmo e os herdados,
+ * transitivamente). Cartões e áreas guardam apenas o índice do seu nível.
+ * Uma decisão são duas consultas em tabela hash e um teste de bit, sem acesso
+ * ao banco.
+ * </p>
+ *
+ * <p>
+ * Níveis usados em cartões ou áreas sem um {@link NivelAcesso} cadastrado
+ * valem como níveis isolados, que concedem apenas a si mesmos. Área sem nível
+ * requerido é liberada a qualquer cartão cadastrado. As instâncias são
+ * imutáveis; uma recarga compila uma nova política e substitui a anterior.
+ * </p>
+ */
+public final class PoliticaAcesso {
+
+    /**
+     * Política sem níveis, áreas nem cartões: nega todos os acessos.
+     */
+    public static final PoliticaAcesso VAZIA = compilar(List.of(), List.of(), List.of());
+
+    private static final int SEM_NIVEL = -1;
+
+    private final Map<String, Integer> indices;
+
+    private final long[][] concedidos;
+
+    private final Map<String, Integer> nivelPorCartao;
+
+    private final Map<Long, Integer> nivelPorArea;
+
+    private PoliticaAcesso(Map<String, Integer> indices, long[][] concedidos,
+                           Map<String, Integer> nivelPorCartao, Map<Long, Integer> nivelPorArea) {
+        this.indices = indices;
+        this.concedidos = concedidos;
+        this.nivelPorCartao = nivelPorCartao;
+        this.nivelPorArea = nivelPorArea;
+    }
+
+    /**
+     * Compila níveis, áreas e cartões em uma nova política.
+     *
+     * @param niveis  níveis cadastrados, com a hierarquia
+     * @param areas   áreas restritas
+     * @param cartoes cartões de acesso
+     * @return política compilada
+     */
+    public static PoliticaAcesso compilar(Collection<NivelAcesso> niveis, Collection<AreaRestrita> areas,
+                                          Collection<CartaoAcesso> cartoes) {
+        TreeSet<String> codigos = new TreeSet<>();
+        for (NivelAcesso nivel : niveis) {
+            codigos.add(nivel.getCodigo());
+            codigos.addAll(nivel.getHerdados());
+        }
+        for (AreaRestrita area : areas) {
+            if (area.getNivelRequerido() != null) {
+                codigos.add(area.getNivelRequerido());
+            }
+        }
+        for (CartaoAcesso cartao : cartoes) {
+            if (cartao.getNivelAcesso() != null) {
+                codigos.add(cartao.getNivelAcesso());
+            }
+        }
+        Map<String, Integer> indices = new HashMap<>(codigos.size() * 2);
+        for (String codigo : codigos) {
+            indices.put(codigo, indices.size());
+        }
+
+        int[][] herdados = new int[indices.size()][];
+        for (int i = 0; i < herdados.length; i++) {
+            herdados[i] = new int[0];
+        }
+        for (NivelAcesso nivel : niveis) {
+            herdados[indices.get(nivel.getCodigo())] = nivel.getHerdados().stream()
+                    .mapToInt(indices::get)
+                    .toArray();
+        }
+        long[][] concedidos = new long[indices.size()][(indices.size() + 63) >>> 6];
+        for (int i = 0; i < concedidos.length; i++) {
+            fechar(i, herdados, concedidos[i]);
+        }
+
+        Map<String, Integer> nivelPorCartao = new HashMap<>(cartoes.size() * 2);
+        for (CartaoAcesso cartao : cartoes) {
+            nivelPorCartao.put(cartao.getIdCartao(), indice(indices, cartao.getNivelAcesso()));
+        }
+        Map<Long, Integer> nivelPorArea = new HashMap<>(areas.size() * 2);
+        for (AreaRestrita area : areas) {
+            nivelPorArea.put(area.getCodigoAreaRestrita(), indice(indices, area.getNivelRequerido()));
+        }
+        return new PoliticaAcesso(indices, concedidos, nivelPorCartao, nivelPorArea);
+    }
+
+    /**
+     * Decide se o cartão pode entrar na área.
+     *
+     * @param idCartao   cartão apresentado
+     * @param codigoArea área solicitada
+     * @return decisão, com o motivo
+     */
+    public DecisaoAcesso decidir(String idCartao, Long codigoArea) {
+        Integer nivelCartao = nivelPorCartao.get(idCartao);
+        if (nivelCartao == null) {
+            return new DecisaoAcesso(idCartao, codigoArea, false, MotivoDecisao.CARTAO_DESCONHECIDO);
+        }
+        Integer nivelArea = nivelPorArea.get(codigoArea);
+        if (nivelArea == null) {
+            return new DecisaoAcesso(idCartao, codigoArea, false, MotivoDecisao.AREA_DESCONHECIDA);
+        }
+        boolean permitido = concede(nivelCartao, nivelArea);
+        return new DecisaoAcesso(idCartao, codigoArea, permitido,
+                permitido ? MotivoDecisao.PERMITIDO : MotivoDecisao.NIVEL_INSUFICIENTE);
+    }
+
+    /**
+     * Indica se um nível concede outro, pela hierarquia compilada.
+     *
+     * @param nivelCartao    nível do cartão
+     * @param nivelRequerido nível exigido ({@code null} se a área não exige nível)
+     * @return {@code true} se o acesso é concedido
+     */
+    public boolean permite(String nivelCartao, String nivelRequerido) {
+        if (nivelRequerido == null) {
+            return true;
+        }
+        Integer requerido = indices.get(nivelRequerido);
+        Integer cartao = indices.get(nivelCartao);
+        if (requerido == null || cartao == null) {
+            return nivelRequerido.equals(nivelCartao);
+        }
+        return concede(cartao, requerido);
+    }
+
+    /**
+     * Quantidade de níveis distintos da política.
+     *
+     * @return níveis compilados
+     */
+    public int quantidadeNiveis() {
+        return indices.size();
+    }
+
+    private boolean concede(int nivelCartao, int nivelArea) {
+        if (nivelArea == SEM_NIVEL) {
+            return true;
+        }
+        if (nivelCartao == SEM_NIVEL) {
+            return false;
+        }
+        return (concedidos[nivelCartao][nivelArea >>> 6] & (1L << nivelArea)) != 0;
+    }
+
+    /**
+     * Liga em {@code linha} os bits de todos os níveis alcançáveis a partir de
+     * {@code origem}; ciclos na hierarquia são tolerados.
+     */
+    private static void fechar(int origem, int[][] herdados, long[] linha) {
+        Deque<Integer> pendentes = new ArrayDeque<>();
+        pendentes.push(origem);
+        linha[origem >>> 6] |= 1L << origem;
+        while (!pendentes.isEmpty()) {
+            for (int herdado : herdados[pendentes.pop()]) {
+                if ((linha[herdado >>> 6] & (1L << herdado)) == 0) {
+                    linha[herdado >>> 6] |= 1L << herdado;
+                    pendentes.push(herdado);
+                }
+            }
+        }
+    }
+
+    private static int indice(Map<String, Integer> indices, String codigo) {
+        return codigo == null ? SEM_NIVEL : indices.get(codigo);
+    }
+}
@@ -1,25 +1,61 @@
 package br.com.projeto.aeroporto.seguranca.model;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
 
+/**
+ * Passagem de um cartão por uma porta ou catraca, gravada em um log apenas de inclusão.
+ *
+ * <p>
+ * Cada decisão de acesso gera um registro, permitida ou negada. Os registros
+ * nunca são alterados; a tabela {@code registro_acesso} é particionada por dia
+ * de {@code horario}, e as consultas são sempre feitas por intervalo de
+ * horário, para que o banco leia apenas as partições do intervalo.
+ * </p>
+ */
 @Entity
 public class RegistroAcesso {
 
+    /**
+     * Identificador do registro, crescente no tempo.
+     *
+     * <p>
+     * Atribuído pela aplicação antes da gravação, sem consultar o banco (ver
+     * {@code RegistradorAcessos}), para que um registro recuperado do diário
+     * após uma queda possa ser reconhecido se já tiver chegado ao banco.
+     * </p>
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
     private Long codigoRegistroAcesso;
 
+    /**
+     * Momento da decisão.
+     */
+    @Column(nullable = false)
     private LocalDateTime horario;
 
-    // «permitido», «negado»
-    private String resultado() {
-        return "0 ";
-    }
+    /**
+     * Cartão apresentado.
+     */
+    private String idCartao;
+
+    /**
+     * Área solicitada.
+     */
+    private Long codigoArea;
+
+    /**
+     * {@code true} se o acesso foi liberado.
+     */
+    private boolean permitido;
+
+    /**
+     * Motivo da decisão.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MotivoDecisao motivo;
 
     public RegistroAcesso() {
     }
@@ -29,6 +65,29 @@ public class RegistroAcesso {
         this.horario = horario;
     }
 
+    /**
+     * Cria o registro de uma decisão, ainda sem identificador.
+     *
+     * @param decisao decisão tomada
+     * @param horario momento da decisão
+     */
+    public RegistroAcesso(DecisaoAcesso decisao, LocalDateTime horario) {
+        this.horario = horario;
+        this.idCartao = decisao.idCartao();
+        this.codigoArea = decisao.codigoArea();
+        this.permitido = decisao.permitido();
+        this.motivo = decisao.motivo();
+    }
+
+    /**
+     * Resultado da passagem.
+     *
+     * @return {@code "permitido"} ou {@code "negado"}
+     */
+    public String getResultado() {
+        return permitido ? "permitido" : "negado";
+    }
+
     public Long getCodigoRegistroAcesso() {
         return codigoRegistroAcesso;
     }
@@ -44,4 +103,36 @@ public class RegistroAcesso {
     public void setHorario(LocalDateTime horario) {
         this.horario = horario;
     }
+
+    public String getIdCartao() {
+        return idCartao;
+    }
+
+    public void setIdCartao(String idCartao) {
+        this.idCartao = idCartao;
+    }
+
+    public Long getCodigoArea() {
+        return codigoArea;
+    }
+
+    public void setCodigoArea(Long codigoArea) {
+        this.codigoArea = codigoArea;
+    }
+
+    public boolean isPermitido() {
+        return permitido;
+    }
+
+    public void setPermitido(boolean permitido) {
+        this.permitido = permitido;
+    }
+
+    public MotivoDecisao getMotivo() {
+        return motivo;
+    }
+
+    public void setMotivo(MotivoDecisao motivo) {
+        this.motivo = motivo;
+    }
 }
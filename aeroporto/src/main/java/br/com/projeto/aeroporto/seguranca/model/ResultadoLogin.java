@@ -0,0 +1,27 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+/**
+ * Resultado de uma tentativa de login.
+ *
+ * @param situacao      desfecho da tentativa
+ * @param token         token emitido, apenas quando {@link SituacaoLogin#AUTENTICADO}
+ * @param esperaSegundos segundos até a próxima tentativa ser aceita, quando {@link SituacaoLogin#BLOQUEADO}
+ */
+public record ResultadoLogin(SituacaoLogin situacao, String token, long esperaSegundos) {
+
+    public static ResultadoLogin autenticado(String token) {
+        return new ResultadoLogin(SituacaoLogin.AUTENTICADO, token, 0);
+    }
+
+    public static ResultadoLogin recusado() {
+        return new ResultadoLogin(SituacaoLogin.RECUSADO, null, 0);
+    }
+
+    public static ResultadoLogin bloqueado(long esperaSegundos) {
+        return new ResultadoLogin(SituacaoLogin.BLOQUEADO, null, esperaSegundos);
+    }
+
+    public static ResultadoLogin sobrecarregado() {
+        return new ResultadoLogin(SituacaoLogin.SOBRECARREGADO, null, 0);
+    }
+}
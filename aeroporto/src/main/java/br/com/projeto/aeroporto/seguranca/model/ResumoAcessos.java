@@ -0,0 +1,17 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Totais dos registros de acesso de um intervalo de horário.
+ *
+ * @param inicio     início do intervalo (inclusivo)
+ * @param fim        fim do intervalo (exclusivo)
+ * @param permitidos acessos liberados
+ * @param negados    acessos negados
+ * @param porMotivo  registros por motivo da decisão
+ */
+public record ResumoAcessos(LocalDateTime inicio, LocalDateTime fim, long permitidos, long negados,
+                            Map<MotivoDecisao, Long> porMotivo) {
+}
@@ -0,0 +1,27 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+/**
+ * Desfecho de uma tentativa de login.
+ */
+public enum SituacaoLogin {
+
+    /**
+     * Usuário e senha conferem; o token foi emitido.
+     */
+    AUTENTICADO,
+
+    /**
+     * Usuário inexistente ou senha incorreta.
+     */
+    RECUSADO,
+
+    /**
+     * Tentativas demais para o usuário ou para o endereço de origem.
+     */
+    BLOQUEADO,
+
+    /**
+     * Fila de conferência de senhas cheia; a tentativa não foi avaliada.
+     */
+    SOBRECARREGADO
+}
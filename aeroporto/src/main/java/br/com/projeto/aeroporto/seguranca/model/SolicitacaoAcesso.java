@@ -0,0 +1,10 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+/**
+ * Leitura de um cartão em uma catraca ou porta.
+ *
+ * @param idCartao   cartão apresentado
+ * @param codigoArea área protegida pela catraca ou porta
+ */
+public record SolicitacaoAcesso(String idCartao, Long codigoArea) {
+}
@@ -0,0 +1,18 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+/**
+ * Padrões de eventos que geram alerta ao agente responsável pela área.
+ */
+public enum TipoAlertaSeguranca {
+
+    /**
+     * Acessos negados demais na área dentro da janela.
+     */
+    NEGACOES_REPETIDAS,
+
+    /**
+     * Mais passagens detectadas do que acessos permitidos dentro da janela:
+     * alguém entrou junto com quem tinha acesso ("carona").
+     */
+    CARONA
+}
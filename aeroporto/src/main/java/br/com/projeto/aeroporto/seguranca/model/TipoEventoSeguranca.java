@@ -0,0 +1,22 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+/**
+ * Tipos de evento recebidos pelo processamento de eventos de segurança.
+ */
+public enum TipoEventoSeguranca {
+
+    /**
+     * Cartão liberado em uma porta ou catraca.
+     */
+    ACESSO_PERMITIDO,
+
+    /**
+     * Cartão recusado em uma porta ou catraca.
+     */
+    ACESSO_NEGADO,
+
+    /**
+     * Pessoa detectada pelo sensor da porta ao atravessá-la.
+     */
+    PASSAGEM
+}
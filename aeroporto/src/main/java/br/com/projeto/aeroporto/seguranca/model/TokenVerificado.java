@@ -0,0 +1,12 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+import java.time.Instant;
+
+/**
+ * Conteúdo de um token JWT com assinatura e validade conferidas.
+ *
+ * @param username usuário do token ({@code sub})
+ * @param expiraEm fim da validade ({@code exp})
+ */
+public record TokenVerificado(String username, Instant expiraEm) {
+}
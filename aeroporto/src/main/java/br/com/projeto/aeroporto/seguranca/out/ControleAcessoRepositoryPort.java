@@ -0,0 +1,79 @@
+package br.com.projeto.aeroporto.seguranca.out;
+
+
+import br.com.projeto.aeroporto.seguranca.model.AreaRestrita;
+import br.com.projeto.aeroporto.seguranca.model.CartaoAcesso;
+import br.com.projeto.aeroporto.seguranca.model.NivelAcesso;
+
+import java.util.List;
+
+/**
+ * Porta de acesso aos dados usados nas decisões de acesso: níveis, áreas
+ * restritas e cartões.
+ *
+ * <p>
+ * Reunidos em uma só porta porque são sempre lidos juntos, para compilar a
+ * {@link br.com.projeto.aeroporto.seguranca.model.PoliticaAcesso}.
+ * </p>
+ */
+public interface ControleAcessoRepositoryPort {
+
+    /**
+     * Lista os níveis de acesso, com os níveis herdados.
+     *
+     * @return níveis cadastrados
+     */
+    List<NivelAcesso> listarNiveis();
+
+    /**
+     * Lista as áreas restritas.
+     *
+     * @return áreas cadastradas
+     */
+    List<AreaRestrita> listarAreas();
+
+    /**
+     * Lista os cartões de acesso.
+     *
+     * @return cartões cadastrados
+     */
+    List<CartaoAcesso> listarCartoes();
+
+    /**
+     * Salva um nível de acesso.
+     *
+     * @param nivel nível a salvar
+     * @return nível salvo
+     */
+    NivelAcesso salvarNivel(NivelAcesso nivel);
+
+    /**
+     * Remove um nível de acesso.
+     *
+     * @param codigo código do nível
+     */
+    void excluirNivel(String codigo);
+
+    /**
+     * Salva uma área restrita.
+     *
+     * @param area área a salvar
+     * @return área salva
+     */
+    AreaRestrita salvarArea(AreaRestrita area);
+
+    /**
+     * Salva um cartão de acesso.
+     *
+     * @param cartao cartão a salvar
+     * @return cartão salvo
+     */
+    CartaoAcesso salvarCartao(CartaoAcesso cartao);
+
+    /**
+     * Remove um cartão de acesso.
+     *
+     * @param idCartao identificador do cartão
+     */
+    void excluirCartao(String idCartao);
+}
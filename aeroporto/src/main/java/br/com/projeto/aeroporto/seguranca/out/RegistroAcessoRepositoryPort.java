@@ -0,0 +1,66 @@
+package br.com.projeto.aeroporto.seguranca.out;
+
+
+import br.com.projeto.aeroporto.seguranca.model.ContagemMotivo;
+import br.com.projeto.aeroporto.seguranca.model.RegistroAcesso;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Porta de acesso ao log de registros de acesso.
+ */
+public interface RegistroAcessoRepositoryPort {
+
+    /**
+     * Inclui os registros em uma única transação, em lotes JDBC.
+     *
+     * @param registros registros novos, já com identificador
+     */
+    void incluirTodos(Collection<RegistroAcesso> registros);
+
+    /**
+     * Dentre os registros informados, os IDs dos que já estão gravados.
+     *
+     * @param registros registros a verificar
+     * @return IDs já gravados
+     */
+    List<Long> listarExistentes(Collection<RegistroAcesso> registros);
+
+    /**
+     * Guarda, fora do log particionado, um registro que o banco recusou.
+     *
+     * @param registro registro recusado
+     * @param erro     descrição da falha
+     */
+    void rejeitar(RegistroAcesso registro, String erro);
+
+    /**
+     * Lista os registros do intervalo, opcionalmente de um só cartão.
+     *
+     * @param inicio   início do intervalo (inclusivo)
+     * @param fim      fim do intervalo (exclusivo)
+     * @param idCartao cartão ({@code null} para todos)
+     * @param limite   quantidade máxima de registros
+     * @return registros em ordem de horário
+     */
+    List<RegistroAcesso> listar(LocalDateTime inicio, LocalDateTime fim, String idCartao, int limite);
+
+    /**
+     * Conta os registros do intervalo por motivo da decisão.
+     *
+     * @param inicio início do intervalo (inclusivo)
+     * @param fim    fim do intervalo (exclusivo)
+     * @return uma contagem por motivo presente no intervalo
+     */
+    List<ContagemMotivo> contarPorMotivo(LocalDateTime inicio, LocalDateTime fim);
+
+    /**
+     * Cria, se ainda não existir, a partição dos registros do dia.
+     *
+     * @param dia dia da partição
+     */
+    void criarParticao(LocalDate dia);
+}
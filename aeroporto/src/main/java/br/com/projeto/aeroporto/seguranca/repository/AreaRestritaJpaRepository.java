@@ -0,0 +1,13 @@
+package br.com.projeto.aeroporto.seguranca.repository;
+
+
+import br.com.projeto.aeroporto.seguranca.model.AreaRestrita;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório JPA para a entidade {@link AreaRestrita}.
+ */
+@Repository
+public interface AreaRestritaJpaRepository extends JpaRepository<AreaRestrita, Long> {
+}
@@ -0,0 +1,13 @@
+package br.com.projeto.aeroporto.seguranca.repository;
+
+
+import br.com.projeto.aeroporto.seguranca.model.CartaoAcesso;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório JPA para a entidade {@link CartaoAcesso}.
+ */
+@Repository
+public interface CartaoAcessoJpaRepository extends JpaRepository<CartaoAcesso, String> {
+}
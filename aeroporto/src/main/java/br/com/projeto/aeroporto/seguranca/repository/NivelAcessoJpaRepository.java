@@ -0,0 +1,24 @@
+package br.com.projeto.aeroporto.seguranca.repository;
+
+
+import br.com.projeto.aeroporto.seguranca.model.NivelAcesso;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositório JPA para a entidade {@link NivelAcesso}.
+ */
+@Repository
+public interface NivelAcessoJpaRepository extends JpaRepository<NivelAcesso, String> {
+
+    /**
+     * Todos os níveis com os herdados, em uma única consulta.
+     *
+     * @return níveis cadastrados
+     */
+    @Query("select distinct n from NivelAcesso n left join fetch n.herdados")
+    List<NivelAcesso> listarComHerdados();
+}
@@ -0,0 +1,90 @@
+package br.com.projeto.aeroporto.seguranca.repository;
+
+
+import br.com.projeto.aeroporto.seguranca.model.ContagemMotivo;
+import br.com.projeto.aeroporto.seguranca.model.RegistroAcesso;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório JPA para a entidade {@link RegistroAcesso}.
+ *
+ * <p>
+ * Todas as consultas filtram por intervalo de {@code horario}, a chave de
+ * particionamento da tabela, para que só as partições do intervalo sejam lidas.
+ * </p>
+ */
+@Repository
+public interface RegistroAcessoJpaRepository extends JpaRepository<RegistroAcesso, Long> {
+
+    /**
+     * Registros do intervalo, em ordem de horário.
+     *
+     * @param inicio início do intervalo (inclusivo)
+     * @param fim    fim do intervalo (exclusivo)
+     * @param limite quantidade máxima de registros
+     * @return registros encontrados
+     */
+    @Query("""
+            select r from RegistroAcesso r
+            where r.horario >= :inicio and r.horario < :fim
+            order by r.horario, r.codigoRegistroAcesso
+            """)
+    List<RegistroAcesso> listarPorPeriodo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim,
+                                          Limit limite);
+
+    /**
+     * Registros de um cartão no intervalo, em ordem de horário.
+     *
+     * @param idCartao cartão apresentado
+     * @param inicio   início do intervalo (inclusivo)
+     * @param fim      fim do intervalo (exclusivo)
+     * @param limite   quantidade máxima de registros
+     * @return registros encontrados
+     */
+    @Query("""
+            select r from RegistroAcesso r
+            where r.idCartao = :idCartao and r.horario >= :inicio and r.horario < :fim
+            order by r.horario, r.codigoRegistroAcesso
+            """)
+    List<RegistroAcesso> listarPorCartaoEPeriodo(@Param("idCartao") String idCartao,
+                                                 @Param("inicio") LocalDateTime inicio,
+                                                 @Param("fim") LocalDateTime fim, Limit limite);
+
+    /**
+     * Quantidade de registros do intervalo por motivo da decisão.
+     *
+     * @param inicio início do intervalo (inclusivo)
+     * @param fim    fim do intervalo (exclusivo)
+     * @return uma contagem por motivo presente no intervalo
+     */
+    @Query("""
+            select new br.com.projeto.aeroporto.seguranca.model.ContagemMotivo(r.motivo, count(r))
+            from RegistroAcesso r
+            where r.horario >= :inicio and r.horario < :fim
+            group by r.motivo
+            """)
+    List<ContagemMotivo> contarPorMotivo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+
+    /**
+     * Dentre os IDs informados, os que já estão gravados.
+     *
+     * @param ids    IDs a verificar
+     * @param inicio menor horário entre os registros verificados
+     * @param fim    maior horário entre os registros verificados
+     * @return IDs já gravados
+     */
+    @Query("""
+            select r.codigoRegistroAcesso from RegistroAcesso r
+            where r.codigoRegistroAcesso in :ids and r.horario between :inicio and :fim
+            """)
+    List<Long> listarExistentes(@Param("ids") Collection<Long> ids, @Param("inicio") LocalDateTime inicio,
+                                @Param("fim") LocalDateTime fim);
+}
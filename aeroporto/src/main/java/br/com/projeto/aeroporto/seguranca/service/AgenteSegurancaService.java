@@ -1,14 +1,233 @@
 package br.com.projeto.aeroporto.seguranca.service;
 
 
+import br.com.projeto.aeroporto.seguranca.model.AlertaSeguranca;
 import br.com.projeto.aeroporto.seguranca.model.AreaRestrita;
+import br.com.projeto.aeroporto.seguranca.out.ControleAcessoRepositoryPort;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Encaminha os alertas de segurança ao agente responsável por cada área.
+ *
+ * <p>
+ * A área monitorada guarda em memória o agente ({@link AreaRestrita#getIdAgente()})
+ * que recebe os seus alertas; os agentes se inscrevem por Server-Sent Events
+ * (evento {@code alerta}). Alertas de áreas sem agente, ou de agentes sem
+ * inscrição aberta, ficam apenas no log.
+ * </p>
+ *
+ * <p>
+ * Os alertas chegam pela thread única da {@link CorrelacaoEventos}, que não
+ * pode esperar pela rede. Cada inscrição tem uma fila de até
+ * {@value #CAPACIDADE_FILA} eventos, esvaziada por uma thread virtual só
+ * dela: um agente lento atrasa apenas os próprios alertas, e uma inscrição
+ * com a fila cheia é encerrada (o {@code EventSource} reconecta). A cada
+ * {@value #INTERVALO_SINAL_MS} ms um comentário é enviado a todas as
+ * inscrições, para manter a conexão e descartar as desconectadas.
+ * </p>
+ */
 @Service
 public class AgenteSegurancaService {
 
+   private static final Logger log = LoggerFactory.getLogger(AgenteSegurancaService.class);
+
+   /**
+    * Duração máxima de uma inscrição; o {@code EventSource} do agente reconecta sozinho.
+    */
+   static final long DURACAO_INSCRICAO_MS = 30 * 60 * 1000L;
+
+   /**
+    * Eventos aguardando envio por inscrição.
+    */
+   static final int CAPACIDADE_FILA = 256;
+
+   /**
+    * Intervalo entre os comentários de manutenção da conexão.
+    */
+   static final long INTERVALO_SINAL_MS = 15_000;
+
+   private final ControleAcessoRepositoryPort repository;
+
+   private final Map<Long, String> agentePorArea = new ConcurrentHashMap<>();
+
+   private final Map<String, List<Inscricao>> inscritos = new ConcurrentHashMap<>();
+
+   private final ExecutorService envios = Executors.newVirtualThreadPerTaskExecutor();
+
+   /**
+    * Construtor da classe {@code AgenteSegurancaService}.
+    *
+    * @param repository porta de acesso às áreas restritas
+    */
+   public AgenteSegurancaService(ControleAcessoRepositoryPort repository) {
+      this.repository = repository;
+   }
+
+   /**
+    * Passa a encaminhar os alertas da área ao seu agente responsável, ou deixa
+    * de encaminhá-los se a área não tiver agente.
+    *
+    * @param areaRestrita área a monitorar
+    */
    public void monitorar(AreaRestrita areaRestrita)
    {
+      if (areaRestrita.getIdAgente() == null) {
+         agentePorArea.remove(areaRestrita.getCodigoAreaRestrita());
+      } else {
+         agentePorArea.put(areaRestrita.getCodigoAreaRestrita(), areaRestrita.getIdAgente());
+      }
+   }
+
+   /**
+    * Monitora as áreas cadastradas ao iniciar a aplicação.
+    */
+   @EventListener(ApplicationReadyEvent.class)
+   public void carregar() {
+      repository.listarAreas().forEach(this::monitorar);
+   }
+
+   /**
+    * Inscreve um agente para receber os alertas das suas áreas.
+    *
+    * @param idAgente identificador do agente
+    * @return emissor SSE da inscrição
+    */
+   public SseEmitter inscrever(String idAgente) {
+      SseEmitter emissor = new SseEmitter(DURACAO_INSCRICAO_MS);
+      List<Inscricao> doAgente = inscritos.computeIfAbsent(idAgente, id -> new CopyOnWriteArrayList<>());
+      Inscricao inscricao = new Inscricao(emissor, doAgente);
+      emissor.onCompletion(() -> doAgente.remove(inscricao));
+      emissor.onTimeout(emissor::complete);
+      emissor.onError(erro -> doAgente.remove(inscricao));
+      doAgente.add(inscricao);
+      return emissor;
+   }
+
+   /**
+    * Põe o alerta na fila das inscrições do agente responsável pela área.
+    *
+    * @param alerta alerta gerado pela correlação de eventos
+    */
+   @EventListener
+   public void encaminhar(AlertaSeguranca alerta) {
+      String idAgente = agentePorArea.get(alerta.codigoArea());
+      List<Inscricao> doAgente = idAgente == null ? null : inscritos.get(idAgente);
+      if (doAgente == null || doAgente.isEmpty()) {
+         log.warn("Alerta {} da área {} sem agente inscrito ({})", alerta.tipo(), alerta.codigoArea(), idAgente);
+         return;
+      }
+      // build() acrescenta o terminador do evento a cada chamada: monta uma vez só.
+      Set<ResponseBodyEmitter.DataWithMediaType> dados = SseEmitter.event().name("alerta")
+              .data(alerta, MediaType.APPLICATION_JSON).build();
+      for (Inscricao inscricao : doAgente) {
+         inscricao.entregar(dados);
+      }
+   }
+
+   /**
+    * Envia um comentário a todas as inscrições, descartando as desconectadas.
+    */
+   @Scheduled(fixedDelay = INTERVALO_SINAL_MS)
+   public void sinalizar() {
+      Set<ResponseBodyEmitter.DataWithMediaType> sinal = SseEmitter.event().comment("sinal").build();
+      for (List<Inscricao> doAgente : inscritos.values()) {
+         for (Inscricao inscricao : doAgente) {
+            inscricao.entregar(sinal);
+         }
+      }
+   }
+
+   @PreDestroy
+   void encerrar() {
+      envios.shutdownNow();
+   }
+
+   /**
+    * Emissor de uma inscrição com a sua fila de envio.
+    */
+   private final class Inscricao {
+
+      private final SseEmitter emissor;
+
+      private final List<Inscricao> doAgente;
+
+      private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> pendentes =
+              new ArrayBlockingQueue<>(CAPACIDADE_FILA);
+
+      private final AtomicBoolean enviando = new AtomicBoolean();
+
+      private Inscricao(SseEmitter emissor, List<Inscricao> doAgente) {
+         this.emissor = emissor;
+         this.doAgente = doAgente;
+      }
+
+      void entregar(Set<ResponseBodyEmitter.DataWithMediaType> dados) {
+         if (!pendentes.offer(dados)) {
+            encerrar(new IllegalStateException("Inscrição não acompanha os alertas"));
+            return;
+         }
+         agendar();
+      }
+
+      /**
+       * Inicia o envio da fila, se nenhum estiver em andamento.
+       */
+      private void agendar() {
+         if (!enviando.compareAndSet(false, true)) {
+            return;
+         }
+         try {
+            envios.execute(this::enviar);
+         } catch (RejectedExecutionException e) {
+            enviando.set(false);
+         }
+      }
+
+      private void enviar() {
+         try {
+            Set<ResponseBodyEmitter.DataWithMediaType> dados;
+            while ((dados = pendentes.poll()) != null) {
+               emissor.send(dados);
+            }
+         } catch (IOException | IllegalStateException e) {
+            encerrar(e);
+            return;
+         } finally {
+            enviando.set(false);
+         }
+         // Um evento posto na fila depois do último poll e antes de liberar o envio.
+         if (!pendentes.isEmpty()) {
+            agendar();
+         }
+      }
 
+      private void encerrar(Throwable erro) {
+         if (doAgente.remove(this)) {
+            pendentes.clear();
+            emissor.completeWithError(erro);
+         }
+      }
    }
 }
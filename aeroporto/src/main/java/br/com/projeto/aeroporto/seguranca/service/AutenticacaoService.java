@@ -0,0 +1,140 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+
+import br.com.projeto.aeroporto.seguranca.model.Credenciais;
+import br.com.projeto.aeroporto.seguranca.model.ResultadoLogin;
+import br.com.projeto.aeroporto.seguranca.model.SituacaoLogin;
+import br.com.projeto.aeroporto.seguranca.util.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Login: limite de tentativas, conferência da senha e emissão do token.
+ *
+ * <p>
+ * O BCrypt é caro de propósito (dezenas de milissegundos de CPU por
+ * tentativa). Conferido na thread da requisição, um pico de logins na troca
+ * de turno ocuparia todos os núcleos e atrasaria os demais endpoints. Aqui a
+ * conferência (busca do usuário e BCrypt) roda em um executor próprio, com
+ * {@code aeroporto.seguranca.login.threads} threads e uma fila de
+ * {@code aeroporto.seguranca.login.fila} tentativas: o excedente é recusado
+ * na hora como {@link SituacaoLogin#SOBRECARREGADO}, sem esperar, e o login
+ * nunca usa mais núcleos nem conexões do banco do que as suas threads.
+ * </p>
+ *
+ * <p>
+ * Antes de entrar na fila, a tentativa passa pelo {@link LimitadorLogin};
+ * as bloqueadas não custam BCrypt nem consulta. Usuários inexistentes
+ * ficam no cache negativo do {@link UsuarioService}.
+ * </p>
+ */
+@Service
+public class AutenticacaoService {
+
+    private final AuthenticationManager authenticationManager;
+
+    private final JwtUtil jwtUtil;
+
+    private final LimitadorLogin limitador;
+
+    private final ThreadPoolExecutor conferencias;
+
+    private final Map<SituacaoLogin, Counter> tentativas = new EnumMap<>(SituacaoLogin.class);
+
+    private final Timer duracao;
+
+    /**
+     * Construtor da classe {@code AutenticacaoService}.
+     *
+     * @param authenticationManager conferência de usuário e senha
+     * @param jwtUtil               emissor dos tokens
+     * @param limitador             limite de tentativas por usuário e endereço
+     * @param registry              registro de métricas da aplicação
+     * @param threads               threads de conferência de senha; {@code 0} usa metade dos núcleos
+     * @param fila                  tentativas aguardando conferência além das em andamento
+     */
+    public AutenticacaoService(AuthenticationManager authenticationManager, JwtUtil jwtUtil,
+                               LimitadorLogin limitador, MeterRegistry registry,
+                               @Value("${aeroporto.seguranca.login.threads:0}") int threads,
+                               @Value("${aeroporto.seguranca.login.fila:256}") int fila) {
+        this.authenticationManager = authenticationManager;
+        this.jwtUtil = jwtUtil;
+        this.limitador = limitador;
+        int quantidade = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequencia = new AtomicInteger();
+        this.conferencias = new ThreadPoolExecutor(quantidade, quantidade, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila), tarefa -> {
+                    Thread thread = new Thread(tarefa, "login-" + sequencia.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        for (SituacaoLogin situacao : SituacaoLogin.values()) {
+            tentativas.put(situacao, Counter.builder("aeroporto.login")
+                    .tag("situacao", situacao.name())
+                    .description("Tentativas de login").register(registry));
+        }
+        this.duracao = Timer.builder("aeroporto.login.conferencia")
+                .description("Tempo de conferência de usuário e senha, fora a espera na fila").register(registry);
+        Gauge.builder("aeroporto.login.fila", conferencias.getQueue(), BlockingQueue::size)
+                .description("Tentativas de login aguardando conferência").register(registry);
+    }
+
+    /**
+     * Avalia uma tentativa de login sem ocupar a thread da requisição com o BCrypt.
+     *
+     * @param credenciais usuário e senha informados
+     * @param endereco    endereço de origem da requisição, já resolvido pelos cabeçalhos de proxy
+     *                    conforme {@code server.forward-headers-strategy}
+     * @return resultado, concluído pela thread de conferência (ou já concluído se bloqueado ou sobrecarregado)
+     */
+    public CompletableFuture<ResultadoLogin> autenticar(Credenciais credenciais, String endereco) {
+        String username = credenciais.username() == null ? "" : credenciais.username();
+        long espera = limitador.tentar(username, endereco);
+        if (espera > 0) {
+            return CompletableFuture.completedFuture(contar(ResultadoLogin.bloqueado(espera)));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> contar(duracao.record(() -> conferir(username, credenciais.password()))),
+                    conferencias);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(contar(ResultadoLogin.sobrecarregado()));
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        conferencias.shutdownNow();
+    }
+
+    private ResultadoLogin conferir(String username, String password) {
+        try {
+            authenticationManager.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(username, password));
+        } catch (AuthenticationException e) {
+            return ResultadoLogin.recusado();
+        }
+        return ResultadoLogin.autenticado(jwtUtil.gerarToken(username));
+    }
+
+    private ResultadoLogin contar(ResultadoLogin resultado) {
+        tentativas.get(resultado.situacao()).increment();
+        return resultado;
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+
+import br.com.projeto.aeroporto.seguranca.in.ControleAcessoUseCase;
+import br.com.projeto.aeroporto.seguranca.model.AreaRestrita;
+import br.com.projeto.aeroporto.seguranca.model.CartaoAcesso;
+import br.com.projeto.aeroporto.seguranca.model.DecisaoAcesso;
+import br.com.projeto.aeroporto.seguranca.model.EventoSeguranca;
+import br.com.projeto.aeroporto.seguranca.model.NivelAcesso;
+import br.com.projeto.aeroporto.seguranca.model.PoliticaAcesso;
+import br.com.projeto.aeroporto.seguranca.model.RegistroAcesso;
+import br.com.projeto.aeroporto.seguranca.model.TipoEventoSeguranca;
+import br.com.projeto.aeroporto.seguranca.out.ControleAcessoRepositoryPort;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Decisões de acesso a partir da {@link PoliticaAcesso} compilada em memória.
+ *
+ * <p>
+ * A política é compilada na inicialização e recompilada a cada alteração de
+ * nível, área ou cartão feita por este serviço; alterações feitas direto no
+ * banco são absorvidas pela recarga periódica
+ * ({@code aeroporto.acesso.recarga-ms}). A nova política substitui a anterior
+ * de uma vez, e as validações em andamento terminam com a que já tinham lido.
+ * </p>
+ */
+@Service
+public class ControleAcessoService implements ControleAcessoUseCase {
+
+    /**
+     * Tamanho máximo do identificador do cartão, o da coluna {@code id_cartao}.
+     */
+    static final int TAMANHO_MAXIMO_CARTAO = 255;
+
+    private final ControleAcessoRepositoryPort repository;
+
+    private final RegistradorAcessos registrador;
+
+    private final SistemaSegurancaService sistemaSeguranca;
+
+    private final AgenteSegurancaService agentes;
+
+    private final ReentrantLock recarregando = new ReentrantLock();
+
+    private volatile PoliticaAcesso politica = PoliticaAcesso.VAZIA;
+
+    /**
+     * Construtor da classe {@code ControleAcessoService}.
+     *
+     * @param repository  porta de acesso a níveis, áreas e cartões
+     * @param registrador      gravação em grupo dos registros de acesso
+     * @param sistemaSeguranca entrada dos eventos de segurança
+     * @param agentes          encaminhamento dos alertas aos agentes das áreas
+     */
+    public ControleAcessoService(ControleAcessoRepositoryPort repository, RegistradorAcessos registrador,
+                                 SistemaSegurancaService sistemaSeguranca, AgenteSegurancaService agentes) {
+        this.repository = repository;
+        this.registrador = registrador;
+        this.sistemaSeguranca = sistemaSeguranca;
+        this.agentes = agentes;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Toda decisão, permitida ou negada, é entregue ao {@link RegistradorAcessos}
+     * e, como evento, à correlação de eventos de segurança. Se o registro não
+     * for aceito, a decisão não é devolvida (falha fechada).
+     * </p>
+     */
+    @Override
+    public DecisaoAcesso validar(String idCartao, Long codigoArea) {
+        if (idCartao == null || idCartao.isBlank() || idCartao.length() > TAMANHO_MAXIMO_CARTAO) {
+            throw new IllegalArgumentException("Cartão inválido");
+        }
+        DecisaoAcesso decisao = politica.decidir(idCartao, codigoArea);
+        registrador.registrar(new RegistroAcesso(decisao, LocalDateTime.now()));
+        sistemaSeguranca.registrarEvento(new EventoSeguranca(
+                decisao.permitido() ? TipoEventoSeguranca.ACESSO_PERMITIDO : TipoEventoSeguranca.ACESSO_NEGADO,
+                codigoArea, idCartao));
+        return decisao;
+    }
+
+    @Override
+    public NivelAcesso salvarNivel(NivelAcesso nivel) {
+        NivelAcesso salvo = repository.salvarNivel(nivel);
+        recarregar();
+        return salvo;
+    }
+
+    @Override
+    public void excluirNivel(String codigo) {
+        repository.excluirNivel(codigo);
+        recarregar();
+    }
+
+    @Override
+    public AreaRestrita salvarArea(AreaRestrita area) {
+        AreaRestrita salva = repository.salvarArea(area);
+        recarregar();
+        agentes.monitorar(salva);
+        return salva;
+    }
+
+    @Override
+    public CartaoAcesso salvarCartao(CartaoAcesso cartao) {
+        CartaoAcesso salvo = repository.salvarCartao(cartao);
+        recarregar();
+        return salvo;
+    }
+
+    @Override
+    public void revogarCartao(String idCartao) {
+        repository.excluirCartao(idCartao);
+        recarregar();
+    }
+
+    /**
+     * Compila a política a partir do banco e a coloca em uso.
+     *
+     * <p>
+     * Recargas simultâneas são serializadas, para que uma leitura mais antiga
+     * não substitua uma mais recente.
+     * </p>
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${aeroporto.acesso.recarga-ms:60000}",
+            fixedDelayString = "${aeroporto.acesso.recarga-ms:60000}")
+    public void recarregar() {
+        recarregando.lock();
+        try {
+            politica = PoliticaAcesso.compilar(repository.listarNiveis(), repository.listarAreas(),
+                    repository.listarCartoes());
+        } finally {
+            recarregando.unlock();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+
+import br.com.projeto.aeroporto.seguranca.model.AlertaSeguranca;
+import br.com.projeto.aeroporto.seguranca.model.EventoSeguranca;
+import br.com.projeto.aeroporto.seguranca.model.TipoAlertaSeguranca;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Correlação dos eventos de segurança em janelas deslizantes por área.
+ *
+ * <p>
+ * Os eventos entram em uma fila limitada, com o instante de chegada, e são
+ * processados em lotes por uma única thread, que mantém uma
+ * {@link JanelaArea} por área com eventos recentes. Regras:
+ * <ul>
+ *   <li><b>{@link TipoAlertaSeguranca#NEGACOES_REPETIDAS}</b> - pelo menos
+ *   {@code aeroporto.seguranca.negacoes.limite} acessos negados na área em
+ *   {@code aeroporto.seguranca.negacoes.janela-s} segundos;</li>
+ *   <li><b>{@link TipoAlertaSeguranca#CARONA}</b> - mais passagens detectadas
+ *   pelo sensor do que acessos permitidos na área em
+ *   {@code aeroporto.seguranca.carona.janela-s} segundos.</li>
+ * </ul>
+ * Depois de um alerta, a mesma regra fica suspensa na área pela duração da
+ * sua janela. Os alertas são publicados como eventos da aplicação
+ * ({@link AlertaSeguranca}) e encaminhados ao agente responsável pelo
+ * {@link AgenteSegurancaService}.
+ * </p>
+ *
+ * <p>
+ * Memória limitada: a fila guarda até {@value #CAPACIDADE_FILA} eventos (os
+ * excedentes são descartados e contados), cada janela tem tamanho fixo, há no
+ * máximo {@value #MAXIMO_AREAS} janelas, e as áreas sem eventos na maior
+ * janela são retiradas a cada segundo.
+ * </p>
+ *
+ * <p>
+ * Métricas: {@code aeroporto.seguranca.eventos} (processados e descartados),
+ * {@code aeroporto.seguranca.alertas} (por tipo), {@code .fila} (eventos
+ * aguardando), {@code .janelas} (áreas acompanhadas) e {@code .janelas.eventos}
+ * (eventos guardados nas janelas).
+ * </p>
+ */
+@Component
+public class CorrelacaoEventos {
+
+    private static final Logger log = LoggerFactory.getLogger(CorrelacaoEventos.class);
+
+    /**
+     * Eventos aguardando processamento a partir dos quais novos eventos são descartados.
+     */
+    static final int CAPACIDADE_FILA = 65_536;
+
+    /**
+     * Eventos retirados da fila por vez.
+     */
+    static final int TAMANHO_LOTE = 4096;
+
+    /**
+     * Quantidade máxima de áreas acompanhadas ao mesmo tempo.
+     */
+    static final int MAXIMO_AREAS = 50_000;
+
+    private final ApplicationEventPublisher publicador;
+
+    private final int limiteNegacoes;
+
+    private final int janelaNegacoes;
+
+    private final int janelaCarona;
+
+    private final int tamanhoJanela;
+
+    private final BlockingQueue<Recebido> fila = new ArrayBlockingQueue<>(CAPACIDADE_FILA);
+
+    private final Counter processados;
+
+    private final Counter descartados;
+
+    private final Counter alertasNegacoes;
+
+    private final Counter alertasCarona;
+
+    // Estado exclusivo da thread de correlação.
+    private final Map<Long, JanelaArea> janelas = new HashMap<>();
+
+    private long ultimaLimpeza;
+
+    private volatile int areasAcompanhadas;
+
+    private volatile long eventosNasJanelas;
+
+    private volatile boolean ativo;
+
+    private Thread trabalhador;
+
+    /**
+     * Construtor da classe {@code CorrelacaoEventos}.
+     *
+     * @param publicador     publicador de eventos da aplicação, usado para os alertas
+     * @param registry       registro de métricas da aplicação
+     * @param limiteNegacoes acessos negados na janela que geram alerta
+     * @param janelaNegacoes janela das negações, em segundos
+     * @param janelaCarona   janela da comparação entre passagens e acessos permitidos, em segundos
+     */
+    public CorrelacaoEventos(ApplicationEventPublisher publicador, MeterRegistry registry,
+                             @Value("${aeroporto.seguranca.negacoes.limite:5}") int limiteNegacoes,
+                             @Value("${aeroporto.seguranca.negacoes.janela-s:60}") int janelaNegacoes,
+                             @Value("${aeroporto.seguranca.carona.janela-s:10}") int janelaCarona) {
+        this.publicador = publicador;
+        this.limiteNegacoes = limiteNegacoes;
+        this.janelaNegacoes = janelaNegacoes;
+        this.janelaCarona = janelaCarona;
+        this.tamanhoJanela = Math.max(janelaNegacoes, janelaCarona);
+        this.processados = Counter.builder("aeroporto.seguranca.eventos").tag("resultado", "processado")
+                .description("Eventos de segurança correlacionados").register(registry);
+        this.descartados = Counter.builder("aeroporto.seguranca.eventos").tag("resultado", "descartado")
+                .description("Eventos de segurança descartados por fila cheia ou áreas demais").register(registry);
+        this.alertasNegacoes = Counter.builder("aeroporto.seguranca.alertas")
+                .tag("tipo", TipoAlertaSeguranca.NEGACOES_REPETIDAS.name())
+                .description("Alertas de segurança emitidos").register(registry);
+        this.alertasCarona = Counter.builder("aeroporto.seguranca.alertas")
+                .tag("tipo", TipoAlertaSeguranca.CARONA.name())
+                .description("Alertas de segurança emitidos").register(registry);
+        Gauge.builder("aeroporto.seguranca.fila", fila, BlockingQueue::size)
+                .description("Eventos de segurança aguardando correlação").register(registry);
+        Gauge.builder("aeroporto.seguranca.janelas", this, c -> c.areasAcompanhadas)
+                .description("Áreas com janela de eventos ativa").register(registry);
+        Gauge.builder("aeroporto.seguranca.janelas.eventos", this, c -> c.eventosNasJanelas)
+                .description("Eventos guardados nas janelas das áreas").register(registry);
+    }
+
+    /**
+     * Enfileira um evento para correlação, sem bloquear.
+     *
+     * @param evento evento recebido
+     * @return {@code false} se a fila estava cheia e o evento foi descartado
+     */
+    public boolean registrar(EventoSeguranca evento) {
+        if (evento.tipo() == null || evento.codigoArea() == null
+                || !fila.offer(new Recebido(evento, System.currentTimeMillis()))) {
+            descartados.increment();
+            return false;
+        }
+        return true;
+    }
+
+    @PostConstruct
+    void iniciar() {
+        ativo = true;
+        trabalhador = new Thread(this::executar, "correlacao-eventos-seguranca");
+        trabalhador.setDaemon(true);
+        trabalhador.start();
+    }
+
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        ativo = false;
+        trabalhador.interrupt();
+        trabalhador.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void executar() {
+        List<Recebido> lote = new ArrayList<>(TAMANHO_LOTE);
+        while (ativo) {
+            try {
+                Recebido primeiro = fila.poll(1, TimeUnit.SECONDS);
+                if (primeiro != null) {
+                    lote.add(primeiro);
+                    fila.drainTo(lote, TAMANHO_LOTE - 1);
+                    for (Recebido recebido : lote) {
+                        correlacionar(recebido);
+                    }
+                    processados.increment(lote.size());
+                }
+                limpar(System.currentTimeMillis() / 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.warn("Falha ao correlacionar {} eventos de segurança", lote.size(), e);
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void correlacionar(Recebido recebido) {
+        EventoSeguranca evento = recebido.evento();
+        long segundo = recebido.instanteMs() / 1000;
+        JanelaArea janela = janelas.get(evento.codigoArea());
+        if (janela == null) {
+            if (janelas.size() >= MAXIMO_AREAS) {
+                descartados.increment();
+                return;
+            }
+            janela = new JanelaArea(tamanhoJanela);
+            janelas.put(evento.codigoArea(), janela);
+        }
+        eventosNasJanelas += 1 - janela.registrar(evento.tipo(), segundo);
+        switch (evento.tipo()) {
+            case ACESSO_NEGADO -> {
+                int negados = janela.negados(segundo, janelaNegacoes);
+                if (negados >= limiteNegacoes && janela.alertarNegacoes(segundo, segundo + janelaNegacoes)) {
+                    alertasNegacoes.increment();
+                    alertar(evento.codigoArea(), TipoAlertaSeguranca.NEGACOES_REPETIDAS, negados, janelaNegacoes);
+                }
+            }
+            case PASSAGEM -> {
+                int excedentes = janela.passagens(segundo, janelaCarona) - janela.permitidos(segundo, janelaCarona);
+                if (excedentes > 0 && janela.alertarCarona(segundo, segundo + janelaCarona)) {
+                    alertasCarona.increment();
+                    alertar(evento.codigoArea(), TipoAlertaSeguranca.CARONA, excedentes, janelaCarona);
+                }
+            }
+            case ACESSO_PERMITIDO -> {
+            }
+        }
+    }
+
+    private void alertar(Long codigoArea, TipoAlertaSeguranca tipo, int quantidade, int janela) {
+        try {
+            publicador.publishEvent(new AlertaSeguranca(codigoArea, tipo, quantidade, janela, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("Falha ao encaminhar alerta {} da área {}", tipo, codigoArea, e);
+        }
+    }
+
+    /**
+     * Uma vez por segundo, retira as áreas sem eventos na maior janela.
+     */
+    private void limpar(long agora) {
+        if (agora == ultimaLimpeza) {
+            return;
+        }
+        ultimaLimpeza = agora;
+        long eventos = eventosNasJanelas;
+        for (Iterator<JanelaArea> i = janelas.values().iterator(); i.hasNext(); ) {
+            JanelaArea janela = i.next();
+            if (janela.ultimoSegundo() <= agora - tamanhoJanela) {
+                eventos -= janela.eventos();
+                i.remove();
+            }
+        }
+        eventosNasJanelas = eventos;
+        areasAcompanhadas = janelas.size();
+    }
+
+    /**
+     * Evento na fila, com o instante de chegada usado nas janelas.
+     */
+    private record Recebido(EventoSeguranca evento, long instanteMs) {
+    }
+}
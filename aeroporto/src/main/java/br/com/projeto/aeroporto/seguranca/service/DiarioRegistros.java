@@ -0,0 +1,251 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+
+import br.com.projeto.aeroporto.seguranca.model.MotivoDecisao;
+import br.com.projeto.aeroporto.seguranca.model.RegistroAcesso;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Diário (write-ahead log) local dos registros de acesso ainda não gravados no banco.
+ *
+ * <p>
+ * Cada lote é acrescentado ao arquivo e forçado ao disco ({@code fsync}) antes
+ * de as passagens serem confirmadas. Quando todos os registros chegam ao
+ * banco, o arquivo é esvaziado; se sempre resta algum pendente, o
+ * {@link RegistradorAcessos} reescreve o diário só com os pendentes
+ * ({@link #reescrever(List)}) quando ele passa do limite de tamanho.
+ * </p>
+ *
+ * <p>
+ * Cada entrada é {@code [tamanho][crc32c][dados]}. Na leitura após uma queda,
+ * a primeira entrada incompleta ou com CRC inválido (escrita interrompida no
+ * meio) encerra a leitura, e o arquivo é cortado nesse ponto. Não é seguro
+ * para uso concorrente: só a thread do {@link RegistradorAcessos} o usa.
+ * </p>
+ */
+final class DiarioRegistros implements Closeable {
+
+    private static final int CABECALHO = Integer.BYTES * 2;
+
+    private static final long AREA_NULA = Long.MIN_VALUE;
+
+    private final Path arquivo;
+
+    private FileChannel canal;
+
+    private final CRC32C crc = new CRC32C();
+
+    /**
+     * Abre (ou cria) o diário.
+     *
+     * @param arquivo caminho do arquivo do diário
+     * @throws IOException caso o arquivo não possa ser aberto
+     */
+    DiarioRegistros(Path arquivo) throws IOException {
+        Path diretorio = arquivo.toAbsolutePath().getParent();
+        if (diretorio != null) {
+            Files.createDirectories(diretorio);
+        }
+        this.arquivo = arquivo;
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Lê as entradas íntegras do diário e corta o arquivo após a última delas.
+     *
+     * @return registros encontrados, na ordem em que foram escritos
+     * @throws IOException caso o arquivo não possa ser lido
+     */
+    List<RegistroAcesso> ler() throws IOException {
+        ByteBuffer conteudo = ByteBuffer.allocate(Math.toIntExact(canal.size()));
+        canal.read(conteudo, 0);
+        conteudo.flip();
+        List<RegistroAcesso> registros = new ArrayList<>();
+        while (conteudo.remaining() >= CABECALHO) {
+            int inicio = conteudo.position();
+            int tamanho = conteudo.getInt();
+            int esperado = conteudo.getInt();
+            if (tamanho <= 0 || tamanho > conteudo.remaining()) {
+                conteudo.position(inicio);
+                break;
+            }
+            ByteBuffer dados = conteudo.slice(conteudo.position(), tamanho);
+            crc.reset();
+            crc.update(dados.duplicate());
+            if ((int) crc.getValue() != esperado) {
+                conteudo.position(inicio);
+                break;
+            }
+            registros.add(decodificar(dados));
+            conteudo.position(conteudo.position() + tamanho);
+        }
+        canal.truncate(conteudo.position());
+        canal.position(conteudo.position());
+        return registros;
+    }
+
+    /**
+     * Acrescenta o lote ao diário e só retorna depois de ele estar no disco.
+     *
+     * <p>
+     * Em caso de falha, o arquivo é cortado de volta ao tamanho anterior, para
+     * que um lote recusado não reapareça na recuperação.
+     * </p>
+     *
+     * @param lote registros, já com identificador
+     * @throws IOException caso a escrita ou o {@code fsync} falhem
+     */
+    void anexar(List<RegistroAcesso> lote) throws IOException {
+        ByteBuffer buffer = codificar(lote);
+        long posicao = canal.position();
+        try {
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            canal.force(false);
+        } catch (IOException e) {
+            canal.truncate(posicao);
+            canal.position(posicao);
+            throw e;
+        }
+    }
+
+    /**
+     * Substitui o diário por um novo contendo apenas os registros informados.
+     *
+     * <p>
+     * Os registros são escritos em um arquivo ao lado, forçado ao disco, que
+     * então toma o lugar do diário com uma renomeação atômica. Uma queda antes
+     * da renomeação deixa o diário anterior, que contém os mesmos registros e
+     * mais alguns já gravados no banco, reconhecidos pelo ID na recuperação.
+     * </p>
+     *
+     * @param restantes registros ainda não gravados no banco, na ordem do diário
+     * @throws IOException caso o novo arquivo não possa ser escrito; o diário atual continua em uso
+     */
+    void reescrever(List<RegistroAcesso> restantes) throws IOException {
+        Path novo = arquivo.resolveSibling(arquivo.getFileName() + ".novo");
+        FileChannel canalNovo = FileChannel.open(novo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer buffer = codificar(restantes);
+            while (buffer.hasRemaining()) {
+                canalNovo.write(buffer);
+            }
+            canalNovo.force(false);
+            Files.move(novo, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            canalNovo.close();
+            Files.deleteIfExists(novo);
+            throw e;
+        }
+        FileChannel anterior = canal;
+        canal = canalNovo;
+        anterior.close();
+    }
+
+    /**
+     * Tamanho atual do arquivo do diário.
+     *
+     * @return tamanho em bytes
+     * @throws IOException caso o tamanho não possa ser lido
+     */
+    long tamanho() throws IOException {
+        return canal.size();
+    }
+
+    private ByteBuffer codificar(List<RegistroAcesso> lote) {
+        List<byte[]> cartoes = new ArrayList<>(lote.size());
+        int total = 0;
+        for (RegistroAcesso registro : lote) {
+            byte[] cartao = registro.getIdCartao() == null
+                    ? null
+                    : registro.getIdCartao().getBytes(StandardCharsets.UTF_8);
+            cartoes.add(cartao);
+            total += CABECALHO + tamanhoDados(cartao);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        for (int i = 0; i < lote.size(); i++) {
+            byte[] cartao = cartoes.get(i);
+            int inicio = buffer.position() + CABECALHO;
+            buffer.position(inicio);
+            codificar(lote.get(i), cartao, buffer);
+            crc.reset();
+            crc.update(buffer.slice(inicio, buffer.position() - inicio));
+            buffer.putInt(inicio - CABECALHO, buffer.position() - inicio);
+            buffer.putInt(inicio - Integer.BYTES, (int) crc.getValue());
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Descarta as entradas do diário, depois que todas chegaram ao banco.
+     *
+     * <p>
+     * Não força o corte ao disco: se ele se perder em uma queda, as entradas
+     * voltam na recuperação e são reconhecidas pelo ID como já gravadas.
+     * </p>
+     *
+     * @throws IOException caso o arquivo não possa ser cortado
+     */
+    void esvaziar() throws IOException {
+        canal.truncate(0);
+        canal.position(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    private static int tamanhoDados(byte[] cartao) {
+        // id, segundos, nanos, área, permitido, motivo, tamanho do cartão, cartão
+        return Long.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES + 1 + 1 + Integer.BYTES
+                + (cartao == null ? 0 : cartao.length);
+    }
+
+    private static void codificar(RegistroAcesso registro, byte[] cartao, ByteBuffer buffer) {
+        buffer.putLong(registro.getCodigoRegistroAcesso());
+        buffer.putLong(registro.getHorario().toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(registro.getHorario().getNano());
+        buffer.putLong(registro.getCodigoArea() == null ? AREA_NULA : registro.getCodigoArea());
+        buffer.put((byte) (registro.isPermitido() ? 1 : 0));
+        buffer.put((byte) registro.getMotivo().ordinal());
+        buffer.putInt(cartao == null ? -1 : cartao.length);
+        if (cartao != null) {
+            buffer.put(cartao);
+        }
+    }
+
+    private static RegistroAcesso decodificar(ByteBuffer dados) {
+        RegistroAcesso registro = new RegistroAcesso(dados.getLong(),
+                LocalDateTime.ofEpochSecond(dados.getLong(), dados.getInt(), ZoneOffset.UTC));
+        long area = dados.getLong();
+        registro.setCodigoArea(area == AREA_NULA ? null : area);
+        registro.setPermitido(dados.get() == 1);
+        registro.setMotivo(MotivoDecisao.values()[dados.get()]);
+        int tamanhoCartao = dados.getInt();
+        if (tamanhoCartao >= 0) {
+            byte[] cartao = new byte[tamanhoCartao];
+            dados.get(cartao);
+            registro.setIdCartao(new String(cartao, StandardCharsets.UTF_8));
+        }
+        return registro;
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+
+import br.com.projeto.aeroporto.seguranca.model.TipoEventoSeguranca;
+
+import java.util.Arrays;
+
+/**
+ * Contagens deslizantes dos eventos de uma área restrita.
+ *
+ * <p>
+ * Um anel de posições de um segundo, reaproveitadas quando o segundo que
+ * guardavam sai do anel. Uma janela de {@code n} segundos soma as posições dos
+ * últimos {@code n} segundos, com precisão de um segundo. O tamanho é fixo, e
+ * a memória não depende da quantidade de eventos. Não é seguro para uso
+ * concorrente: só a thread da {@link CorrelacaoEventos} o usa.
+ * </p>
+ */
+final class JanelaArea {
+
+    private final long[] segundos;
+
+    private final int[] negados;
+
+    private final int[] permitidos;
+
+    private final int[] passagens;
+
+    private long ultimoSegundo = Long.MIN_VALUE;
+
+    private int eventos;
+
+    private long negacoesAlertadasAte;
+
+    private long caronaAlertadaAte;
+
+    /**
+     * Cria o anel.
+     *
+     * @param tamanho segundos guardados, no mínimo a maior janela consultada
+     */
+    JanelaArea(int tamanho) {
+        this.segundos = new long[tamanho];
+        this.negados = new int[tamanho];
+        this.permitidos = new int[tamanho];
+        this.passagens = new int[tamanho];
+        Arrays.fill(segundos, Long.MIN_VALUE);
+    }
+
+    /**
+     * Conta um evento no segundo informado.
+     *
+     * @param tipo    tipo do evento
+     * @param segundo segundo do evento, em segundos desde a época
+     * @return eventos descartados ao reaproveitar a posição do segundo
+     */
+    int registrar(TipoEventoSeguranca tipo, long segundo) {
+        int i = (int) Math.floorMod(segundo, (long) segundos.length);
+        int descartados = 0;
+        if (segundos[i] != segundo) {
+            descartados = negados[i] + permitidos[i] + passagens[i];
+            negados[i] = 0;
+            permitidos[i] = 0;
+            passagens[i] = 0;
+            segundos[i] = segundo;
+            eventos -= descartados;
+        }
+        switch (tipo) {
+            case ACESSO_NEGADO -> negados[i]++;
+            case ACESSO_PERMITIDO -> permitidos[i]++;
+            case PASSAGEM -> passagens[i]++;
+        }
+        eventos++;
+        ultimoSegundo = Math.max(ultimoSegundo, segundo);
+        return descartados;
+    }
+
+    int negados(long agora, int janela) {
+        return somar(negados, agora, janela);
+    }
+
+    int permitidos(long agora, int janela) {
+        return somar(permitidos, agora, janela);
+    }
+
+    int passagens(long agora, int janela) {
+        return somar(passagens, agora, janela);
+    }
+
+    /**
+     * Eventos guardados no anel, inclusive os de segundos que já saíram das
+     * janelas mas cujas posições ainda não foram reaproveitadas.
+     */
+    int eventos() {
+        return eventos;
+    }
+
+    long ultimoSegundo() {
+        return ultimoSegundo;
+    }
+
+    /**
+     * Indica se um alerta de negações pode ser emitido e, se puder, suspende
+     * novos alertas do mesmo tipo até {@code ate}.
+     */
+    boolean alertarNegacoes(long agora, long ate) {
+        if (agora < negacoesAlertadasAte) {
+            return false;
+        }
+        negacoesAlertadasAte = ate;
+        return true;
+    }
+
+    /**
+     * Indica se um alerta de carona pode ser emitido e, se puder, suspende
+     * novos alertas do mesmo tipo até {@code ate}.
+     */
+    boolean alertarCarona(long agora, long ate) {
+        if (agora < caronaAlertadaAte) {
+            return false;
+        }
+        caronaAlertadaAte = ate;
+        return true;
+    }
+
+    private int somar(int[] contadores, long agora, int janela) {
+        int soma = 0;
+        for (int i = 0; i < segundos.length; i++) {
+            if (segundos[i] <= agora && segundos[i] > agora - janela) {
+                soma += contadores[i];
+            }
+        }
+        return soma;
+    }
+}
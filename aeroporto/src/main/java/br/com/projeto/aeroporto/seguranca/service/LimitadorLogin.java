@@ -0,0 +1,197 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de tentativas de login por usuário e por endereço de origem.
+ *
+ * <p>
+ * Cada usuário e cada endereço têm um balde de fichas: uma tentativa consome
+ * uma ficha, e as fichas voltam a uma taxa fixa até a capacidade do balde.
+ * A capacidade permite uma rajada curta (senha digitada errado algumas
+ * vezes); a recarga limita a vazão de quem insiste. Os dois baldes precisam
+ * ter ficha: o do endereço segura a varredura de muitos usuários a partir da
+ * mesma origem, e o do usuário, a tentativa de várias senhas para a mesma
+ * conta a partir de origens diferentes.
+ * </p>
+ *
+ * <p>
+ * O endereço é o que o servlet informa: atrás de um balanceador ou proxy, só
+ * é o do cliente com {@code server.forward-headers-strategy} configurado;
+ * sem isso, todos os logins compartilhariam o balde do proxy. Capacidade
+ * {@code 0} por endereço desliga essa regra e deixa só a por usuário.
+ * </p>
+ *
+ * <p>
+ * Os baldes ficam divididos em {@value #FAIXAS} faixas, cada uma com o seu
+ * lock, pelo hash da chave: tentativas de usuários diferentes raramente
+ * disputam o mesmo lock. Cada faixa guarda no máximo
+ * {@code MAXIMO_BALDES / FAIXAS} baldes, descartando o usado há mais tempo;
+ * um balde descartado volta cheio, como um usuário que não tentou nada.
+ * </p>
+ */
+@Component
+public class LimitadorLogin {
+
+    /**
+     * Quantidade de faixas (potência de 2).
+     */
+    static final int FAIXAS = 64;
+
+    /**
+     * Baldes guardados ao mesmo tempo, somando usuários e endereços.
+     */
+    static final int MAXIMO_BALDES = 200_000;
+
+    private final Regra porUsuario;
+
+    /**
+     * Regra por endereço; {@code null} quando desligada.
+     */
+    private final Regra porEndereco;
+
+    private final Faixa[] faixas = new Faixa[FAIXAS];
+
+    /**
+     * Fonte do instante atual, em nanossegundos, usada na recarga dos baldes.
+     */
+    private final LongSupplier relogio;
+
+    /**
+     * Construtor da classe {@code LimitadorLogin}.
+     *
+     * @param registry            registro de métricas da aplicação
+     * @param capacidadeUsuario   tentativas seguidas permitidas por usuário
+     * @param recargaUsuario      segundos para o usuário recuperar uma tentativa
+     * @param capacidadeEndereco  tentativas seguidas permitidas por endereço; {@code 0} desliga a regra
+     * @param recargaEndereco     segundos para o endereço recuperar uma tentativa
+     */
+    @Autowired
+    public LimitadorLogin(MeterRegistry registry,
+                          @Value("${aeroporto.seguranca.login.usuario.capacidade:5}") int capacidadeUsuario,
+                          @Value("${aeroporto.seguranca.login.usuario.recarga-s:12}") int recargaUsuario,
+                          @Value("${aeroporto.seguranca.login.endereco.capacidade:30}") int capacidadeEndereco,
+                          @Value("${aeroporto.seguranca.login.endereco.recarga-s:2}") int recargaEndereco) {
+        this(registry, capacidadeUsuario, recargaUsuario, capacidadeEndereco, recargaEndereco, System::nanoTime);
+    }
+
+    /**
+     * Construtor com a fonte do instante atual, para os testes avançarem o tempo.
+     *
+     * @param relogio instante atual, em nanossegundos (como {@link System#nanoTime()})
+     */
+    LimitadorLogin(MeterRegistry registry, int capacidadeUsuario, int recargaUsuario, int capacidadeEndereco,
+                   int recargaEndereco, LongSupplier relogio) {
+        this.relogio = relogio;
+        this.porUsuario = new Regra(capacidadeUsuario, TimeUnit.SECONDS.toNanos(recargaUsuario));
+        this.porEndereco = capacidadeEndereco > 0
+                ? new Regra(capacidadeEndereco, TimeUnit.SECONDS.toNanos(recargaEndereco)) : null;
+        for (int i = 0; i < FAIXAS; i++) {
+            faixas[i] = new Faixa(MAXIMO_BALDES / FAIXAS);
+        }
+        Gauge.builder("aeroporto.login.baldes", this, LimitadorLogin::baldes)
+                .description("Usuários e endereços com tentativas de login acompanhadas").register(registry);
+    }
+
+    /**
+     * Consome uma tentativa do endereço (se a regra estiver ligada) e uma do usuário.
+     *
+     * @param username usuário informado (sem distinção de maiúsculas)
+     * @param endereco endereço de origem da requisição
+     * @return {@code 0} se a tentativa pode seguir; senão, segundos até haver tentativa disponível
+     */
+    public long tentar(String username, String endereco) {
+        long agora = relogio.getAsLong();
+        if (porEndereco != null) {
+            long espera = consumir("e:" + endereco, porEndereco, agora);
+            if (espera > 0) {
+                return espera;
+            }
+        }
+        return consumir("u:" + username.toLowerCase(Locale.ROOT), porUsuario, agora);
+    }
+
+    private long consumir(String chave, Regra regra, long agora) {
+        int h = chave.hashCode();
+        Faixa faixa = faixas[(h ^ (h >>> 16)) & (FAIXAS - 1)];
+        faixa.lock.lock();
+        try {
+            Balde balde = faixa.baldes.get(chave);
+            if (balde == null) {
+                balde = new Balde(regra.capacidade, agora);
+                faixa.baldes.put(chave, balde);
+            } else {
+                balde.fichas = Math.min(regra.capacidade,
+                        balde.fichas + (double) (agora - balde.atualizadoEm) / regra.nanosPorFicha);
+                balde.atualizadoEm = agora;
+            }
+            if (balde.fichas >= 1) {
+                balde.fichas -= 1;
+                return 0;
+            }
+            double segundos = (1 - balde.fichas) * regra.nanosPorFicha / TimeUnit.SECONDS.toNanos(1);
+            return Math.max(1, (long) Math.ceil(segundos));
+        } finally {
+            faixa.lock.unlock();
+        }
+    }
+
+    private int baldes() {
+        int total = 0;
+        for (Faixa faixa : faixas) {
+            faixa.lock.lock();
+            try {
+                total += faixa.baldes.size();
+            } finally {
+                faixa.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    private record Regra(int capacidade, long nanosPorFicha) {
+    }
+
+    private static final class Balde {
+
+        private double fichas;
+
+        private long atualizadoEm;
+
+        private Balde(double fichas, long atualizadoEm) {
+            this.fichas = fichas;
+            this.atualizadoEm = atualizadoEm;
+        }
+    }
+
+    /**
+     * Baldes de uma faixa, em ordem de uso, com o lock que os protege.
+     */
+    private static final class Faixa {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Map<String, Balde> baldes;
+
+        private Faixa(int maximo) {
+            this.baldes = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Balde> maisAntigo) {
+                    return size() > maximo;
+                }
+            };
+        }
+    }
+}
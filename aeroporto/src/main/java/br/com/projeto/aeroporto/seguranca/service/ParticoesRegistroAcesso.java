@@ -0,0 +1,61 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+
+import br.com.projeto.aeroporto.seguranca.out.RegistroAcessoRepositoryPort;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Cria com antecedência as partições diárias da tabela {@code registro_acesso}.
+ *
+ * <p>
+ * As partições dos próximos {@value #DIAS_ANTECEDENCIA} dias são criadas na
+ * inicialização (antes de o {@link RegistradorAcessos} começar a gravar) e
+ * todo dia de madrugada. Registros de um dia sem partição caem na partição
+ * padrão, criada junto com a tabela; a partição daquele dia deixa então de
+ * poder ser criada, o que é registrado no log.
+ * </p>
+ */
+@Component
+public class ParticoesRegistroAcesso {
+
+    private static final Logger log = LoggerFactory.getLogger(ParticoesRegistroAcesso.class);
+
+    /**
+     * Dias à frente com partição garantida.
+     */
+    static final int DIAS_ANTECEDENCIA = 7;
+
+    private final RegistroAcessoRepositoryPort repository;
+
+    /**
+     * Construtor da classe {@code ParticoesRegistroAcesso}.
+     *
+     * @param repository porta do log de registros de acesso
+     */
+    public ParticoesRegistroAcesso(RegistroAcessoRepositoryPort repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Cria as partições de hoje e dos próximos {@value #DIAS_ANTECEDENCIA} dias que ainda não existirem.
+     */
+    @PostConstruct
+    @Scheduled(cron = "0 30 2 * * *")
+    public void criarParticoes() {
+        LocalDate hoje = LocalDate.now();
+        for (int i = 0; i <= DIAS_ANTECEDENCIA; i++) {
+            LocalDate dia = hoje.plusDays(i);
+            try {
+                repository.criarParticao(dia);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao criar a partição de registros de acesso de {}", dia, e);
+            }
+        }
+    }
+}
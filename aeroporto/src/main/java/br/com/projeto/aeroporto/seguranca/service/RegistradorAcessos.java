@@ -0,0 +1,434 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+
+import br.com.projeto.aeroporto.seguranca.model.RegistroAcesso;
+import br.com.projeto.aeroporto.seguranca.out.RegistroAcessoRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gravação em grupo (group commit) dos registros de acesso.
+ *
+ * <p>
+ * As portas entregam os registros a uma fila sem bloqueio
+ * ({@link ConcurrentLinkedQueue}); uma única thread retira até
+ * {@value #TAMANHO_LOTE} registros por vez, atribui os IDs e os grava no banco
+ * em uma transação, em lotes JDBC. Diferente do
+ * {@link br.com.projeto.aeroporto.comum.GravadorEmLote}, a fila não tem trava
+ * e, quando cheia, a passagem é recusada em vez de gravada na thread da porta.
+ * Em caso de falha do banco, os registros ficam pendentes e a gravação é
+ * tentada de novo após {@value #PAUSA_FALHA_MS} ms.
+ * </p>
+ *
+ * <p>
+ * Um lote recusado é dividido ao meio, e as metades são tentadas em seguida,
+ * até isolar os registros que o banco não aceita (um {@code idCartao} longo
+ * demais, por exemplo). Um registro isolado que falha com o banco respondendo
+ * vai para a tabela {@code registro_acesso_rejeitado} (ou, se nem ela aceitar,
+ * para o log de erros) e deixa de bloquear os seguintes; com o banco fora do
+ * ar, continua pendente. Depois de cada lote gravado, o tamanho dobra até
+ * voltar a {@value #TAMANHO_LOTE}.
+ * </p>
+ *
+ * <p>
+ * Modos ({@code aeroporto.acesso.registros.modo}):
+ * <ul>
+ *   <li><b>memoria</b> - a porta não espera a gravação. Registros ainda na
+ *   memória são perdidos se o processo cair.</li>
+ *   <li><b>diario</b> - cada lote é antes acrescentado a um
+ *   {@link DiarioRegistros} local com {@code fsync}, e a porta só é liberada
+ *   depois disso; as passagens que chegam durante um {@code fsync} seguem
+ *   juntas no próximo. Na inicialização, as entradas do diário são regravadas,
+ *   ignorando as que já estavam no banco, e nenhuma passagem confirmada se
+ *   perde. É o modo padrão.</li>
+ * </ul>
+ * O diário é esvaziado quando todos os registros chegam ao banco; sob tráfego
+ * contínuo isso pode não acontecer, e, depois de passar de
+ * {@value #TAMANHO_MAXIMO_DIARIO} bytes, ele é reescrito só com os registros
+ * ainda não gravados.
+ * </p>
+ *
+ * <p>
+ * Os IDs são gerados aqui, sem consultar o banco, para que o diário funcione
+ * mesmo com o banco fora do ar: milissegundos desde {@link #EPOCA_MS}, número
+ * da instância ({@code aeroporto.acesso.registros.instancia}, de 0 a 1023,
+ * distinto em cada instância) e uma sequência de 12 bits dentro do
+ * milissegundo.
+ * </p>
+ */
+@Component
+@DependsOn("particoesRegistroAcesso")
+public class RegistradorAcessos {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistradorAcessos.class);
+
+    /**
+     * Registros por escrita no diário e por transação no banco.
+     */
+    static final int TAMANHO_LOTE = 1000;
+
+    /**
+     * Registros aguardando gravação no banco a partir dos quais novas passagens são recusadas.
+     */
+    static final int CAPACIDADE = 100_000;
+
+    /**
+     * Pausa após uma falha de gravação no banco.
+     */
+    static final long PAUSA_FALHA_MS = 1000;
+
+    /**
+     * Espera máxima, no modo {@code diario}, pela escrita no diário.
+     */
+    static final long ESPERA_DIARIO_MS = 10_000;
+
+    /**
+     * Tamanho do diário a partir do qual ele é reescrito sem os registros já gravados.
+     */
+    static final long TAMANHO_MAXIMO_DIARIO = 16L * 1024 * 1024;
+
+    /**
+     * Início da contagem de tempo dos IDs (2026-01-01T00:00:00Z).
+     */
+    static final long EPOCA_MS = 1_767_225_600_000L;
+
+    private static final int BITS_SEQUENCIA = 12;
+
+    private static final int BITS_INSTANCIA = 10;
+
+    private static final long MAXIMO_SEQUENCIA = (1L << BITS_SEQUENCIA) - 1;
+
+    private final RegistroAcessoRepositoryPort repository;
+
+    private final boolean duravel;
+
+    private final Path arquivoDiario;
+
+    private final long instancia;
+
+    private final ConcurrentLinkedQueue<Pendente> fila = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Registros aceitos e ainda não gravados no banco (na fila ou em {@link #naoGravados}).
+     */
+    private final AtomicInteger pendentes = new AtomicInteger();
+
+    private final Counter gravados;
+
+    private final Counter recusados;
+
+    private final Counter rejeitados;
+
+    // Estado exclusivo da thread de gravação.
+    private final List<RegistroAcesso> naoGravados = new ArrayList<>();
+
+    private int recuperadosRestantes;
+
+    private DiarioRegistros diario;
+
+    private long ultimoMs;
+
+    private long sequencia;
+
+    private long retomarEm = System.nanoTime();
+
+    private int tamanhoTentativa = TAMANHO_LOTE;
+
+    private volatile boolean ativo;
+
+    private volatile Thread trabalhador;
+
+    /**
+     * Construtor da classe {@code RegistradorAcessos}.
+     *
+     * @param repository    porta do log de registros de acesso
+     * @param registry      registro de métricas da aplicação
+     * @param modo          {@code memoria} ou {@code diario}
+     * @param arquivoDiario caminho do diário, usado no modo {@code diario}
+     * @param instancia     número desta instância, de 0 a 1023
+     */
+    public RegistradorAcessos(RegistroAcessoRepositoryPort repository, MeterRegistry registry,
+                              @Value("${aeroporto.acesso.registros.modo:diario}") String modo,
+                              @Value("${aeroporto.acesso.registros.diario:dados/registro-acesso.diario}") String arquivoDiario,
+                              @Value("${aeroporto.acesso.registros.instancia:0}") int instancia) {
+        if (!"memoria".equals(modo) && !"diario".equals(modo)) {
+            throw new RuntimeException("Modo de registro de acessos inválido: " + modo);
+        }
+        if (instancia < 0 || instancia >= 1 << BITS_INSTANCIA) {
+            throw new RuntimeException("Instância do registro de acessos inválida: " + instancia);
+        }
+        this.repository = repository;
+        this.duravel = "diario".equals(modo);
+        this.arquivoDiario = Path.of(arquivoDiario);
+        this.instancia = instancia;
+        this.gravados = Counter.builder("aeroporto.acesso.registros.gravados")
+                .description("Registros de acesso gravados no banco").register(registry);
+        this.recusados = Counter.builder("aeroporto.acesso.registros.recusados")
+                .description("Passagens recusadas por excesso de registros pendentes").register(registry);
+        this.rejeitados = Counter.builder("aeroporto.acesso.registros.rejeitados")
+                .description("Registros de acesso recusados pelo banco e desviados para registro_acesso_rejeitado")
+                .register(registry);
+        Gauge.builder("aeroporto.acesso.registros.pendentes", pendentes, AtomicInteger::get)
+                .description("Registros de acesso aguardando gravação no banco").register(registry);
+    }
+
+    /**
+     * Entrega um registro para gravação.
+     *
+     * <p>
+     * No modo {@code diario}, só retorna depois de o registro estar no diário.
+     * </p>
+     *
+     * @param registro registro sem identificador
+     * @throws RegistroAcessoIndisponivelException caso haja registros pendentes demais, o
+     *                                             registrador esteja encerrado ou a escrita no diário falhe
+     */
+    public void registrar(RegistroAcesso registro) {
+        if (!ativo) {
+            throw new RegistroAcessoIndisponivelException("Registro de acessos encerrado");
+        }
+        if (pendentes.incrementAndGet() > CAPACIDADE) {
+            pendentes.decrementAndGet();
+            recusados.increment();
+            throw new RegistroAcessoIndisponivelException("Registro de acessos sobrecarregado");
+        }
+        Pendente pendente = new Pendente(registro, duravel ? new CompletableFuture<>() : null);
+        fila.add(pendente);
+        LockSupport.unpark(trabalhador);
+        if (pendente.noDiario() != null) {
+            aguardar(pendente.noDiario());
+        }
+    }
+
+    /**
+     * Registros aceitos e ainda não gravados no banco.
+     *
+     * @return registros pendentes
+     */
+    public int pendentes() {
+        return pendentes.get();
+    }
+
+    @PostConstruct
+    void iniciar() throws IOException {
+        if (duravel) {
+            diario = new DiarioRegistros(arquivoDiario);
+            List<RegistroAcesso> recuperados = diario.ler();
+            if (!recuperados.isEmpty()) {
+                log.info("Recuperados {} registros de acesso do diário {}", recuperados.size(), arquivoDiario);
+                naoGravados.addAll(recuperados);
+                recuperadosRestantes = recuperados.size();
+                pendentes.addAndGet(recuperados.size());
+                for (RegistroAcesso registro : recuperados) {
+                    ultimoMs = Math.max(ultimoMs,
+                            (registro.getCodigoRegistroAcesso() >>> (BITS_SEQUENCIA + BITS_INSTANCIA)) + EPOCA_MS + 1);
+                }
+            }
+        }
+        ativo = true;
+        trabalhador = new Thread(this::executar, "registrador-acessos");
+        trabalhador.setDaemon(true);
+        trabalhador.start();
+    }
+
+    @PreDestroy
+    void encerrar() throws InterruptedException, IOException {
+        ativo = false;
+        LockSupport.unpark(trabalhador);
+        trabalhador.join(TimeUnit.SECONDS.toMillis(5));
+        if (!naoGravados.isEmpty() || !fila.isEmpty()) {
+            log.warn("Encerrando com {} registros de acesso não gravados no banco{}", pendentes.get(),
+                    duravel ? "; serão recuperados do diário" : "");
+        }
+        if (diario != null && !trabalhador.isAlive()) {
+            diario.close();
+        }
+    }
+
+    private void executar() {
+        List<Pendente> lote = new ArrayList<>(TAMANHO_LOTE);
+        while (ativo || !fila.isEmpty()) {
+            Pendente pendente;
+            while (lote.size() < TAMANHO_LOTE && (pendente = fila.poll()) != null) {
+                lote.add(pendente);
+            }
+            if (!lote.isEmpty()) {
+                aceitar(lote);
+                lote.clear();
+            }
+            boolean continuar = gravar();
+            if (!continuar && ativo && fila.isEmpty()) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(PAUSA_FALHA_MS));
+            }
+        }
+        while (gravar()) {
+            // Encerramento: grava o que restou enquanto o banco aceitar.
+        }
+    }
+
+    /**
+     * Atribui os IDs e, no modo {@code diario}, escreve o lote no diário e
+     * libera as portas que o aguardavam.
+     */
+    private void aceitar(List<Pendente> lote) {
+        List<RegistroAcesso> registros = new ArrayList<>(lote.size());
+        for (Pendente pendente : lote) {
+            pendente.registro().setCodigoRegistroAcesso(proximoId());
+            registros.add(pendente.registro());
+        }
+        if (duravel) {
+            try {
+                diario.anexar(registros);
+            } catch (IOException | RuntimeException e) {
+                log.error("Falha ao escrever {} registros de acesso no diário", registros.size(), e);
+                pendentes.addAndGet(-registros.size());
+                lote.forEach(pendente -> pendente.noDiario().completeExceptionally(e));
+                return;
+            }
+            lote.forEach(pendente -> pendente.noDiario().complete(null));
+        }
+        naoGravados.addAll(registros);
+    }
+
+    /**
+     * Grava no banco o próximo lote de registros pendentes e, quando não resta
+     * nenhum, esvazia o diário.
+     *
+     * @return {@code true} se houve progresso e a próxima tentativa pode ser
+     * imediata (lote gravado, dividido ou registro rejeitado)
+     */
+    private boolean gravar() {
+        if (naoGravados.isEmpty() || System.nanoTime() - retomarEm < 0) {
+            return false;
+        }
+        List<RegistroAcesso> lote = naoGravados.subList(0, Math.min(tamanhoTentativa, naoGravados.size()));
+        int quantidade = lote.size();
+        try {
+            List<RegistroAcesso> novos = lote;
+            if (recuperadosRestantes > 0) {
+                Set<Long> existentes = new HashSet<>(repository.listarExistentes(lote));
+                novos = lote.stream().filter(r -> !existentes.contains(r.getCodigoRegistroAcesso())).toList();
+            }
+            if (!novos.isEmpty()) {
+                repository.incluirTodos(novos);
+            }
+            gravados.increment(novos.size());
+        } catch (RuntimeException e) {
+            if (quantidade > 1) {
+                tamanhoTentativa = quantidade / 2;
+                log.warn("Falha ao gravar {} registros de acesso; nova tentativa em lotes de {}",
+                        quantidade, tamanhoTentativa, e);
+                return true;
+            }
+            if (!bancoDisponivel(lote)) {
+                log.warn("Falha ao gravar registros de acesso; nova tentativa em {} ms", PAUSA_FALHA_MS, e);
+                retomarEm = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(PAUSA_FALHA_MS);
+                return false;
+            }
+            rejeitar(lote.get(0), e);
+        }
+        concluir(lote, quantidade);
+        tamanhoTentativa = Math.min(TAMANHO_LOTE, tamanhoTentativa * 2);
+        return true;
+    }
+
+    private void concluir(List<RegistroAcesso> lote, int quantidade) {
+        lote.clear();
+        recuperadosRestantes = Math.max(0, recuperadosRestantes - quantidade);
+        pendentes.addAndGet(-quantidade);
+        if (!duravel) {
+            return;
+        }
+        try {
+            if (naoGravados.isEmpty()) {
+                diario.esvaziar();
+            } else if (diario.tamanho() > TAMANHO_MAXIMO_DIARIO) {
+                diario.reescrever(naoGravados);
+            }
+        } catch (IOException e) {
+            log.warn("Falha ao descartar do diário os registros de acesso já gravados", e);
+        }
+    }
+
+    /**
+     * Distingue um registro recusado de um banco fora do ar: uma consulta
+     * simples, que não depende do conteúdo do registro, precisa funcionar.
+     */
+    private boolean bancoDisponivel(List<RegistroAcesso> lote) {
+        try {
+            repository.listarExistentes(lote);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void rejeitar(RegistroAcesso registro, RuntimeException erro) {
+        rejeitados.increment();
+        log.error("Registro de acesso {} recusado pelo banco (cartão {}, área {}, {} em {})",
+                registro.getCodigoRegistroAcesso(), registro.getIdCartao(), registro.getCodigoArea(),
+                registro.getResultado(), registro.getHorario(), erro);
+        try {
+            repository.rejeitar(registro, String.valueOf(erro));
+        } catch (RuntimeException e) {
+            log.error("Falha ao guardar o registro de acesso {} em registro_acesso_rejeitado",
+                    registro.getCodigoRegistroAcesso(), e);
+        }
+    }
+
+    private long proximoId() {
+        long agora = Math.max(System.currentTimeMillis(), ultimoMs);
+        if (agora == ultimoMs) {
+            if (++sequencia > MAXIMO_SEQUENCIA) {
+                // Sequência do milissegundo esgotada: avança para o próximo.
+                agora = ++ultimoMs;
+                sequencia = 0;
+            }
+        } else {
+            ultimoMs = agora;
+            sequencia = 0;
+        }
+        return (agora - EPOCA_MS) << (BITS_SEQUENCIA + BITS_INSTANCIA) | instancia << BITS_SEQUENCIA | sequencia;
+    }
+
+    private static void aguardar(CompletableFuture<Void> noDiario) {
+        try {
+            noDiario.get(ESPERA_DIARIO_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RegistroAcessoIndisponivelException("Registro de acesso interrompido", e);
+        } catch (ExecutionException e) {
+            throw new RegistroAcessoIndisponivelException("Falha ao registrar acesso", e.getCause());
+        } catch (TimeoutException e) {
+            throw new RegistroAcessoIndisponivelException("Registro de acesso sem confirmação do diário", e);
+        }
+    }
+
+    /**
+     * Registro na fila e, no modo {@code diario}, a confirmação da escrita no diário.
+     */
+    private record Pendente(RegistroAcesso registro, CompletableFuture<Void> noDiario) {
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+/**
+ * A passagem não pôde ser registrada no log de acessos: registros pendentes
+ * demais, registrador encerrado ou falha na escrita do diário.
+ *
+ * <p>
+ * Sem registro, a passagem não é liberada (falha fechada): o
+ * {@code AcessoController} responde {@code 503}, e a porta continua
+ * trancada até uma nova tentativa.
+ * </p>
+ */
+public class RegistroAcessoIndisponivelException extends RuntimeException {
+
+    public RegistroAcessoIndisponivelException(String mensagem) {
+        super(mensagem);
+    }
+
+    public RegistroAcessoIndisponivelException(String mensagem, Throwable causa) {
+        super(mensagem, causa);
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+
+import br.com.projeto.aeroporto.seguranca.in.RegistroAcessoUseCase;
+import br.com.projeto.aeroporto.seguranca.model.ContagemMotivo;
+import br.com.projeto.aeroporto.seguranca.model.MotivoDecisao;
+import br.com.projeto.aeroporto.seguranca.model.RegistroAcesso;
+import br.com.projeto.aeroporto.seguranca.model.ResumoAcessos;
+import br.com.projeto.aeroporto.seguranca.out.RegistroAcessoRepositoryPort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consultas ao log de registros de acesso, sempre por intervalo de horário.
+ *
+ * <p>
+ * Registros ainda na fila do {@link RegistradorAcessos} não aparecem nas
+ * consultas até serem gravados.
+ * </p>
+ */
+@Service
+public class RegistroAcessoService implements RegistroAcessoUseCase {
+
+    /**
+     * Quantidade máxima de registros devolvidos por consulta.
+     */
+    static final int LIMITE_MAXIMO = 10_000;
+
+    private final RegistroAcessoRepositoryPort repository;
+
+    public RegistroAcessoService(RegistroAcessoRepositoryPort repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RuntimeException caso o início não seja anterior ao fim
+     */
+    @Override
+    public List<RegistroAcesso> listar(LocalDateTime inicio, LocalDateTime fim, String idCartao, int limite) {
+        validarPeriodo(inicio, fim);
+        return repository.listar(inicio, fim, idCartao, Math.max(1, Math.min(limite, LIMITE_MAXIMO)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RuntimeException caso o início não seja anterior ao fim
+     */
+    @Override
+    public ResumoAcessos resumir(LocalDateTime inicio, LocalDateTime fim) {
+        validarPeriodo(inicio, fim);
+        Map<MotivoDecisao, Long> porMotivo = new EnumMap<>(MotivoDecisao.class);
+        long permitidos = 0;
+        long negados = 0;
+        for (ContagemMotivo contagem : repository.contarPorMotivo(inicio, fim)) {
+            porMotivo.put(contagem.motivo(), contagem.quantidade());
+            if (contagem.motivo() == MotivoDecisao.PERMITIDO) {
+                permitidos += contagem.quantidade();
+            } else {
+                negados += contagem.quantidade();
+            }
+        }
+        return new ResumoAcessos(inicio, fim, permitidos, negados, porMotivo);
+    }
+
+    private static void validarPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        if (!inicio.isBefore(fim)) {
+            throw new RuntimeException("Período inválido");
+        }
+    }
+}
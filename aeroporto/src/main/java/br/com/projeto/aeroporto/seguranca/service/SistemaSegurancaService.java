@@ -1,20 +1,58 @@
 package br.com.projeto.aeroporto.seguranca.service;
 
 
+import br.com.projeto.aeroporto.seguranca.model.EventoSeguranca;
 import br.com.projeto.aeroporto.seguranca.model.Usuario;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class SistemaSegurancaService {
 
+ private final CorrelacaoEventos correlacao;
+
+ /**
+  * Construtor da classe {@code SistemaSegurancaService}.
+  *
+  * @param correlacao correlação dos eventos em janelas por área
+  */
+ public SistemaSegurancaService(CorrelacaoEventos correlacao)
+ {
+     this.correlacao = correlacao;
+ }
+
  public Boolean verificarCredenciais(Usuario usuario)
  {
 
      return null;
  }
 
- public void registrarEvento(String evento)
+ /**
+  * Entrega um evento à correlação, sem bloquear.
+  *
+  * @param evento evento de segurança de uma área
+  * @return {@code false} se o evento foi descartado (fila cheia ou evento incompleto)
+  */
+ public boolean registrarEvento(EventoSeguranca evento)
  {
+     return correlacao.registrar(evento);
+ }
 
+ /**
+  * Entrega vários eventos à correlação, sem bloquear.
+  *
+  * @param eventos eventos de segurança
+  * @return quantidade de eventos aceitos
+  */
+ public int registrarEventos(List<EventoSeguranca> eventos)
+ {
+     int aceitos = 0;
+     for (EventoSeguranca evento : eventos) {
+         if (correlacao.registrar(evento)) {
+             aceitos++;
+         }
+     }
+     return aceitos;
  }
 }
@@ -1,9 +1,59 @@
 package br.com.projeto.aeroporto.seguranca.service;
 
+import br.com.projeto.aeroporto.seguranca.model.Usuario;
+import br.com.projeto.aeroporto.seguranca.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
 @Service
-public class UsuarioService{
+public class UsuarioService implements UserDetailsService {
+
+    /**
+     * Usuários inexistentes lembrados ao mesmo tempo.
+     */
+    static final int MAXIMO_AUSENTES = 100_000;
+
+    private final UserRepository repository;
+
+    private final Cache<String, Boolean> ausentes;
+
+    /**
+     * Construtor da classe {@code UsuarioService}.
+     *
+     * <p>
+     * Os nomes sem usuário cadastrado ficam em um cache negativo por
+     * {@code aeroporto.seguranca.login.ausentes-ttl-s} segundos: uma rajada de
+     * tentativas com nomes inventados consulta o banco uma vez por nome, sem
+     * esgotar o pool de conexões. Um usuário gravado por {@link #salvar(Usuario)}
+     * sai do cache na hora.
+     * </p>
+     *
+     * @param repository   repositório dos usuários
+     * @param registry     registro de métricas da aplicação
+     * @param ausentesTtlS segundos que um nome inexistente fica no cache negativo; {@code 0} desliga
+     */
+    public UsuarioService(UserRepository repository, MeterRegistry registry,
+                          @Value("${aeroporto.seguranca.login.ausentes-ttl-s:60}") long ausentesTtlS) {
+        this.repository = repository;
+        this.ausentes = Caffeine.newBuilder()
+                .maximumSize(ausentesTtlS > 0 ? MAXIMO_AUSENTES : 0)
+                .expireAfterWrite(Duration.ofSeconds(Math.max(1, ausentesTtlS)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, ausentes, "usuarios-ausentes");
+    }
 
     // «passageiro», «funcionário», «visitante»
     public String tipo()
@@ -11,18 +61,39 @@ public class UsuarioService{
 
         return "";
     }
-/*
-    @Autowired
-    private UserRepository repository;
 
+    /**
+     * Grava o usuário e o retira do cache negativo, para que possa entrar
+     * logo depois de cadastrado.
+     *
+     * @param usuario usuário a gravar
+     * @return usuário gravado
+     */
+    public Usuario salvar(Usuario usuario) {
+        Usuario salvo = repository.save(usuario);
+        if (salvo.getUsername() != null) {
+            ausentes.invalidate(salvo.getUsername());
+        }
+        return salvo;
+    }
+
+    /**
+     * Carrega o usuário para o login e para os tokens ainda fora do cache do
+     * {@code JwtFilter}.
+     *
+     * @param username nome de usuário
+     * @return usuário com o hash da senha
+     */
     @Override
     public UserDetails loadUserByUsername(String username) {
-        User user = repository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(), user.getPassword(), new ArrayList<>());
+        if (ausentes.getIfPresent(username) != null) {
+            throw new UsernameNotFoundException("Usuário não encontrado");
+        }
+        Optional<Usuario> usuario = repository.findByUsername(username);
+        if (usuario.isEmpty()) {
+            ausentes.put(username, Boolean.TRUE);
+            throw new UsernameNotFoundException("Usuário não encontrado");
+        }
+        return new User(usuario.get().getUsername(), usuario.get().getPassword(), List.of());
     }
-
- */
-
 }
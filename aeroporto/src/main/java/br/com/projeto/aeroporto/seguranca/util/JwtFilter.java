@@ -1,53 +1,194 @@
 package br.com.projeto.aeroporto.seguranca.util;
 
+import br.com.projeto.aeroporto.seguranca.model.TokenVerificado;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.stereotype.Component;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
-@Component
+/**
+ * Autenticação das requisições pelo token JWT do cabeçalho {@code Authorization}.
+ *
+ * <p>
+ * Verificar o token e carregar o usuário do banco a cada requisição custaria
+ * um HMAC, a leitura do JSON e uma consulta por chamada. Depois da primeira
+ * verificação, a autenticação fica em um cache limitado, indexado pelo
+ * SHA-256 do token, e as requisições seguintes com o mesmo token custam um
+ * hash e uma consulta em memória. Cada entrada sai do cache quando o token
+ * vence; um usuário excluído ou alterado continua autenticado pelo token já
+ * emitido até lá, como aconteceria sem o cache.
+ * </p>
+ *
+ * <p>
+ * Não é um {@code @Component}: é criado pelo {@link SecurityConfig} e
+ * registrado só na cadeia do Spring Security, para não rodar duas vezes.
+ * </p>
+ */
 public class JwtFilter extends OncePerRequestFilter {
+
+    private static final String PREFIXO = "Bearer ";
+
+    /**
+     * Instâncias de SHA-256 reaproveitadas entre requisições (as threads são
+     * virtuais, uma por requisição: um {@code ThreadLocal} não reaproveitaria).
+     */
+    private static final Queue<MessageDigest> SHA256 = new ConcurrentLinkedQueue<>();
+
+    private final JwtUtil jwtUtil;
+
+    private final UserDetailsService usuarios;
+
+    private final Cache<HashToken, Autenticado> autenticados;
+
+    /**
+     * Construtor da classe {@code JwtFilter}.
+     *
+     * @param jwtUtil    emissor e verificador dos tokens
+     * @param usuarios   carregador dos usuários
+     * @param capacidade tokens mantidos no cache; {@code 0} desliga o cache
+     * @param registry   registro de métricas da aplicação
+     */
+    public JwtFilter(JwtUtil jwtUtil, UserDetailsService usuarios, int capacidade, MeterRegistry registry) {
+        this.jwtUtil = jwtUtil;
+        this.usuarios = usuarios;
+        if (capacidade > 0) {
+            this.autenticados = Caffeine.newBuilder()
+                    .maximumSize(capacidade)
+                    .expireAfter(new ExpiraComToken())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(registry, autenticados, "jwt");
+        } else {
+            this.autenticados = null;
+        }
+    }
+
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(PREFIXO)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            Authentication autenticacao = autenticar(header.substring(PREFIXO.length()));
+            if (autenticacao != null) {
+                SecurityContext contexto = SecurityContextHolder.createEmptyContext();
+                contexto.setAuthentication(autenticacao);
+                SecurityContextHolder.setContext(contexto);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Authentication autenticar(String token) {
+        if (autenticados == null) {
+            Autenticado autenticado = verificar(token);
+            return autenticado == null ? null : autenticado.autenticacao();
+        }
+        HashToken hash = HashToken.de(token);
+        Autenticado autenticado = autenticados.getIfPresent(hash);
+        // A expiração do cache não é exata: confere também a validade do token.
+        if (autenticado == null || !autenticado.expiraEm().isAfter(Instant.now())) {
+            autenticado = verificar(token);
+            if (autenticado == null) {
+                return null;
+            }
+            autenticados.put(hash, autenticado);
+        }
+        return autenticado.autenticacao();
+    }
 
+    private Autenticado verificar(String token) {
+        TokenVerificado verificado = jwtUtil.verificar(token).orElse(null);
+        if (verificado == null) {
+            return null;
+        }
+        UserDetails usuario;
+        try {
+            usuario = usuarios.loadUserByUsername(verificado.username());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+        if (!usuario.isEnabled() || !usuario.isAccountNonLocked()) {
+            return null;
+        }
+        // O hash da senha não fica no cache.
+        if (usuario instanceof CredentialsContainer credenciais) {
+            credenciais.eraseCredentials();
+        }
+        // Sem detalhes da requisição: a mesma instância serve a todas as requisições do token.
+        return new Autenticado(UsernamePasswordAuthenticationToken.authenticated(
+                usuario, null, usuario.getAuthorities()), verificado.expiraEm());
     }
 
-    /*
-    @Autowired
-    private JwtUtil jwtUtil;
-    @Autowired
-    private UserService userService;
+    /**
+     * SHA-256 do token, em quatro {@code long}: chave de tamanho fixo, sem
+     * guardar o token em si.
+     */
+    private record HashToken(long a, long b, long c, long d) {
 
-    @Override
-    protected void doFilterInternal(HttpServletRequest request,
-                                    HttpServletResponse response,
-                                    FilterChain filterChain)
-            throws ServletException, IOException {
-
-        String header = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
-
-        if (header != null && header.startsWith("Bearer ")) {
-            token = header.substring(7);
-            username = jwtUtil.extractUsername(token);
-        }
-
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userService.loadUserByUsername(username);
-            if (jwtUtil.validateToken(token)) {
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+        static HashToken de(String token) {
+            MessageDigest sha256 = SHA256.poll();
+            if (sha256 == null) {
+                try {
+                    sha256 = MessageDigest.getInstance("SHA-256");
+                } catch (NoSuchAlgorithmException e) {
+                    throw new RuntimeException("SHA-256 indisponível", e);
+                }
+            }
+            try {
+                ByteBuffer hash = ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+                return new HashToken(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+            } finally {
+                SHA256.offer(sha256);
             }
         }
+    }
 
-        filterChain.doFilter(request, response);
+    private record Autenticado(Authentication autenticacao, Instant expiraEm) {
     }
 
+    /**
+     * Mantém cada entrada até a expiração do seu token.
      */
-}
\ No newline at end of file
+    private static final class ExpiraComToken implements Expiry<HashToken, Autenticado> {
+
+        @Override
+        public long expireAfterCreate(HashToken chave, Autenticado valor, long agora) {
+            return Math.max(0, valor.expiraEm().toEpochMilli() - System.currentTimeMillis()) * 1_000_000;
+        }
+
+        @Override
+        public long expireAfterUpdate(HashToken chave, Autenticado valor, long agora, long duracaoAtual) {
+            return expireAfterCreate(chave, valor, agora);
+        }
+
+        @Override
+        public long expireAfterRead(HashToken chave, Autenticado valor, long agora, long duracaoAtual) {
+            return duracaoAtual;
+        }
+    }
+}
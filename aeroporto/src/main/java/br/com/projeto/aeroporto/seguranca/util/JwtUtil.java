@@ -1,40 +1,220 @@
 package br.com.projeto.aeroporto.seguranca.util;
 
 
+import br.com.projeto.aeroporto.seguranca.model.TokenVerificado;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Date;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * Emissão e verificação de tokens JWT assinados com HMAC-SHA256 ({@code HS256}).
+ *
+ * <p>
+ * As chaves são montadas uma única vez, na inicialização: a atual
+ * ({@code aeroporto.seguranca.jwt.segredo}), que assina os novos tokens, e,
+ * opcionalmente, a anterior ({@code aeroporto.seguranca.jwt.segredo-anterior}),
+ * aceita apenas na verificação durante a troca de segredo. Cada chave tem um
+ * identificador ({@code kid}) derivado do seu hash, e o cabeçalho que ela
+ * emite fica pronto, já codificado. Os {@link Mac} inicializados são
+ * reaproveitados entre tokens, sem consulta ao provedor nem preparo da chave
+ * a cada verificação; como as requisições rodam em threads virtuais, ficam em
+ * uma fila compartilhada, e não em {@code ThreadLocal}.
+ * </p>
+ *
+ * <p>
+ * Só são aceitos tokens com um dos cabeçalhos emitidos aqui, comparados como
+ * texto: não há leitura de {@code alg} vinda do cliente. A assinatura é
+ * comparada em tempo constante, e o {@code exp} é conferido no relógio do
+ * servidor.
+ * </p>
+ */
 @Component
 public class JwtUtil {
-    /*
-    private final String SECRET = "chave-secreta-super-segura";
-
-    public String generateToken(String username) {
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60)) // 1h
-                .signWith(SignatureAlgorithm.HS256, SECRET)
-                .compact();
+
+    private static final Logger log = LoggerFactory.getLogger(JwtUtil.class);
+
+    private static final String ALGORITMO = "HmacSHA256";
+
+    /**
+     * Tamanho mínimo do segredo, o da saída do SHA-256.
+     */
+    static final int TAMANHO_MINIMO_SEGREDO = 32;
+
+    private static final Base64.Encoder CODIFICADOR = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODIFICADOR = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+
+    private final long validadeMs;
+
+    private final ChaveAssinatura atual;
+
+    private final Map<String, ChaveAssinatura> chavesPorCabecalho = new HashMap<>();
+
+    /**
+     * Construtor da classe {@code JwtUtil}.
+     *
+     * @param objectMapper     serializador JSON da aplicação
+     * @param segredo          segredo atual; vazio gera um aleatório, válido até a aplicação parar
+     * @param segredoAnterior  segredo anterior, aceito só na verificação; vazio se não houver
+     * @param validadeMs       validade dos tokens emitidos, em milissegundos
+     */
+    public JwtUtil(ObjectMapper objectMapper,
+                   @Value("${aeroporto.seguranca.jwt.segredo:}") String segredo,
+                   @Value("${aeroporto.seguranca.jwt.segredo-anterior:}") String segredoAnterior,
+                   @Value("${aeroporto.seguranca.jwt.validade-ms:3600000}") long validadeMs) {
+        this.objectMapper = objectMapper;
+        this.validadeMs = validadeMs;
+        byte[] bytes;
+        if (segredo == null || segredo.isBlank()) {
+            log.warn("aeroporto.seguranca.jwt.segredo não definido: usando segredo aleatório;"
+                    + " os tokens deixam de valer quando a aplicação reiniciar");
+            bytes = new byte[TAMANHO_MINIMO_SEGREDO];
+            new SecureRandom().nextBytes(bytes);
+        } else {
+            bytes = segredo.getBytes(StandardCharsets.UTF_8);
+        }
+        this.atual = new ChaveAssinatura(bytes);
+        chavesPorCabecalho.put(atual.cabecalho, atual);
+        if (segredoAnterior != null && !segredoAnterior.isBlank()) {
+            ChaveAssinatura anterior = new ChaveAssinatura(segredoAnterior.getBytes(StandardCharsets.UTF_8));
+            chavesPorCabecalho.putIfAbsent(anterior.cabecalho, anterior);
+        }
     }
 
-    public String extractUsername(String token) {
-        return Jwts.parser()
-                .setSigningKey(SECRET)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    /**
+     * Emite um token para o usuário, assinado com a chave atual.
+     *
+     * @param username usuário autenticado
+     * @return token JWT compacto
+     */
+    public String gerarToken(String username) {
+        long agora = System.currentTimeMillis();
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", username);
+        claims.put("iat", agora / 1000);
+        claims.put("exp", (agora + validadeMs) / 1000);
+        try {
+            String conteudo = atual.cabecalho + '.' + CODIFICADOR.encodeToString(objectMapper.writeValueAsBytes(claims));
+            byte[] assinatura = atual.assinar(conteudo.getBytes(StandardCharsets.US_ASCII));
+            return conteudo + '.' + CODIFICADOR.encodeToString(assinatura);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Falha ao gerar o token", e);
+        }
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Confere cabeçalho, assinatura e validade do token.
+     *
+     * @param token token JWT compacto
+     * @return usuário e validade, ou vazio se o token for inválido ou estiver vencido
+     */
+    public Optional<TokenVerificado> verificar(String token) {
+        int fimCabecalho = token.indexOf('.');
+        int fimConteudo = fimCabecalho < 0 ? -1 : token.indexOf('.', fimCabecalho + 1);
+        if (fimConteudo < 0 || token.indexOf('.', fimConteudo + 1) >= 0) {
+            return Optional.empty();
+        }
+        ChaveAssinatura chave = chavesPorCabecalho.get(token.substring(0, fimCabecalho));
+        if (chave == null) {
+            return Optional.empty();
+        }
         try {
-            Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            byte[] esperada = chave.assinar(token.substring(0, fimConteudo).getBytes(StandardCharsets.US_ASCII));
+            byte[] recebida = DECODIFICADOR.decode(token.substring(fimConteudo + 1));
+            if (!MessageDigest.isEqual(esperada, recebida)) {
+                return Optional.empty();
+            }
+            JsonNode claims = objectMapper.readTree(DECODIFICADOR.decode(token.substring(fimCabecalho + 1, fimConteudo)));
+            JsonNode sub = claims.get("sub");
+            JsonNode exp = claims.get("exp");
+            if (sub == null || !sub.isTextual() || exp == null || !exp.canConvertToLong()) {
+                return Optional.empty();
+            }
+            Instant expiraEm = Instant.ofEpochSecond(exp.asLong());
+            if (!expiraEm.isAfter(Instant.now())) {
+                return Optional.empty();
+            }
+            return Optional.of(new TokenVerificado(sub.asText(), expiraEm));
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
         }
     }
 
+    /**
+     * Chave HMAC preparada, com o cabeçalho que ela emite.
      */
-}
\ No newline at end of file
+    private final class ChaveAssinatura {
+
+        private final SecretKeySpec chave;
+
+        private final String cabecalho;
+
+        private final Queue<Mac> macs = new ConcurrentLinkedQueue<>();
+
+        private ChaveAssinatura(byte[] segredo) {
+            if (segredo.length < TAMANHO_MINIMO_SEGREDO) {
+                throw new RuntimeException("O segredo do JWT deve ter ao menos " + TAMANHO_MINIMO_SEGREDO + " bytes");
+            }
+            this.chave = new SecretKeySpec(segredo, ALGORITMO);
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(segredo);
+                String kid = CODIFICADOR.encodeToString(Arrays.copyOf(hash, 9));
+                Map<String, String> cabecalho = new LinkedHashMap<>();
+                cabecalho.put("alg", "HS256");
+                cabecalho.put("typ", "JWT");
+                cabecalho.put("kid", kid);
+                this.cabecalho = CODIFICADOR.encodeToString(objectMapper.writeValueAsBytes(cabecalho));
+            } catch (GeneralSecurityException | JsonProcessingException e) {
+                throw new RuntimeException("Falha ao preparar a chave do JWT", e);
+            }
+            // Falha na inicialização, e não no primeiro login, se a chave não servir.
+            macs.offer(novoMac());
+        }
+
+        private byte[] assinar(byte[] dados) {
+            Mac mac = macs.poll();
+            if (mac == null) {
+                mac = novoMac();
+            }
+            try {
+                // doFinal reinicia o Mac, pronto para o próximo token.
+                return mac.doFinal(dados);
+            } finally {
+                macs.offer(mac);
+            }
+        }
+
+        private Mac novoMac() {
+            try {
+                Mac mac = Mac.getInstance(ALGORITMO);
+                mac.init(chave);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new RuntimeException("Falha ao preparar a chave do JWT", e);
+            }
+        }
+    }
+}
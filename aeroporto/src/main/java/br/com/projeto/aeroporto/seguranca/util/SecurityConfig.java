@@ -1,37 +1,91 @@
 package br.com.projeto.aeroporto.seguranca.util;
 
+import br.com.projeto.aeroporto.seguranca.service.UsuarioService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+/**
+ * Autenticação stateless por token JWT (Spring Security 6).
+ *
+ * <p>
+ * O login ({@code POST /auth/login}) confere usuário e senha e devolve o
+ * token; as demais requisições o enviam no cabeçalho
+ * {@code Authorization: Bearer}, conferido pelo {@link JwtFilter}. Ficam
+ * abertos o login, a documentação da API, a saúde e as métricas do actuator
+ * e a consulta e o canal SSE dos painéis do terminal, que são públicos.
+ * Requisição sem token válido recebe {@code 401}.
+ * </p>
+ *
+ * <p>
+ * {@code aeroporto.seguranca.autenticacao=false} libera todas as rotas (o
+ * filtro continua reconhecendo os tokens enviados); usado no perfil dos
+ * benchmarks.
+ * </p>
+ */
 @Configuration
-public class SecurityConfig{
+@EnableWebSecurity
+public class SecurityConfig {
 
-    /*
-    @Autowired
-    private JwtFilter jwtFilter;
-    @Autowired
-    private UserService userService;
+    private static final String[] ROTAS_PUBLICAS = {
+            "/auth/login",
+            "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html",
+            "/actuator/health/**", "/actuator/prometheus"
+    };
 
-    @Override
-    protected void configure(HttpSecurity http) throws Exception {
-        http.csrf().disable()
-                .authorizeRequests()
-                .antMatchers("/auth/login").permitAll()
-                .anyRequest().authenticated()
-                .and()
-                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
-
-        http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtUtil jwtUtil, UsuarioService usuarioService,
+                                                   MeterRegistry registry,
+                                                   @Value("${aeroporto.seguranca.autenticacao:true}") boolean autenticacao,
+                                                   @Value("${aeroporto.seguranca.jwt.cache-tokens:100000}") int cacheTokens)
+            throws Exception {
+        JwtFilter jwtFilter = new JwtFilter(jwtUtil, usuarioService, cacheTokens, registry);
+        http.csrf(AbstractHttpConfigurer::disable)
+                .cors(Customizer.withDefaults())
+                .sessionManagement(sessao -> sessao.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(rotas -> {
+                    // O despacho assíncrono (fim de respostas SSE) e o de erro não passam
+                    // de novo pelo filtro do token: a rota já foi autorizada no original.
+                    rotas.dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                            .requestMatchers(ROTAS_PUBLICAS).permitAll()
+                            .requestMatchers(HttpMethod.GET, "/api/informacoes/painel/**").permitAll();
+                    if (autenticacao) {
+                        rotas.anyRequest().authenticated();
+                    } else {
+                        rotas.anyRequest().permitAll();
+                    }
+                })
+                .exceptionHandling(erros -> erros.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+        return http.build();
     }
 
-    @Override
-    protected void configure(AuthenticationManagerBuilder auth) throws Exception {
-        auth.userDetailsService(userService).passwordEncoder(new BCryptPasswordEncoder());
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
     }
 
     @Bean
-    public AuthenticationManager authenticationManagerBean() throws Exception {
-        return super.authenticationManagerBean();
+    public AuthenticationManager authenticationManager(UsuarioService usuarioService, PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(usuarioService);
+        provider.setPasswordEncoder(passwordEncoder);
+        return new ProviderManager(provider);
     }
-
-     */
-}
\ No newline at end of file
+}
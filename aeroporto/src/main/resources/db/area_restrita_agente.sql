@@ -0,0 +1,3 @@
+-- Agente de segurança responsável pelos alertas de cada área restrita.
+
+ALTER TABLE area_restrita ADD COLUMN IF NOT EXISTS id_agente VARCHAR(255);
@@ -0,0 +1,8 @@
+-- Voo e porão das bagagens despachadas, usados nos totais de peso por voo.
+
+ALTER TABLE bagagem ADD COLUMN IF NOT EXISTS codigo_voo VARCHAR(255);
+ALTER TABLE bagagem ADD COLUMN IF NOT EXISTS porao      VARCHAR(255);
+
+-- Bagagens de um voo (reconciliação dos totais de peso).
+CREATE INDEX IF NOT EXISTS idx_bagagem_codigo_voo
+    ON bagagem (codigo_voo);
@@ -0,0 +1,8 @@
+-- Voo do bilhete (Bilhete.codigoVoo), que identifica o mapa de assentos
+-- usado na reserva (MapaAssentos).
+
+ALTER TABLE bilhete ADD COLUMN IF NOT EXISTS codigo_voo VARCHAR(255);
+
+-- Assentos ocupados de um voo.
+CREATE INDEX IF NOT EXISTS idx_bilhete_voo_assento
+    ON bilhete (codigo_voo, assento);
@@ -0,0 +1,8 @@
+-- Busca por nome de passageiros e funcionários (pg_trgm).
+-- Os índices GIN atendem aos operadores <% (word_similarity) e ILIKE usados
+-- em PassageiroJpaRepository e FuncionarioJpaRepository.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_passageiro_nome_trgm ON passageiro USING gin (nome gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_funcionario_nome_trgm ON funcionario USING gin (nome gin_trgm_ops);
@@ -0,0 +1,7 @@
+-- Situação de embarque do cartão (CartaoEmbarque.embarcado), marcada em lote
+-- pelo GravadorEmbarques. Linhas anteriores ficam nulas, tratadas como "não
+-- embarcado". Sem índice novo: o UPDATE em lote é pela chave primária
+-- (codigo_cartao_embarque) e a recarga do IndiceCartoesEmbarque lê a tabela
+-- inteira.
+
+ALTER TABLE cartao_embarque ADD COLUMN IF NOT EXISTS embarcado BOOLEAN;
@@ -0,0 +1,11 @@
+-- Pista designada (ControleDeVoo.idPista) e categoria de esteira de turbulência
+-- (ControleDeVoo.categoriaEsteira: LEVE, MEDIA ou PESADA) dos controles de voo.
+-- Linhas anteriores ficam nulas: sem pista designada e categoria MEDIA.
+
+ALTER TABLE controle_de_voo ADD COLUMN IF NOT EXISTS id_pista BIGINT;
+ALTER TABLE controle_de_voo ADD COLUMN IF NOT EXISTS categoria_esteira VARCHAR(255);
+
+-- Controles de uma torre (TorreDeControleJpaRepository.listarControles e a
+-- contagem dos resumos).
+CREATE INDEX IF NOT EXISTS idx_controle_de_voo_torre
+    ON controle_de_voo (torre_id, id_controle);
@@ -0,0 +1,16 @@
+-- Log de leituras de etiqueta das bagagens (EventoBagagem), apenas de inclusão.
+
+CREATE SEQUENCE IF NOT EXISTS evento_bagagem_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS evento_bagagem (
+    id_evento      BIGINT       PRIMARY KEY,
+    codigo_bagagem BIGINT       NOT NULL,
+    etapa          VARCHAR(12)  NOT NULL,
+    local          VARCHAR(255),
+    horario        TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+-- Histórico de leituras por bagagem (GET /bagagens/{id}/eventos) e carga do
+-- último evento de cada bagagem na inicialização.
+CREATE INDEX IF NOT EXISTS idx_evento_bagagem_codigo
+    ON evento_bagagem (codigo_bagagem, id_evento);
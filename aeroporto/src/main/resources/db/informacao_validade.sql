@@ -0,0 +1,5 @@
+-- Validade das informações: leitura das válidas pelos painéis e expurgo das
+-- vencidas (ExpurgoInformacoes) sem varrer a tabela.
+
+CREATE INDEX IF NOT EXISTS idx_informacao_validade
+    ON informacao (validade);
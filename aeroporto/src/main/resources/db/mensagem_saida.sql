@@ -0,0 +1,11 @@
+-- Caixa de saída (outbox) das difusões de mensagens (SaidaMensagem).
+
+CREATE SEQUENCE IF NOT EXISTS mensagem_saida_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS mensagem_saida (
+    id_saida     BIGINT       PRIMARY KEY,
+    remetente    VARCHAR(255) NOT NULL,
+    destinatario VARCHAR(255) NOT NULL,
+    conteudo     VARCHAR(255) NOT NULL,
+    data_hora    TIMESTAMP(6) NOT NULL
+);
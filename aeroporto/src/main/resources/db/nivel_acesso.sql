@@ -0,0 +1,13 @@
+-- Níveis de acesso às áreas restritas e a hierarquia entre eles (NivelAcesso).
+-- nivel_acesso_herdado: o nível codigo_nivel concede também o codigo_herdado.
+
+CREATE TABLE IF NOT EXISTS nivel_acesso (
+    codigo    VARCHAR(255) PRIMARY KEY,
+    descricao VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS nivel_acesso_herdado (
+    codigo_nivel   VARCHAR(255) NOT NULL REFERENCES nivel_acesso (codigo) ON DELETE CASCADE,
+    codigo_herdado VARCHAR(255) NOT NULL,
+    PRIMARY KEY (codigo_nivel, codigo_herdado)
+);
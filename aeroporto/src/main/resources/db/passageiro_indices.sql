@@ -0,0 +1,9 @@
+-- Índices das buscas de passageiro por documento e por número de cartão.
+-- A expressão precisa ser igual à das consultas em PassageiroJpaRepository
+-- e à normalização de Passageiro.normalizarIdentificador.
+
+CREATE INDEX IF NOT EXISTS idx_passageiro_documento_normalizado
+    ON passageiro ((upper(regexp_replace(documento, '[^0-9A-Za-z]', '', 'g'))));
+
+CREATE INDEX IF NOT EXISTS idx_passageiro_numero_cartao_normalizado
+    ON passageiro ((upper(regexp_replace(numero_cartao, '[^0-9A-Za-z]', '', 'g'))));
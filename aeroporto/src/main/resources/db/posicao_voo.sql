@@ -0,0 +1,19 @@
+-- Amostras de posição dos voos (PosicaoVoo), gravadas em lote pelo
+-- PosicaoVooService.
+
+CREATE SEQUENCE IF NOT EXISTS posicao_voo_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS posicao_voo (
+    id_posicao BIGINT           PRIMARY KEY,
+    id_voo     BIGINT,
+    latitude   DOUBLE PRECISION,
+    longitude  DOUBLE PRECISION,
+    altitude   INTEGER,
+    velocidade INTEGER,
+    rumo       INTEGER,
+    horario    TIMESTAMP(6) WITH TIME ZONE
+);
+
+-- Posições mais recentes de um voo (PosicaoVooJpaRepository.findByIdVooOrderByHorarioDesc).
+CREATE INDEX IF NOT EXISTS idx_posicao_voo_voo_horario
+    ON posicao_voo (id_voo, horario DESC);
@@ -0,0 +1,42 @@
+-- Log de passagens pelas portas e catracas (RegistroAcesso), apenas de inclusão.
+-- Particionado por dia de horario; as partições diárias são criadas com
+-- antecedência pela aplicação (ParticoesRegistroAcesso), com o nome
+-- registro_acesso_AAAAMMDD. Uma tabela registro_acesso anterior, não
+-- particionada, precisa ser renomeada e ter as linhas copiadas para esta.
+-- A chave primária inclui horario, exigência do particionamento; o
+-- codigo_registro_acesso é único por si, gerado pela aplicação.
+
+CREATE TABLE IF NOT EXISTS registro_acesso (
+    codigo_registro_acesso BIGINT       NOT NULL,
+    horario                TIMESTAMP(6) NOT NULL,
+    id_cartao              VARCHAR(255),
+    codigo_area            BIGINT,
+    permitido              BOOLEAN      NOT NULL,
+    motivo                 VARCHAR(32)  NOT NULL,
+    PRIMARY KEY (horario, codigo_registro_acesso)
+) PARTITION BY RANGE (horario);
+
+-- Recebe registros de dias ainda sem partição.
+CREATE TABLE IF NOT EXISTS registro_acesso_padrao PARTITION OF registro_acesso DEFAULT;
+
+-- Consulta por cartão em um intervalo (GET /api/acesso/registros?idCartao=).
+CREATE INDEX IF NOT EXISTS idx_registro_acesso_cartao
+    ON registro_acesso (id_cartao, horario);
+
+-- Registros que o banco recusou ao incluir em registro_acesso (por exemplo,
+-- id_cartao acima de 255 caracteres), desviados pelo RegistradorAcessos para
+-- não bloquear os seguintes. Colunas de texto sem limite, para que o desvio
+-- não falhe pelo mesmo motivo.
+CREATE TABLE IF NOT EXISTS registro_acesso_rejeitado (
+    codigo_registro_acesso BIGINT       PRIMARY KEY,
+    horario                TIMESTAMP(6),
+    id_cartao              TEXT,
+    codigo_area            BIGINT,
+    permitido              BOOLEAN,
+    motivo                 TEXT,
+    erro                   TEXT,
+    rejeitado_em           TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_registro_acesso_rejeitado_em
+    ON registro_acesso_rejeitado (rejeitado_em);
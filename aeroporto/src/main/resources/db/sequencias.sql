@@ -0,0 +1,14 @@
+-- Sequências das entidades gravadas em lote (allocationSize = 50).
+-- O incremento precisa ser igual ao allocationSize do @SequenceGenerator.
+
+CREATE SEQUENCE IF NOT EXISTS passageiro_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS bilhete_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS despesa_seq INCREMENT BY 50;
+ALTER SEQUENCE passageiro_seq INCREMENT BY 50;
+ALTER SEQUENCE bilhete_seq INCREMENT BY 50;
+ALTER SEQUENCE despesa_seq INCREMENT BY 50;
+
+-- bagagem deixou de usar IDENTITY: a sequência começa acima do maior código já gravado.
+CREATE SEQUENCE IF NOT EXISTS bagagem_seq INCREMENT BY 50;
+SELECT setval('bagagem_seq', COALESCE(MAX(codigo_bagagem), 0) + 50) FROM bagagem;
+ALTER TABLE bagagem ALTER COLUMN codigo_bagagem DROP IDENTITY IF EXISTS;
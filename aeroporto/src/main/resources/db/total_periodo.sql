@@ -0,0 +1,13 @@
+-- Totais financeiros pré-agregados por dia e por mês (TotalPeriodo).
+-- Preenchida na inicialização a partir de despesa e receita quando estiver vazia.
+
+CREATE TABLE IF NOT EXISTS total_periodo (
+    id_total      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    granularidade VARCHAR(3)     NOT NULL,
+    inicio        DATE           NOT NULL,
+    natureza      VARCHAR(7)     NOT NULL,
+    categoria     VARCHAR(255)   NOT NULL,
+    total         NUMERIC(19, 2) NOT NULL,
+    quantidade    BIGINT         NOT NULL,
+    CONSTRAINT uk_total_periodo UNIQUE (granularidade, inicio, natureza, categoria)
+);
@@ -0,0 +1,20 @@
+-- Janelas de uso das pistas (UsoPista) reservadas pelo EscalonadorPistas.
+
+CREATE SEQUENCE IF NOT EXISTS uso_pista_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS uso_pista (
+    id_uso            BIGINT                      PRIMARY KEY,
+    id_pista          BIGINT,
+    identificacao_voo VARCHAR(255),
+    tipo              VARCHAR(255),
+    inicio            TIMESTAMP(6) WITH TIME ZONE,
+    fim               TIMESTAMP(6) WITH TIME ZONE
+);
+
+-- Usos de uma pista que cruzam um intervalo, em ordem de início.
+CREATE INDEX IF NOT EXISTS idx_uso_pista_pista_inicio
+    ON uso_pista (id_pista, inicio);
+
+-- Usos ainda não encerrados, carregados na inicialização (findByFimAfter).
+CREATE INDEX IF NOT EXISTS idx_uso_pista_fim
+    ON uso_pista (fim);
@@ -0,0 +1,115 @@
+package br.com.projeto.aeroporto.comum;
+
+import br.com.projeto.aeroporto.gestao.adapter.BilheteJpaAdapter;
+import br.com.projeto.aeroporto.gestao.adapter.PassageiroJpaAdapter;
+import br.com.projeto.aeroporto.gestao.model.Bilhete;
+import br.com.projeto.aeroporto.gestao.model.Passageiro;
+import br.com.projeto.aeroporto.gestaofinanceira.adapter.DespesaJpaAdapter;
+import br.com.projeto.aeroporto.gestaofinanceira.model.Despesa;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo dos adaptadores JPA isolados dos serviços, sobre H2 em memória.
+ *
+ * <p>
+ * {@code salvarPassageirosEmLote} mede a gravação de 500 passageiros pela
+ * {@link PersistenciaEmLote}, por passageiro; {@code listarPaginaBilhetes},
+ * uma página por cursor de 100 bilhetes; {@code buscarDespesaPorId}, a busca
+ * por chave primária.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdaptadoresJpaBenchmark {
+
+    private static final int REGISTROS = 10_000;
+    private static final int LOTE_PASSAGEIROS = 500;
+    private static final int PAGINA = 100;
+
+    private ConfigurableApplicationContext contexto;
+    private PassageiroJpaAdapter passageiros;
+    private BilheteJpaAdapter bilhetes;
+    private DespesaJpaAdapter despesas;
+    private Long[] idsBilhetes;
+    private Long[] idsDespesas;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = ContextoBenchmark.iniciar();
+        passageiros = contexto.getBean(PassageiroJpaAdapter.class);
+        bilhetes = contexto.getBean(BilheteJpaAdapter.class);
+        despesas = contexto.getBean(DespesaJpaAdapter.class);
+        List<Bilhete> novosBilhetes = new ArrayList<>(REGISTROS);
+        List<Despesa> novasDespesas = new ArrayList<>(REGISTROS);
+        for (int i = 0; i < REGISTROS; i++) {
+            novosBilhetes.add(new Bilhete(null, i, null, null, null));
+            novasDespesas.add(new Despesa(null, "MANUTENCAO", 200.0 + i,
+                    LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(i), "Ordem " + i));
+        }
+        idsBilhetes = bilhetes.salvarTodos(novosBilhetes).stream()
+                .map(Bilhete::getIdBilhete)
+                .toArray(Long[]::new);
+        idsDespesas = despesas.salvarTodos(novasDespesas).stream()
+                .map(Despesa::getIdDespesa)
+                .toArray(Long[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE_PASSAGEIROS)
+    public List<Passageiro> salvarPassageirosEmLote() {
+        List<Passageiro> lote = new ArrayList<>(LOTE_PASSAGEIROS);
+        for (int i = 0; i < LOTE_PASSAGEIROS; i++) {
+            lote.add(new Passageiro(null, "PASSAGEIRO " + i, String.format("%011d", i), "4000" + i));
+        }
+        return passageiros.salvarTodos(lote);
+    }
+
+    @Benchmark
+    public List<Bilhete> listarPaginaBilhetes() {
+        int inicio = ThreadLocalRandom.current().nextInt(idsBilhetes.length - PAGINA);
+        return bilhetes.listarPagina(idsBilhetes[inicio], PAGINA);
+    }
+
+    @Benchmark
+    public Optional<Despesa> buscarDespesaPorId() {
+        return despesas.buscarPorId(idsDespesas[ThreadLocalRandom.current().nextInt(idsDespesas.length)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AdaptadoresJpaBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
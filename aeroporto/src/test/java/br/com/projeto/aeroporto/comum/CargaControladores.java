@@ -0,0 +1,155 @@
+package br.com.projeto.aeroporto.comum;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de carga dos controladores: N clientes concorrentes, cada um repetindo
+ * requisições em sequência durante o tempo informado.
+ *
+ * <p>
+ * Usado para comparar os dois modos de execução da aplicação já em execução
+ * (com PostgreSQL), um de cada vez:
+ * </p>
+ * <pre>
+ * AEROPORTO_THREADS_VIRTUAIS=false mvn spring-boot:run
+ * AEROPORTO_THREADS_VIRTUAIS=true  mvn spring-boot:run
+ * </pre>
+ * <p>
+ * e, em outro terminal, para cada modo:
+ * </p>
+ * <pre>
+ * mvn -q exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=br.com.projeto.aeroporto.comum.CargaControladores \
+ *     -Dexec.args="http://localhost:8080 /bilhetes?limit=20 5000 60 usuario senha"
+ * </pre>
+ * <p>
+ * Argumentos: URL base, caminho, clientes concorrentes, duração em segundos e,
+ * com a autenticação ligada, usuário e senha: a ferramenta faz o login em
+ * {@code /auth/login} uma vez e envia o token em todas as requisições. Sem
+ * usuário e senha as requisições vão sem token, e a aplicação precisa ter
+ * sido iniciada com {@code AEROPORTO_AUTENTICACAO=false}; do contrário todas
+ * contam como erro (401). Ao final são impressos vazão (requisições por segundo), p50, p99 e máximo da
+ * latência e a quantidade de erros (respostas não 2xx e falhas de conexão). Os
+ * primeiros 10 segundos são descartados como aquecimento.
+ * </p>
+ */
+public final class CargaControladores {
+
+    private static final long AQUECIMENTO_NANOS = Duration.ofSeconds(10).toNanos();
+
+    private CargaControladores() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String base = args.length > 0 ? args[0] : "http://localhost:8080";
+        String caminho = args.length > 1 ? args[1] : "/bilhetes?limit=20";
+        int clientes = args.length > 2 ? Integer.parseInt(args[2]) : 5_000;
+        long duracao = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 60).toNanos();
+
+        HttpRequest.Builder construtor = HttpRequest.newBuilder(URI.create(base + caminho))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (args.length > 5) {
+            construtor.header("Authorization", "Bearer " + entrar(base, args[4], args[5]));
+        }
+        HttpRequest requisicao = construtor.build();
+        AtomicLong erros = new AtomicLong();
+        List<long[]> latencias = new ArrayList<>(clientes);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient cliente = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(executor)
+                     .build()) {
+            long inicio = System.nanoTime();
+            long inicioMedicao = inicio + AQUECIMENTO_NANOS;
+            long fim = inicioMedicao + duracao;
+            List<Future<long[]>> resultados = new ArrayList<>(clientes);
+            for (int i = 0; i < clientes; i++) {
+                resultados.add(executor.submit(() -> executar(cliente, requisicao, inicioMedicao, fim, erros)));
+            }
+            for (Future<long[]> resultado : resultados) {
+                latencias.add(resultado.get());
+            }
+        }
+
+        long[] todas = latencias.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        double segundos = duracao / 1e9;
+        System.out.printf("clientes=%d duracao=%.0fs requisicoes=%d erros=%d%n",
+                clientes, segundos, todas.length, erros.get());
+        System.out.printf("vazao=%.1f req/s p50=%.1f ms p99=%.1f ms max=%.1f ms%n",
+                todas.length / segundos, percentil(todas, 0.50), percentil(todas, 0.99),
+                todas.length == 0 ? 0.0 : todas[todas.length - 1] / 1e6);
+    }
+
+    /**
+     * Faz o login e devolve o token JWT.
+     */
+    private static String entrar(String base, String usuario, String senha) throws Exception {
+        ObjectMapper json = new ObjectMapper();
+        HttpRequest login = HttpRequest.newBuilder(URI.create(base + "/auth/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        json.writeValueAsString(Map.of("username", usuario, "password", senha))))
+                .build();
+        try (HttpClient cliente = HttpClient.newHttpClient()) {
+            HttpResponse<String> resposta = cliente.send(login, HttpResponse.BodyHandlers.ofString());
+            if (resposta.statusCode() != 200) {
+                throw new IllegalStateException("Login recusado: HTTP " + resposta.statusCode());
+            }
+            return json.readTree(resposta.body()).get("token").asText();
+        }
+    }
+
+    private static long[] executar(HttpClient cliente, HttpRequest requisicao, long inicioMedicao, long fim,
+                                   AtomicLong erros) {
+        long[] medidas = new long[1024];
+        int quantidade = 0;
+        long agora = System.nanoTime();
+        while (agora < fim) {
+            boolean sucesso;
+            try {
+                int status = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode();
+                sucesso = status >= 200 && status < 300;
+            } catch (Exception e) {
+                sucesso = false;
+            }
+            long depois = System.nanoTime();
+            if (agora >= inicioMedicao) {
+                if (!sucesso) {
+                    erros.incrementAndGet();
+                } else {
+                    if (quantidade == medidas.length) {
+                        medidas = Arrays.copyOf(medidas, quantidade * 2);
+                    }
+                    medidas[quantidade++] = depois - agora;
+                }
+            }
+            agora = depois;
+        }
+        return Arrays.copyOf(medidas, quantidade);
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0.0;
+        }
+        int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(indice, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.projeto.aeroporto.comum;
+
+import br.com.projeto.aeroporto.AeroportoApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Sobe a aplicação completa para os benchmarks JMH, no perfil {@code benchmark}.
+ *
+ * <p>
+ * O perfil (src/test/resources/application-benchmark.yml) usa um H2 em memória
+ * no modo PostgreSQL, com o esquema criado pelo Hibernate, e porta HTTP
+ * aleatória. Cada benchmark sobe o contexto uma vez por trial e o fecha ao final.
+ * </p>
+ */
+public final class ContextoBenchmark {
+
+    private ContextoBenchmark() {
+    }
+
+    /**
+     * Inicia a aplicação no perfil {@code benchmark}.
+     *
+     * @return contexto iniciado; deve ser fechado pelo chamador
+     */
+    public static ConfigurableApplicationContext iniciar() {
+        return new SpringApplicationBuilder(AeroportoApplication.class)
+                .profiles("benchmark")
+                .run();
+    }
+}
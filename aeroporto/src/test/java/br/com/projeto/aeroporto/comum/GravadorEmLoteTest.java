@@ -0,0 +1,102 @@
+package br.com.projeto.aeroporto.comum;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GravadorEmLoteTest {
+
+    @Test
+    void encerramentoGravaOsItensQueAindaEstavamNaFila() throws Exception {
+        GravadorFalso gravador = new GravadorFalso();
+        gravador.foraDoAr = true;
+        gravador.iniciar();
+
+        for (int i = 0; i < 10; i++) {
+            gravador.registrar(i);
+        }
+        aguardar(() -> gravador.chamadas.get() > 0);
+        gravador.foraDoAr = false;
+        gravador.encerrar();
+
+        assertThat(gravador.gravados).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(gravador.pendentes()).isZero();
+        assertThat(gravador.descartados).isEmpty();
+    }
+
+    @Test
+    void itemRecusadoNaoImpedeOsDemaisEEDescartadoNoEncerramento() throws Exception {
+        GravadorFalso gravador = new GravadorFalso();
+        gravador.iniciar();
+
+        for (int i = 0; i < 5; i++) {
+            gravador.registrar(i == 2 ? GravadorFalso.RECUSADO : i);
+        }
+        aguardar(() -> gravador.gravados.size() == 4);
+        gravador.encerrar();
+
+        assertThat(gravador.gravados).containsExactlyInAnyOrder(0, 1, 3, 4);
+        assertThat(gravador.descartados).containsExactly(GravadorFalso.RECUSADO);
+    }
+
+    @Test
+    void semIniciarGravaNaThreadChamadora() {
+        GravadorFalso gravador = new GravadorFalso();
+
+        gravador.registrar(7);
+
+        assertThat(gravador.gravados).containsExactly(7);
+        assertThat(gravador.pendentes()).isZero();
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condicao.getAsBoolean() && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertThat(condicao.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * Recusa lotes com {@link #RECUSADO} e todos os lotes quando fora do ar.
+     */
+    private static final class GravadorFalso extends GravadorEmLote<Integer> {
+
+        private static final int RECUSADO = -1;
+
+        private final List<Integer> gravados = new CopyOnWriteArrayList<>();
+
+        private final List<Integer> descartados = new CopyOnWriteArrayList<>();
+
+        private final AtomicInteger chamadas = new AtomicInteger();
+
+        private volatile boolean foraDoAr;
+
+        private GravadorFalso() {
+            super("gravador-teste", 100, 10);
+        }
+
+        @Override
+        protected void gravar(List<Integer> lote) {
+            chamadas.incrementAndGet();
+            if (foraDoAr) {
+                throw new RuntimeException("Connection refused");
+            }
+            if (lote.contains(RECUSADO)) {
+                throw new RuntimeException("check constraint violated");
+            }
+            gravados.addAll(lote);
+        }
+
+        @Override
+        protected void descartar(Integer item, RuntimeException erro) {
+            descartados.add(item);
+        }
+    }
+}
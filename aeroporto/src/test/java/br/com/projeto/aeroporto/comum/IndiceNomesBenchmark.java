@@ -0,0 +1,82 @@
+package br.com.projeto.aeroporto.comum;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência da busca por nome no {@link IndiceNomes} com milhões de nomes.
+ *
+ * <p>
+ * Meta: top-10 em menos de 5 ms com 10 milhões de passageiros. Os nomes são
+ * combinações aleatórias de prenomes e sobrenomes comuns, o pior caso para as
+ * listas de trigramas. Com 10 milhões de nomes, rodar com {@code -Xmx8g} ou mais.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx12g")
+@State(Scope.Benchmark)
+public class IndiceNomesBenchmark {
+
+    private static final String[] PRENOMES = {
+            "Ana", "Maria", "Joao", "Jose", "Pedro", "Paulo", "Lucas", "Mateus", "Gabriel", "Rafael",
+            "Juliana", "Fernanda", "Camila", "Beatriz", "Larissa", "Carlos", "Antonio", "Francisco",
+            "Marcos", "Luiz", "Aline", "Patricia", "Sandra", "Tiago", "Bruno", "Diego", "Vanessa"};
+    private static final String[] SOBRENOMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima",
+            "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes",
+            "Vieira", "Barbosa", "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes", "Marques",
+            "Machado", "Mendes", "Freitas", "Cardoso", "Ramos", "Goncalves", "Santana", "Teixeira"};
+
+    @Param({"1000000", "10000000"})
+    public int nomes;
+
+    private IndiceNomes indice;
+
+    @Setup(Level.Trial)
+    public void carregar() {
+        Random aleatorio = new Random(42);
+        indice = new IndiceNomes();
+        for (long id = 0; id < nomes; id++) {
+            indice.registrar(id, PRENOMES[aleatorio.nextInt(PRENOMES.length)] + " "
+                    + SOBRENOMES[aleatorio.nextInt(SOBRENOMES.length)] + " "
+                    + SOBRENOMES[aleatorio.nextInt(SOBRENOMES.length)] + " " + Long.toString(id, 36));
+        }
+        indice.marcarPronto();
+    }
+
+    @Benchmark
+    public List<IndiceNomes.Resultado> nomeCompletoComErro() {
+        return indice.buscar("Fernada Olivera Barbosa", 10);
+    }
+
+    @Benchmark
+    public List<IndiceNomes.Resultado> prefixo() {
+        return indice.buscar("Beatriz Nasc", 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IndiceNomesBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
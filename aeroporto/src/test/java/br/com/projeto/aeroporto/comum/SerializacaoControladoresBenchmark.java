@@ -0,0 +1,114 @@
+package br.com.projeto.aeroporto.comum;
+
+import br.com.projeto.aeroporto.gestao.model.Bilhete;
+import br.com.projeto.aeroporto.gestao.model.Passageiro;
+import br.com.projeto.aeroporto.gestao.out.BilheteRepositoryPort;
+import br.com.projeto.aeroporto.gestao.out.PassageiroRepositoryPort;
+import br.com.projeto.aeroporto.gestaofinanceira.model.Despesa;
+import br.com.projeto.aeroporto.gestaofinanceira.out.DespesaRepositoryPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Custo de uma página de 100 registros servida pelos controladores, da
+ * despachante do Spring MVC até o JSON escrito pelo Jackson.
+ *
+ * <p>
+ * As requisições passam pelo {@link MockMvc}, sem rede, para que o resultado
+ * reflita consulta, conversão e serialização. Os registros são gravados direto
+ * pelas portas: as despesas não passam pelos totais financeiros, que usam SQL
+ * específico do PostgreSQL. Cada bilhete referencia um passageiro, resolvido
+ * pela junção da projeção {@code BilheteResumo}; as despesas saem como
+ * {@code DespesaResumo}, sem fornecedor nem relatório.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializacaoControladoresBenchmark {
+
+    private static final int REGISTROS = 1_000;
+
+    private ConfigurableApplicationContext contexto;
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = ContextoBenchmark.iniciar();
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) contexto).build();
+        List<Passageiro> passageiros = new ArrayList<>(REGISTROS);
+        List<Despesa> despesas = new ArrayList<>(REGISTROS);
+        for (int i = 0; i < REGISTROS; i++) {
+            passageiros.add(new Passageiro(null, "PASSAGEIRO " + i, String.format("%011d", i), "4000" + i));
+            despesas.add(new Despesa(null, "COMBUSTIVEL", 1_500.0 + i,
+                    LocalDateTime.of(2025, 1, 1, 0, 0).plusHours(i), "Abastecimento " + i));
+        }
+        List<Passageiro> salvos = contexto.getBean(PassageiroRepositoryPort.class).salvarTodos(passageiros);
+        List<Bilhete> bilhetes = new ArrayList<>(REGISTROS);
+        for (int i = 0; i < REGISTROS; i++) {
+            bilhetes.add(new Bilhete(null, i, null, null, salvos.get(i)));
+        }
+        contexto.getBean(BilheteRepositoryPort.class).salvarTodos(bilhetes);
+        contexto.getBean(DespesaRepositoryPort.class).salvarTodos(despesas);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public String bilhetes() throws Exception {
+        return pagina("/bilhetes");
+    }
+
+    @Benchmark
+    public String passageiros() throws Exception {
+        return pagina("/passageiros");
+    }
+
+    @Benchmark
+    public String despesas() throws Exception {
+        return pagina("/despesas");
+    }
+
+    private String pagina(String caminho) throws Exception {
+        return mockMvc.perform(get(caminho).param("limit", "100"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SerializacaoControladoresBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
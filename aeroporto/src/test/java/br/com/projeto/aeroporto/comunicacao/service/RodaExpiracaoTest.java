@@ -0,0 +1,83 @@
+package br.com.projeto.aeroporto.comunicacao.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RodaExpiracaoTest {
+
+    private static final long RESOLUCAO_MS = 10;
+
+    @Test
+    void cadaChaveVenceNoPrimeiroPassoQueAlcancaOPrazo() {
+        long agora = 123_457;
+        RodaExpiracao<Integer> roda = new RodaExpiracao<>(RESOLUCAO_MS, agora);
+        Map<Integer, Long> prazos = new HashMap<>();
+        Random aleatorio = new Random(42);
+        // Até 1,5 volta do terceiro nível: passa pelas descidas de todos os níveis abaixo dele.
+        long alcance = RESOLUCAO_MS * RodaExpiracao.POSICOES * RodaExpiracao.POSICOES * RodaExpiracao.POSICOES * 3 / 2;
+        for (int chave = 0; chave < 5_000; chave++) {
+            long prazo = agora + 1 + (long) (aleatorio.nextDouble() * alcance);
+            roda.agendar(chave, prazo);
+            prazos.put(chave, prazo);
+        }
+
+        while (!prazos.isEmpty()) {
+            agora += RESOLUCAO_MS;
+            for (Integer chave : roda.avancar(agora)) {
+                long prazo = prazos.remove(chave);
+                assertThat(prazo).as("chave %d", chave).isLessThanOrEqualTo(agora);
+                assertThat(prazo).as("chave %d", chave).isGreaterThan(agora - 2 * RESOLUCAO_MS);
+            }
+        }
+        assertThat(roda.tamanho()).isZero();
+    }
+
+    @Test
+    void reagendarECancelarValemSobreOPrazoAnterior() {
+        RodaExpiracao<String> roda = new RodaExpiracao<>(RESOLUCAO_MS, 0);
+        roda.agendar("adiado", 100);
+        roda.agendar("cancelado", 100);
+        roda.agendar("mantido", 100);
+        roda.agendar("adiado", 10_000);
+        roda.cancelar("cancelado");
+
+        assertThat(roda.avancar(100)).containsExactly("mantido");
+        assertThat(roda.avancar(9_990)).isEmpty();
+        assertThat(roda.avancar(10_000)).containsExactly("adiado");
+        assertThat(roda.tamanho()).isZero();
+    }
+
+    @Test
+    void prazoJaVencidoSaiNoProximoAvanco() {
+        RodaExpiracao<String> roda = new RodaExpiracao<>(RESOLUCAO_MS, 1_000);
+        roda.agendar("vencido", 500);
+        roda.agendar("cancelado", 500);
+        roda.cancelar("cancelado");
+
+        assertThat(roda.tamanho()).isEqualTo(1);
+        assertThat(roda.avancar(1_000)).containsExactly("vencido");
+        assertThat(roda.avancar(1_000)).isEmpty();
+    }
+
+    @Test
+    void prazoAlemDoAlcanceDaRodaEReposicionado() {
+        RodaExpiracao<String> roda = new RodaExpiracao<>(1, 0);
+        long alcance = 1L << (6 * RodaExpiracao.NIVEIS);
+        long prazo = 2 * alcance + 12_345;
+        roda.agendar("distante", prazo);
+
+        long agora = 0;
+        while (agora + 100_000 < prazo) {
+            agora += 100_000;
+            assertThat(roda.avancar(agora)).isEmpty();
+        }
+        assertThat(roda.avancar(prazo - 1)).isEmpty();
+        assertThat(roda.avancar(prazo)).isEqualTo(List.of("distante"));
+    }
+}
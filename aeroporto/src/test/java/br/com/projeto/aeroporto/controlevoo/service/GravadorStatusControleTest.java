@@ -0,0 +1,69 @@
+package br.com.projeto.aeroporto.controlevoo.service;
+
+import br.com.projeto.aeroporto.controlevoo.model.ControleDeVoo;
+import br.com.projeto.aeroporto.controlevoo.port.ControleDeVooRepositoryPort;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GravadorStatusControleTest {
+
+    private final List<Map<Long, String>> gravados = new ArrayList<>();
+
+    private final GravadorStatusControle gravador = new GravadorStatusControle(new RepositorioFalso());
+
+    @Test
+    void autorizacaoAtrasadaNaoSobrescreveAConclusao() {
+        GravadorStatusControle.MudancaStatus autorizacao =
+                new GravadorStatusControle.MudancaStatus(1L, TorreControleService.STATUS_POUSO_AUTORIZADO);
+        gravador.registrar(new GravadorStatusControle.MudancaStatus(1L, TorreControleService.STATUS_CONCLUIDO));
+
+        // Autorização que falhou antes e volta da fila depois da conclusão.
+        gravador.gravar(List.of(autorizacao));
+        gravador.gravar(List.of(autorizacao,
+                new GravadorStatusControle.MudancaStatus(2L, TorreControleService.STATUS_DECOLAGEM_AUTORIZADA)));
+
+        assertThat(gravados).containsExactly(
+                Map.of(1L, TorreControleService.STATUS_CONCLUIDO),
+                Map.of(2L, TorreControleService.STATUS_DECOLAGEM_AUTORIZADA));
+    }
+
+    private final class RepositorioFalso implements ControleDeVooRepositoryPort {
+
+        @Override
+        public ControleDeVoo save(ControleDeVoo voo) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ControleDeVoo> saveAll(Collection<ControleDeVoo> controles) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ControleDeVoo> findAll() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<ControleDeVoo> findById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updateStatus(Map<Long, String> statusPorControle) {
+            gravados.add(Map.copyOf(statusPorControle));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.projeto.aeroporto.controlevoo.service;
+
+import br.com.projeto.aeroporto.controlevoo.model.QuadroPosicao;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TabelaPosicoesTest {
+
+    private final TabelaPosicoes tabela = new TabelaPosicoes();
+
+    @Test
+    void mantemSoAPosicaoMaisRecenteDeCadaVoo() {
+        assertThat(tabela.atualizar(quadro(7, 2_000))).isTrue();
+        assertThat(tabela.atualizar(quadro(7, 1_000))).isFalse();
+        assertThat(tabela.atualizar(quadro(7, 3_000))).isTrue();
+
+        assertThat(tabela.buscar(7).horario()).isEqualTo(3_000);
+        assertThat(tabela.buscar(8)).isNull();
+        assertThat(tabela.buscar(Long.MIN_VALUE)).isNull();
+        assertThat(tabela.atualizar(quadro(Long.MIN_VALUE, 1_000))).isFalse();
+        assertThat(tabela.tamanho()).isEqualTo(1);
+    }
+
+    @Test
+    void redimensionaSemPerderVoosNemMarcacoes() {
+        for (long id = 0; id < 5_000; id++) {
+            tabela.atualizar(quadro(id, id));
+        }
+
+        assertThat(tabela.tamanho()).isEqualTo(5_000);
+        for (long id = 0; id < 5_000; id++) {
+            assertThat(tabela.buscar(id).horario()).isEqualTo(id);
+        }
+        List<QuadroPosicao> coletados = new ArrayList<>();
+        assertThat(tabela.coletarAlterados(coletados::add)).isEqualTo(5_000);
+        assertThat(tabela.coletarAlterados(coletados::add)).isZero();
+
+        tabela.atualizar(quadro(42, 10_000));
+        coletados.clear();
+        assertThat(tabela.coletarAlterados(coletados::add)).isEqualTo(1);
+        assertThat(coletados).singleElement().extracting(QuadroPosicao::idVoo).isEqualTo(42L);
+    }
+
+    @Test
+    void removeVoosInativosEReduzACapacidade() {
+        for (long id = 0; id < 5_000; id++) {
+            tabela.atualizar(quadro(id, id < 4_990 ? 1_000 : 9_000));
+        }
+        tabela.coletarAlterados(q -> { });
+
+        assertThat(tabela.removerInativos(5_000)).isEqualTo(4_990);
+        assertThat(tabela.removerInativos(5_000)).isZero();
+
+        assertThat(tabela.tamanho()).isEqualTo(10);
+        assertThat(tabela.buscar(0)).isNull();
+        assertThat(tabela.buscar(4_995).horario()).isEqualTo(9_000);
+        assertThat(tabela.atualizar(quadro(0, 10_000))).isTrue();
+        assertThat(tabela.buscar(0).horario()).isEqualTo(10_000);
+        assertThat(tabela.tamanho()).isEqualTo(11);
+    }
+
+    @Test
+    void leituraConcorrenteComRedimensionamentoNuncaVeVooJaGravadoSumir() throws Exception {
+        tabela.atualizar(quadro(1, 1));
+        AtomicBoolean escrevendo = new AtomicBoolean(true);
+        AtomicReference<String> falha = new AtomicReference<>();
+        Thread leitor = new Thread(() -> {
+            while (escrevendo.get()) {
+                QuadroPosicao quadro = tabela.buscar(1);
+                if (quadro == null || quadro.idVoo() != 1) {
+                    falha.set("voo 1 não encontrado: " + quadro);
+                    return;
+                }
+            }
+        });
+        leitor.start();
+        for (long id = 2; id < 200_000; id++) {
+            tabela.atualizar(quadro(id, id));
+        }
+        escrevendo.set(false);
+        leitor.join();
+
+        assertThat(falha.get()).isNull();
+    }
+
+    private static QuadroPosicao quadro(long idVoo, long horario) {
+        return new QuadroPosicao(idVoo, -23.43, -46.47, 3_000, 250, 90, horario);
+    }
+}
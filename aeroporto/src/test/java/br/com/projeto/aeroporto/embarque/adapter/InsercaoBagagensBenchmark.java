@@ -0,0 +1,149 @@
+package br.com.projeto.aeroporto.embarque.adapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de gravação de um manifesto de bagagens no PostgreSQL, em linhas por segundo.
+ *
+ * <p>
+ * {@code linhaALinha} reproduz o comportamento anterior ({@code IDENTITY}: um
+ * {@code INSERT ... RETURNING} por bagagem). {@code emLote} reproduz o atual:
+ * IDs reservados de 50 em 50 na sequência e {@code INSERT}s enviados em lotes
+ * JDBC de 50, com e sem {@code reWriteBatchedInserts}.
+ * </p>
+ *
+ * <p>
+ * Requer um PostgreSQL acessível; a conexão é configurada pelas propriedades
+ * {@code benchmark.jdbc.url}, {@code benchmark.jdbc.usuario} e
+ * {@code benchmark.jdbc.senha}. As tabelas do benchmark são criadas e removidas
+ * pelo próprio benchmark.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class InsercaoBagagensBenchmark {
+
+    private static final int LINHAS = 10_000;
+    private static final int TAMANHO_LOTE = 50;
+
+    @Param({"false", "true"})
+    public boolean reescreverLotes;
+
+    private Connection conexao;
+
+    @Setup(Level.Trial)
+    public void conectar() throws SQLException {
+        String url = System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/projetoAirport");
+        conexao = DriverManager.getConnection(url + "?reWriteBatchedInserts=" + reescreverLotes,
+                System.getProperty("benchmark.jdbc.usuario", "postgres"),
+                System.getProperty("benchmark.jdbc.senha", "root"));
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS bagagem_benchmark");
+            ddl.execute("DROP SEQUENCE IF EXISTS bagagem_benchmark_seq");
+            ddl.execute("CREATE SEQUENCE bagagem_benchmark_seq INCREMENT BY " + TAMANHO_LOTE);
+            ddl.execute("CREATE TABLE bagagem_benchmark (codigo_bagagem BIGINT GENERATED BY DEFAULT AS IDENTITY "
+                    + "PRIMARY KEY, nome VARCHAR(255), peso DOUBLE PRECISION)");
+        }
+        conexao.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void esvaziar() throws SQLException {
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("TRUNCATE bagagem_benchmark");
+        }
+        conexao.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void desconectar() throws SQLException {
+        conexao.setAutoCommit(true);
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS bagagem_benchmark");
+            ddl.execute("DROP SEQUENCE IF EXISTS bagagem_benchmark_seq");
+        }
+        conexao.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public long linhaALinha() throws SQLException {
+        long soma = 0;
+        try (PreparedStatement insert = conexao.prepareStatement(
+                "INSERT INTO bagagem_benchmark (nome, peso) VALUES (?, ?) RETURNING codigo_bagagem")) {
+            for (int i = 0; i < LINHAS; i++) {
+                insert.setString(1, "MALA" + i);
+                insert.setDouble(2, 23.0);
+                try (ResultSet gerado = insert.executeQuery()) {
+                    gerado.next();
+                    soma += gerado.getLong(1);
+                }
+            }
+        }
+        conexao.commit();
+        return soma;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public int emLote() throws SQLException {
+        int gravadas = 0;
+        try (PreparedStatement sequencia = conexao.prepareStatement("SELECT nextval('bagagem_benchmark_seq')");
+             PreparedStatement insert = conexao.prepareStatement(
+                     "INSERT INTO bagagem_benchmark (codigo_bagagem, nome, peso) VALUES (?, ?, ?)")) {
+            long proximo = 0;
+            for (int i = 0; i < LINHAS; i++) {
+                if (i % TAMANHO_LOTE == 0) {
+                    try (ResultSet bloco = sequencia.executeQuery()) {
+                        bloco.next();
+                        proximo = bloco.getLong(1);
+                    }
+                }
+                insert.setLong(1, proximo++);
+                insert.setString(2, "MALA" + i);
+                insert.setDouble(3, 23.0);
+                insert.addBatch();
+                if ((i + 1) % TAMANHO_LOTE == 0) {
+                    gravadas += insert.executeBatch().length;
+                }
+            }
+            gravadas += insert.executeBatch().length;
+        }
+        conexao.commit();
+        return gravadas;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InsercaoBagagensBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.projeto.aeroporto.embarque.service;
+
+import br.com.projeto.aeroporto.comum.ContextoBenchmark;
+import br.com.projeto.aeroporto.embarque.in.CartaoEmbarqueUseCase;
+import br.com.projeto.aeroporto.embarque.model.CartaoEmbarque;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência de {@link CartaoEmbarqueService#buscarPorId} sobre 10.000 cartões
+ * gravados em H2 em memória, com a aplicação completa.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CartaoEmbarqueServiceBenchmark {
+
+    private static final int CARTOES = 10_000;
+
+    private ConfigurableApplicationContext contexto;
+    private CartaoEmbarqueUseCase service;
+    private String[] codigos;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = ContextoBenchmark.iniciar();
+        service = contexto.getBean(CartaoEmbarqueUseCase.class);
+        List<CartaoEmbarque> cartoes = new ArrayList<>(CARTOES);
+        for (int i = 0; i < CARTOES; i++) {
+            cartoes.add(new CartaoEmbarque(null, (i % 30 + 1) + "A"));
+        }
+        codigos = service.salvarTodos(cartoes).stream()
+                .map(CartaoEmbarque::getCodigoCartaoEmbarque)
+                .toArray(String[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public CartaoEmbarque buscarPorId() {
+        return service.buscarPorId(codigos[ThreadLocalRandom.current().nextInt(codigos.length)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CartaoEmbarqueServiceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.projeto.aeroporto.embarque.service;
+
+import br.com.projeto.aeroporto.embarque.model.CargaBagagem;
+import br.com.projeto.aeroporto.embarque.model.PesoPorao;
+import br.com.projeto.aeroporto.embarque.model.PesoVoo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PesoBagagensTest {
+
+    private final PesoBagagens pesos = new PesoBagagens();
+
+    @Test
+    void somasConcorrentesNaoPerdemAtualizacoes() throws Exception {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    pesos.aplicar(null, new CargaBagagem("LA3001", "DIANTEIRO", 0.1));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        PesoVoo voo = pesos.consultar("LA3001");
+        assertThat(voo.quantidade()).isEqualTo(80_000);
+        assertThat(voo.peso()).isEqualTo(8_000.0);
+    }
+
+    @Test
+    void alteracaoMoveOPesoEntrePoroes() {
+        pesos.aplicar(null, new CargaBagagem("LA3001", null, 23.5));
+        pesos.aplicar(new CargaBagagem("LA3001", null, 23.5), new CargaBagagem("LA3001", "TRASEIRO", 21.0));
+
+        assertThat(pesos.consultar("LA3001").poroes()).containsExactly(new PesoPorao("TRASEIRO", 21.0, 1));
+        assertThat(pesos.consultar("G31234").quantidade()).isZero();
+    }
+
+    @Test
+    void correcaoIgnoraTotalAlteradoDepoisDoRetrato() {
+        pesos.aplicar(null, new CargaBagagem("LA3001", "DIANTEIRO", 10.0));
+        pesos.aplicar(null, new CargaBagagem("LA3001", "TRASEIRO", 10.0));
+        Map<PesoBagagens.Chave, PesoBagagens.Totais> retrato = pesos.retratar();
+        pesos.aplicar(null, new CargaBagagem("LA3001", "TRASEIRO", 5.0));
+
+        int[] resultado = pesos.corrigir(retrato, Map.of(
+                new PesoBagagens.Chave("LA3001", "DIANTEIRO"), new PesoBagagens.Totais(12_000, 1),
+                new PesoBagagens.Chave("LA3001", "TRASEIRO"), new PesoBagagens.Totais(11_000, 1)));
+
+        assertThat(resultado).containsExactly(1, 1);
+        assertThat(pesos.consultar("LA3001").poroes()).containsExactly(
+                new PesoPorao("DIANTEIRO", 12.0, 1), new PesoPorao("TRASEIRO", 15.0, 2));
+    }
+
+    @Test
+    void totalCriadoDuranteAReconciliacaoFicaParaAProxima() {
+        Map<PesoBagagens.Chave, PesoBagagens.Totais> retrato = pesos.retratar();
+        // Gravada depois do retrato; a leitura do banco pode ou não incluí-la.
+        pesos.aplicar(null, new CargaBagagem("LA3001", "DIANTEIRO", 7.0));
+
+        int[] resultado = pesos.corrigir(retrato, Map.of(
+                new PesoBagagens.Chave("LA3001", "DIANTEIRO"), new PesoBagagens.Totais(47_000, 3),
+                new PesoBagagens.Chave("G31234", "TRASEIRO"), new PesoBagagens.Totais(9_000, 1)));
+
+        assertThat(resultado).containsExactly(1, 1);
+        assertThat(pesos.consultar("LA3001").poroes()).containsExactly(new PesoPorao("DIANTEIRO", 7.0, 1));
+        assertThat(pesos.consultar("G31234").poroes()).containsExactly(new PesoPorao("TRASEIRO", 9.0, 1));
+
+        resultado = pesos.corrigir(pesos.retratar(), Map.of(
+                new PesoBagagens.Chave("LA3001", "DIANTEIRO"), new PesoBagagens.Totais(47_000, 3),
+                new PesoBagagens.Chave("G31234", "TRASEIRO"), new PesoBagagens.Totais(9_000, 1)));
+
+        assertThat(resultado).containsExactly(1, 0);
+        assertThat(pesos.consultar("LA3001").poroes()).containsExactly(new PesoPorao("DIANTEIRO", 47.0, 3));
+    }
+
+    @Test
+    void totalSemBagagensNoBancoEZerado() {
+        pesos.aplicar(null, new CargaBagagem("LA3001", "DIANTEIRO", 10.0));
+
+        int[] resultado = pesos.corrigir(pesos.retratar(), Map.of());
+
+        assertThat(resultado).containsExactly(1, 0);
+        assertThat(pesos.consultar("LA3001").quantidade()).isZero();
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.projeto.aeroporto.embarque.service;
+
+import br.com.projeto.aeroporto.embarque.model.EtapaBagagem;
+import br.com.projeto.aeroporto.embarque.model.RastreioBagagem;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TabelaRastreioTest {
+
+    private static final Instant ANTIGO = Instant.ofEpochMilli(1_000);
+    private static final Instant RECENTE = Instant.ofEpochMilli(5_000);
+
+    private final TabelaRastreio tabela = new TabelaRastreio();
+
+    @Test
+    void aceitaSoTransicoesValidas() {
+        assertThat(tabela.avancar(1, EtapaBagagem.INSPECAO, "Raio X 1", ANTIGO)).isFalse();
+        assertThat(tabela.avancar(1, EtapaBagagem.CHECK_IN, "Balcão 3", ANTIGO)).isTrue();
+        assertThat(tabela.avancar(1, EtapaBagagem.TRIAGEM, "Esteira 2", ANTIGO)).isFalse();
+        assertThat(tabela.avancar(1, EtapaBagagem.INSPECAO, "Raio X 1", RECENTE)).isTrue();
+
+        RastreioBagagem rastreio = tabela.buscar(1);
+        assertThat(rastreio).isEqualTo(new RastreioBagagem(1L, EtapaBagagem.INSPECAO, "Raio X 1", RECENTE));
+        assertThat(tabela.buscar(2)).isNull();
+    }
+
+    @Test
+    void bagagemRetiradaNaoRecebeNovasLeituras() {
+        tabela.restaurar(1, EtapaBagagem.RETIRADA, null, ANTIGO);
+
+        assertThat(tabela.avancar(1, EtapaBagagem.CHECK_IN, "Balcão 3", RECENTE)).isFalse();
+        assertThat(tabela.buscar(1).local()).isNull();
+    }
+
+    @Test
+    void expurgoRemoveSoRetiradasAntigasSemPerderAsDemais() {
+        for (long codigo = 0; codigo < 3_000; codigo++) {
+            EtapaBagagem etapa = codigo % 3 == 0 ? EtapaBagagem.RETIRADA : EtapaBagagem.TRIAGEM;
+            tabela.restaurar(codigo, etapa, "Esteira " + codigo % 7, codigo % 2 == 0 ? ANTIGO : RECENTE);
+        }
+
+        int removidas = tabela.expurgarRetiradas(RECENTE.toEpochMilli());
+
+        // Retiradas (múltiplos de 3) com horário antigo (pares): múltiplos de 6.
+        assertThat(removidas).isEqualTo(500);
+        assertThat(tabela.tamanho()).isEqualTo(2_500);
+        for (long codigo = 0; codigo < 3_000; codigo++) {
+            RastreioBagagem rastreio = tabela.buscar(codigo);
+            if (codigo % 6 == 0) {
+                assertThat(rastreio).as("bagagem %d", codigo).isNull();
+            } else {
+                assertThat(rastreio).as("bagagem %d", codigo).isNotNull();
+                assertThat(rastreio.local()).isEqualTo("Esteira " + codigo % 7);
+            }
+        }
+        assertThat(tabela.expurgarRetiradas(RECENTE.toEpochMilli())).isZero();
+    }
+
+    @Test
+    void codigoRemovidoPodeSerLidoDeNovo() {
+        tabela.restaurar(9, EtapaBagagem.RETIRADA, "Restituição 1", ANTIGO);
+        tabela.expurgarRetiradas(RECENTE.toEpochMilli());
+
+        assertThat(tabela.avancar(9, EtapaBagagem.CHECK_IN, "Balcão 1", RECENTE)).isTrue();
+        assertThat(tabela.tamanho()).isEqualTo(1);
+    }
+}
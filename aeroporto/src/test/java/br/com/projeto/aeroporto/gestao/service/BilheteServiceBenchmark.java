@@ -0,0 +1,89 @@
+package br.com.projeto.aeroporto.gestao.service;
+
+import br.com.projeto.aeroporto.comum.ContextoBenchmark;
+import br.com.projeto.aeroporto.gestao.in.BilheteUseCase;
+import br.com.projeto.aeroporto.gestao.model.Bilhete;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência de {@link BilheteService#salvar} e {@link BilheteService#buscarPorId}
+ * com a aplicação completa sobre H2 em memória.
+ *
+ * <p>
+ * Os bilhetes gravados não informam voo, para que o benchmark não esgote os
+ * assentos do {@link MapaAssentos}; a busca sorteia entre 10.000 bilhetes
+ * gravados antes da medição.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BilheteServiceBenchmark {
+
+    private static final int BILHETES = 10_000;
+
+    private ConfigurableApplicationContext contexto;
+    private BilheteUseCase service;
+    private Long[] ids;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = ContextoBenchmark.iniciar();
+        service = contexto.getBean(BilheteUseCase.class);
+        List<Bilhete> bilhetes = new ArrayList<>(BILHETES);
+        for (int i = 0; i < BILHETES; i++) {
+            bilhetes.add(novoBilhete(i));
+        }
+        ids = service.salvarTodos(bilhetes).stream().map(Bilhete::getIdBilhete).toArray(Long[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Bilhete salvar() {
+        return service.salvar(novoBilhete(ThreadLocalRandom.current().nextInt()));
+    }
+
+    @Benchmark
+    public Bilhete buscarPorId() {
+        return service.buscarPorId(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    private static Bilhete novoBilhete(int numero) {
+        Bilhete bilhete = new Bilhete();
+        bilhete.setNumero(numero);
+        return bilhete;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BilheteServiceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.projeto.aeroporto.gestao.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reserva de assentos com 64 threads disputando o mesmo voo.
+ *
+ * <p>
+ * Cada operação reserva um assento aleatório de uma cabine de 180 lugares
+ * (30 fileiras, A–F) e o libera em seguida, mantendo o mapa em regime.
+ * Executar com {@code main} ou pelo runner do JMH.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class MapaAssentosBenchmark {
+
+    private static final String VOO = "AD4050";
+    private static final int FILEIRAS = 30;
+    private static final String LETRAS = "ABCDEF";
+
+    private MapaAssentos mapa;
+    private String[] assentos;
+
+    @Setup
+    public void preparar() {
+        mapa = new MapaAssentos();
+        assentos = new String[FILEIRAS * LETRAS.length()];
+        int i = 0;
+        for (int fileira = 1; fileira <= FILEIRAS; fileira++) {
+            for (char letra : LETRAS.toCharArray()) {
+                assentos[i++] = fileira + String.valueOf(letra);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean reservarELiberar() {
+        String assento = assentos[ThreadLocalRandom.current().nextInt(assentos.length)];
+        boolean reservou = mapa.reservar(VOO, assento);
+        if (reservou) {
+            mapa.liberar(VOO, assento);
+        }
+        return reservou;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapaAssentosBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.projeto.aeroporto.gestaorecurso.service;
+
+import br.com.projeto.aeroporto.gestaorecurso.model.PedidoUsoPista;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escalonamento de um dia inteiro de movimentos (2.000 pousos e decolagens) em 4 pistas.
+ *
+ * <p>
+ * Meta: menos de 50 ms por dia escalonado. Um quarto dos pedidos exige uma pista
+ * específica; os demais vão para a pista que fica livre mais cedo.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EscalonadorPistasBenchmark {
+
+    private static final int MOVIMENTOS = 2_000;
+    private static final long PISTAS = 4;
+    private static final Instant INICIO_DIA = Instant.parse("2025-01-01T00:00:00Z");
+
+    private List<PedidoUsoPista> pedidos;
+    private EscalonadorPistas escalonador;
+
+    @Setup(Level.Trial)
+    public void gerarPedidos() {
+        Random aleatorio = new Random(42);
+        pedidos = new ArrayList<>(MOVIMENTOS);
+        for (int i = 0; i < MOVIMENTOS; i++) {
+            Instant desejado = INICIO_DIA.plusSeconds(aleatorio.nextInt(24 * 3600));
+            int duracao = 60 + aleatorio.nextInt(120);
+            Long pista = aleatorio.nextInt(4) == 0 ? 1L + aleatorio.nextInt((int) PISTAS) : null;
+            pedidos.add(new PedidoUsoPista("VOO" + i, i % 2 == 0 ? "POUSO" : "DECOLAGEM", desejado, duracao, pista));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void novoEscalonador() {
+        escalonador = new EscalonadorPistas();
+        for (long id = 1; id <= PISTAS; id++) {
+            escalonador.registrarPista(id);
+        }
+    }
+
+    @Benchmark
+    public EscalonadorPistas.Lote escalonarDia() {
+        return escalonador.alocarLote(pedidos);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EscalonadorPistasBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.projeto.aeroporto.seguranca.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decisões de acesso com 16 threads, como catracas na troca de turno.
+ *
+ * <p>
+ * A política tem 200 níveis em cadeia (cada um herda o anterior), 2.000 áreas
+ * e 50.000 cartões; cada operação decide um cartão e uma área aleatórios.
+ * Executar com {@code main} ou pelo runner do JMH.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class PoliticaAcessoBenchmark {
+
+    private static final int NIVEIS = 200;
+    private static final int AREAS = 2_000;
+    private static final int CARTOES = 50_000;
+
+    private PoliticaAcesso politica;
+    private String[] cartoes;
+
+    @Setup
+    public void preparar() {
+        List<NivelAcesso> niveis = new ArrayList<>(NIVEIS);
+        for (int i = 0; i < NIVEIS; i++) {
+            niveis.add(new NivelAcesso("N" + i, null, i == 0 ? Set.of() : Set.of("N" + (i - 1))));
+        }
+        List<AreaRestrita> areas = new ArrayList<>(AREAS);
+        for (long i = 0; i < AREAS; i++) {
+            areas.add(new AreaRestrita(i, "Área " + i, "N" + (i % NIVEIS)));
+        }
+        List<CartaoAcesso> lista = new ArrayList<>(CARTOES);
+        cartoes = new String[CARTOES];
+        for (int i = 0; i < CARTOES; i++) {
+            cartoes[i] = "C" + i;
+            lista.add(new CartaoAcesso(cartoes[i], "N" + (i % NIVEIS)));
+        }
+        politica = PoliticaAcesso.compilar(niveis, areas, lista);
+    }
+
+    @Benchmark
+    public DecisaoAcesso decidir() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        return politica.decidir(cartoes[aleatorio.nextInt(CARTOES)], (long) aleatorio.nextInt(AREAS));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PoliticaAcessoBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
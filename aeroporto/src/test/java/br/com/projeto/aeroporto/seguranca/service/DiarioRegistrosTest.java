@@ -0,0 +1,140 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+import br.com.projeto.aeroporto.seguranca.model.DecisaoAcesso;
+import br.com.projeto.aeroporto.seguranca.model.MotivoDecisao;
+import br.com.projeto.aeroporto.seguranca.model.RegistroAcesso;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiarioRegistrosTest {
+
+    private static final LocalDateTime HORARIO = LocalDateTime.of(2026, 10, 17, 8, 30, 15, 123_456_789);
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void recuperaOsRegistrosComTodosOsCampos() throws IOException {
+        Path arquivo = diretorio.resolve("acessos.wal");
+        try (DiarioRegistros diario = new DiarioRegistros(arquivo)) {
+            diario.anexar(List.of(registro(1, "Crachá-ção", 3L, true, MotivoDecisao.PERMITIDO),
+                    registro(2, null, null, false, MotivoDecisao.CARTAO_DESCONHECIDO)));
+        }
+
+        try (DiarioRegistros diario = new DiarioRegistros(arquivo)) {
+            List<RegistroAcesso> lidos = diario.ler();
+
+            assertThat(lidos).hasSize(2);
+            assertThat(lidos.get(0)).satisfies(r -> {
+                assertThat(r.getCodigoRegistroAcesso()).isEqualTo(1L);
+                assertThat(r.getHorario()).isEqualTo(HORARIO);
+                assertThat(r.getIdCartao()).isEqualTo("Crachá-ção");
+                assertThat(r.getCodigoArea()).isEqualTo(3L);
+                assertThat(r.isPermitido()).isTrue();
+                assertThat(r.getMotivo()).isEqualTo(MotivoDecisao.PERMITIDO);
+            });
+            assertThat(lidos.get(1)).satisfies(r -> {
+                assertThat(r.getIdCartao()).isNull();
+                assertThat(r.getCodigoArea()).isNull();
+                assertThat(r.isPermitido()).isFalse();
+                assertThat(r.getMotivo()).isEqualTo(MotivoDecisao.CARTAO_DESCONHECIDO);
+            });
+        }
+    }
+
+    @Test
+    void escritaInterrompidaEncerraALeituraECortaOArquivo() throws IOException {
+        Path arquivo = diretorio.resolve("acessos.wal");
+        long integro;
+        try (DiarioRegistros diario = new DiarioRegistros(arquivo)) {
+            diario.anexar(List.of(registro(1, "C1", 1L, true, MotivoDecisao.PERMITIDO),
+                    registro(2, "C2", 1L, true, MotivoDecisao.PERMITIDO)));
+            integro = Files.size(arquivo);
+            diario.anexar(List.of(registro(3, "C3", 1L, true, MotivoDecisao.PERMITIDO)));
+        }
+        // Queda no meio da terceira entrada.
+        try (RandomAccessFile bruto = new RandomAccessFile(arquivo.toFile(), "rw")) {
+            bruto.setLength(integro + 12);
+        }
+
+        try (DiarioRegistros diario = new DiarioRegistros(arquivo)) {
+            assertThat(diario.ler()).extracting(RegistroAcesso::getCodigoRegistroAcesso).containsExactly(1L, 2L);
+            assertThat(Files.size(arquivo)).isEqualTo(integro);
+
+            diario.anexar(List.of(registro(4, "C4", 1L, true, MotivoDecisao.PERMITIDO)));
+        }
+        try (DiarioRegistros diario = new DiarioRegistros(arquivo)) {
+            assertThat(diario.ler()).extracting(RegistroAcesso::getCodigoRegistroAcesso).containsExactly(1L, 2L, 4L);
+        }
+    }
+
+    @Test
+    void entradaCorrompidaEncerraALeitura() throws IOException {
+        Path arquivo = diretorio.resolve("acessos.wal");
+        long primeira;
+        try (DiarioRegistros diario = new DiarioRegistros(arquivo)) {
+            diario.anexar(List.of(registro(1, "C1", 1L, true, MotivoDecisao.PERMITIDO)));
+            primeira = Files.size(arquivo);
+            diario.anexar(List.of(registro(2, "C2", 1L, true, MotivoDecisao.PERMITIDO),
+                    registro(3, "C3", 1L, true, MotivoDecisao.PERMITIDO)));
+        }
+        try (RandomAccessFile bruto = new RandomAccessFile(arquivo.toFile(), "rw")) {
+            bruto.seek(primeira + 10);
+            bruto.write(bruto.read() ^ 0xFF);
+        }
+
+        try (DiarioRegistros diario = new DiarioRegistros(arquivo)) {
+            assertThat(diario.ler()).extracting(RegistroAcesso::getCodigoRegistroAcesso).containsExactly(1L);
+            assertThat(Files.size(arquivo)).isEqualTo(primeira);
+        }
+    }
+
+    @Test
+    void esvaziarDescartaAsEntradas() throws IOException {
+        Path arquivo = diretorio.resolve("acessos.wal");
+        try (DiarioRegistros diario = new DiarioRegistros(arquivo)) {
+            diario.anexar(List.of(registro(1, "C1", 1L, true, MotivoDecisao.PERMITIDO)));
+            diario.esvaziar();
+            diario.anexar(List.of(registro(2, "C2", 1L, true, MotivoDecisao.PERMITIDO)));
+        }
+
+        try (DiarioRegistros diario = new DiarioRegistros(arquivo)) {
+            assertThat(diario.ler()).extracting(RegistroAcesso::getCodigoRegistroAcesso).containsExactly(2L);
+        }
+    }
+
+    @Test
+    void reescreverMantemSoOsPendentesEContinuaAnexando() throws IOException {
+        Path arquivo = diretorio.resolve("acessos.wal");
+        RegistroAcesso pendente = registro(3, "C3", 1L, true, MotivoDecisao.PERMITIDO);
+        try (DiarioRegistros diario = new DiarioRegistros(arquivo)) {
+            diario.anexar(List.of(registro(1, "C1", 1L, true, MotivoDecisao.PERMITIDO),
+                    registro(2, "C2", 1L, true, MotivoDecisao.PERMITIDO), pendente));
+            long antes = diario.tamanho();
+
+            diario.reescrever(List.of(pendente));
+            assertThat(diario.tamanho()).isLessThan(antes);
+            diario.anexar(List.of(registro(4, "C4", 1L, true, MotivoDecisao.PERMITIDO)));
+        }
+
+        assertThat(diretorio.resolve("acessos.wal.novo")).doesNotExist();
+        try (DiarioRegistros diario = new DiarioRegistros(arquivo)) {
+            assertThat(diario.ler()).extracting(RegistroAcesso::getCodigoRegistroAcesso).containsExactly(3L, 4L);
+        }
+    }
+
+    private static RegistroAcesso registro(long id, String cartao, Long area, boolean permitido, MotivoDecisao motivo) {
+        RegistroAcesso registro = new RegistroAcesso(new DecisaoAcesso(cartao, area, permitido, motivo), HORARIO);
+        registro.setCodigoRegistroAcesso(id);
+        return registro;
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LimitadorLoginTest {
+
+    @Test
+    void usuarioRecuperaTentativaDepoisDaRecarga() {
+        AtomicLong agora = new AtomicLong();
+        LimitadorLogin limitador = new LimitadorLogin(new SimpleMeterRegistry(), 3, 1, 100, 1, agora::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limitador.tentar("Operador", "10.0.0." + i)).isZero();
+        }
+        assertThat(limitador.tentar("operador", "10.0.0.9")).isEqualTo(1);
+        assertThat(limitador.tentar("outro", "10.0.0.9")).isZero();
+
+        agora.addAndGet(TimeUnit.MILLISECONDS.toNanos(1100));
+        assertThat(limitador.tentar("OPERADOR", "10.0.0.9")).isZero();
+        assertThat(limitador.tentar("operador", "10.0.0.9")).isPositive();
+    }
+
+    @Test
+    void enderecoBloqueiaVarreduraDeUsuarios() {
+        LimitadorLogin limitador = new LimitadorLogin(new SimpleMeterRegistry(), 5, 12, 2, 60);
+
+        assertThat(limitador.tentar("a", "10.0.0.1")).isZero();
+        assertThat(limitador.tentar("b", "10.0.0.1")).isZero();
+        assertThat(limitador.tentar("c", "10.0.0.1")).isEqualTo(60);
+        assertThat(limitador.tentar("c", "10.0.0.2")).isZero();
+    }
+
+    @Test
+    void capacidadeZeroDesligaARegraPorEndereco() {
+        LimitadorLogin limitador = new LimitadorLogin(new SimpleMeterRegistry(), 5, 12, 0, 2);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limitador.tentar("usuario" + i, "10.0.0.1")).isZero();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.projeto.aeroporto.seguranca.service;
+
+import br.com.projeto.aeroporto.seguranca.model.ContagemMotivo;
+import br.com.projeto.aeroporto.seguranca.model.DecisaoAcesso;
+import br.com.projeto.aeroporto.seguranca.model.MotivoDecisao;
+import br.com.projeto.aeroporto.seguranca.model.RegistroAcesso;
+import br.com.projeto.aeroporto.seguranca.out.RegistroAcessoRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegistradorAcessosTest {
+
+    private final BancoFalso banco = new BancoFalso();
+
+    private RegistradorAcessos registrador;
+
+    @AfterEach
+    void encerrar() throws Exception {
+        if (registrador != null) {
+            registrador.encerrar();
+        }
+    }
+
+    @Test
+    void registroRecusadoPeloBancoVaiParaRejeitadosSemBloquearOsDemais() throws Exception {
+        registrador = new RegistradorAcessos(banco, new SimpleMeterRegistry(), "memoria", "", 0);
+        registrador.iniciar();
+
+        for (int i = 0; i < 100; i++) {
+            String cartao = i == 37 ? "C".repeat(300) : "C" + i;
+            registrador.registrar(new RegistroAcesso(
+                    new DecisaoAcesso(cartao, 1L, true, MotivoDecisao.PERMITIDO), LocalDateTime.now()));
+        }
+        aguardarGravacao();
+
+        assertThat(banco.gravados).hasSize(99);
+        assertThat(banco.rejeitados).singleElement()
+                .satisfies(r -> assertThat(r.getIdCartao()).hasSize(300));
+    }
+
+    @Test
+    void bancoForaDoArMantemOsRegistrosPendentes() throws Exception {
+        banco.foraDoAr = true;
+        registrador = new RegistradorAcessos(banco, new SimpleMeterRegistry(), "memoria", "", 0);
+        registrador.iniciar();
+
+        for (int i = 0; i < 10; i++) {
+            registrador.registrar(new RegistroAcesso(
+                    new DecisaoAcesso("C" + i, 1L, false, MotivoDecisao.CARTAO_DESCONHECIDO), LocalDateTime.now()));
+        }
+        Thread.sleep(200);
+        assertThat(banco.rejeitados).isEmpty();
+        assertThat(registrador.pendentes()).isEqualTo(10);
+
+        banco.foraDoAr = false;
+        aguardarGravacao();
+        assertThat(banco.gravados).hasSize(10);
+        assertThat(banco.rejeitados).isEmpty();
+    }
+
+    private void aguardarGravacao() throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (registrador.pendentes() > 0 && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertThat(registrador.pendentes()).isZero();
+    }
+
+    /**
+     * Recusa lotes com cartão acima de 255 caracteres, como a coluna
+     * {@code id_cartao}, e todas as operações quando fora do ar.
+     */
+    private static final class BancoFalso implements RegistroAcessoRepositoryPort {
+
+        private final List<RegistroAcesso> gravados = new CopyOnWriteArrayList<>();
+
+        private final List<RegistroAcesso> rejeitados = new CopyOnWriteArrayList<>();
+
+        private volatile boolean foraDoAr;
+
+        @Override
+        public void incluirTodos(Collection<RegistroAcesso> registros) {
+            verificarConexao();
+            if (registros.stream().anyMatch(r -> r.getIdCartao().length() > 255)) {
+                throw new RuntimeException("value too long for type character varying(255)");
+            }
+            gravados.addAll(registros);
+        }
+
+        @Override
+        public List<Long> listarExistentes(Collection<RegistroAcesso> registros) {
+            verificarConexao();
+            return List.of();
+        }
+
+        @Override
+        public void rejeitar(RegistroAcesso registro, String erro) {
+            verificarConexao();
+            rejeitados.add(registro);
+        }
+
+        @Override
+        public List<RegistroAcesso> listar(LocalDateTime inicio, LocalDateTime fim, String idCartao, int limite) {
+            return List.of();
+        }
+
+        @Override
+        public List<ContagemMotivo> contarPorMotivo(LocalDateTime inicio, LocalDateTime fim) {
+            return List.of();
+        }
+
+        @Override
+        public void criarParticao(LocalDate dia) {
+        }
+
+        private void verificarConexao() {
+            if (foraDoAr) {
+                throw new RuntimeException("Connection refused");
+            }
+        }
+    }
+}
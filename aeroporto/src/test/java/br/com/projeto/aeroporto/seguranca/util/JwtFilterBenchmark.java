@@ -0,0 +1,99 @@
+package br.com.projeto.aeroporto.seguranca.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do {@link JwtFilter} por requisição, com e sem o cache de tokens
+ * verificados, com 8 threads.
+ *
+ * <p>
+ * 10.000 usuários têm um token cada; cada operação filtra uma requisição com
+ * um token aleatório. Os usuários vêm de memória, então {@code semCache} mede
+ * só HMAC e leitura do JSON: na aplicação, ele soma ainda uma consulta ao
+ * banco por requisição. Executar com {@code main} ou pelo runner do JMH.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final int USUARIOS = 10_000;
+
+    private JwtFilter comCache;
+    private JwtFilter semCache;
+    private String[] cabecalhos;
+
+    @Setup
+    public void preparar() {
+        JwtUtil jwtUtil = new JwtUtil(new ObjectMapper(), "segredo-do-benchmark-com-mais-de-32-bytes", "", 3_600_000);
+        UserDetailsService usuarios = username -> User.withUsername(username).password("{noop}x").authorities(List.of()).build();
+        comCache = new JwtFilter(jwtUtil, usuarios, 100_000, new SimpleMeterRegistry());
+        semCache = new JwtFilter(jwtUtil, usuarios, 0, new SimpleMeterRegistry());
+        cabecalhos = new String[USUARIOS];
+        for (int i = 0; i < USUARIOS; i++) {
+            cabecalhos[i] = "Bearer " + jwtUtil.gerarToken("usuario" + i);
+        }
+    }
+
+    @Benchmark
+    public Authentication comCache() throws ServletException, IOException {
+        return filtrar(comCache);
+    }
+
+    @Benchmark
+    public Authentication semCache() throws ServletException, IOException {
+        return filtrar(semCache);
+    }
+
+    private Authentication filtrar(JwtFilter filtro) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/voos");
+        request.addHeader(HttpHeaders.AUTHORIZATION, cabecalhos[ThreadLocalRandom.current().nextInt(USUARIOS)]);
+        filtro.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao == null) {
+            throw new IllegalStateException("Token recusado");
+        }
+        SecurityContextHolder.clearContext();
+        return autenticacao;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}